@@ -11,8 +11,7 @@
 package org.eclipse.che.api.core.notification;
 
 import org.eclipse.che.commons.lang.Pair;
-
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.eclipse.che.commons.lang.concurrent.ManagedThreadPoolExecutor;
 
 import org.everrest.websockets.client.BaseClientMessageListener;
 import org.everrest.websockets.client.WSClient;
@@ -41,7 +40,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -107,8 +105,8 @@ public final class WSocketEventBusClient {
                     }
                 }
                 if (!cfg.isEmpty()) {
-                    executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("WSocketEventBusClient-%d")
-                                                                                       .setDaemon(true).build());
+                    // at most one connect task per remote event bus is running, queue keeps reconnect tasks
+                    executor = new ManagedThreadPoolExecutor("WSocketEventBusClient", cfg.size(), cfg.size(), true);
                     for (Map.Entry<URI, Set<String>> entry : cfg.entrySet()) {
                         executor.execute(new ConnectTask(entry.getKey(), entry.getValue()));
                     }
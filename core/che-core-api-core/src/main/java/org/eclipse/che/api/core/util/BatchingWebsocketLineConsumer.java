@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.everrest.core.impl.provider.json.JsonUtils;
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Line consumer that collects lines and sends them to the specified websocket channel in batches.
+ * <p/>
+ * Unlike {@link WebsocketLineConsumer} which sends one websocket message per line, this consumer sends
+ * at most one message per {@code flushIntervalMs}. Lines of a batch are joined with {@code '\n'}.
+ * At most {@code maxBufferedLines} lines are kept between two flushes, lines that don't fit are dropped
+ * and the number of dropped lines is reported to the channel with the next batch.
+ * So throughput of the channel is limited to {@code maxBufferedLines} lines per {@code flushIntervalMs}.
+ * <p/>
+ * Flushing is performed by the given scheduler, so the same scheduler may be shared between many consumers.
+ * Pending lines are sent on {@link #close()}, which also waits for a flush that is already running,
+ * so nothing is sent to the channel after {@link #close()} returns.
+ * <p/>
+ * Implementation is threadsafe.
+ */
+public class BatchingWebsocketLineConsumer implements LineConsumer {
+    private static final Logger LOG = getLogger(BatchingWebsocketLineConsumer.class);
+
+    private final String             channel;
+    private final int                maxBufferedLines;
+    private final ScheduledFuture<?> flushTask;
+    private final Object             sendLock;
+
+    private List<String> lines;
+    private long         droppedSinceFlush;
+    private long         sentLines;
+    private long         droppedLines;
+    private long         sentMessages;
+    private boolean      closed;
+
+    public BatchingWebsocketLineConsumer(String channel,
+                                         ScheduledExecutorService scheduler,
+                                         long flushIntervalMs,
+                                         int maxBufferedLines) {
+        if (flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("Flush interval must be greater than 0");
+        }
+        if (maxBufferedLines <= 0) {
+            throw new IllegalArgumentException("Max buffered lines number must be greater than 0");
+        }
+        this.channel = channel;
+        this.maxBufferedLines = maxBufferedLines;
+        this.lines = new ArrayList<>();
+        this.sendLock = new Object();
+        this.flushTask = scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMs, flushIntervalMs, MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void writeLine(String line) {
+        if (closed) {
+            return;
+        }
+        if (lines.size() < maxBufferedLines) {
+            lines.add(line);
+        } else {
+            droppedSinceFlush++;
+            droppedLines++;
+        }
+    }
+
+    /** Sends all buffered lines to the channel as a single message. Does nothing if there are no buffered lines. */
+    public void flush() {
+        // keeps batches order when flush is called concurrently by the scheduler and on close
+        synchronized (sendLock) {
+            final List<String> batch;
+            final long dropped;
+            synchronized (this) {
+                if (lines.isEmpty() && droppedSinceFlush == 0) {
+                    return;
+                }
+                batch = lines;
+                dropped = droppedSinceFlush;
+                lines = new ArrayList<>();
+                droppedSinceFlush = 0;
+                sentLines += batch.size();
+                sentMessages++;
+            }
+            final StringBuilder text = new StringBuilder();
+            for (String line : batch) {
+                if (text.length() > 0) {
+                    text.append('\n');
+                }
+                if (line != null) {
+                    text.append(line);
+                }
+            }
+            if (dropped > 0) {
+                if (text.length() > 0) {
+                    text.append('\n');
+                }
+                text.append(String.format("[WARN] Output is too intensive, %d line(s) skipped", dropped));
+            }
+            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
+            bm.setChannel(channel);
+            bm.setBody(JsonUtils.getJsonString(text.toString()));
+            sendMessage(bm);
+        }
+    }
+
+    /** Returns number of lines sent to the channel. */
+    public synchronized long getSentLines() {
+        return sentLines;
+    }
+
+    /** Returns number of lines dropped because buffer was overflowed. */
+    public synchronized long getDroppedLines() {
+        return droppedLines;
+    }
+
+    /** Returns number of messages sent to the channel. */
+    public synchronized long getSentMessages() {
+        return sentMessages;
+    }
+
+    @Override
+    public void close() {
+        synchronized (sendLock) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            flushTask.cancel(false);
+            flush();
+        }
+    }
+
+    private void scheduledFlush() {
+        synchronized (sendLock) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            flush();
+        }
+    }
+
+    protected void sendMessage(ChannelBroadcastMessage message) {
+        try {
+            WSConnectionContext.sendMessage(message);
+        } catch (Exception e) {
+            LOG.error("A problem occurred while sending websocket message", e);
+        }
+    }
+}
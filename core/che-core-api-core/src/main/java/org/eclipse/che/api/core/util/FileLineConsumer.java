@@ -10,22 +10,50 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
+ * Line consumer that writes lines to the file.
+ * <p/>
+ * By default writer is flushed after each line. If consumer is created with scheduler then writer is flushed
+ * by the scheduler once per {@code flushIntervalMs} and on {@link #close()}, that is much cheaper for intensive output.
+ * {@link #close()} waits for a flush that is already running before closing the writer.
+ *
  * @author andrew00x
  */
 public class FileLineConsumer implements LineConsumer {
-    private final File   file;
-    private final Writer writer;
+    private static final Logger LOG = LoggerFactory.getLogger(FileLineConsumer.class);
+
+    private final File               file;
+    private final Writer             writer;
+    private final ScheduledFuture<?> flushTask;
+
+    private boolean closed;
 
     public FileLineConsumer(File file) throws IOException {
         this.file = file;
         writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset());
+        flushTask = null;
+    }
+
+    public FileLineConsumer(File file, ScheduledExecutorService scheduler, long flushIntervalMs) throws IOException {
+        if (flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("Flush interval must be greater than 0");
+        }
+        this.file = file;
+        writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset());
+        flushTask = scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, MILLISECONDS);
     }
 
     public File getFile() {
@@ -33,16 +61,41 @@ public class FileLineConsumer implements LineConsumer {
     }
 
     @Override
-    public void writeLine(String line) throws IOException {
+    public synchronized void writeLine(String line) throws IOException {
         if (line != null) {
             writer.write(line);
         }
         writer.write('\n');
+        if (flushTask == null) {
+            writer.flush();
+        }
+    }
+
+    /** Flushes all written lines to the file. */
+    public synchronized void flush() throws IOException {
         writer.flush();
     }
 
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
         writer.close();
     }
+
+    private synchronized void flushQuietly() {
+        if (closed) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            LOG.error(String.format("An error occurred while flushing lines to the file %s", file), e);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.everrest.core.impl.provider.json.JsonUtils;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class BatchingWebsocketLineConsumerTest {
+    private static final String CHANNEL = "channel";
+
+    private ScheduledExecutorService      scheduler;
+    private List<ChannelBroadcastMessage> messages;
+    private BatchingWebsocketLineConsumer consumer;
+
+    @BeforeMethod
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        messages = new CopyOnWriteArrayList<>();
+        // interval is big enough to flush only manually in tests
+        consumer = new TestConsumer(60_000, 3);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void shouldSendBufferedLinesAsSingleMessage() throws Exception {
+        consumer.writeLine("line1");
+        consumer.writeLine("line2");
+
+        consumer.flush();
+
+        assertEquals(messages.size(), 1);
+        assertEquals(messages.get(0).getChannel(), CHANNEL);
+        assertEquals(messages.get(0).getBody(), JsonUtils.getJsonString("line1\nline2"));
+        assertEquals(consumer.getSentLines(), 2);
+        assertEquals(consumer.getSentMessages(), 1);
+    }
+
+    @Test
+    public void shouldNotSendMessageIfNothingIsBuffered() throws Exception {
+        consumer.flush();
+
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void shouldDropLinesWhenBufferIsOverflowedAndReportIt() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            consumer.writeLine("line" + i);
+        }
+
+        consumer.flush();
+
+        assertEquals(messages.size(), 1);
+        assertEquals(messages.get(0).getBody(),
+                     JsonUtils.getJsonString("line0\nline1\nline2\n[WARN] Output is too intensive, 2 line(s) skipped"));
+        assertEquals(consumer.getSentLines(), 3);
+        assertEquals(consumer.getDroppedLines(), 2);
+    }
+
+    @Test
+    public void shouldSendPendingLinesOnCloseAndIgnoreFurtherLines() throws Exception {
+        consumer.writeLine("line");
+
+        consumer.close();
+        consumer.writeLine("ignored");
+        consumer.flush();
+
+        assertEquals(messages.size(), 1);
+        assertEquals(messages.get(0).getBody(), JsonUtils.getJsonString("line"));
+    }
+
+    @Test
+    public void shouldFlushLinesPeriodically() throws Exception {
+        consumer = new TestConsumer(10, 100);
+
+        consumer.writeLine("line");
+        for (int i = 0; i < 100 && messages.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(messages.size(), 1);
+        assertEquals(messages.get(0).getBody(), JsonUtils.getJsonString("line"));
+    }
+
+    @Test
+    public void shouldWaitForRunningFlushOnClose() throws Exception {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        consumer = new TestConsumer(10, 100) {
+            @Override
+            protected void sendMessage(ChannelBroadcastMessage message) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.sendMessage(message);
+            }
+        };
+        consumer.writeLine("line1");
+        assertTrue(sending.await(1, SECONDS));
+        consumer.writeLine("line2");
+
+        final Thread closer = new Thread(consumer::close);
+        closer.start();
+        closer.join(100);
+        assertTrue(closer.isAlive());
+        release.countDown();
+        closer.join(1000);
+
+        assertFalse(closer.isAlive());
+        assertEquals(messages.size(), 2);
+        assertEquals(messages.get(1).getBody(), JsonUtils.getJsonString("line2"));
+    }
+
+    private class TestConsumer extends BatchingWebsocketLineConsumer {
+        TestConsumer(long flushIntervalMs, int maxBufferedLines) {
+            super(CHANNEL, scheduler, flushIntervalMs, maxBufferedLines);
+        }
+
+        @Override
+        protected void sendMessage(ChannelBroadcastMessage message) {
+            messages.add(message);
+        }
+    }
+}
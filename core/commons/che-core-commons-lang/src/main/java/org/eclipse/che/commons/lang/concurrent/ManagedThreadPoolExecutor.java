@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.lang.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Named thread pool with bounded number of threads and bounded queue of tasks.
+ * <p/>
+ * Pool starts new thread for each submitted task until {@code maxThreads} threads are running,
+ * then tasks are queued until queue contains {@code queueCapacity} tasks, then tasks are rejected
+ * with {@link RejectedExecutionException}. Idle threads are stopped after one minute.
+ * If {@code queueCapacity} is 0 then tasks are never queued.
+ * <p/>
+ * All the tasks are executed with values of ThreadLocal variables registered in {@link ThreadLocalPropagateContext}
+ * copied from the thread that submits the task, so there is no need to wrap tasks explicitly.
+ * <p/>
+ * Pool collects metrics of submitted, rejected tasks and time tasks spend in queue and in execution.
+ * Metrics are published over JMX as {@link ThreadPoolMetricsMXBean} while the pool is alive.
+ */
+public class ManagedThreadPoolExecutor extends ThreadPoolExecutor implements ThreadPoolMetricsMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ManagedThreadPoolExecutor.class);
+
+    private final String     name;
+    private final AtomicLong submittedTasks;
+    private final AtomicLong rejectedTasks;
+    private final AtomicLong finishedTasks;
+    private final AtomicLong totalQueueTimeNanos;
+    private final AtomicLong totalExecutionTimeNanos;
+    private final AtomicLong maxQueueTimeNanos;
+    private final ObjectName objectName;
+
+    /**
+     * Creates new pool.
+     *
+     * @param name
+     *         name of the pool, used as prefix of threads names and in logs
+     * @param maxThreads
+     *         max number of threads, must be greater than 0
+     * @param queueCapacity
+     *         max number of tasks that wait for free thread, must not be negative
+     * @param daemon
+     *         whether threads of this pool are daemon threads
+     */
+    public ManagedThreadPoolExecutor(String name, int maxThreads, int queueCapacity, boolean daemon) {
+        super(maxThreads,
+              maxThreads,
+              60L,
+              TimeUnit.SECONDS,
+              newQueue(queueCapacity),
+              new NamedThreadFactory(name, daemon));
+        this.name = name;
+        this.submittedTasks = new AtomicLong();
+        this.rejectedTasks = new AtomicLong();
+        this.finishedTasks = new AtomicLong();
+        this.totalQueueTimeNanos = new AtomicLong();
+        this.totalExecutionTimeNanos = new AtomicLong();
+        this.maxQueueTimeNanos = new AtomicLong();
+        allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler(new CountingAbortPolicy());
+        this.objectName = registerMBean();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        super.execute(new MeteredRunnable(ThreadLocalPropagateContext.wrap(command)));
+        submittedTasks.incrementAndGet();
+    }
+
+    /** Returns name of this pool. */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /** Returns number of tasks that wait for free thread. */
+    @Override
+    public int getQueuedTaskCount() {
+        return getQueue().size();
+    }
+
+    /** Returns number of tasks accepted by this pool. */
+    @Override
+    public long getSubmittedTaskCount() {
+        return submittedTasks.get();
+    }
+
+    /** Returns number of tasks rejected by this pool. */
+    @Override
+    public long getRejectedTaskCount() {
+        return rejectedTasks.get();
+    }
+
+    /** Returns average time in milliseconds that tasks spend in queue waiting for free thread. */
+    @Override
+    public double getAverageQueueTimeMillis() {
+        final long finished = finishedTasks.get();
+        return finished == 0 ? 0 : (double)TimeUnit.NANOSECONDS.toMicros(totalQueueTimeNanos.get()) / finished / 1000;
+    }
+
+    /** Returns max time in milliseconds that task spent in queue waiting for free thread. */
+    @Override
+    public long getMaxQueueTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxQueueTimeNanos.get());
+    }
+
+    /** Returns average time of tasks execution in milliseconds. */
+    @Override
+    public double getAverageExecutionTimeMillis() {
+        final long finished = finishedTasks.get();
+        return finished == 0 ? 0 : (double)TimeUnit.NANOSECONDS.toMicros(totalExecutionTimeNanos.get()) / finished / 1000;
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.warn("Unable to unregister metrics of pool {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{active=%d, queued=%d, submitted=%d, rejected=%d, avgQueueTimeMs=%.2f, maxQueueTimeMs=%d, avgExecTimeMs=%.2f}",
+                             name,
+                             getActiveCount(),
+                             getQueuedTaskCount(),
+                             getSubmittedTaskCount(),
+                             getRejectedTaskCount(),
+                             getAverageQueueTimeMillis(),
+                             getMaxQueueTimeMillis(),
+                             getAverageExecutionTimeMillis());
+    }
+
+    private ObjectName registerMBean() {
+        try {
+            final ObjectName objectName = new ObjectName("org.eclipse.che:type=ThreadPool,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            // e.g. pool with the same name is already registered, metrics of this pool are available with toString() only
+            LOG.warn("Unable to register metrics of pool {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private static BlockingQueue<Runnable> newQueue(int queueCapacity) {
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("Queue capacity must not be negative");
+        }
+        return queueCapacity == 0 ? new SynchronousQueue<>() : new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    private class MeteredRunnable implements Runnable {
+        private final Runnable wrapped;
+        private final long     submitTime;
+
+        MeteredRunnable(Runnable wrapped) {
+            this.wrapped = wrapped;
+            this.submitTime = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            final long startTime = System.nanoTime();
+            final long queueTime = startTime - submitTime;
+            totalQueueTimeNanos.addAndGet(queueTime);
+            maxQueueTimeNanos.accumulateAndGet(queueTime, Math::max);
+            try {
+                wrapped.run();
+            } finally {
+                totalExecutionTimeNanos.addAndGet(System.nanoTime() - startTime);
+                finishedTasks.incrementAndGet();
+            }
+        }
+    }
+
+    private class CountingAbortPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            rejectedTasks.incrementAndGet();
+            final String message = executor.isShutdown() ? String.format("Pool %s is shut down", name)
+                                                         : String.format("Pool %s is exhausted: %s", name, ManagedThreadPoolExecutor.this);
+            LOG.warn(message);
+            throw new RejectedExecutionException(message);
+        }
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String        name;
+        private final boolean       daemon;
+        private final AtomicInteger counter;
+
+        NamedThreadFactory(String name, boolean daemon) {
+            this.name = name;
+            this.daemon = daemon;
+            this.counter = new AtomicInteger();
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, name + '-' + counter.getAndIncrement());
+            thread.setDaemon(daemon);
+            return thread;
+        }
+    }
+}
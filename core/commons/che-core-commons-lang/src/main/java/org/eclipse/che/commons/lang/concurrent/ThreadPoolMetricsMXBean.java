@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.lang.concurrent;
+
+/**
+ * Metrics of the {@link ManagedThreadPoolExecutor} exposed over JMX
+ * under the name {@code org.eclipse.che:type=ThreadPool,name=<pool name>}.
+ */
+public interface ThreadPoolMetricsMXBean {
+    /** Returns name of the pool. */
+    String getName();
+
+    /** Returns number of threads that are executing tasks. */
+    int getActiveCount();
+
+    /** Returns current number of threads in the pool. */
+    int getPoolSize();
+
+    /** Returns number of tasks that wait for free thread. */
+    int getQueuedTaskCount();
+
+    /** Returns number of tasks accepted by the pool. */
+    long getSubmittedTaskCount();
+
+    /** Returns number of tasks rejected by the pool. */
+    long getRejectedTaskCount();
+
+    /** Returns number of tasks that have completed execution. */
+    long getCompletedTaskCount();
+
+    /** Returns average time in milliseconds that tasks spend in queue waiting for free thread. */
+    double getAverageQueueTimeMillis();
+
+    /** Returns max time in milliseconds that task spent in queue waiting for free thread. */
+    long getMaxQueueTimeMillis();
+
+    /** Returns average time of tasks execution in milliseconds. */
+    double getAverageExecutionTimeMillis();
+}
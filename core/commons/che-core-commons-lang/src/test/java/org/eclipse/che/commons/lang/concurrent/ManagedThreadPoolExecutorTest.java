@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.lang.concurrent;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ManagedThreadPoolExecutorTest {
+    private static ThreadLocal<String> tl = new ThreadLocal<>();
+
+    private ManagedThreadPoolExecutor executor;
+
+    @AfterMethod
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        ThreadLocalPropagateContext.removeThreadLocal(tl);
+        tl.remove();
+    }
+
+    @Test
+    public void shouldPropagateThreadLocals() throws Exception {
+        executor = new ManagedThreadPoolExecutor("test", 1, 0, true);
+        ThreadLocalPropagateContext.addThreadLocal(tl);
+        tl.set("value");
+        final String[] holder = new String[1];
+
+        executor.submit(() -> holder[0] = tl.get()).get();
+
+        assertEquals(holder[0], "value");
+    }
+
+    @Test
+    public void shouldQueueTasksAndRejectWhenQueueIsFull() throws Exception {
+        executor = new ManagedThreadPoolExecutor("test", 1, 1, true);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Runnable blocking = () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ignored) {
+            }
+        };
+        executor.execute(blocking);
+        executor.execute(blocking);
+
+        try {
+            executor.execute(blocking);
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+
+        assertEquals(executor.getQueuedTaskCount(), 1);
+        assertEquals(executor.getSubmittedTaskCount(), 2);
+        assertEquals(executor.getRejectedTaskCount(), 1);
+
+        latch.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(executor.getCompletedTaskCount(), 2);
+    }
+
+    @Test
+    public void shouldPublishMetricsOverJmxWhileAlive() throws Exception {
+        executor = new ManagedThreadPoolExecutor("jmx-test", 1, 0, true);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = new ObjectName("org.eclipse.che:type=ThreadPool,name=\"jmx-test\"");
+
+        executor.submit(() -> {}).get();
+
+        assertEquals(server.getAttribute(objectName, "SubmittedTaskCount"), 1L);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    public void shouldNameThreads() throws Exception {
+        executor = new ManagedThreadPoolExecutor("test", 1, 0, true);
+        final String[] holder = new String[1];
+
+        executor.submit(() -> holder[0] = Thread.currentThread().getName()).get();
+
+        assertEquals(holder[0], "test-0");
+    }
+}
@@ -12,7 +12,6 @@ package org.eclipse.che.plugin.docker.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.reflect.TypeToken;
 
 import org.eclipse.che.api.core.util.FileCleaner;
@@ -23,6 +22,7 @@ import org.eclipse.che.commons.json.JsonNameConvention;
 import org.eclipse.che.commons.json.JsonParseException;
 import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.commons.lang.TarUtils;
+import org.eclipse.che.commons.lang.concurrent.ManagedThreadPoolExecutor;
 import org.eclipse.che.commons.lang.ws.rs.ExtMediaType;
 import org.eclipse.che.plugin.docker.client.connection.CloseConnectionInputStream;
 import org.eclipse.che.plugin.docker.client.connection.DockerConnection;
@@ -91,7 +91,6 @@ import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
@@ -126,10 +125,7 @@ public class DockerConnector {
         this.dockerDaemonUri = connectorConfiguration.getDockerDaemonUri();
         this.connectionFactory = connectionFactory;
         this.authResolver = authResolver;
-        executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                         .setNameFormat("DockerApiConnector-%d")
-                                                         .setDaemon(true)
-                                                         .build());
+        executor = new ManagedThreadPoolExecutor("DockerApiConnector", connectorConfiguration.getExecutorMaxThreads(), 0, true);
     }
 
     /**
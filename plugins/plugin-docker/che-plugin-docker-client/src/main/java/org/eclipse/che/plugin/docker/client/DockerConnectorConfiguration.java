@@ -105,6 +105,13 @@ public class DockerConnectorConfiguration {
     @Named("docker.client.certificates_folder")
     private String dockerCertificatesDirectoryPath = dockerMachineCertsDirectoryPath();
 
+    /**
+     * Max number of threads used by {@link DockerConnector} for reading of long running responses, e.g. build or pull progress.
+     */
+    @Inject(optional = true)
+    @Named("docker.client.executor.max_threads")
+    private int executorMaxThreads = 100;
+
     /**
      * Helper used to resolve ip address of the docker host ip from a docker container.
      */
@@ -168,6 +175,13 @@ public class DockerConnectorConfiguration {
         return dockerDaemonUri;
     }
 
+    /**
+     * Gets max number of threads that may be used by {@link DockerConnector} at the same time
+     */
+    public int getExecutorMaxThreads() {
+        return executorMaxThreads;
+    }
+
     /**
      * Gets docker registries authentication configuration set in Che configuration properties
      */
@@ -169,6 +169,7 @@ public class DockerConnectorTest {
         when(dockerConnectionFactory.openConnection(any(URI.class))).thenReturn(dockerConnection);
         when(dockerConnection.request()).thenReturn(dockerResponse);
         when(dockerConnectorConfiguration.getAuthConfigs()).thenReturn(initialAuthConfig);
+        when(dockerConnectorConfiguration.getExecutorMaxThreads()).thenReturn(10);
         when(dockerResponse.getStatus()).thenReturn(RESPONSE_SUCCESS_CODE);
         when(dockerResponse.getInputStream()).thenReturn(inputStream);
         when(initialAuthConfig.getAuthConfigs()).thenReturn(authConfigs);
@@ -42,8 +42,10 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
@@ -67,6 +69,14 @@ public class DockerInstance extends AbstractInstance {
      */
     public static final String LATEST_TAG = "latest";
 
+    /**
+     * Prefix of the repositories of snapshots pushed to the registry.
+     * It allows to distinguish repository of snapshot from repository of any other image.
+     */
+    private static final String SNAPSHOT_REPOSITORY_PREFIX = "snapshot-";
+    private static final String LAYER_EXISTS_STATUS        = "Layer already exists";
+    private static final String LAYER_PUSHED_STATUS        = "Pushed";
+
     private static final AtomicInteger pidSequence           = new AtomicInteger(1);
     private static final String        PID_FILE_TEMPLATE     = "/tmp/docker-exec-%s.pid";
     private static final Pattern       PID_FILE_PATH_PATTERN = Pattern.compile(String.format(PID_FILE_TEMPLATE, "([0-9]+)"));
@@ -203,13 +213,14 @@ public class DockerInstance extends AbstractInstance {
     @Override
     public MachineSource saveToSnapshot(String owner) throws MachineException {
         try {
-            String image = generateRepository();
             if(!snapshotUseRegistry) {
+                final String image = generateRepository();
                 commitContainer(owner, image, LATEST_TAG);
                 return new DockerMachineSource(image).withTag(LATEST_TAG);
             }
 
-            PushParams pushParams = PushParams.create(image)
+            final String repository = getSnapshotRepository();
+            PushParams pushParams = PushParams.create(repository)
                                               .withRegistry(registry)
                                               .withTag(LATEST_TAG);
 
@@ -218,15 +229,28 @@ public class DockerInstance extends AbstractInstance {
             //TODO fix this workaround. Docker image is not visible after commit when using swarm
             Thread.sleep(2000);
             final ProgressLineFormatterImpl lineFormatter = new ProgressLineFormatterImpl();
+            final Set<String> existingLayers = new HashSet<>();
+            final Set<String> pushedLayers = new HashSet<>();
             final String digest = docker.push(pushParams,
                                               progressMonitor -> {
+                                                  if (LAYER_EXISTS_STATUS.equals(progressMonitor.getStatus())) {
+                                                      existingLayers.add(progressMonitor.getId());
+                                                  } else if (LAYER_PUSHED_STATUS.equals(progressMonitor.getStatus())) {
+                                                      pushedLayers.add(progressMonitor.getId());
+                                                  }
                                                   try {
                                                       outputConsumer.writeLine(lineFormatter.format(progressMonitor));
                                                   } catch (IOException ignored) {
                                                   }
                                               });
+            try {
+                outputConsumer.writeLine(format("[DOCKER] Snapshot is saved. Layers pushed: %d, layers already in registry: %d",
+                                                pushedLayers.size(),
+                                                existingLayers.size()));
+            } catch (IOException ignored) {
+            }
             docker.removeImage(RemoveImageParams.create(fullRepo).withForce(false));
-            return new DockerMachineSource(image).withRegistry(registry).withDigest(digest).withTag(LATEST_TAG);
+            return new DockerMachineSource(repository).withRegistry(registry).withDigest(digest).withTag(LATEST_TAG);
         } catch (IOException ioEx) {
             throw new MachineException(ioEx);
         } catch (InterruptedException e) {
@@ -248,11 +272,45 @@ public class DockerInstance extends AbstractInstance {
                                   .withComment(comment));
     }
 
+    /**
+     * Returns repository of the snapshot this machine was started from if any, otherwise generates a new one.
+     * <p/>
+     * Container of the machine started from snapshot is based on the snapshot image, so commit of the container
+     * adds a single layer with changes made after the start. Pushing it into the same repository allows registry
+     * to skip all the layers of the previous snapshot, so only changed filesystem is transferred.
+     * Previous snapshot is removed from the registry by digest, so it doesn't affect the new one.
+     */
+    private String getSnapshotRepository() {
+        final MachineSource source = getConfig().getSource();
+        if (source != null && DockerInstanceProvider.DOCKER_IMAGE_TYPE.equals(source.getType())) {
+            try {
+                final DockerMachineSource previousSnapshot = new DockerMachineSource(source);
+                final String repository = previousSnapshot.getRepository();
+                if (registry.equals(previousSnapshot.getRegistry()) && repository != null && isSnapshotRepository(repository)) {
+                    return repository;
+                }
+            } catch (MachineException ignored) {
+                // not a docker image source, generate new repository
+            }
+        }
+        return generateRepository(SNAPSHOT_REPOSITORY_PREFIX);
+    }
+
+    private boolean isSnapshotRepository(String repository) {
+        final String expectedPrefix = registryNamespace != null ? registryNamespace + '/' + SNAPSHOT_REPOSITORY_PREFIX
+                                                                : SNAPSHOT_REPOSITORY_PREFIX;
+        return repository.startsWith(expectedPrefix);
+    }
+
     private String generateRepository() {
+        return generateRepository(null);
+    }
+
+    private String generateRepository(String prefix) {
         if (registryNamespace != null) {
-            return registryNamespace + '/' + NameGenerator.generate(null, 16);
+            return registryNamespace + '/' + NameGenerator.generate(prefix, 16);
         }
-        return NameGenerator.generate(null, 16);
+        return NameGenerator.generate(prefix, 16);
     }
 
     @Override
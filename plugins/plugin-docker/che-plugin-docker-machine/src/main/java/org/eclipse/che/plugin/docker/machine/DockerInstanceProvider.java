@@ -19,6 +19,7 @@ import com.google.inject.Inject;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
+import org.eclipse.che.api.core.model.machine.MachineRuntimeInfo;
 import org.eclipse.che.api.core.model.machine.MachineSource;
 import org.eclipse.che.api.core.model.machine.Recipe;
 import org.eclipse.che.api.core.model.machine.ServerConf;
@@ -95,6 +96,13 @@ public class DockerInstanceProvider implements InstanceProvider {
      */
     public static final String DOCKER_IMAGE_TYPE = "image";
 
+    /**
+     * Runtime properties with durations of the docker specific machine start phases in milliseconds
+     */
+    public static final String IMAGE_BUILD_TIME_PROPERTY     = "start.docker.image_build_time_ms";
+    public static final String IMAGE_PULL_TIME_PROPERTY      = "start.docker.image_pull_time_ms";
+    public static final String CONTAINER_START_TIME_PROPERTY = "start.docker.container_start_time_ms";
+
     private final DockerConnector                               docker;
     private final UserSpecificDockerRegistryCredentialsProvider dockerCredentials;
     private final DockerInstanceStopDetector                    dockerInstanceStopDetector;
@@ -306,20 +314,37 @@ public class DockerInstanceProvider implements InstanceProvider {
         final String machineImageName = "eclipse-che/" + machineContainerName;
         final long memoryLimit = (long)machine.getConfig().getLimits().getRam() * 1024 * 1024;
 
+        final long imageStartTime = System.currentTimeMillis();
         buildImage(dockerfile, creationLogsOutput, machineImageName, doForcePullOnBuild, memoryLimit, -1);
-
-        return createInstance(machineContainerName,
-                              machine,
-                              machineImageName,
-                              creationLogsOutput);
+        final long imageBuildTime = System.currentTimeMillis() - imageStartTime;
+        LOG.info("Image '{}' of machine '{}' in workspace '{}' is built in {} ms",
+                 machineImageName,
+                 machine.getId(),
+                 machine.getWorkspaceId(),
+                 imageBuildTime);
+
+        final Instance instance = createInstance(machineContainerName,
+                                                 machine,
+                                                 machineImageName,
+                                                 creationLogsOutput);
+        recordStartTime(instance, IMAGE_BUILD_TIME_PROPERTY, imageBuildTime);
+        return instance;
     }
 
     protected Instance createInstanceFromImage(final Machine machine, String machineContainerName,
                                         final LineConsumer creationLogsOutput) throws NotFoundException, MachineException {
         final DockerMachineSource dockerMachineSource = new DockerMachineSource(machine.getConfig().getSource());
 
+        long imagePullTime = -1;
         if (snapshotUseRegistry) {
+            final long imageStartTime = System.currentTimeMillis();
             pullImage(dockerMachineSource, creationLogsOutput);
+            imagePullTime = System.currentTimeMillis() - imageStartTime;
+            LOG.info("Image '{}' of machine '{}' in workspace '{}' is pulled in {} ms",
+                     dockerMachineSource.getLocation(),
+                     machine.getId(),
+                     machine.getWorkspaceId(),
+                     imagePullTime);
         }
 
         final String machineImageName = "eclipse-che/" + machineContainerName;
@@ -338,10 +363,14 @@ public class DockerInstanceProvider implements InstanceProvider {
             LOG.error(e.getLocalizedMessage(), e);
         }
 
-        return createInstance(machineContainerName,
-                              machine,
-                              machineImageName,
-                              creationLogsOutput);
+        final Instance instance = createInstance(machineContainerName,
+                                                 machine,
+                                                 machineImageName,
+                                                 creationLogsOutput);
+        if (imagePullTime != -1) {
+            recordStartTime(instance, IMAGE_PULL_TIME_PROPERTY, imagePullTime);
+        }
+        return instance;
     }
 
     private Dockerfile parseRecipe(final Recipe recipe) throws InvalidRecipeException {
@@ -557,9 +586,16 @@ public class DockerInstanceProvider implements InstanceProvider {
                                                                 .withHostConfig(hostConfig)
                                                                 .withEnv(env.toArray(new String[env.size()]));
 
+            final long containerStartTime = System.currentTimeMillis();
             final String containerId = docker.createContainer(config, containerName).getId();
 
             docker.startContainer(containerId, null);
+            final long containerTime = System.currentTimeMillis() - containerStartTime;
+            LOG.info("Container '{}' of machine '{}' in workspace '{}' is started in {} ms",
+                     containerId,
+                     machine.getId(),
+                     machine.getWorkspaceId(),
+                     containerTime);
 
             final DockerNode node = dockerMachineFactory.createNode(machine.getWorkspaceId(), containerId);
             if (machine.getConfig().isDev()) {
@@ -570,16 +606,25 @@ public class DockerInstanceProvider implements InstanceProvider {
 
             dockerInstanceStopDetector.startDetection(containerId, machine.getId());
 
-            return dockerMachineFactory.createInstance(machine,
-                                                       containerId,
-                                                       imageName,
-                                                       node,
-                                                       outputConsumer);
+            final Instance instance = dockerMachineFactory.createInstance(machine,
+                                                                          containerId,
+                                                                          imageName,
+                                                                          node,
+                                                                          outputConsumer);
+            recordStartTime(instance, CONTAINER_START_TIME_PROPERTY, containerTime);
+            return instance;
         } catch (IOException e) {
             throw new MachineException(e.getLocalizedMessage(), e);
         }
     }
 
+    private void recordStartTime(Instance instance, String property, long timeMs) {
+        final MachineRuntimeInfo runtime = instance.getRuntime();
+        if (runtime != null) {
+            runtime.getProperties().put(property, Long.toString(timeMs));
+        }
+    }
+
     // workspaceId parameter is required, because in case of separate storage for tokens
     // you need to know exactly which workspace and which user to apply the token.
     protected String getUserToken(String wsId) {
@@ -23,9 +23,11 @@ import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineRuntimeInfoImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
 import org.eclipse.che.api.machine.server.model.impl.ServerConfImpl;
 import org.eclipse.che.api.machine.server.recipe.RecipeImpl;
+import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.machine.server.util.RecipeRetriever;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
@@ -63,6 +65,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKER_FILE_TYPE;
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKER_IMAGE_TYPE;
 import static org.mockito.Matchers.any;
@@ -123,6 +126,11 @@ public class DockerInstanceProviderTest {
     @Mock
     private RecipeRetriever recipeRetriever;
 
+    @Mock
+    private Instance instance;
+
+    private MachineRuntimeInfoImpl machineRuntime;
+
     private DockerInstanceProvider dockerInstanceProvider;
 
     @BeforeMethod
@@ -159,6 +167,13 @@ public class DockerInstanceProviderTest {
         when(recipeRetriever.getRecipe(any(MachineConfig.class))).thenReturn(new RecipeImpl().withType(DOCKER_FILE_TYPE).withScript("FROM codenvy"));
 
         when(dockerMachineFactory.createNode(anyString(), anyString())).thenReturn(dockerNode);
+        machineRuntime = new MachineRuntimeInfoImpl(emptyMap(), emptyMap(), emptyMap());
+        when(instance.getRuntime()).thenReturn(machineRuntime);
+        when(dockerMachineFactory.createInstance(any(Machine.class),
+                                                 anyString(),
+                                                 anyString(),
+                                                 any(DockerNode.class),
+                                                 any(LineConsumer.class))).thenReturn(instance);
         when(dockerConnector.createContainer(any(ContainerConfig.class), anyString()))
                 .thenReturn(new ContainerCreated(CONTAINER_ID, new String[0]));
     }
@@ -201,6 +216,24 @@ public class DockerInstanceProviderTest {
                                            anyVararg());
     }
 
+    @Test
+    public void shouldRecordImageBuildAndContainerStartTimesInMachineRuntime() throws Exception {
+        createInstanceFromRecipe();
+
+        assertTrue(machineRuntime.getProperties().containsKey(DockerInstanceProvider.IMAGE_BUILD_TIME_PROPERTY));
+        assertTrue(machineRuntime.getProperties().containsKey(DockerInstanceProvider.CONTAINER_START_TIME_PROPERTY));
+        assertFalse(machineRuntime.getProperties().containsKey(DockerInstanceProvider.IMAGE_PULL_TIME_PROPERTY));
+    }
+
+    @Test
+    public void shouldRecordImagePullAndContainerStartTimesInMachineRuntime() throws Exception {
+        createInstanceFromSnapshot();
+
+        assertTrue(machineRuntime.getProperties().containsKey(DockerInstanceProvider.IMAGE_PULL_TIME_PROPERTY));
+        assertTrue(machineRuntime.getProperties().containsKey(DockerInstanceProvider.CONTAINER_START_TIME_PROPERTY));
+        assertFalse(machineRuntime.getProperties().containsKey(DockerInstanceProvider.IMAGE_BUILD_TIME_PROPERTY));
+    }
+
     @Test
     public void shouldPullDockerImageOnInstanceCreationFromSnapshot() throws Exception {
         String repo = "repo";
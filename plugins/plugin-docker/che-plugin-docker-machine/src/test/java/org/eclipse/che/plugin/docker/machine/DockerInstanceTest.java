@@ -41,6 +41,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -184,6 +185,39 @@ public class DockerInstanceTest {
         assertEquals(dockerMachineSource.getRegistry(), REGISTRY);
     }
 
+    @Test
+    public void shouldPushSnapshotIntoRepositoryOfPreviousSnapshot() throws Exception {
+        final String registry = "localhost:5000";
+        final String repository = USERNAME + "/snapshot-abcdefgh12345678";
+        final MachineConfig config = MachineConfigImpl.builder()
+                                                      .fromConfig(getMachineConfig())
+                                                      .setSource(new MachineSourceImpl(DockerInstanceProvider.DOCKER_IMAGE_TYPE)
+                                                                         .setLocation(registry + '/' + repository + "@sha256:1234"))
+                                                      .build();
+        dockerInstance = getDockerInstance(getMachine(config, OWNER, MACHINE_ID, WORKSPACE_ID, STATUS),
+                                           registry,
+                                           CONTAINER,
+                                           IMAGE,
+                                           true);
+        when(dockerConnectorMock.push(any(PushParams.class), any(ProgressMonitor.class))).thenReturn("sha256:5678");
+
+        final DockerMachineSource result = (DockerMachineSource)dockerInstance.saveToSnapshot(OWNER);
+
+        assertEquals(result.getRepository(), repository);
+        assertEquals(result.getDigest(), "sha256:5678");
+        verify(dockerConnectorMock).push(eq(PushParams.create(repository).withRegistry(registry).withTag(TAG)),
+                                         any(ProgressMonitor.class));
+    }
+
+    @Test
+    public void shouldPushSnapshotIntoNewRepositoryIfMachineIsNotStartedFromSnapshot() throws Exception {
+        dockerInstance = getDockerInstance(getMachine(), REGISTRY, CONTAINER, IMAGE, true);
+
+        final DockerMachineSource result = (DockerMachineSource)dockerInstance.saveToSnapshot(OWNER);
+
+        assertTrue(result.getRepository().startsWith(USERNAME + "/snapshot-"));
+    }
+
     @Test(expectedExceptions = MachineException.class)
     public void shouldThrowMachineExceptionWhenDockerCommitFailed() throws Exception{
         when(dockerConnectorMock.commit(any(CommitParams.class))).thenThrow(new IOException("err"));
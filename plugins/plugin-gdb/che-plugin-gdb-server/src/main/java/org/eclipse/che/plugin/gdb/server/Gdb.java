@@ -10,14 +10,18 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.gdb.server;
 
+import org.eclipse.che.api.debug.shared.model.Breakpoint;
+import org.eclipse.che.api.debug.shared.model.Location;
+import org.eclipse.che.api.debug.shared.model.impl.BreakpointImpl;
+import org.eclipse.che.api.debug.shared.model.impl.LocationImpl;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
 import org.eclipse.che.plugin.gdb.server.exception.GdbTerminatedException;
 import org.eclipse.che.plugin.gdb.server.parser.GdbBreak;
 import org.eclipse.che.plugin.gdb.server.parser.GdbClear;
 import org.eclipse.che.plugin.gdb.server.parser.GdbContinue;
-import org.eclipse.che.plugin.gdb.server.parser.GdbDelete;
 import org.eclipse.che.plugin.gdb.server.parser.GdbDirectory;
 import org.eclipse.che.plugin.gdb.server.parser.GdbFile;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoArgs;
@@ -25,6 +29,7 @@ import org.eclipse.che.plugin.gdb.server.parser.GdbInfoBreak;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLine;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLocals;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoProgram;
+import org.eclipse.che.plugin.gdb.server.parser.GdbMiRecord;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPType;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
@@ -38,28 +43,57 @@ import javax.validation.constraints.NotNull;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * GDB.
+ * <p/>
+ * GDB is driven over GDB/MI interface. Each command is sent with unique token and the response with the same
+ * token is awaited, so responses of previous commands, asynchronous notifications and output of the debugged
+ * program are never taken for the response of the command. Commands that resume the program wait for the
+ * {@code *stopped} record and take location of the program from it. Other commands are executed as CLI commands
+ * and their console output is parsed.
+ * <p/>
+ * Output of the debugged program is redirected to {@link #INFERIOR_TTY}, so each line that GDB prints must be
+ * valid GDB/MI record. Command fails if GDB prints something else or doesn't respond in {@link #RESPONSE_TIMEOUT_MS}.
  *
  * @author Anatoliy Bazko
  */
 public class Gdb extends GdbProcess {
     private static final Logger LOG              = LoggerFactory.getLogger(GdbProcess.class);
     private static final String PROCESS_NAME     = "gdb";
-    private static final String OUTPUT_SEPARATOR = "(gdb) ";
+    private static final String MI_INTERPRETER   = "--interpreter=mi2";
+    private static final String OUTPUT_SEPARATOR = "\n";
+    private static final String INFERIOR_TTY     = "/dev/null";
+
+    /** Max time to wait for the result record of command and for the previous command to complete. */
+    static final long RESPONSE_TIMEOUT_MS = 30_000;
+
+    private final Lock   commandLock = new ReentrantLock();
+    private final Object writeLock   = new Object();
 
     private GdbVersion gdbVersion;
+    private long       lastToken;
 
     Gdb() throws IOException {
-        super(OUTPUT_SEPARATOR, PROCESS_NAME);
+        super(OUTPUT_SEPARATOR, PROCESS_NAME, MI_INTERPRETER);
 
         try {
-            gdbVersion = GdbVersion.parse(grabGdbOutput());
+            gdbVersion = GdbVersion.parse(grabGreeting());
         } catch (InterruptedException | DebuggerException e) {
             LOG.error(e.getMessage(), e);
             gdbVersion = new GdbVersion("Unknown", "Unknown");
         }
+
+        try {
+            inferiorTtySet(INFERIOR_TTY);
+        } catch (InterruptedException | DebuggerException e) {
+            LOG.error(e.getMessage(), e);
+        }
     }
 
     /**
@@ -77,8 +111,8 @@ public class Gdb extends GdbProcess {
      * `run` command.
      */
     public GdbRun run() throws IOException, InterruptedException, DebuggerException {
-        GdbOutput gdbOutput = sendCommand("run");
-        return GdbRun.parse(gdbOutput);
+        GdbMiRecord stopped = sendExecCommand("-exec-run");
+        return new GdbRun(getBreakpoint(stopped));
     }
 
     /**
@@ -109,24 +143,26 @@ public class Gdb extends GdbProcess {
      * `continue` command.
      */
     public GdbContinue cont() throws IOException, InterruptedException, DebuggerException {
-        GdbOutput gdbOutput = sendCommand("continue");
-        return GdbContinue.parse(gdbOutput);
+        GdbMiRecord stopped = sendExecCommand("-exec-continue");
+        return new GdbContinue(getBreakpoint(stopped));
     }
 
     /**
      * `step` command.
      */
     public GdbInfoLine step() throws IOException, InterruptedException, DebuggerException {
-        sendCommand("step");
-        return infoLine();
+        GdbMiRecord stopped = sendExecCommand("-exec-step");
+        Location location = getLocation(stopped);
+        return location != null ? new GdbInfoLine(location) : infoLine();
     }
 
     /**
      * `finish` command.
      */
     public GdbInfoLine finish() throws IOException, InterruptedException, DebuggerException {
-        sendCommand("finish");
-        return infoLine();
+        GdbMiRecord stopped = sendExecCommand("-exec-finish");
+        Location location = getLocation(stopped);
+        return location != null ? new GdbInfoLine(location) : infoLine();
     }
 
     /**
@@ -134,22 +170,22 @@ public class Gdb extends GdbProcess {
      */
     @Nullable
     public GdbInfoLine next() throws IOException, InterruptedException, DebuggerException {
-        sendCommand("next");
-
-        GdbInfoProgram gdbInfoProgram = infoProgram();
-        if (gdbInfoProgram.getStoppedAddress() == null) {
+        GdbMiRecord stopped = sendExecCommand("-exec-next");
+        if (stopped.isError() || isExited(stopped)) {
             return null;
         }
 
-        return infoLine();
+        Location location = getLocation(stopped);
+        return location != null ? new GdbInfoLine(location) : infoLine();
     }
 
     /**
-     * `quit` command.
+     * `quit` command. Doesn't wait for the command that is being executed, such command fails with
+     * {@link GdbTerminatedException} when GDB is stopped.
      */
     public void quit() throws IOException, GdbException, InterruptedException {
         try {
-            sendCommand("quit", false);
+            writeCommand("-gdb-exit");
         } finally {
             stop();
         }
@@ -217,8 +253,10 @@ public class Gdb extends GdbProcess {
      * `delete` command.
      */
     public void delete() throws IOException, InterruptedException, DebuggerException {
-        GdbOutput gdbOutput = sendCommand("delete");
-        GdbDelete.parse(gdbOutput);
+        GdbMiRecord result = sendMiCommand("-break-delete", false, new StringBuilder());
+        if (result.isError()) {
+            throw new GdbException(result.getString("msg"));
+        }
     }
 
     /**
@@ -270,32 +308,175 @@ public class Gdb extends GdbProcess {
         return GdbInfoProgram.parse(gdbOutput);
     }
 
-    private GdbOutput sendCommand(String command) throws IOException,
-                                                         GdbTerminatedException,
-                                                         InterruptedException {
-        return sendCommand(command, true);
+    /**
+     * `-inferior-tty-set` command.
+     */
+    private void inferiorTtySet(String tty) throws IOException, InterruptedException, DebuggerException {
+        GdbMiRecord result = sendMiCommand("-inferior-tty-set " + tty, false, new StringBuilder());
+        if (result.isError()) {
+            throw new GdbException(result.getString("msg"));
+        }
     }
 
-    private synchronized GdbOutput sendCommand(String command, boolean grabOutput) throws IOException,
-                                                                                          GdbTerminatedException,
-                                                                                          InterruptedException {
+    /**
+     * Executes CLI command and returns its console output. Message of the error is returned as output if
+     * command fails.
+     */
+    private GdbOutput sendCommand(String command) throws IOException, GdbException, InterruptedException {
+        StringBuilder console = new StringBuilder();
+        sendMiCommand("-interpreter-exec console " + toCString(command), false, console);
+        return GdbOutput.of(console.toString());
+    }
+
+    /**
+     * Executes command that resumes the program and waits until the program stops.
+     *
+     * @return {@code *stopped} record or error record if the program can't be resumed
+     */
+    private GdbMiRecord sendExecCommand(String command) throws IOException, GdbException, InterruptedException {
+        return sendMiCommand(command, true, new StringBuilder());
+    }
+
+    /**
+     * Sends GDB/MI command and waits for the response to it. Result record is awaited at most
+     * {@link #RESPONSE_TIMEOUT_MS}, execution commands then wait for the program to stop without timeout.
+     *
+     * @param execution
+     *         if {@code true} then command resumes the program and method waits for {@code *stopped} record
+     * @param console
+     *         collects console output of the command
+     * @return result record of the command, {@code *stopped} record for execution commands
+     * @throws GdbException
+     *         if GDB is busy with previous command, doesn't respond in time or prints invalid GDB/MI record
+     */
+    private GdbMiRecord sendMiCommand(String command, boolean execution, StringBuilder console)
+            throws IOException, GdbException, InterruptedException {
+        if (!commandLock.tryLock(RESPONSE_TIMEOUT_MS, MILLISECONDS)) {
+            throw new GdbException("GDB is busy, command '" + command + "' can't be executed");
+        }
+        try {
+            String token = String.valueOf(++lastToken);
+            writeCommand(token + command);
+
+            long deadline = System.currentTimeMillis() + RESPONSE_TIMEOUT_MS;
+            boolean running = false;
+            while (true) {
+                GdbMiRecord record = grabRecord(running ? 0 : deadline);
+                if (record == null) {
+                    throw new GdbException("GDB doesn't respond to command '" + command + "'");
+                }
+                switch (record.getType()) {
+                    case CONSOLE:
+                        console.append(record.getStream());
+                        break;
+                    case RESULT:
+                        if (token.equals(record.getToken())) {
+                            if (record.isError()) {
+                                console.append(record.getString("msg")).append('\n');
+                                return record;
+                            }
+                            if (!execution) {
+                                return record;
+                            }
+                            running = true;
+                        }
+                        break;
+                    case EXEC:
+                        // program may be stopped before this command, e.g. when it connects to remote target
+                        if (running && "stopped".equals(record.getClassName())) {
+                            return record;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    private void writeCommand(String command) throws IOException {
         LOG.debug(command);
 
-        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
-        writer.write(command);
-        writer.newLine();
-        writer.flush();
+        synchronized (writeLock) {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+            writer.write(command);
+            writer.newLine();
+            writer.flush();
+        }
+    }
 
-        return grabOutput ? grabGdbOutput() : null;
+    /**
+     * Reads console output that GDB prints on start up.
+     */
+    private GdbOutput grabGreeting() throws InterruptedException, GdbException {
+        long deadline = System.currentTimeMillis() + RESPONSE_TIMEOUT_MS;
+        StringBuilder console = new StringBuilder();
+        GdbMiRecord record;
+        while ((record = grabRecord(deadline)) != null && record.getType() != GdbMiRecord.Type.PROMPT) {
+            if (record.getType() == GdbMiRecord.Type.CONSOLE) {
+                console.append(record.getStream());
+            }
+        }
+        if (record == null) {
+            throw new GdbException("GDB doesn't respond on start up");
+        }
+        return GdbOutput.of(console.toString());
     }
 
-    private GdbOutput grabGdbOutput() throws InterruptedException, GdbTerminatedException {
-        GdbOutput gdbOutput = outputs.take();
+    /**
+     * Takes next GDB/MI record.
+     *
+     * @param deadline
+     *         time in milliseconds until which record is awaited, {@code 0} means wait without timeout
+     * @return GDB/MI record or {@code null} if there is no record until deadline
+     * @throws GdbParseException
+     *         if GDB prints something that isn't GDB/MI record
+     */
+    @Nullable
+    private GdbMiRecord grabRecord(long deadline) throws InterruptedException, GdbTerminatedException, GdbParseException {
+        GdbOutput gdbOutput;
+        if (deadline == 0) {
+            gdbOutput = outputs.take();
+        } else {
+            gdbOutput = outputs.poll(Math.max(0, deadline - System.currentTimeMillis()), MILLISECONDS);
+            if (gdbOutput == null) {
+                return null;
+            }
+        }
         if (gdbOutput.isTerminated()) {
             String errorMsg = "GDB has been terminated with output: " + gdbOutput.getOutput();
             LOG.error(errorMsg);
             throw new GdbTerminatedException(errorMsg);
         }
-        return gdbOutput;
+        return GdbMiRecord.parse(gdbOutput);
+    }
+
+    @Nullable
+    private static Breakpoint getBreakpoint(GdbMiRecord stopped) {
+        if (!"breakpoint-hit".equals(stopped.getString("reason"))) {
+            return null;
+        }
+        Location location = getLocation(stopped);
+        return location != null ? new BreakpointImpl(location) : null;
+    }
+
+    @Nullable
+    private static Location getLocation(GdbMiRecord stopped) {
+        Map<String, Object> frame = stopped.getTuple("frame");
+        if (frame == null || !(frame.get("file") instanceof String) || !(frame.get("line") instanceof String)) {
+            return null;
+        }
+        return new LocationImpl((String)frame.get("file"), Integer.parseInt((String)frame.get("line")));
+    }
+
+    private static boolean isExited(GdbMiRecord stopped) {
+        String reason = stopped.getString("reason");
+        return reason != null && reason.startsWith("exited");
+    }
+
+    private static String toCString(String command) {
+        return '"' + command.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
     }
 }
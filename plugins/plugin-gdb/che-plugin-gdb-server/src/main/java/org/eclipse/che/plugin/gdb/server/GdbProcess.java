@@ -10,26 +10,29 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.gdb.server;
 
-import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
-import static java.lang.Math.min;
-
 /**
+ * Process which output is split by {@code outputSeparator} into {@link GdbOutput}s. Output is read by dedicated
+ * thread that is blocked until process writes something, so output is available as soon as process prints it.
+ * Error stream of the process is merged with its output. Output is never truncated, incomplete output is kept
+ * until the separator is read.
+ *
  * @author Anatoliy Bazko
  */
 public abstract class GdbProcess {
     private static final Logger LOG          = LoggerFactory.getLogger(GdbProcess.class);
     private static final int    MAX_CAPACITY = 1000;
-    private static final int    MAX_OUTPUT   = 4096;
+    private static final int    BUFFER_SIZE  = 4096;
 
     protected final Process                  process;
     protected final String                   outputSeparator;
@@ -41,6 +44,7 @@ public abstract class GdbProcess {
         this.outputs = new ArrayBlockingQueue<>(MAX_CAPACITY);
 
         ProcessBuilder processBuilder = new ProcessBuilder(commands);
+        processBuilder.redirectErrorStream(true);
         process = processBuilder.start();
 
         outputReader = new OutputReader(commands[0] + " output reader");
@@ -49,12 +53,21 @@ public abstract class GdbProcess {
     }
 
     /**
-     * Stops process.
+     * Stops process. Terminated output is put to the queue, so threads that wait for output are released even if
+     * output stream of the process isn't closed yet.
      */
     protected void stop() {
-        outputReader.interrupt();
         outputs.clear();
+        addOutput(GdbOutput.of("", true));
         process.destroyForcibly();
+        outputReader.interrupt();
+    }
+
+    /** Adds output to the queue, the oldest output is dropped if nobody reads the queue. */
+    private void addOutput(GdbOutput gdbOutput) {
+        while (!outputs.offer(gdbOutput)) {
+            outputs.poll();
+        }
     }
 
     /**
@@ -69,76 +82,36 @@ public abstract class GdbProcess {
         @Override
         public void run() {
             StringBuilder buf = new StringBuilder();
+            char[] data = new char[BUFFER_SIZE];
 
-            while (!isInterrupted()) {
-                if (!process.isAlive()) {
-                    outputs.add(GdbOutput.of(buf.toString(), true));
-                    break;
-                }
-
-                try {
-                    InputStream in = getInput();
-                    if (in != null) {
-                        String data = read(in);
-                        if (!data.isEmpty()) {
-                            buf.append(data);
-                            if (buf.length() > MAX_OUTPUT) {
-                                buf.delete(0, buf.length() - MAX_OUTPUT);
-                            }
-                        }
-                    }
-                } catch (IOException e) {
-                    LOG.error(e.getMessage(), e);
-                }
-
-                if (buf.length() > 0) {
+            try (Reader in = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+                int read;
+                while (!isInterrupted() && (read = in.read(data)) != -1) {
+                    buf.append(data, 0, read);
                     extractOutput(buf);
                 }
-
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    break;
+            } catch (IOException e) {
+                // stream is closed when process is destroyed
+                if (!isInterrupted()) {
+                    LOG.error(e.getMessage(), e);
                 }
             }
 
+            addOutput(GdbOutput.of(buf.toString(), true));
             LOG.debug(getName() + " has been stopped");
         }
 
-        private InputStream getInput() throws IOException {
-            return hasError() ? process.getErrorStream()
-                              : (hasInput() ? (hasError() ? process.getErrorStream() : process.getInputStream())
-                                            : null);
-        }
-
         private void extractOutput(StringBuilder buf) {
             int indexOf;
             while ((indexOf = buf.indexOf(outputSeparator)) >= 0) {
                 GdbOutput gdbOutput = GdbOutput.of(buf.substring(0, indexOf));
-                outputs.add(gdbOutput);
+                addOutput(gdbOutput);
 
                 LOG.debug(gdbOutput.getOutput());
 
                 buf.delete(0, indexOf + outputSeparator.length());
             }
         }
-
-        private boolean hasError() throws IOException {
-            return process.getErrorStream().available() != 0;
-        }
-
-        private boolean hasInput() throws IOException {
-            return process.getInputStream().available() != 0;
-        }
-
-        @Nullable
-        private String read(InputStream in) throws IOException {
-            int available = min(in.available(), MAX_OUTPUT);
-            byte[] buf = new byte[available];
-            int read = in.read(buf, 0, available);
-
-            return new String(buf, 0, read, StandardCharsets.UTF_8);
-        }
     }
 
 }
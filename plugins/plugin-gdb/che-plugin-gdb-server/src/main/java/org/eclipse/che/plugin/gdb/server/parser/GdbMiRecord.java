@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single record of GDB/MI output, see 'GDB/MI Output Syntax' section of GDB documentation.
+ * <p/>
+ * Values of results are represented as {@link String} for constants, {@link Map} for tuples and {@link List}
+ * for lists. Names of results in lists are omitted.
+ */
+public class GdbMiRecord {
+
+    public enum Type {
+        /** Result of command, e.g. {@code 12^done}. */
+        RESULT('^'),
+        /** Change of execution state of the program, e.g. {@code *stopped}. */
+        EXEC('*'),
+        /** Progress of long running operation. */
+        STATUS('+'),
+        /** Supplementary information, e.g. {@code =breakpoint-modified}. */
+        NOTIFY('='),
+        /** Output of CLI console. */
+        CONSOLE('~'),
+        /** Output of remote target. */
+        TARGET('@'),
+        /** Internal messages of GDB. */
+        LOG('&'),
+        /** Prompt, GDB is ready for the next command. */
+        PROMPT(' ');
+
+        private final char prefix;
+
+        Type(char prefix) {
+            this.prefix = prefix;
+        }
+
+        private static Type of(char prefix) {
+            for (Type type : values()) {
+                if (type.prefix == prefix) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final String PROMPT = "(gdb)";
+
+    private final Type                type;
+    private final String              token;
+    private final String              className;
+    private final Map<String, Object> results;
+    private final String              stream;
+
+    private GdbMiRecord(Type type, String token, String className, Map<String, Object> results, String stream) {
+        this.type = type;
+        this.token = token;
+        this.className = className;
+        this.results = results;
+        this.stream = stream;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns token of the command this record is sent in response to or {@code null} if record has no token.
+     */
+    @Nullable
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns class of result or async record, e.g. {@code done}, {@code error}, {@code stopped}.
+     */
+    @Nullable
+    public String getClassName() {
+        return className;
+    }
+
+    public Map<String, Object> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns text of stream record.
+     */
+    @Nullable
+    public String getStream() {
+        return stream;
+    }
+
+    /**
+     * Returns value of result with the given name if it is constant, otherwise returns {@code null}.
+     */
+    @Nullable
+    public String getString(String name) {
+        Object value = results.get(name);
+        return value instanceof String ? (String)value : null;
+    }
+
+    /**
+     * Returns value of result with the given name if it is tuple, otherwise returns {@code null}.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getTuple(String name) {
+        Object value = results.get(name);
+        return value instanceof Map ? (Map<String, Object>)value : null;
+    }
+
+    public boolean isError() {
+        return type == Type.RESULT && "error".equals(className);
+    }
+
+    /**
+     * Factory method.
+     *
+     * @throws GdbParseException
+     *         if output isn't GDB/MI record, e.g. it is output of the debugged program
+     */
+    public static GdbMiRecord parse(GdbOutput gdbOutput) throws GdbParseException {
+        String output = gdbOutput.getOutput();
+        if (output.trim().equals(PROMPT)) {
+            return new GdbMiRecord(Type.PROMPT, null, null, Collections.emptyMap(), null);
+        }
+
+        int pos = 0;
+        while (pos < output.length() && Character.isDigit(output.charAt(pos))) {
+            pos++;
+        }
+        String token = pos > 0 ? output.substring(0, pos) : null;
+        Type type = pos < output.length() ? Type.of(output.charAt(pos)) : null;
+        if (type == null || type == Type.PROMPT) {
+            throw new GdbParseException(GdbMiRecord.class, output);
+        }
+
+        Reader reader = new Reader(output, pos + 1);
+        try {
+            switch (type) {
+                case CONSOLE:
+                case TARGET:
+                case LOG:
+                    String stream = reader.readString();
+                    reader.expectEnd();
+                    return new GdbMiRecord(type, token, null, Collections.emptyMap(), stream);
+                default:
+                    String className = reader.readName();
+                    Map<String, Object> results = new LinkedHashMap<>();
+                    while (reader.skip(',')) {
+                        String name = reader.readName();
+                        reader.expect('=');
+                        results.put(name, reader.readValue());
+                    }
+                    reader.expectEnd();
+                    return new GdbMiRecord(type, token, className, results, null);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new GdbParseException(GdbMiRecord.class, output);
+        }
+    }
+
+    /** Reads values of GDB/MI record, throws {@link IllegalArgumentException} if syntax of record is invalid. */
+    private static class Reader {
+        private final String output;
+        private       int    pos;
+
+        Reader(String output, int pos) {
+            this.output = output;
+            this.pos = pos;
+        }
+
+        Object readValue() {
+            char c = peek();
+            if (c == '"') {
+                return readString();
+            }
+            if (c == '{') {
+                pos++;
+                Map<String, Object> tuple = new LinkedHashMap<>();
+                if (!skip('}')) {
+                    do {
+                        String name = readName();
+                        expect('=');
+                        tuple.put(name, readValue());
+                    } while (skip(','));
+                    expect('}');
+                }
+                return tuple;
+            }
+            if (c == '[') {
+                pos++;
+                List<Object> list = new ArrayList<>();
+                if (!skip(']')) {
+                    do {
+                        // list may consist of values or of results, names of results are omitted
+                        if (peek() != '"' && peek() != '{' && peek() != '[') {
+                            readName();
+                            expect('=');
+                        }
+                        list.add(readValue());
+                    } while (skip(','));
+                    expect(']');
+                }
+                return list;
+            }
+            throw new IllegalArgumentException();
+        }
+
+        String readName() {
+            int start = pos;
+            while (pos < output.length() && "=,{}[]\"".indexOf(output.charAt(pos)) == -1) {
+                pos++;
+            }
+            if (start == pos) {
+                throw new IllegalArgumentException();
+            }
+            return output.substring(start, pos);
+        }
+
+        String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            // octal escapes are bytes of UTF-8 encoded characters
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            while (true) {
+                char c = next();
+                if (c == '\\' && isOctal(peek())) {
+                    int octal = 0;
+                    for (int i = 0; i < 3 && isOctal(peek()); i++) {
+                        octal = octal * 8 + next() - '0';
+                    }
+                    bytes.write(octal);
+                    continue;
+                }
+                if (bytes.size() > 0) {
+                    value.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+                    bytes.reset();
+                }
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c == '\\') {
+                    c = next();
+                    switch (c) {
+                        case 'n':
+                            value.append('\n');
+                            break;
+                        case 't':
+                            value.append('\t');
+                            break;
+                        case 'r':
+                            value.append('\r');
+                            break;
+                        default:
+                            value.append(c);
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+        }
+
+        boolean skip(char c) {
+            if (pos < output.length() && output.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void expect(char c) {
+            if (!skip(c)) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        void expectEnd() {
+            if (!output.substring(pos).trim().isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        private static boolean isOctal(char c) {
+            return c >= '0' && c <= '7';
+        }
+
+        private char peek() {
+            return pos < output.length() ? output.charAt(pos) : 0;
+        }
+
+        private char next() {
+            if (pos >= output.length()) {
+                throw new IllegalArgumentException();
+            }
+            return output.charAt(pos++);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GdbMiRecordTest {
+
+    @Test
+    public void testParseResultRecord() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("12^done,bkpt={number=\"1\",type=\"breakpoint\",thread-groups=[\"i1\"],line=\"7\"}");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertEquals(record.getType(), GdbMiRecord.Type.RESULT);
+        assertEquals(record.getToken(), "12");
+        assertEquals(record.getClassName(), "done");
+        Map<String, Object> bkpt = record.getTuple("bkpt");
+        assertEquals(bkpt.get("number"), "1");
+        assertEquals(bkpt.get("line"), "7");
+        assertEquals(((List)bkpt.get("thread-groups")).get(0), "i1");
+    }
+
+    @Test
+    public void testParseStoppedRecord() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("*stopped,reason=\"breakpoint-hit\",bkptno=\"1\",frame={addr=\"0x4005c4\",func=\"main\"," +
+                                           "args=[],file=\"h.cpp\",line=\"7\"},stack=[frame={level=\"0\"},frame={level=\"1\"}]");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertEquals(record.getType(), GdbMiRecord.Type.EXEC);
+        assertNull(record.getToken());
+        assertEquals(record.getClassName(), "stopped");
+        assertEquals(record.getString("reason"), "breakpoint-hit");
+        assertEquals(record.getTuple("frame").get("file"), "h.cpp");
+        assertTrue(((List)record.getTuple("frame").get("args")).isEmpty());
+        assertEquals(((List)record.getResults().get("stack")).size(), 2);
+    }
+
+    @Test
+    public void testParseErrorRecord() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("3^error,msg=\"No symbol \\\"i\\\" in current context.\"");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertTrue(record.isError());
+        assertEquals(record.getString("msg"), "No symbol \"i\" in current context.");
+    }
+
+    @Test
+    public void testParseConsoleStream() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("~\"$1 = \\\"h\\303\\251\\\"\\n\"");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertEquals(record.getType(), GdbMiRecord.Type.CONSOLE);
+        assertEquals(record.getStream(), "$1 = \"h\u00e9\"\n");
+    }
+
+    @Test
+    public void testParsePrompt() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("(gdb) ");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertEquals(record.getType(), GdbMiRecord.Type.PROMPT);
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFail() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("Hello world");
+        GdbMiRecord.parse(gdbOutput);
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailOnUnterminatedTuple() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("^done,frame={level=\"0\"");
+        GdbMiRecord.parse(gdbOutput);
+    }
+}
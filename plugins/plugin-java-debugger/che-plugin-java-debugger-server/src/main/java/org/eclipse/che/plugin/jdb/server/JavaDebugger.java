@@ -93,6 +93,9 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private static final Logger            LOG          = LoggerFactory.getLogger(JavaDebugger.class);
     private static final JavaDebuggerUtils debuggerUtil = new JavaDebuggerUtils();
 
+    /** Number of nested variables fetched from the target JVM at once when value of variable is requested. */
+    static final int NESTED_VARIABLES_PAGE_SIZE = JdiValueImpl.ARRAY_PAGE_SIZE;
+
     private final String           host;
     private final int              port;
     private final DebuggerCallback debuggerCallback;
@@ -114,6 +117,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private ThreadReference thread;
     /** Current stack frame. Not <code>null</code> is thread suspended, e.g breakpoint reached. */
     private JdiStackFrame   stackFrame;
+    /** Variables of current stack frame resolved in the current suspend cycle. */
+    private final JdiVariablesCache resolvedVariables = new JdiVariablesCache();
     /** Lock for synchronization debug processes. */
     private Lock lock = new ReentrantLock();
 
@@ -422,6 +427,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
      * <li>Through field <i>a</i> in class <i>B</i>: ['this', 'a', 'str']</li>
      * <li>Through local variable <i>var</i> in method <i>B.method()</i>: ['var', 'str']</li>
      * </ol>
+     * Returned value contains all nested variables. Elements of large array are fetched from the target JVM in pages of
+     * {@link #NESTED_VARIABLES_PAGE_SIZE} elements, so the whole array is never requested with single JDWP call.
      *
      * @param variablePath
      *         path to variable
@@ -435,33 +442,33 @@ public class JavaDebugger implements EventsHandler, Debugger {
         if (path.size() == 0) {
             throw new IllegalArgumentException("Path to value may not be empty. ");
         }
-        JdiVariable variable;
-        int offset;
-        if ("this".equals(path.get(0)) || "static".equals(path.get(0))) {
-            if (path.size() < 2) {
-                throw new IllegalArgumentException("Name of field required. ");
-            }
-            variable = getCurrentFrame().getFieldByName(path.get(1));
-            offset = 2;
-        } else {
-            try {
-                variable = getCurrentFrame().getLocalVariableByName(path.get(0));
-            } catch (DebuggerAbsentInformationException e) {
-                return null;
-            }
-            offset = 1;
+        if (("this".equals(path.get(0)) || "static".equals(path.get(0))) && path.size() < 2) {
+            throw new IllegalArgumentException("Name of field required. ");
         }
 
-        for (int i = offset; variable != null && i < path.size(); i++) {
-            variable = variable.getValue().getVariableByName(path.get(i));
-        }
+        lock.lock();
+        try {
+            JdiVariable variable = resolvedVariables.get(getCurrentFrame(), path);
+            if (variable == null) {
+                return null;
+            }
 
-        if (variable == null) {
-            return null;
+            List<Variable> variables = new ArrayList<>();
+            JdiVariable[] page;
+            int from = 0;
+            do {
+                page = variable.getValue().getVariables(from, NESTED_VARIABLES_PAGE_SIZE);
+                addVariables(path, page, variables);
+                from += page.length;
+            } while (page.length == NESTED_VARIABLES_PAGE_SIZE);
+            return new SimpleValueImpl(variables, variable.getValue().getAsString());
+        } finally {
+            lock.unlock();
         }
+    }
 
-        List<Variable> variables = new ArrayList<>();
-        for (JdiVariable ch : variable.getValue().getVariables()) {
+    private void addVariables(List<String> path, JdiVariable[] page, List<Variable> variables) throws DebuggerException {
+        for (JdiVariable ch : page) {
             VariablePathDto chPath = newDto(VariablePathDto.class).withPath(new ArrayList<>(path));
             chPath.getPath().add(ch.getName());
             if (ch instanceof JdiField) {
@@ -488,7 +495,6 @@ public class JavaDebugger implements EventsHandler, Debugger {
                                                true));
             }
         }
-        return new SimpleValueImpl(variables, variable.getValue().getAsString());
     }
 
     @Override
@@ -687,15 +693,18 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     private void setCurrentThread(ThreadReference t) {
         stackFrame = null;
+        resolvedVariables.clear();
         thread = t;
     }
 
     private void resetCurrentFrame() {
         stackFrame = null;
+        resolvedVariables.clear();
     }
 
     private void resetCurrentThread() {
         this.stackFrame = null;
+        this.resolvedVariables.clear();
         this.thread = null;
     }
 
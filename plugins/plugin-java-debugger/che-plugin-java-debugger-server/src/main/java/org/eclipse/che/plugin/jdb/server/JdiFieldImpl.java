@@ -22,6 +22,9 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
     private final Field           field;
     private final ReferenceType   type;
     private final ObjectReference object;
+    private       boolean         fetched;
+    private       Value           value;
+    private       JdiValue        jdiValue;
 
     public JdiFieldImpl(Field field, ObjectReference object) {
         this.field = field;
@@ -35,6 +38,26 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
         this.object = null;
     }
 
+    /**
+     * Creates field which value is already fetched from the target JVM, e.g. together with values of other fields
+     * of the same object.
+     */
+    public JdiFieldImpl(Field field, ObjectReference object, Value value) {
+        this(field, object);
+        this.value = value;
+        this.fetched = true;
+    }
+
+    /**
+     * Creates static field which value is already fetched from the target JVM, e.g. together with values of other
+     * static fields of the same type.
+     */
+    public JdiFieldImpl(Field field, ReferenceType type, Value value) {
+        this(field, type);
+        this.value = value;
+        this.fetched = true;
+    }
+
     @Override
     public String getName() {
         return field.name();
@@ -72,11 +95,14 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
 
     @Override
     public JdiValue getValue() {
-        Value value = object == null ? type.getValue(field) : object.getValue(field);
-        if (value == null) {
-            return new JdiNullValue();
+        if (jdiValue == null) {
+            if (!fetched) {
+                value = object == null ? type.getValue(field) : object.getValue(field);
+                fetched = true;
+            }
+            jdiValue = value == null ? new JdiNullValue() : new JdiValueImpl(value);
         }
-        return new JdiValueImpl(value);
+        return jdiValue;
     }
 
     @Override
@@ -37,6 +37,22 @@ public interface JdiValue {
      */
     JdiVariable[] getVariables() throws DebuggerException;
 
+    /**
+     * Get range of nested variables. Unlike to {@link #getVariables()} this method doesn't resolve variables out of
+     * the requested range, so it should be used to access members of large arrays.
+     *
+     * @param from
+     *         index of the first variable, inclusive
+     * @param count
+     *         max number of variables to return
+     * @return nested variables in the requested range or empty array if <code>from</code> is out of range of nested
+     *         variables
+     * @throws DebuggerException
+     *         if an error occurs
+     * @see #getVariables()
+     */
+    JdiVariable[] getVariables(int from, int count) throws DebuggerException;
+
     /**
      * Get nested variable by name.
      *
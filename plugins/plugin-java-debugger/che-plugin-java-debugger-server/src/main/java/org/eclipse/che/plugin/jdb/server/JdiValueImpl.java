@@ -14,18 +14,32 @@ import com.sun.jdi.ArrayReference;
 import com.sun.jdi.Field;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.PrimitiveValue;
-import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
-/** @author andrew00x */
+/**
+ * Value of variable in debuggee JVM. Nested variables are resolved lazily on the first access and are kept until
+ * the end of the current suspend cycle, e.g. until the target JVM is resumed.
+ * <p/>
+ * Values of fields are fetched with single JDWP request. Elements of array are fetched in pages of
+ * {@link #ARRAY_PAGE_SIZE} elements only when they are requested, so access to single element or to range of elements
+ * of large array doesn't load the whole array.
+ *
+ * @author andrew00x
+ */
 public class JdiValueImpl implements JdiValue {
-    private final Value         value;
-    private       JdiVariable[] variables;
+    /** Max number of array elements fetched with one JDWP request. */
+    static final int ARRAY_PAGE_SIZE = 1000;
+
+    private final Value             value;
+    private       String            asString;
+    private       JdiVariable[]     variables;
+    private       JdiArrayElement[] elements;
 
     public JdiValueImpl(Value value) {
         if (value == null) {
@@ -36,7 +50,10 @@ public class JdiValueImpl implements JdiValue {
 
     @Override
     public String getAsString() {
-        return value.toString();
+        if (asString == null) {
+            asString = value.toString();
+        }
+        return asString;
     }
 
     @Override
@@ -44,36 +61,47 @@ public class JdiValueImpl implements JdiValue {
         if (variables == null) {
             if (isPrimitive()) {
                 variables = new JdiVariable[0];
+            } else if (isArray()) {
+                variables = getArrayElements(0, ((ArrayReference)value).length());
             } else {
-                if (isArray()) {
-                    ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
-                    }
-                } else {
-                    ObjectReference object = (ObjectReference)value;
-                    ReferenceType type = object.referenceType();
-                    List<Field> fields = type.allFields();
-                    variables = new JdiVariable[fields.size()];
-                    int i = 0;
-                    for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
-                    }
-                    // See JdiFieldImpl#compareTo(JdiFieldImpl).
-                    Arrays.sort(variables);
+                ObjectReference object = (ObjectReference)value;
+                List<Field> fields = object.referenceType().allFields();
+                Map<Field, Value> values = object.getValues(fields);
+                variables = new JdiVariable[fields.size()];
+                int i = 0;
+                for (Field f : fields) {
+                    variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                 }
+                // See JdiFieldImpl#compareTo(JdiFieldImpl).
+                Arrays.sort(variables);
             }
         }
         return variables;
     }
 
+    @Override
+    public JdiVariable[] getVariables(int from, int count) {
+        if (from < 0 || count < 0) {
+            throw new IllegalArgumentException("Range of variables may not be negative. ");
+        }
+        if (variables == null && isArray()) {
+            return getArrayElements(from, count);
+        }
+        JdiVariable[] all = getVariables();
+        if (from >= all.length) {
+            return new JdiVariable[0];
+        }
+        return Arrays.copyOfRange(all, from, (int)Math.min((long)from + count, all.length));
+    }
+
     @Override
     public JdiVariable getVariableByName(String name) throws DebuggerException {
         if (name == null) {
             throw new IllegalArgumentException("Variable name may not be null. ");
         }
+        if (variables == null && isArray() && name.startsWith("[") && name.endsWith("]")) {
+            return getArrayElement(name);
+        }
         for (JdiVariable variable : getVariables()) {
             if (name.equals(variable.getName())) {
                 return variable;
@@ -82,6 +110,52 @@ public class JdiValueImpl implements JdiValue {
         return null;
     }
 
+    private JdiVariable getArrayElement(String name) {
+        int index;
+        try {
+            index = Integer.parseInt(name.substring(1, name.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        ArrayReference array = (ArrayReference)value;
+        if (index < 0 || index >= array.length()) {
+            return null;
+        }
+        JdiArrayElement element = elements == null ? null : elements[index];
+        if (element == null) {
+            loadPage(array, index - index % ARRAY_PAGE_SIZE);
+            element = elements[index];
+        }
+        return element;
+    }
+
+    private JdiArrayElement[] getArrayElements(int from, int count) {
+        ArrayReference array = (ArrayReference)value;
+        int length = array.length();
+        if (from >= length) {
+            return new JdiArrayElement[0];
+        }
+        int to = (int)Math.min((long)from + count, length);
+        for (int page = from - from % ARRAY_PAGE_SIZE; page < to; page += ARRAY_PAGE_SIZE) {
+            loadPage(array, page);
+        }
+        return Arrays.copyOfRange(elements, from, to);
+    }
+
+    private void loadPage(ArrayReference array, int from) {
+        int length = array.length();
+        if (elements == null) {
+            elements = new JdiArrayElement[length];
+        }
+        if (elements[from] != null) {
+            return;
+        }
+        List<Value> page = array.getValues(from, Math.min(ARRAY_PAGE_SIZE, length - from));
+        for (int i = 0; i < page.size(); i++) {
+            elements[from + i] = new JdiArrayElementImpl(from + i, page.get(i));
+        }
+    }
+
     private boolean isArray() {
         return value instanceof ArrayReference;
     }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Variables of stack frame resolved in the current suspend cycle, mapped by their paths. Variables that are already
+ * resolved are reused, so expanding of nested variable doesn't walk the whole path from the frame again.
+ * <p/>
+ * Cache must be cleared each time when the frame becomes invalid, e.g. when target JVM is resumed.
+ */
+class JdiVariablesCache {
+    private final ConcurrentMap<List<String>, JdiVariable> variables = new ConcurrentHashMap<>();
+
+    /**
+     * Get variable with specified path.
+     *
+     * @param frame
+     *         frame in which the first element of path is resolved
+     * @param path
+     *         path to variable, see {@link JavaDebugger#getValue(org.eclipse.che.api.debug.shared.model.VariablePath)}
+     * @return variable or <code>null</code> if variable not found
+     * @throws DebuggerException
+     *         when any errors occur when try to access the variable
+     */
+    JdiVariable get(JdiStackFrame frame, List<String> path) throws DebuggerException {
+        JdiVariable variable = variables.get(path);
+        if (variable != null) {
+            return variable;
+        }
+        final boolean field = "this".equals(path.get(0)) || "static".equals(path.get(0));
+        if (path.size() > (field ? 2 : 1)) {
+            JdiVariable parent = get(frame, path.subList(0, path.size() - 1));
+            if (parent != null) {
+                variable = parent.getValue().getVariableByName(path.get(path.size() - 1));
+            }
+        } else if (field) {
+            variable = frame.getFieldByName(path.get(1));
+        } else {
+            try {
+                variable = frame.getLocalVariableByName(path.get(0));
+            } catch (DebuggerAbsentInformationException e) {
+                return null;
+            }
+        }
+        if (variable != null) {
+            variables.put(new ArrayList<>(path), variable);
+        }
+        return variable;
+    }
+
+    /** Get number of cached variables. */
+    int size() {
+        return variables.size();
+    }
+
+    /** Drop all cached variables. */
+    void clear() {
+        variables.clear();
+    }
+}
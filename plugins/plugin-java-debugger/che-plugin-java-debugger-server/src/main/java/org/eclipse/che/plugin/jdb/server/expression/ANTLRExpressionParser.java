@@ -15,14 +15,32 @@ import com.sun.jdi.Value;
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonTokenStream;
 import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.tree.CommonTree;
 import org.antlr.runtime.tree.CommonTreeNodeStream;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * ANTLR based implementation of ExpressionParser.
+ * <p/>
+ * Syntax trees of expressions are cached by text of expression, so expression that is evaluated many times,
+ * e.g. condition of breakpoint or watch expression, is parsed only once. Syntax tree of expression doesn't depend
+ * on the frame where expression is evaluated, all names are resolved by {@link Evaluator} at evaluation time.
  *
  * @author andrew00x
  */
 public final class ANTLRExpressionParser extends ExpressionParser {
+    /** Max number of cached syntax trees. */
+    private static final int MAX_CACHED_TREES = 500;
+
+    private static final Map<String, CommonTree> TREES = new LinkedHashMap<String, CommonTree>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CommonTree> eldest) {
+            return size() > MAX_CACHED_TREES;
+        }
+    };
+
     private CommonTreeNodeStream nodes;
 
     public ANTLRExpressionParser(String expression) {
@@ -33,7 +51,7 @@ public final class ANTLRExpressionParser extends ExpressionParser {
     public Value evaluate(Evaluator ev) {
         try {
             if (nodes == null) {
-                parse();
+                nodes = new CommonTreeNodeStream(getTree(getExpression()));
             } else {
                 nodes.reset();
             }
@@ -44,10 +62,25 @@ public final class ANTLRExpressionParser extends ExpressionParser {
         }
     }
 
-    private void parse() throws RecognitionException {
-        JavaLexer lexer = new JavaLexer(new ANTLRStringStream(getExpression()));
+    /** Get syntax tree of expression from cache, expression is parsed if its tree isn't cached yet. */
+    static CommonTree getTree(String expression) throws RecognitionException {
+        CommonTree tree;
+        synchronized (TREES) {
+            tree = TREES.get(expression);
+        }
+        if (tree == null) {
+            tree = parse(expression);
+            synchronized (TREES) {
+                TREES.put(expression, tree);
+            }
+        }
+        return tree;
+    }
+
+    private static CommonTree parse(String expression) throws RecognitionException {
+        JavaLexer lexer = new JavaLexer(new ANTLRStringStream(expression));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         JavaParser parser = new JavaParser(tokens);
-        nodes = new CommonTreeNodeStream(parser.expression().getTree());
+        return (CommonTree)parser.expression().getTree();
     }
 }
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Value;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.eclipse.che.plugin.jdb.server.JdiValueImpl.ARRAY_PAGE_SIZE;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class JdiValueImplTest {
+    private static final int LENGTH = ARRAY_PAGE_SIZE * 3 + 10;
+
+    private ArrayReference array;
+    private JdiValueImpl   value;
+
+    @BeforeMethod
+    public void setUp() {
+        array = mock(ArrayReference.class);
+        when(array.length()).thenReturn(LENGTH);
+        when(array.getValues(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int count = (Integer)invocation.getArguments()[1];
+            List<Value> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(null);
+            }
+            return values;
+        });
+        value = new JdiValueImpl(array);
+    }
+
+    @Test
+    public void shouldFetchOnlyPagesOfRequestedRange() throws Exception {
+        JdiVariable[] elements = value.getVariables(ARRAY_PAGE_SIZE - 5, 10);
+
+        assertEquals(elements.length, 10);
+        assertEquals(elements[0].getName(), "[" + (ARRAY_PAGE_SIZE - 5) + "]");
+        verify(array).getValues(0, ARRAY_PAGE_SIZE);
+        verify(array).getValues(ARRAY_PAGE_SIZE, ARRAY_PAGE_SIZE);
+        verify(array, times(2)).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldNotFetchPagesTwice() throws Exception {
+        value.getVariables(0, 10);
+        value.getVariables(5, 10);
+        value.getVariableByName("[7]");
+
+        verify(array, times(1)).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldFetchOnlyPageOfElementRequestedByName() throws Exception {
+        JdiVariable element = value.getVariableByName("[" + (LENGTH - 1) + "]");
+
+        assertEquals(element.getName(), "[" + (LENGTH - 1) + "]");
+        verify(array).getValues(ARRAY_PAGE_SIZE * 3, 10);
+        verify(array, never()).getValues(0, ARRAY_PAGE_SIZE);
+    }
+
+    @Test
+    public void shouldReturnTruncatedRangeAtTheEndOfArray() throws Exception {
+        assertEquals(value.getVariables(LENGTH - 3, ARRAY_PAGE_SIZE).length, 3);
+        assertEquals(value.getVariables(LENGTH, ARRAY_PAGE_SIZE).length, 0);
+        assertNull(value.getVariableByName("[" + LENGTH + "]"));
+    }
+
+    @Test
+    public void shouldFetchAllPagesForAllVariables() throws Exception {
+        assertEquals(value.getVariables().length, LENGTH);
+
+        verify(array, times(4)).getValues(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+@Listeners(MockitoTestNGListener.class)
+public class JdiVariablesCacheTest {
+    @Mock
+    private JdiStackFrame    frame;
+    @Mock
+    private JdiLocalVariable local;
+    @Mock
+    private JdiValue         localValue;
+    @Mock
+    private JdiField         field;
+    @Mock
+    private JdiValue         fieldValue;
+    @Mock
+    private JdiVariable      nested;
+
+    private JdiVariablesCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(frame.getLocalVariableByName("var")).thenReturn(local);
+        when(frame.getFieldByName("a")).thenReturn(field);
+        when(local.getValue()).thenReturn(localValue);
+        when(field.getValue()).thenReturn(fieldValue);
+        when(localValue.getVariableByName("str")).thenReturn(nested);
+        when(fieldValue.getVariableByName("str")).thenReturn(nested);
+
+        cache = new JdiVariablesCache();
+    }
+
+    @Test
+    public void shouldResolveLocalVariableAndItsMembers() throws Exception {
+        assertSame(cache.get(frame, singletonList("var")), local);
+        assertSame(cache.get(frame, asList("var", "str")), nested);
+    }
+
+    @Test
+    public void shouldResolveFieldsOfThisAndStaticFields() throws Exception {
+        assertSame(cache.get(frame, asList("this", "a", "str")), nested);
+        assertSame(cache.get(frame, asList("static", "a")), field);
+    }
+
+    @Test
+    public void shouldReuseResolvedParentsOfVariable() throws Exception {
+        cache.get(frame, asList("this", "a"));
+
+        cache.get(frame, asList("this", "a", "str"));
+        cache.get(frame, asList("this", "a", "str"));
+
+        verify(frame, times(1)).getFieldByName("a");
+        verify(fieldValue, times(1)).getVariableByName("str");
+        assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void shouldNotCacheVariablesThatAreNotFound() throws Exception {
+        assertNull(cache.get(frame, asList("var", "unknown")));
+        assertNull(cache.get(frame, asList("unknown", "str")));
+
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void shouldReturnNullIfLocalVariablesAreNotAvailable() throws Exception {
+        JdiStackFrame frame = mock(JdiStackFrame.class);
+        when(frame.getLocalVariableByName("var")).thenThrow(new DebuggerAbsentInformationException("absent", null));
+
+        assertNull(cache.get(frame, asList("var", "str")));
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void shouldResolveVariablesAgainAfterClear() throws Exception {
+        cache.get(frame, asList("var", "str"));
+
+        cache.clear();
+        cache.get(frame, asList("var", "str"));
+
+        assertEquals(cache.size(), 2);
+        verify(frame, times(2)).getLocalVariableByName("var");
+    }
+}
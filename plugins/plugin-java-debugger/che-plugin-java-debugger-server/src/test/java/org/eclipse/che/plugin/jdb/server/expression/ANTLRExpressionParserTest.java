@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Value;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class ANTLRExpressionParserTest {
+    private static final String EXPRESSION  = "1 + 2";
+    private static final int    EVALUATIONS = 1000;
+
+    @Test
+    public void shouldReturnCachedTreeForTheSameText() throws Exception {
+        assertSame(ANTLRExpressionParser.getTree("i < 10"), ANTLRExpressionParser.getTree("i < 10"));
+        assertNotSame(ANTLRExpressionParser.getTree("i < 10"), ANTLRExpressionParser.getTree("i < 11"));
+    }
+
+    @Test
+    public void shouldEvaluateSharedTreeConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Evaluator> evaluators = new ArrayList<>();
+            List<Value> results = new ArrayList<>();
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                Value result = mock(Value.class);
+                Evaluator evaluator = mockEvaluator(result);
+                ExpressionParser parser = new ANTLRExpressionParser(EXPRESSION);
+                evaluators.add(evaluator);
+                results.add(result);
+                futures.add(executor.submit(evaluate(parser, evaluator, result, start)));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, SECONDS);
+            }
+
+            for (Evaluator evaluator : evaluators) {
+                verify(evaluator, times(EVALUATIONS)).decimalValue("1");
+                verify(evaluator, times(EVALUATIONS)).decimalValue("2");
+                verify(evaluator, times(EVALUATIONS)).operation(any(ExpressionValue.class),
+                                                                any(ExpressionValue.class),
+                                                                eq(JavaParser.PLUS));
+            }
+            assertNotSame(results.get(0), results.get(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<Void> evaluate(ExpressionParser parser, Evaluator evaluator, Value expected, CountDownLatch start) {
+        return () -> {
+            start.await();
+            for (int i = 0; i < EVALUATIONS; i++) {
+                assertEquals(parser.evaluate(evaluator), expected);
+            }
+            return null;
+        };
+    }
+
+    private Evaluator mockEvaluator(Value result) {
+        Evaluator evaluator = mock(Evaluator.class);
+        ExpressionValue operand = mock(ExpressionValue.class);
+        ExpressionValue sum = mock(ExpressionValue.class);
+        when(sum.getValue()).thenReturn(result);
+        when(evaluator.decimalValue(anyString())).thenReturn(operand);
+        when(evaluator.operation(any(ExpressionValue.class), any(ExpressionValue.class), eq(JavaParser.PLUS))).thenReturn(sum);
+        return evaluator;
+    }
+}
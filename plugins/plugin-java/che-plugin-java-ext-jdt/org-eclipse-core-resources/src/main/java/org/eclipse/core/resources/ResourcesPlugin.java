@@ -18,6 +18,7 @@ import com.google.inject.name.Named;
 
 import org.eclipse.che.api.project.server.ProjectManager;
 import org.eclipse.che.api.project.server.ProjectRegistry;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.core.internal.resources.Workspace;
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.internal.utils.Messages;
@@ -192,13 +193,23 @@ public class ResourcesPlugin {
      */
     private static Workspace workspace = null;
     private static String          indexPath;
+    private static String          libraryIndexPath;
     private static String          workspacePath;
     private static String          pluginId;
 
+    public ResourcesPlugin(String indexPath, String workspacePath, Provider<ProjectRegistry> projectRegistry,
+                           Provider<ProjectManager> projectManager) {
+        this(indexPath, null, workspacePath, projectRegistry, projectManager);
+    }
+
     @Inject
-    public ResourcesPlugin(@Named("che.jdt.workspace.index.dir") String indexPath, @Named("che.user.workspaces.storage") String workspacePath,
-                           Provider<ProjectRegistry> projectRegistry, Provider<ProjectManager> projectManager) {
+    public ResourcesPlugin(@Named("che.jdt.workspace.index.dir") String indexPath,
+                           @Nullable @Named("che.jdt.library.index.dir") String libraryIndexPath,
+                           @Named("che.user.workspaces.storage") String workspacePath,
+                           Provider<ProjectRegistry> projectRegistry,
+                           Provider<ProjectManager> projectManager) {
         ResourcesPlugin.indexPath = indexPath;
+        ResourcesPlugin.libraryIndexPath = libraryIndexPath;
         ResourcesPlugin.workspacePath = workspacePath;
         pluginId = "cheWsPlugin";
         EFS.setWsPath(workspacePath);
@@ -213,6 +224,14 @@ public class ResourcesPlugin {
         return indexPath;
     }
 
+    /**
+     * Returns directory of indexes of library jars shared by the workspaces of the node
+     * or {@code null} if indexes of library jars are not shared.
+     */
+    public static String getLibraryIndexPath() {
+        return libraryIndexPath;
+    }
+
     public static String getPluginId() {
         return pluginId;
     }
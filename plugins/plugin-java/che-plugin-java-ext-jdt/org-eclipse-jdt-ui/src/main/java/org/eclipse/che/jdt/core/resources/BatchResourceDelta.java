@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.che.jdt.core.resources;
+
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta of the project that combines changes of several items of the project,
+ * each change is an affected child of this delta.
+ */
+public class BatchResourceDelta implements IResourceDelta {
+
+    private final File             workspace;
+    private final String           projectPath;
+    private final IResourceDelta[] children;
+    private final IPath[]          childrenPaths;
+
+    public BatchResourceDelta(File workspace, String projectPath, List<ProjectItemModifiedEvent> events) {
+        this.workspace = workspace;
+        this.projectPath = projectPath;
+        this.children = new IResourceDelta[events.size()];
+        this.childrenPaths = new IPath[events.size()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = new ResourceDeltaImpl(workspace, events.get(i));
+            childrenPaths[i] = new Path(events.get(i).getPath());
+        }
+    }
+
+    @Override
+    public File getFile() {
+        return new File(workspace, projectPath);
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor) throws CoreException {
+        accept(visitor, IResource.NONE);
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor, boolean includePhantoms) throws CoreException {
+        accept(visitor, includePhantoms ? IContainer.INCLUDE_PHANTOMS : IResource.NONE);
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor, int memberFlags) throws CoreException {
+        if (!visitor.visit(this)) {
+            return;
+        }
+        for (IResourceDelta child : children) {
+            child.accept(visitor, memberFlags);
+        }
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta findMember(IPath path) {
+        if (path.segmentCount() == 0) {
+            return this;
+        }
+        final IPath fullPath = getFullPath().append(path);
+        for (int i = 0; i < children.length; i++) {
+            if (childrenPaths[i].equals(fullPath)) {
+                return children[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren() {
+        return children;
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren(int kindMask) {
+        return getAffectedChildren(kindMask, IResource.NONE);
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren(int kindMask, int memberFlags) {
+        final List<IResourceDelta> affected = new ArrayList<>(children.length);
+        for (IResourceDelta child : children) {
+            if ((child.getKind() & kindMask) != 0) {
+                affected.add(child);
+            }
+        }
+        return affected.toArray(new IResourceDelta[affected.size()]);
+    }
+
+    @Override
+    public int getFlags() {
+        return 0;
+    }
+
+    @Override
+    public IPath getFullPath() {
+        return new Path(projectPath);
+    }
+
+    @Override
+    public int getKind() {
+        return CHANGED;
+    }
+
+    @Override
+    public IMarkerDelta[] getMarkerDeltas() {
+        return new IMarkerDelta[0];
+    }
+
+    @Override
+    public IPath getMovedFromPath() {
+        return null;
+    }
+
+    @Override
+    public IPath getMovedToPath() {
+        return null;
+    }
+
+    @Override
+    public IPath getProjectRelativePath() {
+        return Path.EMPTY;
+    }
+
+    @Override
+    public IResource getResource() {
+        return ResourcesPlugin.getWorkspace().getRoot().findMember(new Path(projectPath));
+    }
+
+    @Override
+    public Object getAdapter(Class aClass) {
+        return null;
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceDelta;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -26,7 +27,7 @@ import java.io.File;
 public class ResourceChangedEvent implements IResourceChangeEvent {
 
 
-    private ResourceDeltaImpl resourceDelta;
+    private IResourceDelta resourceDelta;
 
     public ResourceChangedEvent(File workspace, ProjectItemModifiedEvent event) {
         resourceDelta = new ResourceDeltaImpl(workspace, event);
@@ -38,6 +39,13 @@ public class ResourceChangedEvent implements IResourceChangeEvent {
 
     }
 
+    /**
+     * Creates event that combines changes of several items of the project.
+     */
+    public ResourceChangedEvent(File workspace, String projectPath, List<ProjectItemModifiedEvent> events) {
+        resourceDelta = new BatchResourceDelta(workspace, projectPath, events);
+    }
+
     @Override
     public IMarkerDelta[] findMarkerDeltas(String s, boolean b) {
         return new IMarkerDelta[0];
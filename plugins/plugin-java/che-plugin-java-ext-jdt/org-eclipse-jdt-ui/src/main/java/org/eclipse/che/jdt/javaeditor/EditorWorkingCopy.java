@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.che.jdt.javaeditor;
+
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
+import org.eclipse.che.ide.ext.java.shared.dto.Problem;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileRequest;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IProblemRequestor;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter;
+
+import java.util.List;
+
+/**
+ * Working copy of the compilation unit opened in the editor, it lives as long as the editor is opened.
+ * <p/>
+ * Content of the working copy is updated with changes made in the editor, so reconcile neither creates
+ * new working copy nor reads the file from disk. Reconcile that is running when newer changes come is canceled,
+ * its result would be outdated anyway.
+ */
+class EditorWorkingCopy {
+    private final String                          fqn;
+    private final JavaReconciler.ProblemRequestor requestor;
+    private final WorkingCopyOwner                owner;
+    private final ICompilationUnit                workingCopy;
+
+    private volatile IProgressMonitor running;
+    private volatile long             lastAccess;
+
+    private int version;
+
+    EditorWorkingCopy(String fqn, ICompilationUnit compilationUnit) throws JavaModelException {
+        this.fqn = fqn;
+        this.requestor = new JavaReconciler.ProblemRequestor();
+        this.owner = new WorkingCopyOwner() {
+            @Override
+            public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
+                return requestor;
+            }
+
+            @Override
+            public IBuffer createBuffer(ICompilationUnit workingCopy) {
+                return new DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
+            }
+        };
+        this.workingCopy = compilationUnit.getWorkingCopy(owner, null);
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    String getFqn() {
+        return fqn;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * Applies changes of the request and reconciles the working copy.
+     *
+     * @return reconciled unit or {@code null} if reconcile was canceled by newer request
+     * @throws OutOfSyncException
+     *         if changes of the request don't follow the changes that were applied already
+     */
+    Reconciled reconcile(ReconcileRequest request, SemanticHighlightingReconciler semanticHighlighting) throws JavaModelException,
+                                                                                                              OutOfSyncException {
+        touch();
+        final IProgressMonitor previous = running;
+        if (previous != null) {
+            previous.setCanceled(true);
+        }
+        synchronized (this) {
+            final IBuffer buffer = workingCopy.getBuffer();
+            if (request.getContent() != null) {
+                buffer.setContents(request.getContent());
+            } else if (request.getVersion() != version + 1) {
+                throw new OutOfSyncException();
+            } else {
+                final List<Change> changes = request.getChanges();
+                for (Change change : changes) {
+                    buffer.replace(change.getOffset(), change.getLength(), change.getText() == null ? "" : change.getText());
+                }
+            }
+            version = request.getVersion();
+
+            final IProgressMonitor monitor = new NullProgressMonitor();
+            running = monitor;
+            try {
+                requestor.reset();
+                final CompilationUnit unit = workingCopy.reconcile(AST.JLS8, true, owner, monitor);
+                if (monitor.isCanceled() || unit == null) {
+                    return null;
+                }
+                final List<HighlightedPosition> positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+                return new Reconciled(JavaReconciler.convertProblems(requestor.problems), positions);
+            } catch (OperationCanceledException e) {
+                return null;
+            } finally {
+                running = null;
+            }
+        }
+    }
+
+    /** Discards the working copy, it can't be used after that. */
+    void discard() {
+        final IProgressMonitor previous = running;
+        if (previous != null) {
+            previous.setCanceled(true);
+        }
+        synchronized (this) {
+            try {
+                workingCopy.getBuffer().close();
+                workingCopy.discardWorkingCopy();
+            } catch (JavaModelException e) {
+                //ignore
+            }
+        }
+    }
+
+    /** Result of reconcile of the working copy. */
+    static class Reconciled {
+        final List<Problem>             problems;
+        final List<HighlightedPosition> positions;
+
+        Reconciled(List<Problem> problems, List<HighlightedPosition> positions) {
+            this.problems = problems;
+            this.positions = positions;
+        }
+    }
+
+    /** Thrown when changes can't be applied because some of the previous changes were not received. */
+    static class OutOfSyncException extends Exception {
+    }
+}
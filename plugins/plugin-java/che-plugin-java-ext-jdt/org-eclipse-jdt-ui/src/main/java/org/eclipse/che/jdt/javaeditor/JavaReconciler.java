@@ -11,12 +11,14 @@
 
 package org.eclipse.che.jdt.javaeditor;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.jdt.core.IBuffer;
@@ -33,26 +35,198 @@ import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
+ * Reconciles java files: reports problems and semantic highlighting.
+ * <p/>
+ * File is either reconciled once from its content on disk, or editor keeps working copy of the file
+ * on server and sends only changes of its content, see {@link #reconcile(IJavaProject, ReconcileRequest)}.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
+    /** Max number of working copies of editors, the least recently used one is discarded when limit is reached. */
+    private static final int  MAX_WORKING_COPIES           = 64;
+    /** Working copies of editors that don't send requests for 30 minutes are discarded. */
+    private static final long WORKING_COPY_IDLE_TIMEOUT_MS = 30 * 60 * 1000;
+    /** Working copies are checked for idleness every minute. */
+    private static final long IDLE_CHECK_PERIOD_MS         = 60 * 1000;
+    private static final int  LATENCY_WINDOW               = 1000;
+
+    private final Map<String, EditorWorkingCopy> workingCopies;
+    private final ReconcileLatency               latency;
+    private final long                           idleTimeoutMs;
+    private final ScheduledExecutorService       idleCopiesCleaner;
 
     private SemanticHighlightingReconciler semanticHighlighting;
 
     @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
+        this(semanticHighlighting, WORKING_COPY_IDLE_TIMEOUT_MS, IDLE_CHECK_PERIOD_MS);
+    }
+
+    /**
+     * @param idleTimeoutMs
+     *         working copies of editors that don't send requests longer than this timeout are discarded
+     * @param idleCheckPeriodMs
+     *         period of checking working copies for idleness
+     */
+    public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting, long idleTimeoutMs, long idleCheckPeriodMs) {
         this.semanticHighlighting = semanticHighlighting;
+        this.workingCopies = new LinkedHashMap<>(16, 0.75f, true);
+        this.latency = new ReconcileLatency(LATENCY_WINDOW);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.idleCopiesCleaner = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("JavaReconcilerCleaner-%d").setDaemon(true).build());
+        this.idleCopiesCleaner.scheduleWithFixedDelay(this::discardIdleWorkingCopies,
+                                                      idleCheckPeriodMs,
+                                                      idleCheckPeriodMs,
+                                                      MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        idleCopiesCleaner.shutdownNow();
+    }
+
+    /**
+     * Reconciles working copy of the editor.
+     * <p/>
+     * Working copy is created by the request that contains the whole content of the editor,
+     * next requests apply their changes to it.
+     *
+     * @return result of reconcile, {@link ReconcileResult#isOutOfSync() out of sync} result if changes of the request
+     * can't be applied, or {@code null} if type isn't found or reconcile is canceled by newer request of the same editor
+     * @throws JavaModelException
+     *         if reconcile fails
+     */
+    public ReconcileResult reconcile(IJavaProject javaProject, ReconcileRequest request) throws JavaModelException {
+        final long start = System.currentTimeMillis();
+        final ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+        try {
+            final EditorWorkingCopy workingCopy = getWorkingCopy(javaProject, request);
+            if (workingCopy == null) {
+                return null;
+            }
+            final EditorWorkingCopy.Reconciled reconciled = workingCopy.reconcile(request, semanticHighlighting);
+            if (reconciled == null) {
+                return null;
+            }
+            result.setProblems(reconciled.problems);
+            result.setHighlightedPositions(reconciled.positions);
+        } catch (EditorWorkingCopy.OutOfSyncException e) {
+            result.setOutOfSync(true);
+            return result;
+        } catch (JavaModelException e) {
+            LOG.error("Can't reconcile class: " + request.getFqn() + " in project:" + javaProject.getPath().toOSString(), e);
+            throw e;
+        }
+        latency.record(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /** Discards working copy of the editor, e.g. when editor is closed. */
+    public void discardWorkingCopy(String editorId) {
+        final EditorWorkingCopy workingCopy;
+        synchronized (workingCopies) {
+            workingCopy = workingCopies.remove(editorId);
+        }
+        if (workingCopy != null) {
+            workingCopy.discard();
+        }
+    }
+
+    /** Returns number of working copies of editors. */
+    public int getWorkingCopiesCount() {
+        synchronized (workingCopies) {
+            return workingCopies.size();
+        }
+    }
+
+    /** Discards working copies of editors that don't send requests longer than idle timeout, e.g. editors of closed browser tabs. */
+    void discardIdleWorkingCopies() {
+        final List<EditorWorkingCopy> discarded = new ArrayList<>();
+        synchronized (workingCopies) {
+            final long idleSince = System.currentTimeMillis() - idleTimeoutMs;
+            for (Iterator<EditorWorkingCopy> it = workingCopies.values().iterator(); it.hasNext(); ) {
+                final EditorWorkingCopy workingCopy = it.next();
+                if (workingCopy.getLastAccess() < idleSince) {
+                    it.remove();
+                    discarded.add(workingCopy);
+                }
+            }
+        }
+        for (EditorWorkingCopy workingCopy : discarded) {
+            try {
+                workingCopy.discard();
+            } catch (RuntimeException e) {
+                LOG.error("Can't discard working copy of " + workingCopy.getFqn(), e);
+            }
+        }
+    }
+
+    /** Returns number of reconciles and percentiles of their durations in milliseconds. */
+    public Map<String, Long> getLatencyStatistics() {
+        return latency.getStatistics();
+    }
+
+    private EditorWorkingCopy getWorkingCopy(IJavaProject javaProject, ReconcileRequest request)
+            throws JavaModelException, EditorWorkingCopy.OutOfSyncException {
+        final List<EditorWorkingCopy> discarded = new ArrayList<>();
+        try {
+            synchronized (workingCopies) {
+                EditorWorkingCopy workingCopy = workingCopies.get(request.getEditorId());
+                if (workingCopy != null && workingCopy.getFqn().equals(request.getFqn())) {
+                    // accessed under the lock, so working copy can't be discarded as idle before it is reconciled
+                    workingCopy.touch();
+                    return workingCopy;
+                }
+                if (workingCopy != null) {
+                    // file is renamed or moved
+                    workingCopies.remove(request.getEditorId());
+                    discarded.add(workingCopy);
+                }
+                if (request.getContent() == null) {
+                    // working copy can be created only from the whole content
+                    throw new EditorWorkingCopy.OutOfSyncException();
+                }
+                final IType type = javaProject.findType(request.getFqn());
+                if (type == null) {
+                    return null;
+                }
+                if (type.isBinary()) {
+                    throw new IllegalArgumentException("Can't reconcile binary type: " + request.getFqn());
+                }
+                workingCopy = new EditorWorkingCopy(request.getFqn(), type.getCompilationUnit());
+                workingCopies.put(request.getEditorId(), workingCopy);
+                if (workingCopies.size() > MAX_WORKING_COPIES) {
+                    final Iterator<EditorWorkingCopy> eldest = workingCopies.values().iterator();
+                    discarded.add(eldest.next());
+                    eldest.remove();
+                }
+                return workingCopy;
+            }
+        } finally {
+            discarded.forEach(EditorWorkingCopy::discard);
+        }
     }
 
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
+        final long start = System.currentTimeMillis();
         final ProblemRequestor requestor = new ProblemRequestor();
         WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
             public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
@@ -104,10 +278,11 @@ public class JavaReconciler {
         ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
         result.setProblems(convertProblems(requestor.problems));
         result.setHighlightedPositions(positions);
+        latency.record(System.currentTimeMillis() - start);
         return result;
     }
 
-    private List<Problem> convertProblems(List<IProblem> problems) {
+    static List<Problem> convertProblems(List<IProblem> problems) {
         List<Problem> result = new ArrayList<>(problems.size());
         for (IProblem problem : problems) {
             result.add(convertProblem(problem));
@@ -115,7 +290,7 @@ public class JavaReconciler {
         return result;
     }
 
-    private Problem convertProblem(IProblem problem) {
+    private static Problem convertProblem(IProblem problem) {
         Problem result = DtoFactory.getInstance().createDto(Problem.class);
 
         result.setArguments(Arrays.asList(problem.getArguments()));
@@ -131,9 +306,9 @@ public class JavaReconciler {
         return result;
     }
 
-    private static class ProblemRequestor implements IProblemRequestor {
+    static class ProblemRequestor implements IProblemRequestor {
 
-        private List<IProblem> problems = new ArrayList<>();
+        final List<IProblem> problems = new ArrayList<>();
 
         @Override
         public void acceptProblem(IProblem problem) {
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.che.jdt.javaeditor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps durations of the most recent reconciles and computes their percentiles.
+ */
+class ReconcileLatency {
+    private final long[] durations;
+
+    private int  next;
+    private int  size;
+    private long count;
+
+    ReconcileLatency(int window) {
+        this.durations = new long[window];
+    }
+
+    synchronized void record(long durationMs) {
+        durations[next] = durationMs;
+        next = (next + 1) % durations.length;
+        if (size < durations.length) {
+            size++;
+        }
+        count++;
+    }
+
+    /** Returns total number of reconciles and 50th, 90th, 99th percentiles and max of durations in milliseconds. */
+    synchronized Map<String, Long> getStatistics() {
+        final long[] sorted = Arrays.copyOf(durations, size);
+        Arrays.sort(sorted);
+        final Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("count", count);
+        statistics.put("p50", percentile(sorted, 50));
+        statistics.put("p90", percentile(sorted, 90));
+        statistics.put("p99", percentile(sorted, 99));
+        statistics.put("max", sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        return statistics;
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int index = (int)Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
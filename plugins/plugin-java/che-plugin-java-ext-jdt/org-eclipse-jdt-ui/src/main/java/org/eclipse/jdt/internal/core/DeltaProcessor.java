@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core;
 
+import org.eclipse.che.jdt.core.resources.BatchResourceDelta;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.core.resources.IResourceDelta;
@@ -1845,7 +1846,15 @@ public class DeltaProcessor {
 //
 //				// traverse delta
 //				traverseDelta(changes, IJavaElement.JAVA_PROJECT, null, null);
-            updateCurrentDeltaAndIndex(changes, IJavaElement.COMPILATION_UNIT, null);
+            if (changes instanceof BatchResourceDelta) {
+                // changes of several items of the project are translated into single java delta
+                IResourceDelta[] children = changes.getAffectedChildren();
+                for (int i = 0; i < children.length; i++) {
+                    updateCurrentDeltaAndIndex(children[i], IJavaElement.COMPILATION_UNIT, null);
+                }
+            } else {
+                updateCurrentDeltaAndIndex(changes, IJavaElement.COMPILATION_UNIT, null);
+            }
 //
 //				if (elementType == NON_JAVA_RESOURCE
 //						|| (wasJavaProject != isJavaProject && (delta.getKind()) == IResourceDelta.CHANGED)) { // project has changed
@@ -46,6 +46,8 @@ import org.eclipse.jdt.internal.core.search.processing.IJob;
 import org.eclipse.jdt.internal.core.search.processing.JobManager;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -58,6 +60,7 @@ import java.util.Map;
 import java.util.zip.CRC32;
 
 public class IndexManager extends JobManager implements IIndexConstants {
+    private static final Logger LOG = LoggerFactory.getLogger(IndexManager.class);
 
     public static final  Integer           SAVED_STATE                          = new Integer(0);
     public static final  Integer           UPDATING_STATE                       = new Integer(1);
@@ -91,9 +94,29 @@ public class IndexManager extends JobManager implements IIndexConstants {
     private SimpleLookupTable participantsContainers = null;
     private boolean           participantUpdated     = false;
     private String indexLocation;
+    // indexes of library jars shared with other workspaces
+    private final LibraryIndexStore libraryIndexStore;
+    // key = indexLocation of library jar, value = checksum of jar content
+    private SimpleLookupTable libraryChecksums = new SimpleLookupTable();
+    // time when indexing is started, reported once indexing of the workspace is finished
+    private long    indexingStart;
+    private boolean indexingReported;
+    private int     importedLibraryIndexes;
 
     public IndexManager(String indexLocation) {
+        this(indexLocation, null);
+    }
+
+    /**
+     * @param indexLocation
+     *         directory of indexes of the workspace
+     * @param libraryIndexLocation
+     *         directory of indexes of library jars shared with other workspaces of the node,
+     *         if {@code null} indexes of libraries are not shared
+     */
+    public IndexManager(String indexLocation, String libraryIndexLocation) {
         this.indexLocation = indexLocation;
+        this.libraryIndexStore = new LibraryIndexStore(libraryIndexLocation);
         indexNamesMapFile = new File(getSavedIndexesDirectory(), "indexNamesMap.txt");
         savedIndexNamesFile = new File(getSavedIndexesDirectory(), "savedIndexNames.txt");
         participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
@@ -201,20 +224,62 @@ public class IndexManager extends JobManager implements IIndexConstants {
         return indexLocation;
     }
 
-    public synchronized IndexLocation computeIndexLocation(IPath containerPath) {
-        IndexLocation indexLocation = (IndexLocation)this.indexLocations.get(containerPath);
-        if (indexLocation == null) {
-            String pathString = containerPath.toOSString();
-            CRC32 checksumCalculator = new CRC32();
-            checksumCalculator.update(pathString.getBytes());
-            String fileName = Long.toString(checksumCalculator.getValue()) + ".index"; //$NON-NLS-1$
+    public IndexLocation computeIndexLocation(IPath containerPath) {
+        synchronized (this) {
+            IndexLocation indexLocation = (IndexLocation)this.indexLocations.get(containerPath);
+            if (indexLocation != null) return indexLocation;
+        }
+        // checksum of library jar is computed and stored index is imported out of the lock, it takes a while for large jars
+        String pathString = containerPath.toOSString();
+        CRC32 checksumCalculator = new CRC32();
+        checksumCalculator.update(pathString.getBytes());
+        String libraryChecksum = computeLibraryChecksum(containerPath);
+        // index of library jar is named by checksum of its content as well, so it is rebuilt when jar is changed in place
+        String fileName = Long.toString(checksumCalculator.getValue())
+                          + (libraryChecksum == null ? "" : '-' + libraryChecksum) + ".index"; //$NON-NLS-1$
+        File indexFile = new File(getSavedIndexesDirectory(), fileName);
+        // index file is copied atomically, so a reader never sees partially imported index
+        boolean imported = libraryChecksum != null
+                           && !indexFile.exists()
+                           && this.libraryIndexStore.importIndex(libraryChecksum, indexFile);
+        synchronized (this) {
+            IndexLocation indexLocation = (IndexLocation)this.indexLocations.get(containerPath);
+            if (indexLocation == null) {
+                if (JobManager.VERBOSE)
+                    Util.verbose("-> index name for " + pathString + " is " + fileName); //$NON-NLS-1$ //$NON-NLS-2$
+                // to share the indexLocation between the indexLocations and indexStates tables, get the key from the indexStates table
+                indexLocation = (IndexLocation)getIndexStates().getKey(new FileIndexLocation(indexFile));
+                this.indexLocations.put(containerPath, indexLocation);
+                if (libraryChecksum != null) {
+                    this.libraryChecksums.put(indexLocation, libraryChecksum);
+                    if (imported && getIndexStates().get(indexLocation) == null) {
+                        if (JobManager.VERBOSE)
+                            Util.verbose("-> index of " + pathString + " is imported from library index store"); //$NON-NLS-1$ //$NON-NLS-2$
+                        this.importedLibraryIndexes++;
+                        updateIndexState(indexLocation, SAVED_STATE);
+                    }
+                }
+            }
+            return indexLocation;
+        }
+    }
+
+    /**
+     * Returns checksum of content of library jar or {@code null} if container is not a jar.
+     */
+    private String computeLibraryChecksum(IPath containerPath) {
+        if (containerPath.getDevice() == null && containerPath.segmentCount() == 1) return null; // project
+        String extension = containerPath.getFileExtension();
+        if (extension == null || !("jar".equalsIgnoreCase(extension) || "zip".equalsIgnoreCase(extension))) return null; //$NON-NLS-1$ //$NON-NLS-2$
+        File file = containerPath.toFile();
+        if (!file.isFile()) return null;
+        try {
+            return this.libraryIndexStore.checksum(file);
+        } catch (IOException e) {
             if (JobManager.VERBOSE)
-                Util.verbose("-> index name for " + pathString + " is " + fileName); //$NON-NLS-1$ //$NON-NLS-2$
-            // to share the indexLocation between the indexLocations and indexStates tables, get the key from the indexStates table
-            indexLocation = (IndexLocation)getIndexStates().getKey(new FileIndexLocation(new File(getSavedIndexesDirectory(), fileName)));
-            this.indexLocations.put(containerPath, indexLocation);
+                Util.verbose("-> unable to compute checksum of " + containerPath + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+            return null;
         }
-        return indexLocation;
     }
 
     public void deleteIndexFiles() {
@@ -610,6 +675,10 @@ public class IndexManager extends JobManager implements IIndexConstants {
             }
         }
 //        if (JavaCore.getPlugin() == null) return;
+        if (indexFile == null) {
+            // index location of the jar is computed here, so indexing job doesn't compute checksum of the jar under the lock
+            computeIndexLocation(path);
+        }
         IndexRequest request = null;
         boolean forceIndexUpdate = IS_MANAGING_PRODUCT_INDEXES_PROPERTY && updateIndex;
 //        Object target = JavaModel.getTarget(path, true);
@@ -681,6 +750,11 @@ public class IndexManager extends JobManager implements IIndexConstants {
      */
     protected void notifyIdle(long idlingTime) {
         if (idlingTime > 1000 && this.needToSave) saveIndexes();
+        if (idlingTime > 1000 && !this.indexingReported) {
+            this.indexingReported = true;
+            LOG.info("Indexing of workspace is finished in {} ms, {} indexes of libraries are imported from library index store",
+                     System.currentTimeMillis() - idlingTime - this.indexingStart, this.importedLibraryIndexes);
+        }
     }
 
     /**
@@ -896,7 +970,11 @@ public class IndexManager extends JobManager implements IIndexConstants {
             this.indexStates = null;
         }
         this.indexLocations = new SimpleLookupTable();
+        this.libraryChecksums = new SimpleLookupTable();
         this.javaPluginLocation = null;
+        this.indexingStart = System.currentTimeMillis();
+        this.indexingReported = false;
+        this.importedLibraryIndexes = 0;
     }
 
     /**
@@ -936,8 +1014,11 @@ public class IndexManager extends JobManager implements IIndexConstants {
                 Util.verbose("-> saving index " + index.getIndexLocation()); //$NON-NLS-1$
             index.save();
         }
+        IPath containerPath = new Path(index.containerPath);
+        // computed out of the lock, see computeIndexLocation(IPath)
+        IndexLocation indexLocation = computeIndexLocation(containerPath);
+        String libraryChecksum;
         synchronized (this) {
-            IPath containerPath = new Path(index.containerPath);
             if (this.jobEnd > this.jobStart) {
                 for (int i = this.jobEnd; i > this.jobStart; i--) { // skip the current job
                     IJob job = this.awaitingJobs[i];
@@ -945,8 +1026,12 @@ public class IndexManager extends JobManager implements IIndexConstants {
                         if (((IndexRequest)job).containerPath.equals(containerPath)) return;
                 }
             }
-            IndexLocation indexLocation = computeIndexLocation(containerPath);
             updateIndexState(indexLocation, SAVED_STATE);
+            libraryChecksum = (String)this.libraryChecksums.get(indexLocation);
+        }
+        if (libraryChecksum != null) {
+            // index is consistent while write monitor is held, so it can be shared
+            this.libraryIndexStore.exportIndex(libraryChecksum, index.getIndexFile());
         }
     }
 
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of indexes of library jars, it may be shared by all the workspaces of the same node.
+ * <p/>
+ * Indexes are stored under SHA-1 checksum of jar content, so index built once is reused by any workspace
+ * that has the same jar in classpath, regardless of jar location, while index of jar that was changed in place
+ * (e.g. SNAPSHOT dependency) is never reused. Index files are never written in place: they are copied to
+ * temporary file that is atomically renamed then, so agents that run concurrently never see partially written index.
+ */
+class LibraryIndexStore {
+    private static final Logger LOG = LoggerFactory.getLogger(LibraryIndexStore.class);
+
+    private final File                  directory;
+    private final Map<String, Checksum> checksums;
+
+    /**
+     * @param directory
+     *         directory of the store, if {@code null} indexes are neither imported nor exported
+     */
+    LibraryIndexStore(String directory) {
+        this.directory = directory == null ? null : new File(directory);
+        this.checksums = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns checksum of content of the jar, it is computed once and then recomputed only
+     * if size or modification time of the jar are changed.
+     */
+    String checksum(File jar) throws IOException {
+        final long length = jar.length();
+        final long lastModified = jar.lastModified();
+        final Checksum cached = checksums.get(jar.getPath());
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            return cached.value;
+        }
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        final byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(jar.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        final StringBuilder value = new StringBuilder(40);
+        for (byte b : digest.digest()) {
+            value.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        checksums.put(jar.getPath(), new Checksum(length, lastModified, value.toString()));
+        return value.toString();
+    }
+
+    /**
+     * Copies stored index of the jar with given checksum to the target file.
+     *
+     * @return {@code true} if index was copied, {@code false} if store doesn't have index or it can't be copied
+     */
+    boolean importIndex(String checksum, File target) {
+        if (directory == null) {
+            return false;
+        }
+        final File stored = new File(directory, checksum + ".index");
+        if (!stored.isFile()) {
+            return false;
+        }
+        try {
+            copyAtomically(stored, target);
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Unable to import library index {}: {}", stored, e.getMessage());
+            return false;
+        }
+    }
+
+    /** Copies index of the jar with given checksum to the store, unless it is already there. */
+    void exportIndex(String checksum, File source) {
+        if (directory == null) {
+            return;
+        }
+        final File stored = new File(directory, checksum + ".index");
+        if (stored.exists()) {
+            return;
+        }
+        try {
+            copyAtomically(source, stored);
+        } catch (IOException e) {
+            LOG.warn("Unable to export library index {}: {}", stored, e.getMessage());
+        }
+    }
+
+    private static void copyAtomically(File source, File target) throws IOException {
+        final File temp = new File(target.getParentFile(), target.getName() + '.' + System.nanoTime() + ".tmp");
+        Files.createDirectories(target.getParentFile().toPath());
+        try {
+            Files.copy(source.toPath(), temp.toPath());
+            try {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    private static class Checksum {
+        final long   length;
+        final long   lastModified;
+        final String value;
+
+        Checksum(long length, long lastModified, String value) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.value = value;
+        }
+    }
+}
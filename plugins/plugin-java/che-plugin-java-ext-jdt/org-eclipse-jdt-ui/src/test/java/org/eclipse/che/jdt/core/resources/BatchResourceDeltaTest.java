@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.core.resources;
+
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Path;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.CREATED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.DELETED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class BatchResourceDeltaTest {
+
+    private BatchResourceDelta delta;
+
+    @Before
+    public void setUp() {
+        delta = new BatchResourceDelta(new File("workspace"), "/a", Arrays.asList(event(CREATED, "/a/src/A.java"),
+                                                                                  event(UPDATED, "/a/src/B.java"),
+                                                                                  event(DELETED, "/a/src/C.java")));
+    }
+
+    @Test
+    public void shouldReturnAllAffectedChildren() {
+        assertThat(delta.getAffectedChildren()).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnAffectedChildrenOfGivenKind() {
+        assertThat(delta.getAffectedChildren(IResourceDelta.ADDED)).containsOnly(delta.findMember(new Path("src/A.java")));
+        assertThat(delta.getAffectedChildren(IResourceDelta.ADDED | IResourceDelta.REMOVED, IResource.NONE))
+                .containsOnly(delta.findMember(new Path("src/A.java")), delta.findMember(new Path("src/C.java")));
+        assertThat(delta.getAffectedChildren(IResourceDelta.ADDED_PHANTOM)).isEmpty();
+    }
+
+    @Test
+    public void shouldFindMemberByProjectRelativePath() {
+        assertThat(delta.findMember(new Path("src/B.java")).getKind()).isEqualTo(IResourceDelta.CHANGED);
+        assertThat(delta.findMember(Path.EMPTY)).isSameAs(delta);
+        assertThat(delta.findMember(new Path("src/D.java"))).isNull();
+    }
+
+    private static ProjectItemModifiedEvent event(EventType type, String path) {
+        return new ProjectItemModifiedEvent(type, "workspace", "/a", path, false);
+    }
+}
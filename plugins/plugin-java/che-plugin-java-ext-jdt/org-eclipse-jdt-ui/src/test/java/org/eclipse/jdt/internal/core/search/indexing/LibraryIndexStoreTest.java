@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class LibraryIndexStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldComputeChecksumOfJarContent() throws Exception {
+        LibraryIndexStore store = new LibraryIndexStore(null);
+        File jar1 = write("lib1.jar", "content");
+        File jar2 = write("lib2.jar", "content");
+
+        assertThat(store.checksum(jar1)).isEqualTo("040f06fd774092478d450774f5ba30c5da78acc8");
+        assertThat(store.checksum(jar2)).isEqualTo(store.checksum(jar1));
+    }
+
+    @Test
+    public void shouldRecomputeChecksumWhenJarIsChangedInPlace() throws Exception {
+        LibraryIndexStore store = new LibraryIndexStore(null);
+        File jar = write("lib.jar", "content");
+        String before = store.checksum(jar);
+
+        Files.write(jar.toPath(), "new content".getBytes(UTF_8));
+        jar.setLastModified(jar.lastModified() + 2000);
+
+        assertThat(store.checksum(jar)).isNotEqualTo(before);
+    }
+
+    @Test
+    public void shouldImportExportedIndex() throws Exception {
+        LibraryIndexStore store = new LibraryIndexStore(folder.newFolder("store").getPath());
+        File index = write("index/lib.index", "index");
+        File imported = new File(folder.getRoot(), "workspace/lib.index");
+
+        store.exportIndex("checksum", index);
+
+        assertThat(store.importIndex("checksum", imported)).isTrue();
+        assertThat(new String(Files.readAllBytes(imported.toPath()), UTF_8)).isEqualTo("index");
+    }
+
+    @Test
+    public void shouldNotImportIndexThatIsNotStored() throws Exception {
+        LibraryIndexStore store = new LibraryIndexStore(folder.newFolder("store").getPath());
+        File imported = new File(folder.getRoot(), "workspace/lib.index");
+
+        assertThat(store.importIndex("checksum", imported)).isFalse();
+        assertThat(imported.exists()).isFalse();
+    }
+
+    @Test
+    public void shouldNotOverwriteStoredIndex() throws Exception {
+        File directory = folder.newFolder("store");
+        LibraryIndexStore store = new LibraryIndexStore(directory.getPath());
+
+        store.exportIndex("checksum", write("index/first.index", "first"));
+        store.exportIndex("checksum", write("index/second.index", "second"));
+
+        assertThat(new String(Files.readAllBytes(new File(directory, "checksum.index").toPath()), UTF_8)).isEqualTo("first");
+        assertThat(directory.list()).containsOnly("checksum.index");
+    }
+
+    @Test
+    public void shouldNotShareIndexesIfStoreIsDisabled() throws Exception {
+        LibraryIndexStore store = new LibraryIndexStore(null);
+
+        store.exportIndex("checksum", write("index/lib.index", "index"));
+
+        assertThat(store.importIndex("checksum", new File(folder.getRoot(), "workspace/lib.index"))).isFalse();
+    }
+
+    private File write(String path, String content) throws Exception {
+        File file = new File(folder.getRoot(), path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(UTF_8));
+        return file;
+    }
+}
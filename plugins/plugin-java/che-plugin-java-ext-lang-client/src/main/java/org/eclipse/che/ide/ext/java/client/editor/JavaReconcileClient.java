@@ -14,6 +14,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.ide.rest.AsyncRequestCallback;
 import org.eclipse.che.ide.rest.AsyncRequestFactory;
@@ -55,6 +56,33 @@ public class JavaReconcileClient {
                            });
     }
 
+    /**
+     * Reconciles working copy of the editor that is kept by server.
+     * Callback receives {@code null} if request failed, so the whole content must be sent with the next request.
+     */
+    public void reconcile(ReconcileRequest request, final ReconcileCallback callback) {
+        String url = appContext.getDevMachine().getWsAgentBaseUrl() + "/java/reconcile/editor";
+        asyncRequestFactory.createPostRequest(url, request)
+                           .send(new AsyncRequestCallback<ReconcileResult>(dtoUnmarshallerFactory.newUnmarshaller(ReconcileResult.class)) {
+                               @Override
+                               protected void onSuccess(ReconcileResult result) {
+                                   callback.onReconcile(result);
+                               }
+
+                               @Override
+                               protected void onFailure(Throwable exception) {
+                                   Log.error(JavaReconcileClient.class, exception);
+                                   callback.onReconcile(null);
+                               }
+                           });
+    }
+
+    /** Discards working copy of the editor that is kept by server. */
+    public void closeEditor(String editorId) {
+        String url = appContext.getDevMachine().getWsAgentBaseUrl() + "/java/reconcile/editor/" + editorId;
+        asyncRequestFactory.createDeleteRequest(url).send();
+    }
+
     public interface ReconcileCallback {
         void onReconcile(ReconcileResult result);
     }
@@ -10,18 +10,24 @@
  *******************************************************************************/
 package org.eclipse.che.ide.ext.java.client.editor;
 
+import com.google.gwt.user.client.Random;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 import com.google.web.bindery.event.shared.EventBus;
 import com.google.web.bindery.event.shared.HandlerRegistration;
 
 import org.eclipse.che.ide.api.editor.EditorWithErrors;
+import org.eclipse.che.ide.api.editor.events.DocumentChangeEvent;
+import org.eclipse.che.ide.api.editor.events.DocumentChangeHandler;
 import org.eclipse.che.ide.api.resources.VirtualFile;
 import org.eclipse.che.ide.api.editor.text.Region;
 import org.eclipse.che.ide.ext.java.client.event.DependencyUpdatedEvent;
 import org.eclipse.che.ide.ext.java.client.event.DependencyUpdatedEventHandler;
 import org.eclipse.che.ide.ext.java.client.projecttree.JavaSourceFolderUtil;
+import org.eclipse.che.ide.dto.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.ide.api.editor.annotation.AnnotationModel;
 import org.eclipse.che.ide.api.editor.document.Document;
@@ -31,6 +37,7 @@ import org.eclipse.che.ide.api.editor.texteditor.TextEditorPresenter;
 import org.eclipse.che.ide.util.loging.Log;
 
 import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
 import java.util.List;
 
 public class JavaReconcilerStrategy implements ReconcilingStrategy {
@@ -40,10 +47,21 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
     private final JavaCodeAssistProcessor   codeAssistProcessor;
     private final AnnotationModel           annotationModel;
     private final HandlerRegistration       handlerRegistration;
+    private final DtoFactory                dtoFactory;
+    /** Identifier of working copy that is kept by server for this editor. */
+    private final String                    editorId;
+    /** Changes of the document that are not sent to server yet. */
+    private final List<Change>              changes;
     private       SemanticHighlightRenderer highlighter;
     private       JavaReconcileClient       client;
     private       VirtualFile               file;
+    private       Document                  document;
+    private       HandlerRegistration       documentChangeRegistration;
     private boolean first = true;
+    /** Version of the content that was sent last time, 0 if working copy on server must be created from the whole content. */
+    private int     version;
+    private boolean requestSent;
+    private boolean reconcileRequired;
 
     @AssistedInject
     public JavaReconcilerStrategy(@Assisted @NotNull final TextEditorPresenter<?> editor,
@@ -51,8 +69,12 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
                                   @Assisted final AnnotationModel annotationModel,
                                   final JavaReconcileClient client,
                                   final SemanticHighlightRenderer highlighter,
+                                  final DtoFactory dtoFactory,
                                   EventBus eventBus) {
         this.editor = editor;
+        this.dtoFactory = dtoFactory;
+        this.editorId = Long.toString(System.currentTimeMillis(), 36) + '-' + Random.nextInt(Integer.MAX_VALUE);
+        this.changes = new ArrayList<>();
         this.client = client;
         this.codeAssistProcessor = codeAssistProcessor;
         this.annotationModel = annotationModel;
@@ -70,6 +92,17 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
     public void setDocument(final Document document) {
         file = editor.getEditorInput().getFile();
         highlighter.init(editor.getHasTextMarkers(), document);
+        this.document = document;
+        DocumentChangeHandler changeHandler = new DocumentChangeHandler() {
+            @Override
+            public void onDocumentChange(DocumentChangeEvent event) {
+                changes.add(dtoFactory.createDto(Change.class)
+                                      .withOffset(event.getOffset())
+                                      .withLength(event.getRemoveCharCount())
+                                      .withText(event.getText()));
+            }
+        };
+        documentChangeRegistration = document.getDocumentHandle().getDocEventBus().addHandler(DocumentChangeEvent.TYPE, changeHandler);
     }
 
     @Override
@@ -84,15 +117,44 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
         }
 
 
+        // only one request is sent at a time, changes made meanwhile are sent when it is finished
+        if (requestSent) {
+            reconcileRequired = true;
+            return;
+        }
+        requestSent = true;
+
         String fqn = JavaSourceFolderUtil.getFQNForFile(file);
-        client.reconcile(file.getProject().getProjectConfig().getPath(), fqn, new JavaReconcileClient.ReconcileCallback() {
+        ReconcileRequest request = dtoFactory.createDto(ReconcileRequest.class)
+                                             .withProjectPath(file.getProject().getProjectConfig().getPath())
+                                             .withFqn(fqn)
+                                             .withEditorId(editorId)
+                                             .withVersion(++version);
+        if (version == 1) {
+            request.setContent(document.getContents());
+        } else {
+            request.setChanges(new ArrayList<>(changes));
+        }
+        changes.clear();
+
+        client.reconcile(request, new JavaReconcileClient.ReconcileCallback() {
             @Override
             public void onReconcile(ReconcileResult result) {
+                requestSent = false;
                 if (result == null) {
-                    return;
+                    // request failed, state of working copy on server is unknown
+                    version = 0;
+                } else if (result.isOutOfSync()) {
+                    version = 0;
+                    reconcileRequired = true;
+                } else {
+                    doReconcile(result.getProblems());
+                    highlighter.reconcile(result.getHighlightedPositions());
+                }
+                if (reconcileRequired) {
+                    reconcileRequired = false;
+                    parse();
                 }
-                doReconcile(result.getProblems());
-                highlighter.reconcile(result.getHighlightedPositions());
             }
         });
     }
@@ -155,5 +217,11 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
         if (handlerRegistration != null) {
             handlerRegistration.removeHandler();
         }
+        if (documentChangeRegistration != null) {
+            documentChangeRegistration.removeHandler();
+        }
+        if (version > 0) {
+            client.closeEditor(editorId);
+        }
     }
 }
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache of sources generated by {@link SourcesFromBytecodeGenerator} for binary types without attached sources.
+ * <p/>
+ * Sources are kept by identity of the library (its path, size and modification time) and fully qualified name
+ * of the type, so sources of library that was changed in place are generated again. The most recently used
+ * sources are kept in memory, sources that are evicted from memory are written to the disk, at most
+ * {@code diskEntries} files are kept there.
+ * <p/>
+ * Packages which types were opened most often are remembered and sources of other types of these packages
+ * are generated in background when classpath of the project is changed, so they are ready by the time user
+ * navigates to them.
+ */
+@Singleton
+public class GeneratedSourcesCache {
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedSourcesCache.class);
+
+    /** Number of the most often opened packages which sources are generated in advance. */
+    private static final int HOT_PACKAGES       = 10;
+    /** Max number of types which sources are generated in advance after classpath change. */
+    private static final int MAX_PREWARMED      = 200;
+    /** Max number of packages which usage is remembered. */
+    private static final int MAX_KNOWN_PACKAGES = 1000;
+
+    private final SourcesFromBytecodeGenerator generator;
+    private final File                         directory;
+    private final Cache<String, String>        memory;
+    private final Map<String, File>            disk;
+    private final Map<String, Integer>         packageHits;
+    private final ExecutorService              executor;
+
+    @Inject
+    public GeneratedSourcesCache(SourcesFromBytecodeGenerator generator,
+                                 @Named("che.jdt.generated.sources.dir") String directory,
+                                 @Named("java.generated_sources.cache.memory_entries") int memoryEntries,
+                                 @Named("java.generated_sources.cache.disk_entries") int diskEntries) {
+        this.generator = generator;
+        this.directory = new File(directory);
+        this.disk = new LinkedHashMap<String, File>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, File> eldest) {
+                if (size() > diskEntries) {
+                    eldest.getValue().delete();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.memory = CacheBuilder.newBuilder()
+                                  .maximumSize(memoryEntries)
+                                  .removalListener((RemovalListener<String, String>)notification -> {
+                                      if (notification.getCause() == RemovalCause.SIZE) {
+                                          writeToDisk(notification.getKey(), notification.getValue());
+                                      }
+                                  })
+                                  .build();
+        this.packageHits = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > MAX_KNOWN_PACKAGES;
+            }
+        };
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("GeneratedSourcesPrewarm-%d")
+                                                                                    .setDaemon(true)
+                                                                                    .build());
+        loadDiskEntries();
+    }
+
+    /**
+     * Returns generated sources of the binary type, sources are generated only if they are not cached.
+     *
+     * @throws JavaModelException
+     *         if sources can't be generated
+     */
+    public String getSource(IType type) throws JavaModelException {
+        final IPackageFragmentRoot root = (IPackageFragmentRoot)type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+        synchronized (packageHits) {
+            final String hotPackage = root.getPath().toString() + '|' + type.getPackageFragment().getElementName();
+            final Integer hits = packageHits.get(hotPackage);
+            packageHits.put(hotPackage, hits == null ? 1 : hits + 1);
+        }
+        return getSource(root, type);
+    }
+
+    /**
+     * Must be called when classpath of the project is changed. Forgets sources of the libraries that got attached sources
+     * and generates in background sources of the hot packages that are in the classpath of the project.
+     */
+    public void classpathChanged(IJavaProject project) {
+        try {
+            for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+                if (root.getKind() == IPackageFragmentRoot.K_BINARY && root.getSourceAttachmentPath() != null) {
+                    invalidate(root.getPath());
+                }
+            }
+        } catch (JavaModelException e) {
+            LOG.warn("Unable to get libraries of project {}: {}", project.getElementName(), e.getMessage());
+        }
+        final List<String> hotPackages = getHotPackages();
+        if (!hotPackages.isEmpty()) {
+            executor.execute(() -> prewarm(project, hotPackages));
+        }
+    }
+
+    /** Forgets sources of all the types of the library. */
+    public void invalidate(IPath libraryPath) {
+        final String prefix = libraryPath.toString() + '|';
+        memory.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        synchronized (disk) {
+            for (Iterator<Map.Entry<String, File>> it = disk.entrySet().iterator(); it.hasNext(); ) {
+                final Map.Entry<String, File> entry = it.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    entry.getValue().delete();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private String getSource(IPackageFragmentRoot root, IType type) throws JavaModelException {
+        final String key = key(root, type);
+        try {
+            return memory.get(key, () -> {
+                final String source = readFromDisk(key);
+                return source != null ? source : generator.generateSource(type);
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof JavaModelException) {
+                throw (JavaModelException)e.getCause();
+            }
+            throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void prewarm(IJavaProject project, List<String> hotPackages) {
+        int generated = 0;
+        for (String hotPackage : hotPackages) {
+            final int separator = hotPackage.indexOf('|');
+            try {
+                final IPackageFragmentRoot root = project.findPackageFragmentRoot(new Path(hotPackage.substring(0, separator)));
+                if (root == null || root.getSourceAttachmentPath() != null) {
+                    continue;
+                }
+                final IPackageFragment fragment = root.getPackageFragment(hotPackage.substring(separator + 1));
+                if (!fragment.exists()) {
+                    continue;
+                }
+                for (IClassFile classFile : fragment.getClassFiles()) {
+                    if (Thread.currentThread().isInterrupted() || generated >= MAX_PREWARMED) {
+                        return;
+                    }
+                    // nested types are generated as part of their top level types
+                    if (classFile.getElementName().indexOf('$') == -1) {
+                        getSource(root, classFile.getType());
+                        generated++;
+                    }
+                }
+            } catch (JavaModelException | RuntimeException e) {
+                LOG.debug("Unable to generate sources of package {}: {}", hotPackage, e.getMessage());
+            }
+        }
+    }
+
+    private List<String> getHotPackages() {
+        final List<Map.Entry<String, Integer>> entries;
+        synchronized (packageHits) {
+            entries = new ArrayList<>(packageHits.entrySet());
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        final List<String> hotPackages = new ArrayList<>(HOT_PACKAGES);
+        for (int i = 0; i < entries.size() && i < HOT_PACKAGES; i++) {
+            hotPackages.add(entries.get(i).getKey());
+        }
+        return hotPackages;
+    }
+
+    private String readFromDisk(String key) {
+        final File file;
+        synchronized (disk) {
+            file = disk.get(key);
+        }
+        if (file == null) {
+            return null;
+        }
+        try {
+            final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            return content.substring(content.indexOf('\n') + 1);
+        } catch (IOException e) {
+            synchronized (disk) {
+                disk.remove(key);
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, String source) {
+        final File file = new File(directory, fileName(key));
+        try {
+            Files.createDirectories(directory.toPath());
+            // key is written first, so entries written by previous run of the agent can be restored
+            Files.write(file.toPath(), (key + '\n' + source).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.warn("Unable to write generated sources to {}: {}", file, e.getMessage());
+            return;
+        }
+        synchronized (disk) {
+            disk.put(key, file);
+        }
+    }
+
+    private void loadDiskEntries() {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        synchronized (disk) {
+            for (File file : files) {
+                try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                    final String key = reader.readLine();
+                    if (key != null && fileName(key).equals(file.getName())) {
+                        disk.put(key, file);
+                        continue;
+                    }
+                } catch (IOException ignored) {
+                }
+                file.delete();
+            }
+        }
+    }
+
+    private static String key(IPackageFragmentRoot root, IType type) {
+        final File library = root.getPath().toFile();
+        return root.getPath().toString() + '|' + library.length() + '|' + library.lastModified() + '|' + type.getFullyQualifiedName();
+    }
+
+    private static String fileName(String key) {
+        return Hashing.sha1().hashString(key, StandardCharsets.UTF_8).toString() + ".java";
+    }
+}
@@ -131,11 +131,11 @@ public class JavaNavigation {
     };
     private              Gson                 gson          = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     private              boolean              fFoldPackages = true;
-    private SourcesFromBytecodeGenerator sourcesGenerator;
+    private GeneratedSourcesCache generatedSources;
 
     @Inject
-    public JavaNavigation(SourcesFromBytecodeGenerator sourcesGenerator) {
-        this.sourcesGenerator = sourcesGenerator;
+    public JavaNavigation(GeneratedSourcesCache generatedSources) {
+        this.generatedSources = generatedSources;
     }
 
     /**
@@ -732,7 +732,7 @@ public class JavaNavigation {
                     return createContent(classFile.getSource(), false);
                 } else {
 
-                    return createContent(sourcesGenerator.generateSource(classFile.getType()), true);
+                    return createContent(generatedSources.getSource(classFile.getType()), true);
                 }
             } else {
                 return createContent(type.getCompilationUnit().getSource(), false);
@@ -19,7 +19,9 @@ import org.eclipse.che.ide.ext.java.shared.dto.ImplementationsDescriptorDTO;
 import org.eclipse.che.ide.ext.java.shared.dto.Region;
 import org.eclipse.che.ide.ext.java.shared.dto.model.Member;
 import org.eclipse.che.ide.ext.java.shared.dto.model.Type;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.ICodeAssist;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -34,8 +36,7 @@ import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
 
 import java.util.ArrayList;
 import java.util.List;
-
-import static java.util.Collections.emptyList;
+import java.util.function.Consumer;
 
 /**
  * A type hierarchy provides navigations between a type and its resolved supertypes
@@ -67,29 +68,54 @@ public class JavaTypeHierarchy {
     public ImplementationsDescriptorDTO getImplementations(IJavaProject project, String fqn, int offset) throws JavaModelException {
         ImplementationsDescriptorDTO implementationDescriptor = DtoFactory.newDto(ImplementationsDescriptorDTO.class);
 
-        IJavaElement element = getJavaElement(project, fqn, offset);
-        if (element == null){
-            return implementationDescriptor.withImplementations(emptyList());
-        }
-
         List<Type> implementations = new ArrayList<>();
 
         implementationDescriptor.setImplementations(implementations);
+        implementationDescriptor.setMemberName(findImplementations(project, fqn, offset, new NullProgressMonitor(), implementations::add));
+
+        return implementationDescriptor;
+    }
+
+    /**
+     * Get all implementations of selected Java Element like {@link #getImplementations(IJavaProject, String, int)} does,
+     * but passes each implementation to the consumer as soon as it is found.
+     *
+     * @param project
+     *         opened project
+     * @param fqn
+     *         fully qualified name of the class file
+     * @param offset
+     *         cursor position
+     * @param monitor
+     *         monitor which may be used to cancel the search
+     * @param consumer
+     *         consumer of the found implementations
+     * @return name of implemented member or {@code null} if there is no type or method at the cursor position
+     * @throws JavaModelException
+     *         when JavaModel has a failure
+     * @throws OperationCanceledException
+     *         when search was cancelled with the monitor
+     */
+    public String findImplementations(IJavaProject project,
+                                      String fqn,
+                                      int offset,
+                                      IProgressMonitor monitor,
+                                      Consumer<Type> consumer) throws JavaModelException {
+        IJavaElement element = getJavaElement(project, fqn, offset);
+        if (element == null) {
+            return null;
+        }
 
         switch (element.getElementType()) {
             case 7: //type
-                findSubTypes(element, implementations);
-                implementationDescriptor.setMemberName(element.getElementName());
-                break;
+                findSubTypes(element, monitor, consumer);
+                return element.getElementName();
             case 9: //method
-                findTypesWithSubMethods(element, implementations);
-                implementationDescriptor.setMemberName(element.getElementName());
-                break;
+                findTypesWithSubMethods(element, monitor, consumer);
+                return element.getElementName();
             default:
-                break;
+                return null;
         }
-
-        return implementationDescriptor;
     }
 
     private IJavaElement getJavaElement(IJavaProject project, String fqn, int offset) throws JavaModelException {
@@ -113,36 +139,46 @@ public class JavaTypeHierarchy {
         return originalElement;
     }
 
-    private void findSubTypes(IJavaElement element, List<Type> implementations) throws JavaModelException {
+    private void findSubTypes(IJavaElement element, IProgressMonitor monitor, Consumer<Type> implementations) throws JavaModelException {
         IType type = (IType)element;
-        ITypeHierarchy typeHierarchy = type.newTypeHierarchy(new NullProgressMonitor());
+        ITypeHierarchy typeHierarchy = type.newTypeHierarchy(monitor);
         IType[] implTypes = typeHierarchy.getAllSubtypes(type);
 
         for (IType implType : implTypes) {
+            checkCanceled(monitor);
             Type dto = convertToTypeDTO(implType);
-            implementations.add(dto);
+            implementations.accept(dto);
         }
     }
 
-    private void findTypesWithSubMethods(IJavaElement element, List<Type> implementations) throws JavaModelException {
+    private void findTypesWithSubMethods(IJavaElement element,
+                                         IProgressMonitor monitor,
+                                         Consumer<Type> implementations) throws JavaModelException {
         IMethod selectedMethod = (IMethod)element;
         IType parentType = selectedMethod.getDeclaringType();
         if (parentType == null) {
             return;
         }
-        ITypeHierarchy typeHierarchy = parentType.newTypeHierarchy(new NullProgressMonitor());
+        ITypeHierarchy typeHierarchy = parentType.newTypeHierarchy(monitor);
         IType[] subTypes = typeHierarchy.getAllSubtypes(parentType);
 
         MethodOverrideTester methodOverrideTester = new MethodOverrideTester(parentType, typeHierarchy);
 
         for (IType type : subTypes) {
+            checkCanceled(monitor);
             IMethod method = methodOverrideTester.findOverridingMethodInType(type, selectedMethod);
             if (method == null) {
                 continue;
             }
             Type openDeclaration = convertToTypeDTO(type);
             setRange(openDeclaration, method);
-            implementations.add(openDeclaration);
+            implementations.accept(openDeclaration);
+        }
+    }
+
+    private void checkCanceled(IProgressMonitor monitor) {
+        if (monitor.isCanceled()) {
+            throw new OperationCanceledException();
         }
     }
 
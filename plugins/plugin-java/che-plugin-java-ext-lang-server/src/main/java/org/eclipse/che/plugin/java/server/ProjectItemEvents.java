@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.CREATED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.DELETED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+
+/**
+ * Collects modifications of project items until they are taken for processing.
+ * <p/>
+ * Modifications of the same item are merged, so only the resulting modification of the item is processed,
+ * e.g. file that was created and then updated is reported as created, file that was created and then deleted
+ * is not reported at all. Modifications of folders are not merged, folder that is deleted and created again
+ * must be reported as removed and then added.
+ */
+class ProjectItemEvents {
+    private Map<String, ProjectItemModifiedEvent> events = new LinkedHashMap<>();
+    private long                                  folderEvents;
+
+    /**
+     * Adds modification of the item.
+     *
+     * @return {@code true} if it is the first modification added after the last {@link #drain()}
+     */
+    synchronized boolean add(ProjectItemModifiedEvent event) {
+        final boolean first = events.isEmpty();
+        if (event.isFolder()) {
+            events.put(event.getPath() + '#' + folderEvents++, event);
+            return first;
+        }
+        final ProjectItemModifiedEvent previous = events.remove(event.getPath());
+        if (previous == null) {
+            events.put(event.getPath(), event);
+        } else if (previous.getType() == CREATED && event.getType() == UPDATED) {
+            events.put(event.getPath(), previous);
+        } else if (previous.getType() == CREATED && event.getType() == DELETED) {
+            // item that didn't exist before is removed, nothing to report
+        } else if (previous.getType() == DELETED && event.getType() == CREATED) {
+            events.put(event.getPath(), new ProjectItemModifiedEvent(UPDATED,
+                                                                     event.getWorkspace(),
+                                                                     event.getProject(),
+                                                                     event.getPath(),
+                                                                     event.isFolder()));
+        } else {
+            events.put(event.getPath(), event);
+        }
+        return first;
+    }
+
+    /**
+     * Takes all the collected modifications.
+     *
+     * @return modifications grouped by project in the order they were made
+     */
+    synchronized Map<String, List<ProjectItemModifiedEvent>> drain() {
+        final Map<String, List<ProjectItemModifiedEvent>> byProject = new LinkedHashMap<>();
+        for (ProjectItemModifiedEvent event : events.values()) {
+            byProject.computeIfAbsent(event.getProject(), project -> new ArrayList<>()).add(event);
+        }
+        events = new LinkedHashMap<>();
+        return byProject;
+    }
+}
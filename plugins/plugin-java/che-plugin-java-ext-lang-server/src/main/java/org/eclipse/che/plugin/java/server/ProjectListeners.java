@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.java.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -34,26 +35,52 @@ import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
+ * Updates java model when items of java projects are modified.
+ * <p/>
+ * Modifications are not processed one by one on the thread that publishes them. They are collected during
+ * {@code batchWindowMs} after the first of them and then processed together by the dedicated thread, modifications
+ * of each project are translated into single delta of java model. So e.g. switch of git branch that modifies
+ * thousands of files causes few updates of java model and of type hierarchies instead of thousands of them.
+ * <p/>
+ * File buffers of updated files are reverted right away on the thread that publishes the modification,
+ * so content of opened files is never stale, even while java model update is pending.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class ProjectListeners {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectListeners.class);
 
-    private final File                workspace;
-    private final ProjectRegistry     projectRegistry;
-    private final ProjectTypeRegistry projectTypeRegistry;
+    private final File                     workspace;
+    private final ProjectRegistry          projectRegistry;
+    private final ProjectTypeRegistry      projectTypeRegistry;
+    private final long                     batchWindowMs;
+    private final ProjectItemEvents        events;
+    private final ScheduledExecutorService executor;
 
     @Inject
     public ProjectListeners(@Named("che.user.workspaces.storage") String workspacePath,
                             EventService eventService,
                             ProjectRegistry projectRegistry,
-                            ProjectTypeRegistry projectTypeRegistry) {
+                            ProjectTypeRegistry projectTypeRegistry,
+                            @Named("java.model.delta.batch_window_ms") long batchWindowMs) {
         this.projectRegistry = projectRegistry;
         this.projectTypeRegistry = projectTypeRegistry;
+        this.batchWindowMs = batchWindowMs;
+        this.events = new ProjectItemEvents();
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("JavaModelUpdater-%d")
+                                                                                             .setDaemon(true)
+                                                                                             .build());
         workspace = new File(workspacePath);
         eventService.subscribe(new ProjectCreated());
         eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
@@ -65,26 +92,44 @@ public class ProjectListeners {
     }
 
     public void handleEvent(ProjectItemModifiedEvent event) {
-        final String eventPath = event.getPath();
         if (!isJavaProject(event.getProject())) {
             return;
         }
-        try {
-            JavaModelManager.getJavaModelManager().deltaState.resourceChanged(
-                    new ResourceChangedEvent(workspace, event));
-        } catch (Throwable t) {
-            //catch all exceptions that may be happened
-            LOG.error("Can't update java model in " + eventPath, t);
-        }
         if (event.getType() == ProjectItemModifiedEvent.EventType.UPDATED) {
-            ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
-            ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(eventPath), LocationKind.IFILE);
-            if (fileBuffer != null) {
-                try {
-                    fileBuffer.revert(new NullProgressMonitor());
-                } catch (CoreException e) {
-                    LOG.error("Can't read file content: " + eventPath, e);
-                }
+            revertFileBuffer(event.getPath());
+        }
+        if (events.add(event)) {
+            executor.schedule(this::processEvents, batchWindowMs, MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /** Updates java model with modifications collected so far, must be called by {@link #executor} only. */
+    private void processEvents() {
+        for (Map.Entry<String, List<ProjectItemModifiedEvent>> entry : events.drain().entrySet()) {
+            final List<ProjectItemModifiedEvent> projectEvents = entry.getValue();
+            try {
+                JavaModelManager.getJavaModelManager().deltaState.resourceChanged(
+                        new ResourceChangedEvent(workspace, entry.getKey(), projectEvents));
+            } catch (Throwable t) {
+                //catch all exceptions that may be happened
+                LOG.error("Can't update java model in " + entry.getKey(), t);
+            }
+        }
+    }
+
+    private void revertFileBuffer(String path) {
+        final ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
+        final ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(path), LocationKind.IFILE);
+        if (fileBuffer != null) {
+            try {
+                fileBuffer.revert(new NullProgressMonitor());
+            } catch (CoreException e) {
+                LOG.error("Can't read file content: " + path, e);
             }
         }
     }
@@ -95,12 +140,16 @@ public class ProjectListeners {
             if (!isJavaProject(event.getProjectPath())) {
                 return;
             }
-            try {
-                JavaModelManager.getJavaModelManager().deltaState.resourceChanged(new ResourceChangedEvent(workspace, event));
-            } catch (Throwable t) {
-                //catch all exceptions that may be happened
-                LOG.error("Can't update java model " + event.getProjectPath(), t);
-            }
+            // modifications made before creation of the project are processed first to keep the order
+            executor.execute(() -> {
+                processEvents();
+                try {
+                    JavaModelManager.getJavaModelManager().deltaState.resourceChanged(new ResourceChangedEvent(workspace, event));
+                } catch (Throwable t) {
+                    //catch all exceptions that may be happened
+                    LOG.error("Can't update java model " + event.getProjectPath(), t);
+                }
+            });
         }
     }
 
@@ -16,6 +16,7 @@ import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.inject.DynaModule;
 import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.che.plugin.java.server.refactoring.RefactoringManager;
@@ -70,5 +71,23 @@ public class JdtGuiceModule extends AbstractModule {
         return Paths.get(System.getProperty("user.home"), wsMetadata, "index").toString();
     }
 
+    @Provides
+    @Named("che.jdt.library.index.dir")
+    @Singleton
+    @Nullable
+    protected String provideLibraryIndex(@Nullable @Named("che.jdt.library.index.storage") String libraryIndexStorage) {
+        if (libraryIndexStorage == null) {
+            return null;
+        }
+        return Paths.get(System.getProperty("user.home")).resolve(libraryIndexStorage).toString();
+    }
+
+    @Provides
+    @Named("che.jdt.generated.sources.dir")
+    @Singleton
+    protected String provideGeneratedSources(@Named("che.workspace.metadata") String wsMetadata) {
+        return Paths.get(System.getProperty("user.home"), wsMetadata, "generated-sources").toString();
+    }
+
 
 }
@@ -13,6 +13,8 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.jdt.javaeditor.JavaReconciler;
 import org.eclipse.jdt.core.IJavaProject;
@@ -20,10 +22,15 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import java.util.Map;
 
 /**
  * @author Evgen Vidolob
@@ -39,8 +46,40 @@ public class JavaReconcileService {
     @GET
     @Produces("application/json")
     public ReconcileResult reconcile(@QueryParam("projectpath") String projectPath, @QueryParam("fqn") String fqn)
-            throws JavaModelException {
+            throws JavaModelException, BadRequestException {
         IJavaProject javaProject = model.getJavaProject(projectPath);
-        return reconciler.reconcile(javaProject, fqn);
+        try {
+            return reconciler.reconcile(javaProject, fqn);
+        } catch (IllegalArgumentException e) {
+            // e.g. type is binary
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    @POST
+    @Path("editor")
+    @Consumes("application/json")
+    @Produces("application/json")
+    public ReconcileResult reconcile(ReconcileRequest request) throws JavaModelException, BadRequestException {
+        IJavaProject javaProject = model.getJavaProject(request.getProjectPath());
+        try {
+            return reconciler.reconcile(javaProject, request);
+        } catch (IllegalArgumentException e) {
+            // e.g. type is binary
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    @DELETE
+    @Path("editor/{editorId}")
+    public void closeEditor(@PathParam("editorId") String editorId) {
+        reconciler.discardWorkingCopy(editorId);
+    }
+
+    @GET
+    @Path("latency")
+    @Produces("application/json")
+    public Map<String, Long> getLatency() {
+        return reconciler.getLatencyStatistics();
     }
 }
@@ -13,18 +13,25 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
 import org.eclipse.che.plugin.java.server.search.SearchException;
 import org.eclipse.che.plugin.java.server.search.SearchManager;
+import org.eclipse.che.plugin.java.server.search.StreamingSearchManager;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import java.util.Map;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
@@ -37,7 +44,9 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 public class SearchService {
 
     @Inject
-    private SearchManager manager;
+    private SearchManager          manager;
+    @Inject
+    private StreamingSearchManager streamingManager;
 
     @POST
     @Consumes(APPLICATION_JSON)
@@ -48,4 +57,45 @@ public class SearchService {
         IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
         return manager.findUsage(javaProject, request.getFQN(), request.getOffset());
     }
+
+    /**
+     * Starts search of usages, results are sent in chunks to the websocket channel which name
+     * is {@code java:search:} followed by the search id, client must subscribe to the channel before.
+     */
+    @POST
+    @Consumes(APPLICATION_JSON)
+    @Path("find/usages/stream/{searchId}")
+    public void streamUsages(@PathParam("searchId") String searchId, FindUsagesRequest request) throws BadRequestException,
+                                                                                                       ConflictException {
+        JavaModel javaModel = JavaModelManager.getJavaModelManager().getJavaModel();
+        IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
+        streamingManager.findUsages(searchId, javaProject, request.getFQN(), request.getOffset());
+    }
+
+    /**
+     * Starts search of implementations, results are sent in chunks to the websocket channel which name
+     * is {@code java:search:} followed by the search id, client must subscribe to the channel before.
+     */
+    @POST
+    @Consumes(APPLICATION_JSON)
+    @Path("implementations/stream/{searchId}")
+    public void streamImplementations(@PathParam("searchId") String searchId, FindUsagesRequest request) throws BadRequestException,
+                                                                                                                ConflictException {
+        JavaModel javaModel = JavaModelManager.getJavaModelManager().getJavaModel();
+        IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
+        streamingManager.findImplementations(searchId, javaProject, request.getFQN(), request.getOffset());
+    }
+
+    @DELETE
+    @Path("stream/{searchId}")
+    public void cancel(@PathParam("searchId") String searchId) {
+        streamingManager.cancel(searchId);
+    }
+
+    @GET
+    @Path("statistics")
+    @Produces(APPLICATION_JSON)
+    public Map<String, Map<String, Long>> getStatistics() {
+        return streamingManager.getStatistics();
+    }
 }
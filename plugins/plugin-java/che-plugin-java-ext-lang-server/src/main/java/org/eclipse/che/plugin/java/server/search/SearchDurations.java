@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.search;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps durations of the most recent searches of one kind and computes their percentiles.
+ */
+class SearchDurations {
+    private final long[] durations;
+
+    private int  next;
+    private int  size;
+    private long count;
+    private long cancelled;
+    private long failed;
+
+    SearchDurations(int window) {
+        this.durations = new long[window];
+    }
+
+    synchronized void record(long durationMs, boolean wasCancelled, boolean wasFailed) {
+        durations[next] = durationMs;
+        next = (next + 1) % durations.length;
+        if (size < durations.length) {
+            size++;
+        }
+        count++;
+        if (wasCancelled) {
+            cancelled++;
+        }
+        if (wasFailed) {
+            failed++;
+        }
+    }
+
+    /**
+     * Returns total number of searches, number of cancelled and failed searches
+     * and 50th, 90th, 99th percentiles and max of durations in milliseconds.
+     */
+    synchronized Map<String, Long> getStatistics() {
+        final long[] sorted = Arrays.copyOf(durations, size);
+        Arrays.sort(sorted);
+        final Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("count", count);
+        statistics.put("cancelled", cancelled);
+        statistics.put("failed", failed);
+        statistics.put("p50", percentile(sorted, 50));
+        statistics.put("p90", percentile(sorted, 90));
+        statistics.put("p99", percentile(sorted, 99));
+        statistics.put("max", sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        return statistics;
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int index = (int)Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
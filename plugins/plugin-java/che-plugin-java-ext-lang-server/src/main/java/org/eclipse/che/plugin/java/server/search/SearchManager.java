@@ -17,6 +17,9 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.Region;
 import org.eclipse.che.ide.ext.java.shared.dto.model.JavaProject;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
@@ -45,14 +48,21 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.search.NewSearchUI;
 import org.eclipse.search.ui.ISearchResult;
+import org.eclipse.search.ui.ISearchResultListener;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Performs all Java related search.
@@ -76,32 +86,7 @@ public class SearchManager {
 
     public FindUsagesResponse findUsage(IJavaProject javaProject, String fqn, int offset) throws SearchException {
         try {
-            ICompilationUnit compilationUnit;
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                throw new SearchException("Can't find type: " + fqn);
-            }
-            if (type.isBinary()) {
-                compilationUnit = type.getClassFile().getWorkingCopy(DefaultWorkingCopyOwner.PRIMARY, null);
-                if (compilationUnit == null) {
-                    throw new SearchException("Can't find sources for: " + fqn + " type");
-                }
-            } else {
-                compilationUnit = type.getCompilationUnit();
-            }
-            IJavaElement[] elements = compilationUnit.codeSelect(offset, 0);
-            if (elements != null && elements.length == 1) {
-                IJavaElement element = elements[0];
-                if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
-                    return performFindUsageSearch(element);
-                } else {
-                    throw new SearchException("Find usage can't search for element: " + element.getElementName());
-                }
-
-            } else {
-                throw new SearchException("Can't find element to search, try to move cursor to another place and invoke search again");
-            }
-
+            return performFindUsageSearch(findElementToSearch(javaProject, fqn, offset));
         } catch (JavaModelException e) {
             LOG.error(e.getMessage(), e);
             throw new SearchException(String.format("Can't find project: %s or file for FQN: %s", javaProject.getPath().toOSString(), fqn),
@@ -112,13 +97,85 @@ public class SearchManager {
         }
     }
 
-    private FindUsagesResponse performFindUsageSearch(IJavaElement element) throws JavaModelException, BadLocationException {
+    /**
+     * Searches usages of the element like {@link #findUsage(IJavaProject, String, int)} does, but doesn't wait until
+     * search is finished: usages are passed to the consumer in chunks as soon as {@code chunkSize} matches are found.
+     * Each chunk contains only matches found since the previous chunk and the part of the project hierarchy
+     * these matches belong to.
+     *
+     * @throws OperationCanceledException
+     *         if search was cancelled with the monitor
+     */
+    public void findUsage(IJavaProject javaProject,
+                          String fqn,
+                          int offset,
+                          IProgressMonitor monitor,
+                          int chunkSize,
+                          Consumer<FindUsagesResponse> consumer) throws SearchException {
+        final IJavaElement element;
+        final JavaSearchQuery query;
+        try {
+            element = findElementToSearch(javaProject, fqn, offset);
+            query = createFindUsageQuery(element);
+        } catch (JavaModelException e) {
+            LOG.error(e.getMessage(), e);
+            throw new SearchException(String.format("Can't find project: %s or file for FQN: %s", javaProject.getPath().toOSString(), fqn),
+                                      e);
+        }
+        final String label = JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT);
+        final JavaSearchResult javaResult = (JavaSearchResult)query.getSearchResult();
+        final ChunkingListener listener = new ChunkingListener(chunkSize, matches -> toResponse(javaResult, matches, label), consumer);
+        // matches are reported synchronously from the thread that runs the query
+        javaResult.addListener(listener);
+        final IStatus status = query.run(monitor);
+        if (status.matches(IStatus.CANCEL) || monitor.isCanceled()) {
+            throw new OperationCanceledException();
+        }
+        if (!status.isOK()) {
+            throw new SearchException(status.getMessage(), status.getException());
+        }
+        listener.flush();
+    }
+
+    private IJavaElement findElementToSearch(IJavaProject javaProject, String fqn, int offset) throws SearchException,
+                                                                                                     JavaModelException {
+        ICompilationUnit compilationUnit;
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            throw new SearchException("Can't find type: " + fqn);
+        }
+        if (type.isBinary()) {
+            compilationUnit = type.getClassFile().getWorkingCopy(DefaultWorkingCopyOwner.PRIMARY, null);
+            if (compilationUnit == null) {
+                throw new SearchException("Can't find sources for: " + fqn + " type");
+            }
+        } else {
+            compilationUnit = type.getCompilationUnit();
+        }
+        IJavaElement[] elements = compilationUnit.codeSelect(offset, 0);
+        if (elements != null && elements.length == 1) {
+            IJavaElement element = elements[0];
+            if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
+                return element;
+            } else {
+                throw new SearchException("Find usage can't search for element: " + element.getElementName());
+            }
+
+        } else {
+            throw new SearchException("Can't find element to search, try to move cursor to another place and invoke search again");
+        }
+    }
+
+    private JavaSearchQuery createFindUsageQuery(IJavaElement element) throws JavaModelException {
         JavaSearchScopeFactory factory = JavaSearchScopeFactory.getInstance();
         boolean isInsideJRE = factory.isInsideJRE(element);
-        JavaSearchQuery
-                query = new JavaSearchQuery(new ElementQuerySpecification(element, IJavaSearchConstants.REFERENCES,
-                                                                          factory.createWorkspaceScope(isInsideJRE),
-                                                                          "workspace scope"));
+        return new JavaSearchQuery(new ElementQuerySpecification(element, IJavaSearchConstants.REFERENCES,
+                                                                 factory.createWorkspaceScope(isInsideJRE),
+                                                                 "workspace scope"));
+    }
+
+    private FindUsagesResponse performFindUsageSearch(IJavaElement element) throws JavaModelException, BadLocationException {
+        JavaSearchQuery query = createFindUsageQuery(element);
         NewSearchUI.runQueryInForeground(null, query);
         ISearchResult result = query.getSearchResult();
         JavaSearchResult javaResult = ((JavaSearchResult)result);
@@ -127,50 +184,82 @@ public class SearchManager {
         JavaElementToDtoConverter converter = new JavaElementToDtoConverter(javaResult);
         for (Object o : javaResult.getElements()) {
             IJavaElement javaElement = (IJavaElement)o;
-            IDocument document = null;
-            if (javaElement instanceof IMember) {
-                IMember member = ((IMember)javaElement);
-                if (member.isBinary()) {
-                    if (member.getClassFile().getSource() != null) {
-                        document = new Document(member.getClassFile().getSource());
-                    }
-                } else {
-                    document = getDocument(member.getCompilationUnit());
-                }
-            } else if (javaElement instanceof IPackageDeclaration) {
-                ICompilationUnit ancestor = (ICompilationUnit)(javaElement).getAncestor(IJavaElement.COMPILATION_UNIT);
-                document = getDocument(ancestor);
+            converter.addElementToProjectHierarchy(javaElement);
+            mapMaches.put(javaElement.getHandleIdentifier(), convertMatches(javaElement, javaResult.getMatches(o)));
+        }
+        List<JavaProject> projects = converter.getProjects();
+        response.setProjects(projects);
+        response.setMatches(mapMaches);
+        response.setSearchElementLabel(JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT));
+        return response;
+    }
 
+    private FindUsagesResponse toResponse(JavaSearchResult javaResult, List<Match> matches, String label) {
+        Map<IJavaElement, List<Match>> matchesByElement = new LinkedHashMap<>();
+        for (Match match : matches) {
+            matchesByElement.computeIfAbsent((IJavaElement)match.getElement(), element -> new ArrayList<>()).add(match);
+        }
+        Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> mapMaches = new HashMap<>();
+        JavaElementToDtoConverter converter = new JavaElementToDtoConverter(javaResult);
+        for (Map.Entry<IJavaElement, List<Match>> entry : matchesByElement.entrySet()) {
+            IJavaElement javaElement = entry.getKey();
+            try {
+                List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> matchList =
+                        convertMatches(javaElement, entry.getValue().toArray(new Match[entry.getValue().size()]));
+                converter.addElementToProjectHierarchy(javaElement);
+                mapMaches.put(javaElement.getHandleIdentifier(), matchList);
+            } catch (JavaModelException | BadLocationException e) {
+                LOG.warn("Can't convert matches of {}: {}", javaElement.getHandleIdentifier(), e.getMessage());
             }
-            converter.addElementToProjectHierarchy(javaElement);
+        }
+        FindUsagesResponse response = DtoFactory.newDto(FindUsagesResponse.class);
+        try {
+            response.setProjects(converter.getProjects());
+        } catch (JavaModelException e) {
+            LOG.warn("Can't convert projects of search result: {}", e.getMessage());
+        }
+        response.setMatches(mapMaches);
+        response.setSearchElementLabel(label);
+        return response;
+    }
 
-            Match[] matches = javaResult.getMatches(o);
+    private List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> convertMatches(IJavaElement javaElement, Match[] matches)
+            throws JavaModelException, BadLocationException {
+        IDocument document = null;
+        if (javaElement instanceof IMember) {
+            IMember member = ((IMember)javaElement);
+            if (member.isBinary()) {
+                if (member.getClassFile().getSource() != null) {
+                    document = new Document(member.getClassFile().getSource());
+                }
+            } else {
+                document = getDocument(member.getCompilationUnit());
+            }
+        } else if (javaElement instanceof IPackageDeclaration) {
+            ICompilationUnit ancestor = (ICompilationUnit)(javaElement).getAncestor(IJavaElement.COMPILATION_UNIT);
+            document = getDocument(ancestor);
 
-            List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> matchList = new ArrayList<>();
-            for (Match match : matches) {
-                org.eclipse.che.ide.ext.java.shared.dto.search.Match dtoMatch = DtoFactory.newDto(
-                        org.eclipse.che.ide.ext.java.shared.dto.search.Match.class);
-                if (document != null) {
-                    IRegion lineInformation = document.getLineInformationOfOffset(match.getOffset());
+        }
 
-                    int offsetInLine = match.getOffset() - lineInformation.getOffset();
-                    Region matchInLine = DtoFactory.newDto(Region.class).withOffset(offsetInLine).withLength(match.getLength());
-                    dtoMatch.setMatchInLine(matchInLine);
-                    dtoMatch.setMatchLineNumber(document.getLineOfOffset(match.getOffset()));
-                    dtoMatch.setMatchedLine(document.get(lineInformation.getOffset(), lineInformation.getLength()));
-                }
-                dtoMatch.setFileMatchRegion(
-                        DtoFactory.newDto(Region.class).withOffset(match.getOffset()).withLength(match.getLength()));
-                matchList.add(dtoMatch);
+        List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> matchList = new ArrayList<>();
+        for (Match match : matches) {
+            org.eclipse.che.ide.ext.java.shared.dto.search.Match dtoMatch = DtoFactory.newDto(
+                    org.eclipse.che.ide.ext.java.shared.dto.search.Match.class);
+            if (document != null) {
+                IRegion lineInformation = document.getLineInformationOfOffset(match.getOffset());
 
+                int offsetInLine = match.getOffset() - lineInformation.getOffset();
+                Region matchInLine = DtoFactory.newDto(Region.class).withOffset(offsetInLine).withLength(match.getLength());
+                dtoMatch.setMatchInLine(matchInLine);
+                dtoMatch.setMatchLineNumber(document.getLineOfOffset(match.getOffset()));
+                dtoMatch.setMatchedLine(document.get(lineInformation.getOffset(), lineInformation.getLength()));
             }
-            mapMaches.put(javaElement.getHandleIdentifier(), matchList);
+            dtoMatch.setFileMatchRegion(
+                    DtoFactory.newDto(Region.class).withOffset(match.getOffset()).withLength(match.getLength()));
+            matchList.add(dtoMatch);
+
         }
-        List<JavaProject> projects = converter.getProjects();
-        response.setProjects(projects);
-        response.setMatches(mapMaches);
-        response.setSearchElementLabel(JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT));
-        return response;
+        return matchList;
     }
 
     private IDocument getDocument(ICompilationUnit ancestor) throws JavaModelException {
@@ -208,4 +297,37 @@ public class SearchManager {
             return false;
         }
     }
+
+    /** Collects matches added to the search result and passes them to the consumer in chunks. */
+    static class ChunkingListener implements ISearchResultListener {
+        private final int                                       chunkSize;
+        private final Function<List<Match>, FindUsagesResponse> converter;
+        private final Consumer<FindUsagesResponse>              consumer;
+        private final List<Match>                               pending;
+
+        ChunkingListener(int chunkSize, Function<List<Match>, FindUsagesResponse> converter, Consumer<FindUsagesResponse> consumer) {
+            this.chunkSize = chunkSize;
+            this.converter = converter;
+            this.consumer = consumer;
+            this.pending = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public void searchResultChanged(SearchResultEvent event) {
+            if (event instanceof MatchEvent && ((MatchEvent)event).getKind() == MatchEvent.ADDED) {
+                Collections.addAll(pending, ((MatchEvent)event).getMatches());
+                if (pending.size() >= chunkSize) {
+                    flush();
+                }
+            }
+        }
+
+        /** Passes matches that are collected since the previous chunk, if any. */
+        void flush() {
+            if (!pending.isEmpty()) {
+                consumer.accept(converter.apply(new ArrayList<>(pending)));
+                pending.clear();
+            }
+        }
+    }
 }
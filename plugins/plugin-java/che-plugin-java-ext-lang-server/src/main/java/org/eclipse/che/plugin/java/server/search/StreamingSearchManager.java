@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.search;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.ImplementationsDescriptorDTO;
+import org.eclipse.che.ide.ext.java.shared.dto.model.Type;
+import org.eclipse.che.ide.ext.java.shared.dto.search.SearchResultChunk;
+import org.eclipse.che.plugin.java.server.JavaTypeHierarchy;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.che.ide.ext.java.shared.Constants.SEARCH_CHANNEL_PREFIX;
+
+/**
+ * Runs find usages and implementations searches in background and sends their results to the
+ * {@code java:search:<searchId>} websocket channel in chunks, as soon as they are found, so user sees first
+ * results of the search in large codebase without waiting until the whole codebase is searched.
+ * <p/>
+ * Id of the search is generated by the client, which subscribes to the channel of the search before it starts
+ * the search, so no chunk is sent before there is somebody to receive it.
+ * <p/>
+ * At most {@code maxConcurrent} searches are running at the same time, other searches wait in queue.
+ * Running or queued search may be cancelled by the client, e.g. when user closes the panel with results.
+ */
+@Singleton
+public class StreamingSearchManager {
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingSearchManager.class);
+
+    static final String FIND_USAGES     = "usages";
+    static final String IMPLEMENTATIONS = "implementations";
+
+    private static final int     DURATIONS_WINDOW    = 200;
+    /** Max number of searches waiting in queue, new searches are rejected when the queue is full. */
+    private static final int     MAX_QUEUED_SEARCHES = 100;
+    private static final Pattern SEARCH_ID           = Pattern.compile("[\\w-]{1,64}");
+
+    private final SearchManager                 searchManager;
+    private final JavaTypeHierarchy             typeHierarchy;
+    private final int                           chunkSize;
+    private final ExecutorService               executor;
+    private final Map<String, IProgressMonitor> searches;
+    private final Map<String, SearchDurations>  durations;
+
+    @Inject
+    public StreamingSearchManager(SearchManager searchManager,
+                                  JavaTypeHierarchy typeHierarchy,
+                                  @Named("java.search.max_concurrent") int maxConcurrent,
+                                  @Named("java.search.chunk_size") int chunkSize) {
+        this.searchManager = searchManager;
+        this.typeHierarchy = typeHierarchy;
+        this.chunkSize = chunkSize;
+        this.executor = new ThreadPoolExecutor(maxConcurrent,
+                                               maxConcurrent,
+                                               0,
+                                               MILLISECONDS,
+                                               new LinkedBlockingQueue<>(MAX_QUEUED_SEARCHES),
+                                               new ThreadFactoryBuilder().setNameFormat("JavaSearch-%d").setDaemon(true).build());
+        this.searches = new ConcurrentHashMap<>();
+        this.durations = new LinkedHashMap<>();
+        this.durations.put(FIND_USAGES, new SearchDurations(DURATIONS_WINDOW));
+        this.durations.put(IMPLEMENTATIONS, new SearchDurations(DURATIONS_WINDOW));
+    }
+
+    /**
+     * Starts search of usages of the element at the cursor position.
+     *
+     * @param searchId
+     *         id of the search generated by the client
+     * @throws BadRequestException
+     *         if id of the search is not valid
+     * @throws ConflictException
+     *         if search with the same id is running or too many searches are waiting in queue
+     */
+    public void findUsages(String searchId, IJavaProject project, String fqn, int offset) throws BadRequestException,
+                                                                                                ConflictException {
+        start(searchId, FIND_USAGES, (id, monitor) -> {
+            searchManager.findUsage(project, fqn, offset, monitor, chunkSize, usages -> send(newChunk(id).withUsages(usages)));
+            return null;
+        });
+    }
+
+    /**
+     * Starts search of implementations of the type or method at the cursor position.
+     * Name of the implemented member is sent in the last chunk of the search.
+     *
+     * @param searchId
+     *         id of the search generated by the client
+     * @throws BadRequestException
+     *         if id of the search is not valid
+     * @throws ConflictException
+     *         if search with the same id is running or too many searches are waiting in queue
+     */
+    public void findImplementations(String searchId, IJavaProject project, String fqn, int offset) throws BadRequestException,
+                                                                                                         ConflictException {
+        start(searchId, IMPLEMENTATIONS, (id, monitor) -> {
+            final List<Type> pending = new ArrayList<>(chunkSize);
+            final String memberName = typeHierarchy.findImplementations(project, fqn, offset, monitor, type -> {
+                pending.add(type);
+                if (pending.size() >= chunkSize) {
+                    send(newChunk(id).withImplementations(implementations(null, pending)));
+                    pending.clear();
+                }
+            });
+            return newChunk(id).withImplementations(implementations(memberName, pending));
+        });
+    }
+
+    /**
+     * Cancels running or queued search.
+     *
+     * @return {@code true} if search was cancelled, {@code false} if there is no such search, e.g. it is already finished
+     */
+    public boolean cancel(String searchId) {
+        final IProgressMonitor monitor = searches.get(searchId);
+        if (monitor == null) {
+            return false;
+        }
+        monitor.setCanceled(true);
+        return true;
+    }
+
+    /** Returns statistics of durations of the recent searches of each kind. */
+    public Map<String, Map<String, Long>> getStatistics() {
+        final Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        for (Map.Entry<String, SearchDurations> entry : durations.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+        return statistics;
+    }
+
+    @PreDestroy
+    public void stop() {
+        searches.values().forEach(monitor -> monitor.setCanceled(true));
+        executor.shutdownNow();
+    }
+
+    void start(String searchId, String kind, Search search) throws BadRequestException, ConflictException {
+        if (searchId == null || !SEARCH_ID.matcher(searchId).matches()) {
+            throw new BadRequestException("Invalid search id: " + searchId);
+        }
+        final IProgressMonitor monitor = new NullProgressMonitor();
+        if (searches.putIfAbsent(searchId, monitor) != null) {
+            throw new ConflictException("Search " + searchId + " is already running");
+        }
+        try {
+            executor.execute(() -> run(searchId, kind, search, monitor));
+        } catch (RejectedExecutionException e) {
+            searches.remove(searchId);
+            throw new ConflictException("Too many searches are running, try again later");
+        }
+    }
+
+    /** Sends chunk of the search result to the client. */
+    protected void send(SearchResultChunk chunk) {
+        try {
+            final ChannelBroadcastMessage message = new ChannelBroadcastMessage();
+            message.setChannel(SEARCH_CHANNEL_PREFIX + chunk.getSearchId());
+            message.setBody(DtoFactory.getInstance().toJson(chunk));
+            WSConnectionContext.sendMessage(message);
+        } catch (Exception e) {
+            LOG.error("Can't send result of search {}: {}", chunk.getSearchId(), e.getMessage());
+        }
+    }
+
+    private void run(String searchId, String kind, Search search, IProgressMonitor monitor) {
+        final long start = System.currentTimeMillis();
+        SearchResultChunk last = null;
+        String error = "Search failed unexpectedly";
+        try {
+            // search may be cancelled while it was waiting in the queue
+            if (!monitor.isCanceled()) {
+                last = search.run(searchId, monitor);
+            }
+            error = null;
+        } catch (OperationCanceledException ignored) {
+            error = null;
+        } catch (SearchException | JavaModelException | RuntimeException e) {
+            LOG.warn("Search {} failed: {}", searchId, e.getMessage());
+            error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+        } finally {
+            // the last chunk is sent whatever happens, client waits for it to stop listening to the channel
+            searches.remove(searchId);
+            final boolean cancelled = monitor.isCanceled();
+            durations.get(kind).record(System.currentTimeMillis() - start, cancelled, error != null);
+            if (last == null || cancelled) {
+                last = newChunk(searchId);
+            }
+            send(last.withLast(true).withCancelled(cancelled).withError(error));
+        }
+    }
+
+    private static SearchResultChunk newChunk(String searchId) {
+        return DtoFactory.newDto(SearchResultChunk.class).withSearchId(searchId);
+    }
+
+    private static ImplementationsDescriptorDTO implementations(String memberName, List<Type> implementations) {
+        return DtoFactory.newDto(ImplementationsDescriptorDTO.class)
+                         .withMemberName(memberName)
+                         .withImplementations(new ArrayList<>(implementations));
+    }
+
+    /** Search that sends its results with {@link #send(SearchResultChunk)}. */
+    interface Search {
+        /**
+         * Runs the search.
+         *
+         * @return the last chunk of the search result or {@code null} if all the results are already sent
+         */
+        SearchResultChunk run(String searchId, IProgressMonitor monitor) throws SearchException, JavaModelException;
+    }
+}
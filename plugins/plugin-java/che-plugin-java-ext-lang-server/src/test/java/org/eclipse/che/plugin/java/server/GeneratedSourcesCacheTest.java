@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GeneratedSourcesCacheTest {
+
+    @Mock
+    private SourcesFromBytecodeGenerator generator;
+    @Mock
+    private IPackageFragmentRoot         root;
+
+    private File directory;
+    private File library;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("generated-sources").toFile();
+        library = File.createTempFile("library", ".jar");
+        when(root.getPath()).thenReturn(new Path(library.getAbsolutePath()));
+    }
+
+    @After
+    public void tearDown() {
+        IoUtil.deleteRecursive(directory);
+        library.delete();
+    }
+
+    @Test
+    public void shouldGenerateSourcesOnce() throws Exception {
+        IType type = type("org.test.A");
+        GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, directory.getPath(), 10, 10);
+
+        assertEquals("source of org.test.A", cache.getSource(type));
+        assertEquals("source of org.test.A", cache.getSource(type));
+
+        verify(generator, times(1)).generateSource(type);
+    }
+
+    @Test
+    public void shouldReadSourcesEvictedFromMemoryFromDisk() throws Exception {
+        IType a = type("org.test.A");
+        IType b = type("org.test.B");
+        GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, directory.getPath(), 1, 10);
+
+        cache.getSource(a);
+        cache.getSource(b);
+
+        assertEquals("source of org.test.A", cache.getSource(a));
+        verify(generator, times(1)).generateSource(a);
+    }
+
+    @Test
+    public void shouldReuseSourcesWrittenToDiskByPreviousInstance() throws Exception {
+        IType a = type("org.test.A");
+        IType b = type("org.test.B");
+        GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, directory.getPath(), 1, 10);
+        cache.getSource(a);
+        cache.getSource(b);
+
+        assertEquals("source of org.test.A", new GeneratedSourcesCache(generator, directory.getPath(), 1, 10).getSource(a));
+        verify(generator, times(1)).generateSource(a);
+    }
+
+    @Test
+    public void shouldGenerateSourcesAgainWhenLibraryIsInvalidated() throws Exception {
+        IType a = type("org.test.A");
+        IType b = type("org.test.B");
+        GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, directory.getPath(), 1, 10);
+        cache.getSource(a);
+        cache.getSource(b);
+
+        cache.invalidate(root.getPath());
+        cache.getSource(a);
+        cache.getSource(b);
+
+        verify(generator, times(2)).generateSource(a);
+        verify(generator, times(2)).generateSource(b);
+    }
+
+    @Test
+    public void shouldGenerateSourcesAgainWhenLibraryIsChanged() throws Exception {
+        IType type = type("org.test.A");
+        GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, directory.getPath(), 10, 10);
+        cache.getSource(type);
+
+        Files.write(library.toPath(), new byte[]{1, 2, 3});
+        cache.getSource(type);
+
+        verify(generator, times(2)).generateSource(type);
+    }
+
+    private IType type(String fqn) throws Exception {
+        IType type = mock(IType.class);
+        IPackageFragment fragment = mock(IPackageFragment.class);
+        when(fragment.getElementName()).thenReturn("org.test");
+        when(type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)).thenReturn(root);
+        when(type.getPackageFragment()).thenReturn(fragment);
+        when(type.getFullyQualifiedName()).thenReturn(fqn);
+        when(generator.generateSource(type)).thenReturn("source of " + fqn);
+        return type;
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.CREATED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.DELETED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProjectItemEventsTest {
+
+    private ProjectItemEvents events;
+
+    @Before
+    public void setUp() {
+        events = new ProjectItemEvents();
+    }
+
+    @Test
+    public void shouldReportFirstEventAfterDrain() {
+        assertTrue(events.add(event(UPDATED, "/a", "/a/A.java", false)));
+        assertFalse(events.add(event(UPDATED, "/a", "/a/B.java", false)));
+
+        events.drain();
+
+        assertTrue(events.add(event(UPDATED, "/a", "/a/A.java", false)));
+    }
+
+    @Test
+    public void shouldGroupEventsByProject() {
+        events.add(event(UPDATED, "/a", "/a/A.java", false));
+        events.add(event(UPDATED, "/b", "/b/B.java", false));
+        events.add(event(DELETED, "/a", "/a/C.java", false));
+
+        Map<String, List<ProjectItemModifiedEvent>> drained = events.drain();
+
+        assertEquals(2, drained.size());
+        assertEquals(2, drained.get("/a").size());
+        assertEquals("/a/C.java", drained.get("/a").get(1).getPath());
+        assertEquals(1, drained.get("/b").size());
+        assertTrue(events.drain().isEmpty());
+    }
+
+    @Test
+    public void shouldReportCreatedAndUpdatedFileAsCreated() {
+        events.add(event(CREATED, "/a", "/a/A.java", false));
+        events.add(event(UPDATED, "/a", "/a/A.java", false));
+
+        List<ProjectItemModifiedEvent> drained = events.drain().get("/a");
+
+        assertEquals(1, drained.size());
+        assertEquals(CREATED, drained.get(0).getType());
+    }
+
+    @Test
+    public void shouldNotReportCreatedAndDeletedFile() {
+        events.add(event(CREATED, "/a", "/a/A.java", false));
+        events.add(event(DELETED, "/a", "/a/A.java", false));
+
+        assertTrue(events.drain().isEmpty());
+    }
+
+    @Test
+    public void shouldReportDeletedAndCreatedFileAsUpdated() {
+        events.add(event(DELETED, "/a", "/a/A.java", false));
+        events.add(event(CREATED, "/a", "/a/A.java", false));
+
+        List<ProjectItemModifiedEvent> drained = events.drain().get("/a");
+
+        assertEquals(1, drained.size());
+        assertEquals(UPDATED, drained.get(0).getType());
+    }
+
+    @Test
+    public void shouldNotMergeEventsOfFolder() {
+        events.add(event(DELETED, "/a", "/a/src", true));
+        events.add(event(CREATED, "/a", "/a/src", true));
+
+        List<ProjectItemModifiedEvent> drained = events.drain().get("/a");
+
+        assertEquals(2, drained.size());
+        assertEquals(DELETED, drained.get(0).getType());
+        assertEquals(CREATED, drained.get(1).getType());
+    }
+
+    private static ProjectItemModifiedEvent event(EventType type, String project, String path, boolean folder) {
+        return new ProjectItemModifiedEvent(type, "workspace", project, path, folder);
+    }
+}
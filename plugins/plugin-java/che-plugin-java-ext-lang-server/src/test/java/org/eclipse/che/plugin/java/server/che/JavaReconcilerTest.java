@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.che;
+
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileRequest;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.jdt.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for working copies of editors kept by {@link JavaReconciler}.
+ */
+public class JavaReconcilerTest {
+    private static final String FQN = "p1.X";
+
+    private IJavaProject     project;
+    private IType            type;
+    private ICompilationUnit workingCopy;
+    private IBuffer          buffer;
+    private JavaReconciler   reconciler;
+
+    @Before
+    public void setUp() throws Exception {
+        project = mock(IJavaProject.class);
+        type = mock(IType.class);
+        ICompilationUnit compilationUnit = mock(ICompilationUnit.class);
+        workingCopy = mock(ICompilationUnit.class);
+        buffer = mock(IBuffer.class);
+        SemanticHighlightingReconciler semanticHighlighting = mock(SemanticHighlightingReconciler.class);
+        List<HighlightedPosition> positions = singletonList(newDto(HighlightedPosition.class));
+
+        when(project.findType(FQN)).thenReturn(type);
+        when(type.getCompilationUnit()).thenReturn(compilationUnit);
+        when(compilationUnit.getWorkingCopy(any(WorkingCopyOwner.class), any(IProgressMonitor.class))).thenReturn(workingCopy);
+        when(workingCopy.getBuffer()).thenReturn(buffer);
+        when(workingCopy.reconcile(anyInt(), anyBoolean(), any(WorkingCopyOwner.class), any(IProgressMonitor.class)))
+                .thenReturn(mock(CompilationUnit.class));
+        when(semanticHighlighting.reconcileSemanticHighlight(any(CompilationUnit.class))).thenReturn(positions);
+
+        reconciler = new JavaReconciler(semanticHighlighting, 60_000, 60_000);
+    }
+
+    @After
+    public void tearDown() {
+        reconciler.stop();
+    }
+
+    @Test
+    public void shouldCreateWorkingCopyFromContentOfEditor() throws Exception {
+        ReconcileResult result = reconciler.reconcile(project, request(1).withContent("class X {}"));
+
+        assertThat(result.isOutOfSync()).isFalse();
+        assertThat(result.getHighlightedPositions()).hasSize(1);
+        assertThat(reconciler.getWorkingCopiesCount()).isEqualTo(1);
+        verify(buffer).setContents("class X {}");
+    }
+
+    @Test
+    public void shouldApplyChangesToExistingWorkingCopy() throws Exception {
+        reconciler.reconcile(project, request(1).withContent("class X {}"));
+
+        ReconcileResult result = reconciler.reconcile(project, request(2).withChanges(singletonList(change(9, 0, "int a;"))));
+
+        assertThat(result.isOutOfSync()).isFalse();
+        verify(buffer).replace(9, 0, "int a;");
+        verify(project, times(1)).findType(FQN);
+    }
+
+    @Test
+    public void shouldReturnOutOfSyncResultIfPreviousChangesAreMissing() throws Exception {
+        reconciler.reconcile(project, request(1).withContent("class X {}"));
+
+        ReconcileResult result = reconciler.reconcile(project, request(3).withChanges(singletonList(change(9, 0, "int a;"))));
+
+        assertThat(result.isOutOfSync()).isTrue();
+        verify(buffer, never()).replace(anyInt(), anyInt(), any(String.class));
+    }
+
+    @Test
+    public void shouldReturnOutOfSyncResultIfThereIsNoWorkingCopyForChanges() throws Exception {
+        ReconcileResult result = reconciler.reconcile(project, request(2).withChanges(Collections.<Change>emptyList()));
+
+        assertThat(result.isOutOfSync()).isTrue();
+        assertThat(reconciler.getWorkingCopiesCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldDiscardWorkingCopyWhenEditorIsClosed() throws Exception {
+        reconciler.reconcile(project, request(1).withContent("class X {}"));
+
+        reconciler.discardWorkingCopy("editor");
+
+        assertThat(reconciler.getWorkingCopiesCount()).isEqualTo(0);
+        verify(workingCopy).discardWorkingCopy();
+    }
+
+    @Test
+    public void shouldDiscardIdleWorkingCopiesWithoutNewRequests() throws Exception {
+        reconciler.stop();
+        reconciler = new JavaReconciler(mock(SemanticHighlightingReconciler.class), 0, 10);
+        reconciler.reconcile(project, request(1).withContent("class X {}"));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (reconciler.getWorkingCopiesCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(reconciler.getWorkingCopiesCount()).isEqualTo(0);
+        verify(workingCopy).discardWorkingCopy();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotReconcileBinaryType() throws Exception {
+        when(type.isBinary()).thenReturn(true);
+
+        reconciler.reconcile(project, request(1).withContent("class X {}"));
+    }
+
+    private static ReconcileRequest request(int version) {
+        return newDto(ReconcileRequest.class).withEditorId("editor")
+                                             .withFqn(FQN)
+                                             .withVersion(version);
+    }
+
+    private static Change change(int offset, int length, String text) {
+        return newDto(Change.class).withOffset(offset).withLength(length).withText(text);
+    }
+}
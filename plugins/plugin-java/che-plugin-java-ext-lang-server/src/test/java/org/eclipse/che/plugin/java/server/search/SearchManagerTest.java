@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.search;
+
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.search.ui.SearchResultEvent;
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SearchManagerTest {
+
+    private List<List<Match>>              converted;
+    private List<FindUsagesResponse>       chunks;
+    private SearchManager.ChunkingListener listener;
+
+    @Before
+    public void setUp() {
+        converted = new ArrayList<>();
+        chunks = new ArrayList<>();
+        listener = new SearchManager.ChunkingListener(3, matches -> {
+            converted.add(matches);
+            return DtoFactory.newDto(FindUsagesResponse.class);
+        }, chunks::add);
+    }
+
+    @Test
+    public void shouldPassMatchesInChunks() {
+        listener.searchResultChanged(added(match(1), match(2)));
+        assertTrue(chunks.isEmpty());
+
+        listener.searchResultChanged(added(match(3), match(4)));
+
+        assertEquals(1, chunks.size());
+        assertEquals(4, converted.get(0).size());
+    }
+
+    @Test
+    public void shouldPassOnlyMatchesFoundSincePreviousChunk() {
+        listener.searchResultChanged(added(match(1), match(2), match(3)));
+        listener.searchResultChanged(added(match(4), match(5), match(6)));
+
+        assertEquals(2, chunks.size());
+        assertEquals(4, converted.get(1).get(0).getOffset());
+        assertEquals(3, converted.get(1).size());
+    }
+
+    @Test
+    public void shouldPassRemainingMatchesOnFlush() {
+        listener.searchResultChanged(added(match(1)));
+
+        listener.flush();
+        listener.flush();
+
+        assertEquals(1, chunks.size());
+        assertEquals(1, converted.get(0).size());
+    }
+
+    @Test
+    public void shouldIgnoreRemovedMatchesAndOtherEvents() {
+        MatchEvent removed = mock(MatchEvent.class);
+        when(removed.getKind()).thenReturn(MatchEvent.REMOVED);
+        when(removed.getMatches()).thenReturn(new Match[] {match(1), match(2), match(3)});
+
+        listener.searchResultChanged(removed);
+        listener.searchResultChanged(mock(SearchResultEvent.class));
+        listener.flush();
+
+        assertTrue(chunks.isEmpty());
+    }
+
+    private static MatchEvent added(Match... matches) {
+        MatchEvent event = mock(MatchEvent.class);
+        when(event.getKind()).thenReturn(MatchEvent.ADDED);
+        when(event.getMatches()).thenReturn(matches);
+        return event;
+    }
+
+    private static Match match(int offset) {
+        return new Match(new Object(), offset, 1);
+    }
+}
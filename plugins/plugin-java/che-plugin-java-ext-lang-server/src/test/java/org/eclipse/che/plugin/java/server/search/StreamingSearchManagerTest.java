@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.search;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.search.SearchResultChunk;
+import org.eclipse.che.plugin.java.server.JavaTypeHierarchy;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.eclipse.che.plugin.java.server.search.StreamingSearchManager.FIND_USAGES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class StreamingSearchManagerTest {
+
+    private TestStreamingSearchManager manager;
+
+    @After
+    public void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    public void shouldSendChunksAndLastChunkOfSearch() throws Exception {
+        manager = new TestStreamingSearchManager(2);
+
+        manager.start("search-1", FIND_USAGES, (id, monitor) -> {
+            manager.send(chunk(id));
+            return null;
+        });
+
+        SearchResultChunk first = manager.nextChunk();
+        assertEquals("search-1", first.getSearchId());
+        assertFalse(first.isLast());
+        SearchResultChunk last = manager.nextChunk();
+        assertEquals("search-1", last.getSearchId());
+        assertTrue(last.isLast());
+        assertFalse(last.isCancelled());
+        assertNull(last.getError());
+    }
+
+    @Test
+    public void shouldCancelRunningSearch() throws Exception {
+        manager = new TestStreamingSearchManager(2);
+        CountDownLatch started = new CountDownLatch(1);
+
+        manager.start("search-1", FIND_USAGES, (id, monitor) -> {
+            started.countDown();
+            while (!monitor.isCanceled()) {
+                Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+            }
+            throw new OperationCanceledException();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(manager.cancel("search-1"));
+
+        SearchResultChunk last = manager.nextChunk();
+        assertTrue(last.isLast());
+        assertTrue(last.isCancelled());
+        assertEquals(Long.valueOf(1), manager.getStatistics().get(FIND_USAGES).get("cancelled"));
+        assertFalse(manager.cancel("search-1"));
+    }
+
+    @Test
+    public void shouldNotRunMoreSearchesThanLimit() throws Exception {
+        manager = new TestStreamingSearchManager(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean secondStarted = new AtomicBoolean();
+
+        manager.start("first", FIND_USAGES, (id, monitor) -> {
+            Uninterruptibles.awaitUninterruptibly(release);
+            return null;
+        });
+        manager.start("second", FIND_USAGES, (id, monitor) -> {
+            secondStarted.set(true);
+            return null;
+        });
+
+        assertTrue(manager.cancel("second"));
+        release.countDown();
+
+        SearchResultChunk firstLast = manager.nextChunk();
+        assertEquals("first", firstLast.getSearchId());
+        assertFalse(firstLast.isCancelled());
+        SearchResultChunk secondLast = manager.nextChunk();
+        assertEquals("second", secondLast.getSearchId());
+        assertTrue(secondLast.isCancelled());
+        assertFalse(secondStarted.get());
+    }
+
+    @Test
+    public void shouldSendErrorOfFailedSearch() throws Exception {
+        manager = new TestStreamingSearchManager(2);
+
+        manager.start("search-1", FIND_USAGES, (id, monitor) -> {
+            throw new SearchException("Can't find type: org.test.A");
+        });
+
+        SearchResultChunk last = manager.nextChunk();
+        assertTrue(last.isLast());
+        assertEquals("Can't find type: org.test.A", last.getError());
+        assertEquals(Long.valueOf(1), manager.getStatistics().get(FIND_USAGES).get("failed"));
+    }
+
+    @Test
+    public void shouldSendLastChunkEvenIfSearchFailsWithError() throws Exception {
+        manager = new TestStreamingSearchManager(2);
+
+        manager.start("search-1", FIND_USAGES, (id, monitor) -> {
+            throw new StackOverflowError();
+        });
+
+        SearchResultChunk last = manager.nextChunk();
+        assertTrue(last.isLast());
+        assertNotNull(last.getError());
+    }
+
+    @Test(expected = ConflictException.class)
+    public void shouldNotStartSearchWithIdOfRunningSearch() throws Exception {
+        manager = new TestStreamingSearchManager(1);
+        CountDownLatch release = new CountDownLatch(1);
+        manager.start("search-1", FIND_USAGES, (id, monitor) -> {
+            Uninterruptibles.awaitUninterruptibly(release);
+            return null;
+        });
+
+        try {
+            manager.start("search-1", FIND_USAGES, (id, monitor) -> null);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void shouldNotStartSearchWithInvalidId() throws Exception {
+        manager = new TestStreamingSearchManager(1);
+
+        manager.start("search/1", FIND_USAGES, (id, monitor) -> null);
+    }
+
+    @Test
+    public void shouldRejectSearchesWhenQueueIsFull() throws Exception {
+        manager = new TestStreamingSearchManager(1);
+        CountDownLatch release = new CountDownLatch(1);
+        manager.start("running", FIND_USAGES, (id, monitor) -> {
+            Uninterruptibles.awaitUninterruptibly(release);
+            return null;
+        });
+
+        try {
+            for (int i = 0; i < 1000; i++) {
+                manager.start("queued-" + i, FIND_USAGES, (id, monitor) -> null);
+            }
+            fail("Searches must be rejected when queue is full");
+        } catch (ConflictException expected) {
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static SearchResultChunk chunk(String searchId) {
+        return DtoFactory.newDto(SearchResultChunk.class).withSearchId(searchId);
+    }
+
+    private static class TestStreamingSearchManager extends StreamingSearchManager {
+        private final BlockingQueue<SearchResultChunk> chunks = new LinkedBlockingQueue<>();
+
+        TestStreamingSearchManager(int maxConcurrent) {
+            super(mock(SearchManager.class), mock(JavaTypeHierarchy.class), maxConcurrent, 10);
+        }
+
+        @Override
+        protected void send(SearchResultChunk chunk) {
+            chunks.add(chunk);
+        }
+
+        SearchResultChunk nextChunk() throws InterruptedException {
+            SearchResultChunk chunk = chunks.poll(5, TimeUnit.SECONDS);
+            assertNotNull(chunk);
+            return chunk;
+        }
+    }
+}
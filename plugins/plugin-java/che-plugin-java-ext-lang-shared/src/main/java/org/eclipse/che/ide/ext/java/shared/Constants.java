@@ -28,6 +28,9 @@ public final class Constants {
 
     public static String JAVAC                       = "javac";
 
+    /** Prefix of the websocket channels which streaming search results are sent to, search id is appended to it. */
+    public static String SEARCH_CHANNEL_PREFIX       = "java:search:";
+
     private Constants() {
         throw new UnsupportedOperationException("Unused constructor.");
     }
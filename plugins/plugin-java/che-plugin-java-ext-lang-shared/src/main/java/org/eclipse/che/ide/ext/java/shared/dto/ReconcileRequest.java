@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+
+/**
+ * Request to reconcile content of the editor that is kept by server as a working copy.
+ * <p/>
+ * Working copy is created by the first request of the editor, which contains the whole content of the editor.
+ * Next requests contain only changes that were made since the previous request.
+ */
+@DTO
+public interface ReconcileRequest {
+
+    /** Returns path of the project. */
+    String getProjectPath();
+
+    void setProjectPath(String projectPath);
+
+    ReconcileRequest withProjectPath(String projectPath);
+
+    /** Returns fully qualified name of the reconciled type. */
+    String getFqn();
+
+    void setFqn(String fqn);
+
+    ReconcileRequest withFqn(String fqn);
+
+    /** Returns identifier of the editor, working copy of the editor is kept between requests. */
+    String getEditorId();
+
+    void setEditorId(String editorId);
+
+    ReconcileRequest withEditorId(String editorId);
+
+    /** Returns version of the content after the changes are applied, each request of the editor increments it. */
+    int getVersion();
+
+    void setVersion(int version);
+
+    ReconcileRequest withVersion(int version);
+
+    /** Returns the whole content of the editor, if it is set then changes are ignored. */
+    String getContent();
+
+    void setContent(String content);
+
+    ReconcileRequest withContent(String content);
+
+    /** Returns changes made since the previous request, in order they were made. */
+    List<Change> getChanges();
+
+    void setChanges(List<Change> changes);
+
+    ReconcileRequest withChanges(List<Change> changes);
+}
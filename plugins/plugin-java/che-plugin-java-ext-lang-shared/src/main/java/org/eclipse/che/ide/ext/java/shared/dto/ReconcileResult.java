@@ -29,4 +29,11 @@ public interface ReconcileResult {
 
     void setHighlightedPositions(List<HighlightedPosition> positions);
 
+    /**
+     * Returns {@code true} if changes can't be applied to the working copy of the editor
+     * because some of the previous changes were lost, then the whole content of the editor must be sent.
+     */
+    boolean isOutOfSync();
+
+    void setOutOfSync(boolean outOfSync);
 }
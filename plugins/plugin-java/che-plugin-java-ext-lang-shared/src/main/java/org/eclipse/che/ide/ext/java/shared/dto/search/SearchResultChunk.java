@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto.search;
+
+import org.eclipse.che.dto.shared.DTO;
+import org.eclipse.che.ide.ext.java.shared.dto.ImplementationsDescriptorDTO;
+
+/**
+ * Part of the result of streaming search, it is sent to the {@code java:search:<searchId>} channel as soon as
+ * some matches are found. The last chunk of each search has {@code last} flag set, it is sent also when search
+ * is cancelled or failed.
+ */
+@DTO
+public interface SearchResultChunk {
+
+    /** Returns id of the search this chunk belongs to. */
+    String getSearchId();
+
+    void setSearchId(String searchId);
+
+    SearchResultChunk withSearchId(String searchId);
+
+    /** Returns usages found since previous chunk of find usages search. */
+    FindUsagesResponse getUsages();
+
+    void setUsages(FindUsagesResponse usages);
+
+    SearchResultChunk withUsages(FindUsagesResponse usages);
+
+    /** Returns implementations found since previous chunk of implementations search. */
+    ImplementationsDescriptorDTO getImplementations();
+
+    void setImplementations(ImplementationsDescriptorDTO implementations);
+
+    SearchResultChunk withImplementations(ImplementationsDescriptorDTO implementations);
+
+    /** Returns {@code true} if this chunk is the last one of the search. */
+    boolean isLast();
+
+    void setLast(boolean last);
+
+    SearchResultChunk withLast(boolean last);
+
+    /** Returns {@code true} if search was cancelled before it found all the results. */
+    boolean isCancelled();
+
+    void setCancelled(boolean cancelled);
+
+    SearchResultChunk withCancelled(boolean cancelled);
+
+    /** Returns message of the error that stopped the search or {@code null} if search wasn't failed. */
+    String getError();
+
+    void setError(String error);
+
+    SearchResultChunk withError(String error);
+}
@@ -20,6 +20,7 @@ import org.eclipse.che.maven.server.MavenServer;
 import org.eclipse.che.maven.server.MavenServerProgressNotifier;
 import org.eclipse.che.maven.server.MavenServerResult;
 import org.eclipse.che.maven.server.MavenTerminal;
+import org.eclipse.che.maven.server.MavenTerminalMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -110,10 +111,24 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         return perform(() -> getOrCreateWrappedObject().resolveArtifact(artifactKey, repositories));
     }
 
+    public List<MavenArtifact> resolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> repositories) {
+        return perform(() -> getOrCreateWrappedObject().resolveArtifacts(artifactKeys, repositories));
+    }
+
     public File getLocalRepository() {
         return perform(() -> getOrCreateWrappedObject().getLocalRepository());
     }
 
+    /**
+     * Creates maven server in the maven server process if it isn't created yet,
+     * so the first request to this wrapper doesn't wait for server creation.
+     */
+    public void warmUp() {
+        perform(() -> {
+            getOrCreateWrappedObject();
+        });
+    }
+
     private <T> T perform(RunnableRemoteWithResult<T> runnable) {
         RemoteException exception = null;
         for (int i = 0; i < 2; i++) {
@@ -198,34 +213,32 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         }
     }
 
-    //TODO enable notification after MavenServerProgressNotifier reworked
     private static class MavenServerProgressNotifierWrapper implements MavenServerProgressNotifier {
 
         private MavenProgressNotifier delegate;
 
         public MavenServerProgressNotifierWrapper(MavenProgressNotifier delegate) {
-//            this.delegate = delegate;
+            this.delegate = delegate;
         }
 
         @Override
         public void setText(String text) throws RemoteException {
-//            delegate.setText(text);
+            delegate.setText(text);
         }
 
         @Override
         public void setPercent(double percent) throws RemoteException {
-//            delegate.setPercent(percent);
+            delegate.setPercent(percent);
         }
 
         @Override
         public void setPercentUndefined(boolean undefined) throws RemoteException {
-//            delegate.setPercentUndefined(undefined);
+            delegate.setPercentUndefined(undefined);
         }
 
         @Override
         public boolean isCanceled() throws RemoteException {
-//            return delegate.isCanceled();
-            return false;
+            return delegate.isCanceled();
         }
     }
 
@@ -241,5 +254,10 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         public void print(int level, String message, Throwable throwable) throws RemoteException {
             delegate.print(level, message, throwable);
         }
+
+        @Override
+        public void print(List<MavenTerminalMessage> messages) throws RemoteException {
+            delegate.print(messages);
+        }
     }
 }
@@ -10,9 +10,18 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -21,46 +30,106 @@ import java.util.Set;
 /**
  *
  * Manages and cache MavenServerWrapper instances
+ * <p/>
+ * Up to {@code poolSize} servers of each type are kept and reused, servers for resolving projects are
+ * started in advance, so projects may be resolved in parallel without waiting for server creation.
+ * When all the servers of some type are busy temporary server is created, it is disposed when released.
  *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenWrapperManager {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenWrapperManager.class);
 
-
-    private final MavenServerManager    serverManager;
-    private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
-    private final Set<MavenServerWrapper> usedServers = new HashSet<>();
+    private final MavenServerManager                         serverManager;
+    private final int                                        poolSize;
+    private final Map<MavenServerWrapper, ServerType>        pooledServers = new HashMap<>();
+    private final Map<ServerType, Deque<MavenServerWrapper>> idleServers   = new EnumMap<>(ServerType.class);
+    private final Set<MavenServerWrapper>                    usedServers   = new HashSet<>();
 
 
     @Inject
-    public MavenWrapperManager(MavenServerManager serverManager) {
+    public MavenWrapperManager(MavenServerManager serverManager, @Named("che.maven.server.pool.size") int poolSize) {
         this.serverManager = serverManager;
+        this.poolSize = poolSize;
+        for (ServerType type : ServerType.values()) {
+            idleServers.put(type, new ArrayDeque<>());
+        }
+    }
+
+    /** Starts servers for resolving projects in background. */
+    @PostConstruct
+    public void warmUp() {
+        new ThreadFactoryBuilder().setNameFormat("Maven Server Warm Up")
+                                  .setDaemon(true)
+                                  .build()
+                                  .newThread(this::startResolveServers)
+                                  .start();
     }
 
     public synchronized MavenServerWrapper getMavenServer(ServerType type) {
-        MavenServerWrapper wrapper = cache.get(type);
+        MavenServerWrapper wrapper = idleServers.get(type).poll();
         if (wrapper == null) {
             wrapper = serverManager.createMavenServer();
-            cache.put(type, wrapper);
-        }
-
-        if (usedServers.contains(wrapper)) {
-            //need to warn here
-            return serverManager.createMavenServer();
+            if (countServers(type) >= poolSize) {
+                LOG.warn("All {} maven servers of type {} are busy, creating temporary one", poolSize, type);
+                return wrapper;
+            }
+            pooledServers.put(wrapper, type);
         }
 
         usedServers.add(wrapper);
         return wrapper;
     }
 
-    public synchronized void release(MavenServerWrapper wrapper) {
-        if (usedServers.contains(wrapper)) {
-            wrapper.reset();
-            usedServers.remove(wrapper);
-        } else {
+    public void release(MavenServerWrapper wrapper) {
+        final ServerType type;
+        synchronized (this) {
+            type = pooledServers.get(wrapper);
+            if (type != null && !usedServers.contains(wrapper)) {
+                return;
+            }
+        }
+        if (type == null) {
             wrapper.dispose();
+            return;
+        }
+        wrapper.reset();
+        synchronized (this) {
+            usedServers.remove(wrapper);
+            // recently used server is given first, it has the warmest caches
+            idleServers.get(type).push(wrapper);
+        }
+    }
+
+    private void startResolveServers() {
+        for (int i = 0; i < poolSize; i++) {
+            final MavenServerWrapper wrapper;
+            synchronized (this) {
+                if (countServers(ServerType.RESOLVE) >= poolSize) {
+                    return;
+                }
+                wrapper = serverManager.createMavenServer();
+                pooledServers.put(wrapper, ServerType.RESOLVE);
+                usedServers.add(wrapper);
+            }
+            try {
+                wrapper.warmUp();
+            } catch (RuntimeException e) {
+                LOG.warn("Can't start maven server: {}", e.getMessage());
+            }
+            release(wrapper);
+        }
+    }
+
+    private int countServers(ServerType type) {
+        int count = 0;
+        for (ServerType pooledType : pooledServers.values()) {
+            if (pooledType == type) {
+                count++;
+            }
         }
+        return count;
     }
 
     public enum ServerType {
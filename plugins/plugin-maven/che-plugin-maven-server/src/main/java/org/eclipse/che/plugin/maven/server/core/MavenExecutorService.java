@@ -11,7 +11,9 @@
 package org.eclipse.che.plugin.maven.server.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +25,9 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Runs maven tasks one by one in single thread, while projects are resolved by pool of
+ * resolve threads which size equals to number of maven servers kept by {@link org.eclipse.che.plugin.maven.server.MavenWrapperManager}.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
@@ -31,18 +36,28 @@ public class MavenExecutorService {
     private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
     private final ExecutorService service;
+    private final ExecutorService resolveService;
 
-    public MavenExecutorService() {
+    @Inject
+    public MavenExecutorService(@Named("che.maven.server.pool.size") int resolveThreads) {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Executor - %d").build();
         service = Executors.newFixedThreadPool(1, threadFactory);
+        ThreadFactory resolveThreadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Resolver - %d").setDaemon(true).build();
+        resolveService = Executors.newFixedThreadPool(resolveThreads, resolveThreadFactory);
     }
 
     public void submit(Runnable task) {
         service.execute(task);
     }
 
+    /** Runs resolving of the project in one of the resolve threads. */
+    public void submitResolve(Runnable task) {
+        resolveService.execute(task);
+    }
+
     @PreDestroy
     public void shutdown() throws InterruptedException {
+        resolveService.shutdownNow();
         // Tell threads to finish off.
         service.shutdown(); // Disable new tasks from being submitted
         try {
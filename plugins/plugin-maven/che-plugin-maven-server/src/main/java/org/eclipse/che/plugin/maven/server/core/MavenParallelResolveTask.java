@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves maven projects in parallel using resolve threads of {@link MavenExecutorService}.
+ * <p/>
+ * Project is resolved only after all the projects it depends on, i.e. its parent and its dependencies
+ * which are projects of the workspace, are resolved, so modules of the reactor are resolved in dependency order
+ * while independent modules are resolved at the same time. Action that must be performed after project is resolved,
+ * e.g. update of its classpath, is performed in the thread which runs this task, one project at a time.
+ * Projects which resolve fails are reported to the user with {@link MavenProgressNotifier}.
+ */
+public class MavenParallelResolveTask implements MavenProjectTask {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenParallelResolveTask.class);
+
+    /** Number of the slowest projects which resolve time is logged. */
+    private static final int SLOWEST_PROJECTS = 5;
+
+    private final Collection<MavenProject> projects;
+    private final MavenProjectManager      projectManager;
+    private final MavenExecutorService     executorService;
+    private final MavenProgressNotifier    notifier;
+    private final Consumer<MavenProject>   afterResolve;
+
+    public MavenParallelResolveTask(Collection<MavenProject> projects,
+                                    MavenProjectManager projectManager,
+                                    MavenExecutorService executorService,
+                                    MavenProgressNotifier notifier,
+                                    Consumer<MavenProject> afterResolve) {
+        this.projects = projects;
+        this.projectManager = projectManager;
+        this.executorService = executorService;
+        this.notifier = notifier;
+        this.afterResolve = afterResolve;
+    }
+
+    @Override
+    public void perform() {
+        final long start = System.currentTimeMillis();
+        final Map<MavenProject, Set<MavenProject>> dependencies = findDependencies();
+        final Set<MavenProject> pending = new LinkedHashSet<>(projects);
+        final Set<MavenProject> running = new HashSet<>();
+        final BlockingQueue<ResolveResult> results = new LinkedBlockingQueue<>();
+        final Map<MavenProject, Long> timings = new HashMap<>();
+
+        while (!pending.isEmpty() || !running.isEmpty()) {
+            final List<MavenProject> ready = pending.stream()
+                                                    .filter(project -> isReady(dependencies.get(project), pending, running))
+                                                    .collect(Collectors.toList());
+            if (ready.isEmpty() && running.isEmpty()) {
+                // remaining projects depend on each other, resolve any of them to break the cycle
+                ready.add(pending.iterator().next());
+            }
+            for (MavenProject project : ready) {
+                pending.remove(project);
+                running.add(project);
+                executorService.submitResolve(() -> results.add(resolve(project)));
+            }
+
+            final ResolveResult result;
+            try {
+                result = results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            running.remove(result.project);
+            timings.put(result.project, result.duration);
+            if (result.error != null) {
+                LOG.error(result.error.getMessage(), result.error);
+                notifier.setText("Unable to resolve maven project " + path(result.project) + ": " + result.error.getMessage());
+                continue;
+            }
+            try {
+                afterResolve.accept(result.project);
+            } catch (Throwable throwable) {
+                LOG.error(throwable.getMessage(), throwable);
+            }
+        }
+
+        LOG.info("{} maven projects are resolved in {} ms, the slowest are {}",
+                 projects.size(), System.currentTimeMillis() - start, slowest(timings));
+    }
+
+    private ResolveResult resolve(MavenProject project) {
+        final long start = System.currentTimeMillis();
+        Throwable error = null;
+        try {
+            projectManager.resolveMavenProject(project.getProject(), project);
+        } catch (Throwable throwable) {
+            error = throwable;
+        }
+        final long duration = System.currentTimeMillis() - start;
+        LOG.debug("Maven project {} is resolved in {} ms", path(project), duration);
+        return new ResolveResult(project, duration, error);
+    }
+
+    /** Finds for each project the projects it depends on among the projects to resolve. */
+    private Map<MavenProject, Set<MavenProject>> findDependencies() {
+        final Map<MavenKey, MavenProject> projectsByKey = new HashMap<>();
+        for (MavenProject project : projects) {
+            projectsByKey.put(project.getMavenKey(), project);
+        }
+        final Map<MavenProject, Set<MavenProject>> dependencies = new HashMap<>();
+        for (MavenProject project : projects) {
+            final Set<MavenProject> projectDependencies = new HashSet<>();
+            if (project.getParentKey() != null) {
+                addDependency(projectDependencies, projectsByKey.get(project.getParentKey()), project);
+            }
+            for (MavenArtifact artifact : project.getDependencies()) {
+                final MavenKey key = new MavenKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+                addDependency(projectDependencies, projectsByKey.get(key), project);
+            }
+            dependencies.put(project, projectDependencies);
+        }
+        return dependencies;
+    }
+
+    private static void addDependency(Set<MavenProject> dependencies, MavenProject dependency, MavenProject project) {
+        if (dependency != null && dependency != project) {
+            dependencies.add(dependency);
+        }
+    }
+
+    private static boolean isReady(Set<MavenProject> dependencies, Set<MavenProject> pending, Set<MavenProject> running) {
+        for (MavenProject dependency : dependencies) {
+            if (pending.contains(dependency) || running.contains(dependency)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String slowest(Map<MavenProject, Long> timings) {
+        final List<Map.Entry<MavenProject, Long>> entries = new ArrayList<>(timings.entrySet());
+        entries.sort(Map.Entry.<MavenProject, Long>comparingByValue().reversed());
+        return entries.stream()
+                      .limit(SLOWEST_PROJECTS)
+                      .map(entry -> path(entry.getKey()) + " (" + entry.getValue() + " ms)")
+                      .collect(Collectors.joining(", "));
+    }
+
+    private static String path(MavenProject project) {
+        return project.getProject().getFullPath().toOSString();
+    }
+
+    private static class ResolveResult {
+        final MavenProject project;
+        final long         duration;
+        final Throwable    error;
+
+        ResolveResult(MavenProject project, long duration, Throwable error) {
+            this.project = project;
+            this.duration = duration;
+            this.error = error;
+        }
+    }
+}
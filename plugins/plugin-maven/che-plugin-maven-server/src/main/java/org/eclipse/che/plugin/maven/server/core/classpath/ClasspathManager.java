@@ -10,10 +10,12 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server.core.classpath;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import org.eclipse.che.plugin.java.server.GeneratedSourcesCache;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
 import org.eclipse.che.plugin.maven.server.core.MavenClasspathContainer;
@@ -39,11 +41,23 @@ import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
+ * Builds classpath of maven projects and attaches sources to their libraries.
+ * <p/>
+ * When {@code che.maven.download_sources} is enabled, sources jars of all the libraries of the project which have
+ * no attached sources are downloaded in background in one batch after classpath of the project is updated,
+ * so sources are usually attached by the time user opens a library class.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
@@ -63,6 +77,11 @@ public class ClasspathManager {
     private final MavenProjectManager   projectManager;
     private final MavenTerminal         terminal;
     private final MavenProgressNotifier notifier;
+    private final GeneratedSourcesCache generatedSources;
+    private final boolean               downloadSources;
+    private final ExecutorService       sourcesDownloader;
+    /** Sources which were already requested, so sources which aren't deployed to repository aren't requested again. */
+    private final Set<MavenArtifactKey> requestedSources;
     private File                        localRepository;
 
     @Inject
@@ -70,13 +89,21 @@ public class ClasspathManager {
                             MavenWrapperManager wrapperManager,
                             MavenProjectManager projectManager,
                             MavenTerminal terminal,
-                            MavenProgressNotifier notifier) {
+                            MavenProgressNotifier notifier,
+                            GeneratedSourcesCache generatedSources,
+                            @Named("che.maven.download_sources") boolean downloadSources) {
 
         this.workspacePath = workspacePath;
         this.wrapperManager = wrapperManager;
         this.projectManager = projectManager;
         this.terminal = terminal;
         this.notifier = notifier;
+        this.generatedSources = generatedSources;
+        this.downloadSources = downloadSources;
+        this.sourcesDownloader = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Maven Sources Downloader")
+                                                                                             .setDaemon(true)
+                                                                                             .build());
+        this.requestedSources = ConcurrentHashMap.newKeySet();
         MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.DOWNLOAD);
         try {
             localRepository = mavenServer.getLocalRepository();
@@ -100,9 +127,58 @@ public class ClasspathManager {
                                                new IJavaProject[]{javaProject},
                                                new IClasspathContainer[]{container},
                                                new NullProgressMonitor());
+                generatedSources.classpathChanged(javaProject);
             } catch (JavaModelException e) {
                 LOG.error(e.getMessage(), e);
             }
+            if (downloadSources) {
+                scheduleSourcesDownload(mavenProject, entries);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        sourcesDownloader.shutdownNow();
+    }
+
+    private void scheduleSourcesDownload(MavenProject mavenProject, IClasspathEntry[] entries) {
+        List<MavenArtifactKey> sourceKeys = new ArrayList<>();
+        for (IClasspathEntry entry : entries) {
+            if (entry.getEntryKind() != IClasspathEntry.CPE_LIBRARY || entry.getSourceAttachmentPath() != null) {
+                continue;
+            }
+            MavenArtifactKey artifactKey = getArtifactKey(entry);
+            if (artifactKey != null) {
+                MavenArtifactKey sourceKey = getSourceKey(artifactKey);
+                if (requestedSources.add(sourceKey)) {
+                    sourceKeys.add(sourceKey);
+                }
+            }
+        }
+        if (!sourceKeys.isEmpty()) {
+            sourcesDownloader.execute(() -> downloadSources(mavenProject, sourceKeys));
+        }
+    }
+
+    private void downloadSources(MavenProject mavenProject, List<MavenArtifactKey> sourceKeys) {
+        MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.DOWNLOAD);
+        try {
+            mavenServer.customize(projectManager.copyWorkspaceCache(), terminal, notifier, false, false);
+            long start = System.currentTimeMillis();
+            List<MavenArtifact> artifacts = mavenServer.resolveArtifacts(sourceKeys, mavenProject.getRemoteRepositories());
+            long resolved = artifacts.stream().filter(MavenArtifact::isResolved).count();
+            long time = System.currentTimeMillis() - start;
+            notifier.setText("Downloaded sources of " + resolved + " of " + sourceKeys.size() + " libraries in " + time + " ms");
+            LOG.info("Downloaded sources of {} of {} libraries of project {} in {} ms",
+                     resolved, sourceKeys.size(), mavenProject.getName(), time);
+            if (resolved > 0) {
+                updateClasspath(mavenProject);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Can't download sources of project {}: {}", mavenProject.getName(), e.getMessage());
+        } finally {
+            wrapperManager.release(mavenServer);
         }
     }
 
@@ -189,11 +265,7 @@ public class ClasspathManager {
             try {
                 mavenServer.customize(projectManager.copyWorkspaceCache(), terminal, notifier, false, false);
 
-                MavenArtifactKey sourceKey =
-                        new MavenArtifactKey(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
-                                             artifactKey.getPackaging(),
-                                             SOURCES);
-                MavenArtifact mavenArtifact = mavenServer.resolveArtifact(sourceKey, Collections.emptyList());
+                MavenArtifact mavenArtifact = mavenServer.resolveArtifact(getSourceKey(artifactKey), Collections.emptyList());
                 if (mavenArtifact.isResolved()) {
                     updateClasspath(projectManager.findMavenProject(fragmentRoot.getJavaProject().getProject()));
                 }
@@ -205,6 +277,12 @@ public class ClasspathManager {
         return false;
     }
 
+    private static MavenArtifactKey getSourceKey(MavenArtifactKey artifactKey) {
+        return new MavenArtifactKey(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
+                                    artifactKey.getPackaging(),
+                                    SOURCES);
+    }
+
     private MavenArtifactKey getArtifactKey(IClasspathEntry classpathEntry) {
         IClasspathAttribute[] attributes = classpathEntry.getExtraAttributes();
         String groupId = null;
@@ -23,6 +23,7 @@ import org.eclipse.che.maven.data.MavenParent;
 import org.eclipse.che.maven.data.MavenProblemType;
 import org.eclipse.che.maven.data.MavenProjectProblem;
 import org.eclipse.che.maven.data.MavenResource;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
 import org.eclipse.che.maven.server.MavenProjectInfo;
 import org.eclipse.che.maven.server.MavenServerResult;
 import org.eclipse.che.plugin.maven.shared.MavenAttributes;
@@ -52,9 +53,17 @@ public class MavenModelReader {
     private static final Logger LOG = LoggerFactory.getLogger(MavenModelReader.class);
 
     public MavenModelReaderResult resolveMavenProject(File pom, MavenServerWrapper mavenServer, List<String> activeProfiles,
-                                                      List<String> inactiveProfiles, MavenServerManager serverManager) {
+                                                      List<String> inactiveProfiles, MavenServerManager serverManager,
+                                                      MavenResolveCache resolveCache, MavenWorkspaceCache workspaceCache) {
         try {
-            MavenServerResult resolveProject = mavenServer.resolveProject(pom, activeProfiles, inactiveProfiles);
+            String cacheKey = resolveCache.computeKey(pom, activeProfiles, inactiveProfiles, workspaceCache);
+            MavenServerResult resolveProject = resolveCache.get(cacheKey);
+            if (resolveProject == null) {
+                resolveProject = mavenServer.resolveProject(pom, activeProfiles, inactiveProfiles);
+                resolveCache.put(cacheKey, resolveProject);
+            } else {
+                LOG.debug("Resolution of {} is taken from cache", pom);
+            }
             MavenProjectInfo projectInfo = resolveProject.getProjectInfo();
             if (projectInfo != null) {
                 return new MavenModelReaderResult(projectInfo.getMavenModel(),
@@ -21,6 +21,7 @@ import org.eclipse.che.maven.data.MavenProblemType;
 import org.eclipse.che.maven.data.MavenProjectProblem;
 import org.eclipse.che.maven.data.MavenRemoteRepository;
 import org.eclipse.che.maven.data.MavenResource;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
@@ -151,17 +152,26 @@ public class MavenProject {
         return info.dependencies;
     }
 
+    public List<MavenRemoteRepository> getRemoteRepositories() {
+        return info.remoteRepositories;
+    }
+
     /**
      * Invoke maven to build project model.
      * @param project to resolve
      * @param mavenServer the maven server
      * @return the modification types that applied to this project
      */
-    public MavenProjectModifications resolve(IProject project, MavenServerWrapper mavenServer, MavenServerManager serverManager) {
+    public MavenProjectModifications resolve(IProject project,
+                                             MavenServerWrapper mavenServer,
+                                             MavenServerManager serverManager,
+                                             MavenResolveCache resolveCache,
+                                             MavenWorkspaceCache workspaceCache) {
         MavenModelReader reader = new MavenModelReader();
 
         MavenModelReaderResult modelReaderResult =
-                reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager);
+                reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager,
+                                           resolveCache, workspaceCache);
 
         return setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
     }
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.ide.maven.tools.Model;
+import org.eclipse.che.ide.maven.tools.Parent;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenConstants;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.maven.server.MavenServerResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * On-disk cache of results of projects resolution.
+ * <p/>
+ * Result is stored under hash of all the inputs of the resolution: content of the pom, of its parent poms and
+ * of all the poms of the workspace, active and inactive profiles and maven settings. So after
+ * restart of the agent projects which inputs aren't changed are not resolved by maven server again. Result is
+ * reused only if all the dependencies it refers to are still in the local repository.
+ * <p/>
+ * Only results of successful resolution are cached, so project with problems is resolved each time.
+ */
+@Singleton
+public class MavenResolveCache {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenResolveCache.class);
+
+    /** Changed when format of the cached results or set of the inputs is changed. */
+    private static final String VERSION           = "2";
+    /** Max number of parent poms included into the key. */
+    private static final int    MAX_PARENTS       = 20;
+    /** Max number of results kept on disk, the oldest ones are removed at start. */
+    private static final int    MAX_ENTRIES       = 5000;
+
+    private final File directory;
+
+    @Inject
+    public MavenResolveCache(@Named("che.maven.resolve.cache.dir") String directory) {
+        this.directory = new File(directory);
+        removeOldEntries();
+    }
+
+    /** Computes key of the resolution of the pom, it is changed if any input of resolution is changed. */
+    public String computeKey(File pom,
+                             List<String> activeProfiles,
+                             List<String> inactiveProfiles,
+                             MavenWorkspaceCache workspaceCache) {
+        final Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putString(VERSION, StandardCharsets.UTF_8);
+        putFile(hasher, pom);
+        putParents(hasher, pom);
+        hasher.putString(String.valueOf(activeProfiles), StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(inactiveProfiles), StandardCharsets.UTF_8);
+        putFile(hasher, new File(System.getProperty("user.home"), ".m2/settings.xml"));
+        final String mavenHome = System.getenv("M2_HOME");
+        if (mavenHome != null) {
+            putFile(hasher, new File(mavenHome, "conf/settings.xml"));
+        }
+        final List<String> workspaceProjects = new ArrayList<>();
+        final Set<File> workspacePoms = new TreeSet<>();
+        for (MavenKey key : workspaceCache.getAllKeys()) {
+            final File workspacePom = workspaceCache.findEntry(key).getFile(MavenConstants.POM_EXTENSION);
+            workspaceProjects.add(key + "=" + workspacePom);
+            workspacePoms.add(workspacePom);
+        }
+        workspaceProjects.sort(null);
+        workspaceProjects.forEach(project -> hasher.putString(project, StandardCharsets.UTF_8));
+        // any pom of the workspace may be a parent (even one that isn't found at relative path), a dependency
+        // or an imported bom of the project, so result is not reused when any pom of the workspace is changed
+        workspacePoms.forEach(workspacePom -> putFile(hasher, workspacePom));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Returns cached result of the resolution or {@code null} if there is no result
+     * or some dependencies of cached result are removed from the local repository.
+     */
+    public MavenServerResult get(String key) {
+        final File file = new File(directory, key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file.toPath());
+             ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            final MavenServerResult result = (MavenServerResult)objectIn.readObject();
+            for (MavenArtifact dependency : result.getProjectInfo().getMavenModel().getDependencies()) {
+                if (!dependency.isResolved()) {
+                    file.delete();
+                    return null;
+                }
+            }
+            file.setLastModified(System.currentTimeMillis());
+            return result;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Can't read cached result of resolution {}: {}", file, e.getMessage());
+            file.delete();
+            return null;
+        }
+    }
+
+    /** Caches result of the resolution if project was resolved without problems. */
+    public void put(String key, MavenServerResult result) {
+        if (result.getProjectInfo() == null || !result.getProblems().isEmpty() || !result.getUnresolvedArtifacts().isEmpty()) {
+            return;
+        }
+        for (MavenArtifact dependency : result.getProjectInfo().getMavenModel().getDependencies()) {
+            if (!dependency.isResolved()) {
+                return;
+            }
+        }
+        final File file = new File(directory, key);
+        final File temp = new File(directory, key + '.' + System.nanoTime() + ".tmp");
+        try {
+            Files.createDirectories(directory.toPath());
+            try (OutputStream out = Files.newOutputStream(temp.toPath());
+                 ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+                objectOut.writeObject(result);
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't cache result of resolution {}: {}", file, e.getMessage());
+            temp.delete();
+        }
+    }
+
+    private void putParents(Hasher hasher, File pom) {
+        File current = pom;
+        for (int i = 0; i < MAX_PARENTS; i++) {
+            final Parent parent;
+            try {
+                parent = Model.readFrom(current).getParent();
+            } catch (IOException e) {
+                return;
+            }
+            if (parent == null) {
+                return;
+            }
+            File parentPom = new File(current.getParentFile(), parent.getRelativePath());
+            if (parentPom.isDirectory()) {
+                parentPom = new File(parentPom, MavenConstants.POM_FILE_NAME);
+            }
+            if (!parentPom.isFile()) {
+                // parent is resolved from repository, released parents are never changed there
+                return;
+            }
+            putFile(hasher, parentPom);
+            current = parentPom;
+        }
+    }
+
+    private static void putFile(Hasher hasher, File file) {
+        hasher.putString(file.getAbsolutePath(), StandardCharsets.UTF_8);
+        try {
+            hasher.putBytes(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            hasher.putBoolean(false);
+        }
+    }
+
+    private void removeOldEntries() {
+        final File[] files = directory.listFiles();
+        if (files == null || files.length <= MAX_ENTRIES) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - MAX_ENTRIES; i++) {
+            files[i].delete();
+        }
+    }
+}
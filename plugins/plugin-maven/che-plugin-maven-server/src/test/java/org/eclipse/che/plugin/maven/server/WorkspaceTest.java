@@ -22,6 +22,7 @@ import org.eclipse.che.ide.maven.tools.Model;
 import org.eclipse.che.maven.data.MavenArtifact;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.server.MavenTerminal;
+import org.eclipse.che.plugin.java.server.GeneratedSourcesCache;
 import org.eclipse.che.plugin.maven.server.core.EclipseWorkspaceProvider;
 import org.eclipse.che.plugin.maven.server.core.MavenCommunication;
 import org.eclipse.che.plugin.maven.server.core.MavenExecutorService;
@@ -29,6 +30,7 @@ import org.eclipse.che.plugin.maven.server.core.MavenProjectManager;
 import org.eclipse.che.plugin.maven.server.core.MavenWorkspace;
 import org.eclipse.che.plugin.maven.server.core.classpath.ClasspathManager;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.eclipse.che.plugin.maven.server.core.project.MavenResolveCache;
 import org.eclipse.che.plugin.maven.server.rmi.MavenServerManagerTest;
 import org.eclipse.che.plugin.maven.shared.MessageType;
 import org.eclipse.che.plugin.maven.shared.dto.NotificationMessage;
@@ -86,12 +88,13 @@ public class WorkspaceTest extends BaseTest {
                 }
             }
         };
-        MavenWrapperManager wrapperManager = new MavenWrapperManager(mavenServerManager);
+        MavenWrapperManager wrapperManager = new MavenWrapperManager(mavenServerManager, 1);
         mavenProjectManager =
-                new MavenProjectManager(wrapperManager, mavenServerManager, terminal, mavenNotifier, new EclipseWorkspaceProvider());
+                new MavenProjectManager(wrapperManager, mavenServerManager, terminal, mavenNotifier, new EclipseWorkspaceProvider(),
+                                        mock(MavenResolveCache.class));
         mavenWorkspace = new MavenWorkspace(mavenProjectManager,
                                             mavenNotifier,
-                                            new MavenExecutorService(),
+                                            new MavenExecutorService(1),
                                             projectRegistryProvider,
                                             new MavenCommunication() {
                                                 @Override
@@ -109,7 +112,7 @@ public class WorkspaceTest extends BaseTest {
 
                                                 }
                                             }, new ClasspathManager(root.getAbsolutePath(), wrapperManager, mavenProjectManager, terminal,
-                                                                    mavenNotifier), eventService, new EclipseWorkspaceProvider());
+                                                                    mavenNotifier, mock(GeneratedSourcesCache.class), false), eventService, new EclipseWorkspaceProvider());
     }
 
 
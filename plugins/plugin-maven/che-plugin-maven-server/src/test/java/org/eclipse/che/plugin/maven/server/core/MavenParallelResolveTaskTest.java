@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.Path;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class MavenParallelResolveTaskTest {
+
+    private MavenExecutorService  executorService;
+    private MavenProjectManager   projectManager;
+    private MavenProgressNotifier notifier;
+    private List<MavenProject>    resolved;
+    private List<MavenProject>    afterResolved;
+
+    @BeforeMethod
+    public void setUp() {
+        executorService = new MavenExecutorService(2);
+        projectManager = mock(MavenProjectManager.class);
+        notifier = mock(MavenProgressNotifier.class);
+        resolved = new CopyOnWriteArrayList<>();
+        afterResolved = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void shouldResolveProjectAfterProjectsItDependsOn() {
+        MavenProject parent = project("parent", null);
+        MavenProject module = project("module", parent);
+        MavenProject dependent = project("dependent", parent, module);
+        recordResolve();
+
+        new MavenParallelResolveTask(Arrays.asList(dependent, module, parent),
+                                     projectManager,
+                                     executorService,
+                                     notifier,
+                                     afterResolved::add).perform();
+
+        assertEquals(resolved, Arrays.asList(parent, module, dependent));
+        assertEquals(afterResolved, Arrays.asList(parent, module, dependent));
+    }
+
+    @Test
+    public void shouldResolveIndependentProjectsInParallel() throws Exception {
+        MavenProject first = project("first", null);
+        MavenProject second = project("second", null);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        doAnswer(invocation -> {
+            // fails with timeout unless both projects are resolved at the same time
+            barrier.await(5, TimeUnit.SECONDS);
+            resolved.add((MavenProject)invocation.getArguments()[1]);
+            return null;
+        }).when(projectManager).resolveMavenProject(any(IProject.class), any(MavenProject.class));
+
+        new MavenParallelResolveTask(Arrays.asList(first, second),
+                                     projectManager,
+                                     executorService,
+                                     notifier,
+                                     afterResolved::add).perform();
+
+        assertEquals(resolved.size(), 2);
+        assertEquals(afterResolved.size(), 2);
+    }
+
+    @Test
+    public void shouldResolveProjectsWithCyclicDependencies() {
+        MavenProject first = project("first", null);
+        MavenProject second = project("second", null, first);
+        addDependency(first, second);
+        recordResolve();
+
+        new MavenParallelResolveTask(Arrays.asList(first, second),
+                                     projectManager,
+                                     executorService,
+                                     notifier,
+                                     afterResolved::add).perform();
+
+        assertEquals(resolved.size(), 2);
+    }
+
+    @Test
+    public void shouldNotPerformActionForProjectWhichResolveFailed() {
+        MavenProject failed = project("failed", null);
+        MavenProject project = project("project", null);
+        recordResolve();
+        doThrow(new RuntimeException("Can't resolve")).when(projectManager).resolveMavenProject(any(IProject.class), eq(failed));
+
+        new MavenParallelResolveTask(Arrays.asList(failed, project),
+                                     projectManager,
+                                     executorService,
+                                     notifier,
+                                     afterResolved::add).perform();
+
+        assertEquals(afterResolved, Collections.singletonList(project));
+        assertTrue(resolved.contains(project));
+        verify(notifier).setText("Unable to resolve maven project /failed: Can't resolve");
+    }
+
+    private void recordResolve() {
+        doAnswer(invocation -> {
+            resolved.add((MavenProject)invocation.getArguments()[1]);
+            return null;
+        }).when(projectManager).resolveMavenProject(any(IProject.class), any(MavenProject.class));
+    }
+
+    private static MavenProject project(String name, MavenProject parent, MavenProject... dependencies) {
+        MavenProject project = mock(MavenProject.class);
+        IProject iProject = mock(IProject.class);
+        when(iProject.getFullPath()).thenReturn(new Path("/" + name));
+        when(project.getProject()).thenReturn(iProject);
+        when(project.getMavenKey()).thenReturn(new MavenKey("org.test", name, "1.0"));
+        if (parent != null) {
+            MavenKey parentKey = parent.getMavenKey();
+            when(project.getParentKey()).thenReturn(parentKey);
+        }
+        addDependency(project, dependencies);
+        return project;
+    }
+
+    private static void addDependency(MavenProject project, MavenProject... dependencies) {
+        List<MavenArtifact> artifacts = new CopyOnWriteArrayList<>();
+        for (MavenProject dependency : dependencies) {
+            MavenKey key = dependency.getMavenKey();
+            MavenArtifact artifact = mock(MavenArtifact.class);
+            when(artifact.getGroupId()).thenReturn(key.getGroupId());
+            when(artifact.getArtifactId()).thenReturn(key.getArtifactId());
+            when(artifact.getVersion()).thenReturn(key.getVersion());
+            artifacts.add(artifact);
+        }
+        when(project.getDependencies()).thenReturn(artifacts);
+    }
+}
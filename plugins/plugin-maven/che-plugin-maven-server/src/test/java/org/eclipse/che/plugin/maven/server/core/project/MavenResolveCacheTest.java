@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenProjectProblem;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.maven.server.MavenProjectInfo;
+import org.eclipse.che.maven.server.MavenServerResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class MavenResolveCacheTest {
+
+    private File              directory;
+    private File              projects;
+    private File              dependency;
+    private MavenResolveCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("resolve-cache").toFile();
+        projects = Files.createTempDirectory("projects").toFile();
+        dependency = File.createTempFile("dependency", ".jar");
+        cache = new MavenResolveCache(directory.getPath());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(directory);
+        IoUtil.deleteRecursive(projects);
+        dependency.delete();
+    }
+
+    @Test
+    public void shouldReturnCachedResult() throws Exception {
+        File pom = pom("child", "<artifactId>child</artifactId>");
+        String key = key(pom, Collections.emptyList());
+
+        cache.put(key, result(Collections.emptyList()));
+
+        MavenServerResult cached = new MavenResolveCache(directory.getPath()).get(key);
+        assertNotNull(cached);
+        assertEquals(cached.getProjectInfo().getMavenModel().getMavenKey(), new MavenKey("org.test", "child", "1.0"));
+    }
+
+    @Test
+    public void shouldChangeKeyWhenPomOrProfilesAreChanged() throws Exception {
+        File pom = pom("child", "<artifactId>child</artifactId>");
+        String key = key(pom, Collections.emptyList());
+
+        assertEquals(key(pom, Collections.emptyList()), key);
+        assertNotEquals(key(pom, Collections.singletonList("dev")), key);
+        pom("child", "<artifactId>child</artifactId><packaging>war</packaging>");
+        assertNotEquals(key(pom, Collections.emptyList()), key);
+    }
+
+    @Test
+    public void shouldChangeKeyWhenParentIsChanged() throws Exception {
+        pom("", "<artifactId>parent</artifactId><packaging>pom</packaging>");
+        File pom = pom("child", "<parent><groupId>org.test</groupId><artifactId>parent</artifactId><version>1.0</version></parent>" +
+                                "<artifactId>child</artifactId>");
+        String key = key(pom, Collections.emptyList());
+
+        pom("", "<artifactId>parent</artifactId><packaging>pom</packaging><modules><module>child</module></modules>");
+
+        assertNotEquals(key(pom, Collections.emptyList()), key);
+    }
+
+    @Test
+    public void shouldChangeKeyWhenParentFromWorkspaceIsChanged() throws Exception {
+        // parent is not found at default relative path, so it is taken from the workspace
+        File parent = pom("parent", "<artifactId>parent</artifactId><packaging>pom</packaging>");
+        File pom = pom("child", "<parent><groupId>org.test</groupId><artifactId>parent</artifactId><version>1.0</version></parent>" +
+                                "<artifactId>child</artifactId>");
+        MavenWorkspaceCache workspaceCache = new MavenWorkspaceCache();
+        workspaceCache.put(new MavenKey("org.test", "parent", "1.0"), parent);
+        workspaceCache.put(new MavenKey("org.test", "child", "1.0"), pom);
+        String key = cache.computeKey(pom, Collections.emptyList(), Collections.emptyList(), workspaceCache);
+
+        pom("parent", "<artifactId>parent</artifactId><packaging>pom</packaging><properties><a>b</a></properties>");
+
+        assertNotEquals(cache.computeKey(pom, Collections.emptyList(), Collections.emptyList(), workspaceCache), key);
+    }
+
+    @Test
+    public void shouldNotReturnResultWhenDependencyIsRemovedFromLocalRepository() throws Exception {
+        File pom = pom("child", "<artifactId>child</artifactId>");
+        String key = key(pom, Collections.emptyList());
+        cache.put(key, result(Collections.emptyList()));
+
+        dependency.delete();
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void shouldNotCacheResultWithProblems() throws Exception {
+        File pom = pom("child", "<artifactId>child</artifactId>");
+        String key = key(pom, Collections.emptyList());
+
+        cache.put(key, result(Collections.singletonList(MavenProjectProblem.newStructureProblem(pom.getPath(), "problem"))));
+
+        assertNull(cache.get(key));
+    }
+
+    private String key(File pom, List<String> activeProfiles) {
+        return cache.computeKey(pom, activeProfiles, Collections.emptyList(), new MavenWorkspaceCache());
+    }
+
+    private File pom(String path, String content) throws Exception {
+        File folder = new File(projects, path);
+        folder.mkdirs();
+        File pom = new File(folder, "pom.xml");
+        Files.write(pom.toPath(), ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                                   "<project><modelVersion>4.0.0</modelVersion><groupId>org.test</groupId><version>1.0</version>" +
+                                   content +
+                                   "</project>").getBytes(StandardCharsets.UTF_8));
+        return pom;
+    }
+
+    private MavenServerResult result(List<MavenProjectProblem> problems) {
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("org.test", "child", "1.0"));
+        model.setDependencies(asList(new MavenArtifact("org.test", "dependency", "1.0", "1.0", "jar", null, "compile", false, "jar",
+                                                       dependency, dependency.getParentFile(), true, false)));
+        return new MavenServerResult(new MavenProjectInfo(model, Collections.emptyMap(), Collections.emptyList()),
+                                     problems,
+                                     Collections.emptySet());
+    }
+}
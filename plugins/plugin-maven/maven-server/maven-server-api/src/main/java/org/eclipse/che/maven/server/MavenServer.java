@@ -36,6 +36,14 @@ public interface MavenServer extends Remote {
 
     MavenArtifact resolveArtifact(MavenArtifactKey artifactKey, List<MavenRemoteRepository> remoteRepositories) throws RemoteException;
 
+    /**
+     * Resolves artifacts in one batch, artifacts are downloaded in parallel with limited number of connections to each remote repository.
+     *
+     * @return artifacts in the order of the keys, artifact that can't be resolved is returned unresolved
+     */
+    List<MavenArtifact> resolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> remoteRepositories)
+            throws RemoteException;
+
     void reset() throws RemoteException;
 
     void dispose() throws RemoteException;
@@ -26,5 +26,25 @@ public interface MavenServerProgressNotifier extends Remote {
 
     void setPercentUndefined(boolean undefined) throws RemoteException;
 
+    /**
+     * Updates text and percent of progress with one remote call instead of a call per each property.
+     *
+     * @param text
+     *         progress text or <code>null</code> if text isn't changed
+     * @param percentUndefined
+     *         whether percent of progress is undefined
+     * @param percent
+     *         percent of progress, ignored when percent is undefined
+     */
+    default void setProgress(String text, boolean percentUndefined, double percent) throws RemoteException {
+        if (text != null) {
+            setText(text);
+        }
+        setPercentUndefined(percentUndefined);
+        if (!percentUndefined) {
+            setPercent(percent);
+        }
+    }
+
     boolean isCanceled() throws RemoteException;
 }
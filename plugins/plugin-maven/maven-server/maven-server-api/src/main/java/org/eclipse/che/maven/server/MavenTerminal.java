@@ -12,6 +12,7 @@ package org.eclipse.che.maven.server;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
 
 /**
  * Interface for outputting maven messages.
@@ -29,4 +30,14 @@ public interface MavenTerminal extends Remote {
     int LEVEL_DISABLED = 5;
 
     void print(int level, String message, Throwable throwable) throws RemoteException;
+
+    /**
+     * Prints messages collected by maven server, so maven output is sent to the terminal with one remote call
+     * instead of one remote call per line.
+     */
+    default void print(List<MavenTerminalMessage> messages) throws RemoteException {
+        for (MavenTerminalMessage message : messages) {
+            print(message.getLevel(), message.getMessage(), message.getThrowable());
+        }
+    }
 }
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.maven.server;
+
+import java.io.Serializable;
+
+/**
+ * Message printed by maven server to the {@link MavenTerminal}.
+ */
+public class MavenTerminalMessage implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int       level;
+    private final String    message;
+    private final Throwable throwable;
+
+    public MavenTerminalMessage(int level, String message, Throwable throwable) {
+        this.level = level;
+        this.message = message;
+        this.throwable = throwable;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+}
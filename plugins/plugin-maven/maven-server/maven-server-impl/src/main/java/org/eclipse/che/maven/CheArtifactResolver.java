@@ -63,8 +63,10 @@ import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.data.MavenWorkspaceCache;
 import org.eclipse.che.maven.data.MavenWorkspaceCache.Entry;
+import org.eclipse.che.maven.server.MavenServerProgressNotifierImpl;
 
 import java.io.File;
+import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -72,10 +74,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -86,11 +91,17 @@ import java.util.regex.Matcher;
  * Copied from org.apache.maven.artifact.resolver.DefaultArtifactResolver
  * changed method {@link CheArtifactResolver#resolve(Artifact, List, RepositorySystemSession)}, it's avoid resolving artifacts provided by
  * maven workspace.
+ * <p/>
+ * Artifacts are resolved in parallel, but at most {@link #CONNECTIONS_PER_REPOSITORY} artifacts are downloaded
+ * from the same remote repository at the same time. Number of resolved artifacts is reported to the progress notifier.
  *
  * @author Evgen Vidolob
  */
 @Component(role = ArtifactResolver.class, hint = "che")
 public class CheArtifactResolver implements ArtifactResolver, Disposable {
+    /** Max number of artifacts downloaded from one remote repository at the same time. */
+    public static final int CONNECTIONS_PER_REPOSITORY = Integer.getInteger("maven.artifact.threads.per.repository", 5);
+
     @Requirement
     private Logger                 logger;
 
@@ -117,11 +128,14 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
 
     private final Executor         executor;
 
-    private volatile MavenWorkspaceCache workspaceCache;
+    private final ConcurrentMap<String, Semaphore> repositoryConnections = new ConcurrentHashMap<>();
+
+    private volatile MavenWorkspaceCache             workspaceCache;
+    private volatile MavenServerProgressNotifierImpl notifier;
     private boolean failOnUnresolvedDependency;
 
     public CheArtifactResolver() {
-        int threads = Integer.getInteger("maven.artifact.threads", 5);
+        int threads = Integer.getInteger("maven.artifact.threads", 10);
         if (threads <= 1) {
             executor = new Executor() {
                 public void execute(Runnable command) {
@@ -498,13 +512,15 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
 
             CountDownLatch latch = new CountDownLatch(result.getArtifactResolutionNodes().size());
+            ResolutionProgress progress = new ResolutionProgress(result.getArtifactResolutionNodes().size());
 
             for (ResolutionNode node : result.getArtifactResolutionNodes()) {
                 Artifact artifact = node.getArtifact();
 
                 if (resolutionFilter == null || resolutionFilter.include(artifact)) {
-                    executor.execute(new ResolveTask(classLoader, latch, artifact, session, node.getRemoteRepositories(), result));
+                    executor.execute(new ResolveTask(classLoader, latch, progress, artifact, session, node.getRemoteRepositories(), result));
                 } else {
+                    progress.artifactResolved();
                     latch.countDown();
                 }
             }
@@ -551,12 +567,45 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
         }
     }
 
+    private Semaphore getConnections(List<ArtifactRepository> remoteRepositories) {
+        // artifact is looked up in the repositories in their order, so it is usually downloaded from the first one
+        String repository = remoteRepositories == null || remoteRepositories.isEmpty() ? "" : remoteRepositories.get(0).getUrl();
+        return repositoryConnections.computeIfAbsent(repository, url -> new Semaphore(CONNECTIONS_PER_REPOSITORY));
+    }
+
+    /** Reports number of resolved artifacts of one resolution request. */
+    private class ResolutionProgress {
+        private final int           total;
+        private final int           step;
+        private final AtomicInteger resolved = new AtomicInteger();
+
+        ResolutionProgress(int total) {
+            this.total = total;
+            this.step = Math.max(1, total / 20);
+        }
+
+        void artifactResolved() {
+            MavenServerProgressNotifierImpl currentNotifier = notifier;
+            int current = resolved.incrementAndGet();
+            if (currentNotifier == null || (current % step != 0 && current != total)) {
+                return;
+            }
+            try {
+                currentNotifier.setProgress("Resolved " + current + " of " + total + " artifacts", false, (double)current / total);
+            } catch (RemoteException e) {
+                logger.debug("Can't report resolution progress: " + e.getMessage());
+            }
+        }
+    }
+
     private class ResolveTask implements Runnable {
 
         private final ClassLoader              classLoader;
 
         private final CountDownLatch           latch;
 
+        private final ResolutionProgress       progress;
+
         private final Artifact                 artifact;
 
         private final RepositorySystemSession  session;
@@ -567,12 +616,14 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
 
         public ResolveTask(ClassLoader classLoader,
                            CountDownLatch latch,
+                           ResolutionProgress progress,
                            Artifact artifact,
                            RepositorySystemSession session,
                            List<ArtifactRepository> remoteRepositories,
                            ArtifactResolutionResult result) {
             this.classLoader = classLoader;
             this.latch = latch;
+            this.progress = progress;
             this.artifact = artifact;
             this.session = session;
             this.remoteRepositories = remoteRepositories;
@@ -581,9 +632,20 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
 
         public void run() {
             ClassLoader old = Thread.currentThread().getContextClassLoader();
+            Semaphore connections = getConnections(remoteRepositories);
             try {
                 Thread.currentThread().setContextClassLoader(classLoader);
-                resolve(artifact, remoteRepositories, session);
+                connections.acquire();
+                try {
+                    resolve(artifact, remoteRepositories, session);
+                } finally {
+                    connections.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (result) {
+                    result.addErrorArtifactException(new ArtifactResolutionException("Resolution interrupted", artifact, e));
+                }
             } catch (ArtifactNotFoundException anfe) {
                 // These are cases where the artifact just isn't present in any of the remote repositories
                 // because it wasn't deployed, or it was deployed in the wrong place.
@@ -599,6 +661,7 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
                     result.addErrorArtifactException(e);
                 }
             } finally {
+                progress.artifactResolved();
                 latch.countDown();
                 Thread.currentThread().setContextClassLoader(old);
 
@@ -619,7 +682,12 @@ public class CheArtifactResolver implements ArtifactResolver, Disposable {
         this.failOnUnresolvedDependency = failOnUnresolvedDependency;
     }
 
+    public void setProgressNotifier(MavenServerProgressNotifierImpl notifier) {
+        this.notifier = notifier;
+    }
+
     public void reset() {
         workspaceCache = null;
+        notifier = null;
     }
 }
@@ -18,11 +18,21 @@ import org.eclipse.che.commons.lang.Size;
 
 import java.io.File;
 import java.rmi.RemoteException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Reports progress of artifacts downloading to the notifier.
+ * <p/>
+ * Artifacts are downloaded in parallel, so progress of the transfers is reported not more often than once per
+ * {@link #PROGRESS_INTERVAL_MS} to not flood the notifier, and throughput of each downloaded artifact is reported when it is downloaded.
+ *
  * @author Evgen Vidolob
  */
 public class ArtifactTransferListener implements TransferListener {
+    private static final long PROGRESS_INTERVAL_MS = 200;
+
+    private final AtomicLong lastProgress = new AtomicLong();
+
     private MavenServerProgressNotifierImpl notifier;
 
     public ArtifactTransferListener(MavenServerProgressNotifierImpl notifier) {
@@ -43,8 +53,7 @@ public class ArtifactTransferListener implements TransferListener {
     @Override
     public void transferInitiated(TransferEvent transferEvent) throws TransferCancelledException {
         try {
-            notifier.setPercentUndefined(true);
-            notifier.setText(getMassage(transferEvent));
+            notifier.setProgress(getMassage(transferEvent), true, 0);
         } catch (RemoteException e) {
             throw new RuntimeRemoteException(e);
         }
@@ -57,6 +66,11 @@ public class ArtifactTransferListener implements TransferListener {
 
     @Override
     public void transferProgressed(TransferEvent transferEvent) throws TransferCancelledException {
+        long now = System.currentTimeMillis();
+        long last = lastProgress.get();
+        if (now - last < PROGRESS_INTERVAL_MS || !lastProgress.compareAndSet(last, now)) {
+            return;
+        }
         TransferResource resource = transferEvent.getResource();
 
         long contentLength = resource.getContentLength();
@@ -68,12 +82,10 @@ public class ArtifactTransferListener implements TransferListener {
         }
 
         try {
-            notifier.setText(sizeString);
             if (contentLength <= 0) {
-                notifier.setPercentUndefined(true);
+                notifier.setProgress(sizeString, true, 0);
             } else {
-                notifier.setPercentUndefined(false);
-                notifier.setPercent((double)transferEvent.getTransferredBytes() / (double)contentLength);
+                notifier.setProgress(sizeString, false, (double)transferEvent.getTransferredBytes() / (double)contentLength);
             }
         } catch (RemoteException e) {
             throw new RuntimeRemoteException(e);
@@ -88,18 +100,25 @@ public class ArtifactTransferListener implements TransferListener {
     @Override
     public void transferSucceeded(TransferEvent transferEvent) {
         try {
-            notifier.setText("Downloaded: " + getMassage(transferEvent));
-            notifier.setPercentUndefined(true);
+            notifier.setProgress("Downloaded: " + getMassage(transferEvent) + getThroughput(transferEvent), true, 0);
         } catch (RemoteException e) {
             throw new RuntimeRemoteException(e);
         }
     }
 
+    private String getThroughput(TransferEvent event) {
+        long bytes = event.getTransferredBytes();
+        long millis = System.currentTimeMillis() - event.getResource().getTransferStartTime();
+        if (bytes <= 0 || millis <= 0) {
+            return "";
+        }
+        return " (" + Size.toHumanSize(bytes) + " at " + Size.toHumanSize(bytes * 1000 / millis) + "/s)";
+    }
+
     @Override
     public void transferFailed(TransferEvent transferEvent) {
         try {
-            notifier.setText("Download failed: " + getMassage(transferEvent));
-            notifier.setPercentUndefined(true);
+            notifier.setProgress("Download failed: " + getMassage(transferEvent), true, 0);
         } catch (RemoteException e) {
             throw new RuntimeRemoteException(e);
         }
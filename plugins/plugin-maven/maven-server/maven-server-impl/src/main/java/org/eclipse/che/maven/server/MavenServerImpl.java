@@ -103,7 +103,8 @@ import java.util.stream.Collectors;
  * @author Evgen Vidolob
  */
 public class MavenServerImpl extends MavenRmiObject implements MavenServer {
-    private static final String[] CLI_METHODS = new String[] {"initialize", "cli", "logging", "properties", "container"};
+    private static final String[] CLI_METHODS                = new String[] {"initialize", "cli", "logging", "properties", "container"};
+    private static final String   CONNECTOR_THREADS_PROPERTY = "aether.connector.basic.threads";
 
     private final MavenServerTerminalLogger terminalLogger;
     private final File                      localRepository;
@@ -351,39 +352,59 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
                               MavenServerProgressNotifier notifier,
                               boolean alwaysUpdateSnapshot) throws RemoteException {
 
+        mavenProgressNotifier = notifier == null ? null : new MavenServerProgressNotifierImpl(notifier);
         container.addComponent(getMavenComponent(ArtifactResolver.class, "che"), ArtifactResolver.ROLE);
         ArtifactResolver artifactResolver = getMavenComponent(ArtifactResolver.class);
         if (artifactResolver instanceof CheArtifactResolver) {
             ((CheArtifactResolver)artifactResolver).setWorkspaceCache(cache, failOnUnresolvedDependency);
+            ((CheArtifactResolver)artifactResolver).setProgressNotifier(mavenProgressNotifier);
         }
 
         buildDate = new Date();
         workspaceCache = cache;
         updateSnapshots = updateSnapshots || alwaysUpdateSnapshot;
         terminalLogger.setTerminal(mavenTerminal);
-        mavenProgressNotifier = new MavenServerProgressNotifierImpl(notifier);
     }
 
     @Override
     public String getEffectivePom(File pom, List<String> activeProfiles, List<String> inactiveProfiles)
             throws RemoteException {
-        return EffectivePomWriter.getEffectivePom(this, pom, new ArrayList<>(activeProfiles), new ArrayList<>(inactiveProfiles));
+        try {
+            return EffectivePomWriter.getEffectivePom(this, pom, new ArrayList<>(activeProfiles), new ArrayList<>(inactiveProfiles));
+        } finally {
+            flushOutput();
+        }
     }
 
     @Override
     public MavenServerResult resolveProject(File pom, List<String> activeProfiles, List<String> inactiveProfiles) throws RemoteException {
-        DependencyTreeResolutionListener listener = new DependencyTreeResolutionListener(terminalLogger);
-        MavenResult mavenResult = internalResolveProject(pom, activeProfiles, inactiveProfiles, Collections.singletonList(listener));
+        try {
+            DependencyTreeResolutionListener listener = new DependencyTreeResolutionListener(terminalLogger);
+            MavenResult mavenResult = internalResolveProject(pom, activeProfiles, inactiveProfiles, Collections.singletonList(listener));
 
-        return createResult(pom, mavenResult);
+            return createResult(pom, mavenResult);
+        } finally {
+            flushOutput();
+        }
     }
 
     @Override
     public MavenArtifact resolveArtifact(MavenArtifactKey artifactKey, List<MavenRemoteRepository> repositories) throws RemoteException {
-        Artifact artifact = getMavenComponent(ArtifactFactory.class)
-                .createArtifactWithClassifier(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
-                                              artifactKey.getPackaging(), artifactKey.getClassifier());
+        return resolveArtifacts(Collections.singletonList(artifactKey), repositories).get(0);
+    }
 
+    @Override
+    public List<MavenArtifact> resolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> repositories)
+            throws RemoteException {
+        try {
+            return internalResolveArtifacts(artifactKeys, repositories);
+        } finally {
+            flushOutput();
+        }
+    }
+
+    private List<MavenArtifact> internalResolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> repositories)
+            throws RemoteException {
         List<ArtifactRepository> repos = new ArrayList<>();
         ArtifactRepositoryFactory factory = getMavenComponent(ArtifactRepositoryFactory.class);
         for (MavenRemoteRepository repository : repositories) {
@@ -402,6 +423,15 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
 
         DefaultMaven maven = (DefaultMaven)getMavenComponent(Maven.class);
         RepositorySystemSession repositorySystemSession = maven.newRepositorySession(request);
+        if (repositorySystemSession instanceof DefaultRepositorySystemSession) {
+            // artifacts of the batch are downloaded from each repository with this number of parallel connections
+            ((DefaultRepositorySystemSession)repositorySystemSession)
+                    .setConfigProperty(CONNECTOR_THREADS_PROPERTY, CheArtifactResolver.CONNECTIONS_PER_REPOSITORY);
+            if (mavenProgressNotifier != null) {
+                ((DefaultRepositorySystemSession)repositorySystemSession)
+                        .setTransferListener(new ArtifactTransferListener(mavenProgressNotifier));
+            }
+        }
 
         org.eclipse.aether.impl.ArtifactResolver artifactResolver = getMavenComponent(org.eclipse.aether.impl.ArtifactResolver.class);
         InternalLoggerFactory loggerFactory = new InternalLoggerFactory();
@@ -417,15 +447,50 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
         List<RemoteRepository> remoteRepositories = RepositoryUtils.toRepos(request.getRemoteRepositories());
         remoteRepositories = repositorySystem.newResolutionRepositories(repositorySystemSession, remoteRepositories);
 
+        ArtifactFactory artifactFactory = getMavenComponent(ArtifactFactory.class);
+        List<Artifact> artifacts = new ArrayList<>(artifactKeys.size());
+        List<ArtifactRequest> artifactRequests = new ArrayList<>(artifactKeys.size());
+        for (MavenArtifactKey artifactKey : artifactKeys) {
+            Artifact artifact = artifactFactory.createArtifactWithClassifier(artifactKey.getGroupId(),
+                                                                             artifactKey.getArtifactId(),
+                                                                             artifactKey.getVersion(),
+                                                                             artifactKey.getPackaging(),
+                                                                             artifactKey.getClassifier());
+            artifacts.add(artifact);
+            artifactRequests.add(new ArtifactRequest(RepositoryUtils.toArtifact(artifact), remoteRepositories, null));
+        }
+
+        List<ArtifactResult> artifactResults;
         try {
-            ArtifactResult artifactResult = repositorySystem.resolveArtifact(repositorySystemSession,
-                                                                             new ArtifactRequest(RepositoryUtils.toArtifact(artifact),
-                                                                                                 remoteRepositories, null));
-        return MavenModelUtil.convertArtifact(RepositoryUtils.toArtifact(artifactResult.getArtifact()), localRepository);
+            artifactResults = repositorySystem.resolveArtifacts(repositorySystemSession, artifactRequests);
         } catch (ArtifactResolutionException e) {
             MavenServerContext.getLogger().info(e);
+            artifactResults = e.getResults();
+        }
+
+        List<MavenArtifact> result = new ArrayList<>(artifacts.size());
+        for (int i = 0; i < artifacts.size(); i++) {
+            ArtifactResult artifactResult = artifactResults.get(i);
+            if (artifactResult.isResolved()) {
+                result.add(MavenModelUtil.convertArtifact(RepositoryUtils.toArtifact(artifactResult.getArtifact()), localRepository));
+            } else {
+                result.add(MavenModelUtil.convertArtifact(artifacts.get(i), localRepository));
+            }
+        }
+        return result;
+    }
+
+    /** Sends terminal output and progress collected during the request, so they arrive before the result of request. */
+    private void flushOutput() {
+        terminalLogger.flush();
+        MavenServerProgressNotifierImpl currentNotifier = mavenProgressNotifier;
+        if (currentNotifier != null) {
+            try {
+                currentNotifier.flush();
+            } catch (RemoteException ignore) {
+                // must not hide result or error of the request
+            }
         }
-        return MavenModelUtil.convertArtifact(artifact, localRepository);
     }
 
     @Override
@@ -440,6 +505,7 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
 
     @Override
     public void dispose() throws RemoteException {
+        terminalLogger.dispose();
         container.dispose();
     }
 
@@ -542,8 +608,10 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
                 MavenProject mavenProject = result.getProject();
                 RepositorySystemSession repositorySession = getMavenComponent(LegacySupport.class).getRepositorySession();
                 if (repositorySession instanceof DefaultRepositorySystemSession) {
-                    ((DefaultRepositorySystemSession)repositorySession)
-                            .setTransferListener(new ArtifactTransferListener(mavenProgressNotifier));
+                    if (mavenProgressNotifier != null) {
+                        ((DefaultRepositorySystemSession)repositorySession)
+                                .setTransferListener(new ArtifactTransferListener(mavenProgressNotifier));
+                    }
                     if (workspaceCache != null) {
                         ((DefaultRepositorySystemSession)repositorySession).setWorkspaceReader(new MavenWorkspaceReader(workspaceCache));
                     }
@@ -11,35 +11,65 @@
 package org.eclipse.che.maven.server;
 
 import java.rmi.RemoteException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * This implementation of MavenProgressNotifier delegates all logic to remote MavenProgressNotifier implementation
+ * <p/>
+ * Each call to the delegate is a remote call, and only the latest state of progress is visible to the user, so
+ * updates are coalesced: text and percent are sent together with one call to
+ * {@link MavenServerProgressNotifier#setProgress(String, boolean, double)}, at most once per {@link #UPDATE_INTERVAL_MS}.
+ * The latest state that is not sent yet is sent by timer or when {@link #flush()} is called at the end of the maven
+ * server request.
  *
  * @author Evgen Vidolob
  */
 public class MavenServerProgressNotifierImpl implements MavenServerProgressNotifier {
+    private static final long UPDATE_INTERVAL_MS = 200;
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "MavenProgressFlusher");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final MavenServerProgressNotifier delegate;
-    
+    private final Object                      flushLock = new Object();
+
     private boolean canceled;
 
+    private String  text;
+    private boolean percentUndefined = true;
+    private double  percent;
+    private boolean changed;
+    private boolean flushScheduled;
+    private long    lastUpdate;
+
     public MavenServerProgressNotifierImpl(MavenServerProgressNotifier delegate) {
         this.delegate = delegate;
     }
 
     @Override
     public void setText(String text) throws RemoteException {
-        delegate.setText(text);
+        update(text, percentUndefined, percent);
     }
 
     @Override
     public void setPercent(double percent) throws RemoteException {
-        delegate.setPercent(percent);
+        update(null, percentUndefined, percent);
     }
 
     @Override
     public void setPercentUndefined(boolean undefined) throws RemoteException {
-        delegate.setPercentUndefined(undefined);
+        update(null, undefined, percent);
+    }
+
+    @Override
+    public void setProgress(String text, boolean percentUndefined, double percent) throws RemoteException {
+        update(text, percentUndefined, percent);
     }
 
     @Override
@@ -55,4 +85,53 @@ public class MavenServerProgressNotifierImpl implements MavenServerProgressNotif
         
         return false;
     }
+
+    /** Sends the latest state of progress to the delegate if it isn't sent yet. */
+    public void flush() throws RemoteException {
+        synchronized (flushLock) {
+            String currentText;
+            boolean currentPercentUndefined;
+            double currentPercent;
+            synchronized (this) {
+                flushScheduled = false;
+                if (!changed) {
+                    return;
+                }
+                currentText = text;
+                currentPercentUndefined = percentUndefined;
+                currentPercent = percent;
+                text = null;
+                changed = false;
+                lastUpdate = System.currentTimeMillis();
+            }
+            delegate.setProgress(currentText, currentPercentUndefined, currentPercent);
+        }
+    }
+
+    private void update(String newText, boolean newPercentUndefined, double newPercent) throws RemoteException {
+        synchronized (this) {
+            if (newText != null) {
+                text = newText;
+            }
+            percentUndefined = newPercentUndefined;
+            percent = newPercent;
+            changed = true;
+            if (System.currentTimeMillis() - lastUpdate < UPDATE_INTERVAL_MS) {
+                if (!flushScheduled) {
+                    FLUSHER.schedule(this::flushQuietly, UPDATE_INTERVAL_MS, MILLISECONDS);
+                    flushScheduled = true;
+                }
+                return;
+            }
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RemoteException ignore) {
+            // progress isn't sent if the agent is not available, the request reports the error itself
+        }
+    }
 }
@@ -13,17 +13,44 @@ package org.eclipse.che.maven.server;
 import org.codehaus.plexus.logging.Logger;
 
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Implementation of {@link Logger}.
  * This implementation delegates all log call to {@link MavenTerminal} interface.
+ * <p/>
+ * Each call to the terminal is a remote call, so messages are collected and sent to the terminal in batches:
+ * when {@link #MAX_BATCH_SIZE} messages are collected, by timer {@link #FLUSH_INTERVAL_MS} after the first message
+ * of the batch, or when {@link #flush()} is called at the end of the maven server request. So output of long running
+ * request that prints a few messages is not delayed until the request is finished.
  *
  * @author Evgen Vidolob
  */
 public class MavenServerTerminalLogger implements Logger {
+    private static final int  MAX_BATCH_SIZE    = 500;
+    private static final long FLUSH_INTERVAL_MS = 200;
+
+    private final List<MavenTerminalMessage> pending   = new ArrayList<>();
+    private final Object                     flushLock = new Object();
+    private final ScheduledExecutorService   flusher;
 
     private int           logLevel;
     private MavenTerminal terminal;
+    private boolean       flushScheduled;
+
+    public MavenServerTerminalLogger() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "MavenTerminalFlusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     @Override
     public void debug(String s) {
@@ -121,7 +148,39 @@ public class MavenServerTerminalLogger implements Logger {
     }
 
     public void setTerminal(MavenTerminal terminal) {
-        this.terminal = terminal;
+        flush();
+        synchronized (pending) {
+            this.terminal = terminal;
+        }
+    }
+
+    /** Sends collected messages to the terminal. */
+    public void flush() {
+        synchronized (flushLock) {
+            MavenTerminal currentTerminal;
+            List<MavenTerminalMessage> messages;
+            synchronized (pending) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                currentTerminal = terminal;
+                messages = new ArrayList<>(pending);
+                pending.clear();
+            }
+            if (currentTerminal != null) {
+                try {
+                    currentTerminal.print(messages);
+                } catch (RemoteException ignore) {
+                }
+            }
+        }
+    }
+
+    /** Sends collected messages to the terminal and stops the timer, logger can't be used after that. */
+    public void dispose() {
+        flush();
+        flusher.shutdownNow();
     }
 
     private void print(int level, String message, Throwable t) {
@@ -129,14 +188,27 @@ public class MavenServerTerminalLogger implements Logger {
             return;
         }
 
-        if (terminal != null) {
+        boolean flush;
+        synchronized (pending) {
+            if (terminal == null) {
+                return;
+            }
             if (!message.endsWith("\n")) {
                 message += "\n";
             }
-            try {
-                terminal.print(level, message, t);
-            } catch (RemoteException ignore) {
+            pending.add(new MavenTerminalMessage(level, message, t));
+            flush = pending.size() >= MAX_BATCH_SIZE;
+            if (!flush && !flushScheduled) {
+                try {
+                    flusher.schedule(this::flush, FLUSH_INTERVAL_MS, MILLISECONDS);
+                    flushScheduled = true;
+                } catch (RejectedExecutionException ignore) {
+                    // logger is disposed
+                }
             }
         }
+        if (flush) {
+            flush();
+        }
     }
 }
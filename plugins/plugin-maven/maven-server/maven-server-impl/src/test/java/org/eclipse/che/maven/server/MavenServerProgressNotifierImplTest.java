@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.maven.server;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.rmi.RemoteException;
+
+public class MavenServerProgressNotifierImplTest {
+
+    @Test
+    public void testUpdatesAreCoalesced() throws Exception {
+        RecordingNotifier delegate = new RecordingNotifier();
+        MavenServerProgressNotifierImpl notifier = new MavenServerProgressNotifierImpl(delegate);
+
+        for (int i = 1; i <= 1000; i++) {
+            notifier.setText("Downloaded: artifact-" + i + ".jar");
+            notifier.setPercentUndefined(true);
+        }
+        notifier.setProgress("Resolved 10 of 20 artifacts", false, 0.5);
+        notifier.flush();
+
+        Assert.assertTrue(delegate.calls < 1000);
+        Assert.assertEquals(delegate.text, "Resolved 10 of 20 artifacts");
+        Assert.assertFalse(delegate.percentUndefined);
+        Assert.assertEquals(delegate.percent, 0.5);
+    }
+
+    @Test
+    public void testLatestStateIsSentByTimer() throws Exception {
+        RecordingNotifier delegate = new RecordingNotifier();
+        MavenServerProgressNotifierImpl notifier = new MavenServerProgressNotifierImpl(delegate);
+
+        notifier.setText("first");
+        notifier.setText("second");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"second".equals(delegate.text) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(delegate.text, "second");
+    }
+
+    @Test
+    public void testFlushDoesNothingWhenStateIsSent() throws Exception {
+        RecordingNotifier delegate = new RecordingNotifier();
+        MavenServerProgressNotifierImpl notifier = new MavenServerProgressNotifierImpl(delegate);
+
+        notifier.setText("text");
+        notifier.flush();
+        int calls = delegate.calls;
+        notifier.flush();
+
+        Assert.assertEquals(delegate.calls, calls);
+    }
+
+    private static class RecordingNotifier implements MavenServerProgressNotifier {
+        private volatile String  text;
+        private volatile boolean percentUndefined;
+        private volatile double  percent;
+        private volatile int     calls;
+
+        @Override
+        public void setText(String text) throws RemoteException {
+            throw new AssertionError("Progress must be sent with one call");
+        }
+
+        @Override
+        public void setPercent(double percent) throws RemoteException {
+            throw new AssertionError("Progress must be sent with one call");
+        }
+
+        @Override
+        public void setPercentUndefined(boolean undefined) throws RemoteException {
+            throw new AssertionError("Progress must be sent with one call");
+        }
+
+        @Override
+        public synchronized void setProgress(String text, boolean percentUndefined, double percent) throws RemoteException {
+            calls++;
+            if (text != null) {
+                this.text = text;
+            }
+            this.percentUndefined = percentUndefined;
+            this.percent = percent;
+        }
+
+        @Override
+        public boolean isCanceled() throws RemoteException {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.maven.server;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.rmi.RemoteException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class MavenServerTerminalLoggerTest {
+
+    @Test
+    public void testMessagesAreSentInBatches() throws Exception {
+        BatchTerminal terminal = new BatchTerminal();
+        MavenServerTerminalLogger logger = new MavenServerTerminalLogger();
+        logger.setThreshold(MavenTerminal.LEVEL_INFO);
+        logger.setTerminal(terminal);
+
+        for (int i = 0; i < 1200; i++) {
+            logger.info("message " + i);
+        }
+        logger.debug("debug message");
+        logger.flush();
+
+        Assert.assertEquals(terminal.messages.size(), 1200);
+        for (int i = 0; i < 1200; i++) {
+            Assert.assertEquals(terminal.messages.get(i), "message " + i + "\n");
+        }
+        Assert.assertTrue(terminal.batches < 1200);
+    }
+
+    @Test
+    public void testCollectedMessagesAreSentBeforeTerminalIsChanged() throws Exception {
+        BatchTerminal first = new BatchTerminal();
+        BatchTerminal second = new BatchTerminal();
+        MavenServerTerminalLogger logger = new MavenServerTerminalLogger();
+        logger.setThreshold(MavenTerminal.LEVEL_INFO);
+        logger.setTerminal(first);
+
+        logger.info("first");
+        logger.setTerminal(second);
+        logger.info("second");
+        logger.flush();
+
+        Assert.assertEquals(first.messages.size(), 1);
+        Assert.assertEquals(second.messages.size(), 1);
+        Assert.assertEquals(second.messages.get(0), "second\n");
+    }
+
+    @Test
+    public void testCollectedMessagesAreSentByTimer() throws Exception {
+        BatchTerminal terminal = new BatchTerminal();
+        MavenServerTerminalLogger logger = new MavenServerTerminalLogger();
+        logger.setThreshold(MavenTerminal.LEVEL_INFO);
+        logger.setTerminal(terminal);
+
+        logger.info("message");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (terminal.messages.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(terminal.messages, Collections.singletonList("message\n"));
+        logger.dispose();
+    }
+
+    private static class BatchTerminal implements MavenTerminal {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private       int          batches;
+
+        @Override
+        public void print(int level, String message, Throwable throwable) throws RemoteException {
+            messages.add(message);
+        }
+
+        @Override
+        public void print(List<MavenTerminalMessage> messages) throws RemoteException {
+            batches++;
+            MavenTerminal.super.print(messages);
+        }
+    }
+}
@@ -10,14 +10,22 @@
  *******************************************************************************/
 package org.eclipse.che.maven.server;
 
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenArtifactKey;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenRemoteRepository;
+import org.eclipse.che.maven.data.MavenRepositoryPolicy;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.rmi.RemoteException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -73,4 +81,40 @@ public class MavenServerTest {
         Assert.assertNotNull(interpolateModel);
 
     }
+
+    @Test
+    public void testResolveArtifactsFromFileRepository() throws Exception {
+        File remoteRepository = Files.createTempDirectory("remote-repository").toFile();
+        File localRepository = Files.createTempDirectory("local-repository").toFile();
+        try {
+            List<MavenArtifactKey> artifactKeys = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                File jar = new File(remoteRepository, "org/test/lib-" + i + "/1.0/lib-" + i + "-1.0.jar");
+                jar.getParentFile().mkdirs();
+                Files.write(jar.toPath(), new byte[]{1, 2, 3});
+                artifactKeys.add(new MavenArtifactKey("org.test", "lib-" + i, "1.0", "jar", null));
+            }
+            artifactKeys.add(new MavenArtifactKey("org.test", "missing", "1.0", "jar", null));
+            MavenSettings mavenSettings = new MavenSettings();
+            mavenSettings.setLoggingLevel(MavenTerminal.LEVEL_INFO);
+            mavenSettings.setLocalRepository(localRepository);
+            MavenRepositoryPolicy policy = new MavenRepositoryPolicy(true, "always", "ignore");
+            MavenRemoteRepository repository =
+                    new MavenRemoteRepository("test", "test", remoteRepository.toURI().toString(), "default", policy, policy);
+
+            List<MavenArtifact> artifacts =
+                    new MavenServerImpl(mavenSettings).resolveArtifacts(artifactKeys, Collections.singletonList(repository));
+
+            Assert.assertEquals(artifacts.size(), 11);
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals(artifacts.get(i).getArtifactId(), "lib-" + i);
+                Assert.assertTrue(artifacts.get(i).isResolved());
+                Assert.assertTrue(artifacts.get(i).getFile().getPath().startsWith(localRepository.getPath()));
+            }
+            Assert.assertFalse(artifacts.get(10).isResolved());
+        } finally {
+            IoUtil.deleteRecursive(remoteRepository);
+            IoUtil.deleteRecursive(localRepository);
+        }
+    }
 }
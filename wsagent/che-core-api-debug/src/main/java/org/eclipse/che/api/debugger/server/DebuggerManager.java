@@ -76,7 +76,7 @@ public class DebuggerManager {
                 debuggers.remove(id);
             }
 
-            eventService.publish(new DebuggerMessage(event, debuggerType));
+            eventService.publish(new DebuggerMessage(event, debuggerType, String.valueOf(id)));
         });
         debuggers.put(id, Pair.of(debuggerType, debugger));
 
@@ -15,17 +15,19 @@ import org.eclipse.che.api.debug.shared.model.event.DebuggerEvent;
 
 /**
  * A wrapper over {@link DebuggerEvent} to send data over {@link EventService}.
- * Contains type as identifier of the target debugger.
+ * Contains type as identifier of the target debugger and identifier of the debug session.
  *
  * @author Anatoliy Bazko
  */
 public class DebuggerMessage {
     private final DebuggerEvent debuggerEvent;
     private final String debuggerType;
+    private final String sessionId;
 
-    public DebuggerMessage(DebuggerEvent debuggerEvent, String debuggerType) {
+    public DebuggerMessage(DebuggerEvent debuggerEvent, String debuggerType, String sessionId) {
         this.debuggerEvent = debuggerEvent;
         this.debuggerType = debuggerType;
+        this.sessionId = sessionId;
     }
 
     public DebuggerEvent getDebuggerEvent() {
@@ -35,4 +37,11 @@ public class DebuggerMessage {
     public String getDebuggerType() {
         return debuggerType;
     }
+
+    /**
+     * @return identifier of the debug session which is the source of the event
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
 }
@@ -60,11 +60,13 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
  */
 @Path("debugger")
 public class DebuggerService {
-    private final DebuggerManager debuggerManager;
+    private final DebuggerManager            debuggerManager;
+    private final DebuggerWebSocketMessenger debuggerMessenger;
 
     @Inject
-    public DebuggerService(DebuggerManager debuggerManager) {
+    public DebuggerService(DebuggerManager debuggerManager, DebuggerWebSocketMessenger debuggerMessenger) {
         this.debuggerManager = debuggerManager;
+        this.debuggerMessenger = debuggerMessenger;
     }
 
     @POST
@@ -195,4 +197,12 @@ public class DebuggerService {
                              @QueryParam("expression") String expression) throws DebuggerException {
         return debuggerManager.getDebugger(sessionId).evaluate(expression);
     }
+
+    @GET
+    @Path("{id}/events/statistics")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Long> getEventsStatistics(@PathParam("id") String sessionId) throws DebuggerException {
+        debuggerManager.getDebugger(sessionId);
+        return debuggerMessenger.getStatistics(sessionId);
+    }
 }
@@ -10,8 +10,11 @@
  *******************************************************************************/
 package org.eclipse.che.api.debugger.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.debug.shared.model.event.DebuggerEvent;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.everrest.websockets.WSConnectionContext;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
@@ -21,11 +24,33 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.che.api.debugger.server.DtoConverter.asDto;
 
 /**
+ * Sends debugger events to the IDE over websocket.
+ * <p/>
+ * The first event of debug session is sent right away. Events that occur during the next {@code window}
+ * milliseconds are collected and sent together when the window ends, and so on while the session produces events.
+ * Suspend event supersedes the previous not yet sent suspend event of the same session, so when user steps
+ * through code quickly only the latest location is sent to the IDE. Other events are always sent in the order
+ * they occurred. All events are sent by single thread.
+ * <p/>
+ * Counters of debug session are dropped when the session is disconnected or when it doesn't produce events
+ * during {@link #SESSION_IDLE_TIMEOUT_MS}, so sessions that end without disconnect event are not kept forever.
+ *
  * @author Anatoliy Bazko
  */
 @Singleton
@@ -33,11 +58,29 @@ public class DebuggerWebSocketMessenger implements EventSubscriber<DebuggerMessa
     private static final Logger LOG     = LoggerFactory.getLogger(DebuggerWebSocketMessenger.class);
     private static final String CHANNEL = "%s:events:";
 
-    private final EventService eventService;
+    /** Counters of debug session that doesn't produce events during this time are dropped. */
+    static final long SESSION_IDLE_TIMEOUT_MS = TimeUnit.HOURS.toMillis(1);
+
+    private final EventService               eventService;
+    private final long                       window;
+    private final long                       idleTimeout;
+    private final Map<String, SessionEvents> sessions;
+    private final ScheduledExecutorService   executor;
 
     @Inject
-    public DebuggerWebSocketMessenger(EventService eventService) {
+    public DebuggerWebSocketMessenger(EventService eventService, @Named("che.debugger.events.window_ms") long window) {
+        this(eventService, window, SESSION_IDLE_TIMEOUT_MS);
+    }
+
+    DebuggerWebSocketMessenger(EventService eventService, long window, long idleTimeout) {
         this.eventService = eventService;
+        this.window = window;
+        this.idleTimeout = idleTimeout;
+        this.sessions = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("DebuggerEventsSender")
+                                                                                             .setDaemon(true)
+                                                                                             .build());
+        this.executor.scheduleWithFixedDelay(this::dropIdleSessions, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
     }
 
     @PostConstruct
@@ -48,10 +91,28 @@ public class DebuggerWebSocketMessenger implements EventSubscriber<DebuggerMessa
     @PreDestroy
     private void unsubscribe() {
         eventService.unsubscribe(this);
+        executor.shutdownNow();
     }
 
     @Override
     public void onEvent(DebuggerMessage msg) {
+        final SessionEvents events = sessions.computeIfAbsent(msg.getSessionId(), id -> new SessionEvents());
+        if (events.add(msg)) {
+            executor.execute(() -> flush(msg.getSessionId(), events));
+        }
+    }
+
+    /**
+     * Returns number of received, sent and coalesced events of the debug session
+     * and number of events per second received during the last {@link SessionEvents#RATE_PERIOD} seconds.
+     */
+    public Map<String, Long> getStatistics(String sessionId) {
+        final SessionEvents events = sessions.get(sessionId);
+        return events == null ? new SessionEvents().getStatistics() : events.getStatistics();
+    }
+
+    /** Sends event to the IDE. */
+    protected void send(DebuggerMessage msg) {
         try {
             final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
             final String channel = String.format(CHANNEL, msg.getDebuggerType());
@@ -62,4 +123,113 @@ public class DebuggerWebSocketMessenger implements EventSubscriber<DebuggerMessa
             LOG.error(e.getMessage(), e);
         }
     }
+
+    /**
+     * Sends pending events of the session. If some events are sent then events that occur during the next window
+     * are sent when it ends, otherwise the next event of the session is sent right away.
+     */
+    private void flush(String sessionId, SessionEvents events) {
+        final List<DebuggerMessage> pending = events.drain();
+        for (DebuggerMessage msg : pending) {
+            send(msg);
+            if (DebuggerEvent.TYPE.DISCONNECT == msg.getDebuggerEvent().getType()) {
+                sessions.remove(sessionId, events);
+            }
+        }
+        if (!pending.isEmpty()) {
+            try {
+                executor.schedule(() -> flush(sessionId, events), window, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // messenger is stopped
+            }
+        }
+    }
+
+    private void dropIdleSessions() {
+        final long idleSince = System.currentTimeMillis() - idleTimeout;
+        sessions.entrySet().removeIf(session -> session.getValue().isIdleSince(idleSince));
+    }
+
+    /** Events of one debug session which are not sent yet, and counters of events of the session. */
+    static class SessionEvents {
+        /** Number of seconds during which rate of events is measured. */
+        static final int RATE_PERIOD = 10;
+
+        private final List<DebuggerMessage> pending   = new ArrayList<>();
+        private final long[]                perSecond = new long[RATE_PERIOD];
+
+        private boolean throttled;
+        private long    lastEventTime;
+        private long    lastSecond;
+        private long    received;
+        private long    sent;
+        private long    coalesced;
+
+        /**
+         * Adds event to the pending ones, replacing pending suspend event if the added one is suspend event too.
+         *
+         * @return {@code true} if no events were sent during the last window, so the event has to be sent right away
+         */
+        synchronized boolean add(DebuggerMessage msg) {
+            lastEventTime = System.currentTimeMillis();
+            final long second = lastEventTime / 1000;
+            advance(second);
+            perSecond[(int)(second % RATE_PERIOD)]++;
+            received++;
+
+            if (DebuggerEvent.TYPE.SUSPEND == msg.getDebuggerEvent().getType()) {
+                for (Iterator<DebuggerMessage> it = pending.iterator(); it.hasNext(); ) {
+                    if (DebuggerEvent.TYPE.SUSPEND == it.next().getDebuggerEvent().getType()) {
+                        it.remove();
+                        coalesced++;
+                    }
+                }
+            }
+            pending.add(msg);
+            if (throttled) {
+                return false;
+            }
+            throttled = true;
+            return true;
+        }
+
+        /**
+         * Takes pending events. If there are no pending events then the window is over and the next event
+         * is sent right away.
+         */
+        synchronized List<DebuggerMessage> drain() {
+            final List<DebuggerMessage> drained = new ArrayList<>(pending);
+            pending.clear();
+            sent += drained.size();
+            throttled = !drained.isEmpty();
+            return drained;
+        }
+
+        /** Returns {@code true} if all events of session are sent and there were no events since the given time. */
+        synchronized boolean isIdleSince(long time) {
+            return !throttled && lastEventTime < time;
+        }
+
+        synchronized Map<String, Long> getStatistics() {
+            advance(System.currentTimeMillis() / 1000);
+            long recent = 0;
+            for (long count : perSecond) {
+                recent += count;
+            }
+            final Map<String, Long> statistics = new LinkedHashMap<>();
+            statistics.put("received", received);
+            statistics.put("sent", sent);
+            statistics.put("coalesced", coalesced);
+            statistics.put("rate", recent / RATE_PERIOD);
+            return statistics;
+        }
+
+        /** Moves window of per second counters to the given second, counters of passed seconds are reset. */
+        private void advance(long second) {
+            for (long s = lastSecond + 1; s <= second && s <= lastSecond + RATE_PERIOD; s++) {
+                perSecond[(int)(s % RATE_PERIOD)] = 0;
+            }
+            lastSecond = Math.max(lastSecond, second);
+        }
+    }
 }
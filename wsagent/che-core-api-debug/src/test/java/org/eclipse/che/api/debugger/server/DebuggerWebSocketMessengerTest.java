@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.debugger.server;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.debug.shared.model.event.DebuggerEvent;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.api.debug.shared.model.event.DebuggerEvent.TYPE.BREAKPOINT_ACTIVATED;
+import static org.eclipse.che.api.debug.shared.model.event.DebuggerEvent.TYPE.DISCONNECT;
+import static org.eclipse.che.api.debug.shared.model.event.DebuggerEvent.TYPE.SUSPEND;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class DebuggerWebSocketMessengerTest {
+    private static final long WINDOW = 200;
+
+    @Test
+    public void shouldSendFirstEventOfSessionRightAway() throws Exception {
+        TestMessenger messenger = new TestMessenger(TimeUnit.SECONDS.toMillis(10));
+        DebuggerMessage suspend = message("1", SUSPEND);
+
+        messenger.onEvent(suspend);
+
+        assertSame(messenger.sent.poll(1, TimeUnit.SECONDS), suspend);
+    }
+
+    @Test
+    public void shouldCoalesceSuspendEventsOfWindow() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW);
+        DebuggerMessage first = message("1", SUSPEND);
+        DebuggerMessage last = message("1", SUSPEND);
+
+        messenger.onEvent(first);
+        assertSame(messenger.next(), first);
+        messenger.onEvent(message("1", SUSPEND));
+        messenger.onEvent(message("1", SUSPEND));
+        messenger.onEvent(last);
+
+        assertSame(messenger.next(), last);
+        assertNull(messenger.sent.poll(WINDOW * 2, TimeUnit.MILLISECONDS));
+        Map<String, Long> statistics = messenger.getStatistics("1");
+        assertEquals(statistics.get("received"), Long.valueOf(4));
+        assertEquals(statistics.get("sent"), Long.valueOf(2));
+        assertEquals(statistics.get("coalesced"), Long.valueOf(2));
+    }
+
+    @Test
+    public void shouldKeepOrderOfEventsThatAreNotCoalesced() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW);
+        DebuggerMessage first = message("1", SUSPEND);
+        DebuggerMessage activated = message("1", BREAKPOINT_ACTIVATED);
+        DebuggerMessage suspend = message("1", SUSPEND);
+        DebuggerMessage disconnect = message("1", DISCONNECT);
+
+        messenger.onEvent(first);
+        assertSame(messenger.next(), first);
+        messenger.onEvent(activated);
+        messenger.onEvent(suspend);
+        messenger.onEvent(disconnect);
+
+        assertEquals(asList(messenger.next(), messenger.next(), messenger.next()), asList(activated, suspend, disconnect));
+    }
+
+    @Test
+    public void shouldNotCoalesceEventsOfDifferentSessions() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW);
+        DebuggerMessage first = message("1", SUSPEND);
+        DebuggerMessage second = message("2", SUSPEND);
+
+        messenger.onEvent(first);
+        messenger.onEvent(second);
+
+        assertEquals(asList(messenger.next(), messenger.next()), asList(first, second));
+    }
+
+    @Test
+    public void shouldSendEventRightAwayAfterQuietWindow() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW);
+        messenger.onEvent(message("1", SUSPEND));
+        messenger.next();
+        Thread.sleep(WINDOW * 3);
+
+        DebuggerMessage suspend = message("1", SUSPEND);
+        long start = System.currentTimeMillis();
+        messenger.onEvent(suspend);
+
+        assertSame(messenger.next(), suspend);
+        assertTrue(System.currentTimeMillis() - start < WINDOW);
+    }
+
+    @Test
+    public void shouldMeasureRateOfEvents() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW);
+
+        for (int i = 0; i < 50; i++) {
+            messenger.onEvent(message("1", SUSPEND));
+        }
+
+        assertEquals(messenger.getStatistics("1").get("rate"),
+                     Long.valueOf(50 / DebuggerWebSocketMessenger.SessionEvents.RATE_PERIOD));
+        assertEquals(messenger.getStatistics("2").get("rate"), Long.valueOf(0));
+    }
+
+    @Test
+    public void shouldDropCountersOfDisconnectedSession() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW);
+
+        messenger.onEvent(message("1", SUSPEND));
+        messenger.onEvent(message("1", DISCONNECT));
+        messenger.next();
+        messenger.next();
+
+        awaitCountersDropped(messenger, "1");
+    }
+
+    @Test
+    public void shouldDropCountersOfIdleSession() throws Exception {
+        TestMessenger messenger = new TestMessenger(WINDOW, WINDOW);
+
+        messenger.onEvent(message("1", SUSPEND));
+        assertNotNull(messenger.next());
+        assertEquals(messenger.getStatistics("1").get("received"), Long.valueOf(1));
+
+        awaitCountersDropped(messenger, "1");
+    }
+
+    private static void awaitCountersDropped(DebuggerWebSocketMessenger messenger, String sessionId) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (messenger.getStatistics(sessionId).get("received") != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(messenger.getStatistics(sessionId).get("received"), Long.valueOf(0));
+    }
+
+    private static DebuggerMessage message(String sessionId, DebuggerEvent.TYPE type) {
+        DebuggerEvent event = mock(DebuggerEvent.class);
+        when(event.getType()).thenReturn(type);
+        return new DebuggerMessage(event, "java", sessionId);
+    }
+
+    private static class TestMessenger extends DebuggerWebSocketMessenger {
+        private final BlockingQueue<DebuggerMessage> sent = new LinkedBlockingQueue<>();
+
+        TestMessenger(long window) {
+            this(window, SESSION_IDLE_TIMEOUT_MS);
+        }
+
+        TestMessenger(long window, long idleTimeout) {
+            super(mock(EventService.class), window, idleTimeout);
+        }
+
+        @Override
+        protected void send(DebuggerMessage msg) {
+            sent.add(msg);
+        }
+
+        DebuggerMessage next() throws InterruptedException {
+            DebuggerMessage msg = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(msg);
+            return msg;
+        }
+    }
+}
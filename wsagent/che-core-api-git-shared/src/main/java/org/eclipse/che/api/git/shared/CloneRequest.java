@@ -58,4 +58,38 @@ public interface CloneRequest extends GitRequest {
     void setTimeout(int timeout);
     
     CloneRequest withTimeout(int timeout);
-}
\ No newline at end of file
+
+    /** @return branch to check out after cloning. If <code>null</code> then branch the remote HEAD points to will be used */
+    String getBranch();
+
+    void setBranch(String branch);
+
+    CloneRequest withBranch(String branch);
+
+    /**
+     * @return number of the most recent commits to clone, history behind them isn't fetched. If 0 then the whole history is
+     *         cloned. Implementations that don't support shallow clone ignore it
+     */
+    int getDepth();
+
+    void setDepth(int depth);
+
+    CloneRequest withDepth(int depth);
+
+    /** @return <code>true</code> if only history of the branch that is checked out must be cloned */
+    boolean isSingleBranch();
+
+    void setSingleBranch(boolean singleBranch);
+
+    CloneRequest withSingleBranch(boolean singleBranch);
+
+    /**
+     * @return object filter of partial clone, e.g. <code>blob:none</code>, filtered objects are fetched on demand later.
+     *         If <code>null</code> then all the objects are cloned. Implementations that don't support partial clone ignore it
+     */
+    String getFilter();
+
+    void setFilter(String filter);
+
+    CloneRequest withFilter(String filter);
+}
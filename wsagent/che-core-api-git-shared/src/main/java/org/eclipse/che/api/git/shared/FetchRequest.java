@@ -48,4 +48,11 @@ public interface FetchRequest extends GitRequest {
     void setTimeout(int timeout);
     
     FetchRequest withTimeout(int timeout);
-}
\ No newline at end of file
+
+    /** @return <code>true</code> if history that is missing in shallow repository must be fetched */
+    boolean isUnshallow();
+
+    void setUnshallow(boolean unshallow);
+
+    FetchRequest withUnshallow(boolean unshallow);
+}
@@ -35,6 +35,31 @@ public interface LogRequest extends GitRequest {
     
     void setRevisionRangeSince(String revisionRangeSince);
     void setRevisionRangeUntil(String revisionRangeUntil);	
+
+    /** @return number of commits to skip, counted after {@link #getCursor() cursor} if it is set */
+    int getSkip();
+
+    void setSkip(int skip);
+
+    LogRequest withSkip(int skip);
+
+    /** @return max number of commits to return, {@code 0} means that number of commits is not limited */
+    int getMaxCount();
+
+    void setMaxCount(int maxCount);
+
+    LogRequest withMaxCount(int maxCount);
+
+    /**
+     * @return id of the last commit of the previously loaded page, if set then log starts from the commit
+     * that follows the cursor commit in the log
+     */
+    String getCursor();
+
+    void setCursor(String cursor);
+
+    LogRequest withCursor(String cursor);
+
     // private List<String> fileFilter;
     // private boolean noRenames = true;
     // private int renameLimit;
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.git;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
@@ -36,6 +37,7 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
@@ -46,9 +48,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.eclipse.che.api.core.ErrorCodes.FAILED_CHECKOUT;
 import static org.eclipse.che.api.core.ErrorCodes.FAILED_CHECKOUT_WITH_START_POINT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.che.api.git.shared.BranchListRequest.LIST_ALL;
 
 /**
@@ -56,16 +63,29 @@ import static org.eclipse.che.api.git.shared.BranchListRequest.LIST_ALL;
  */
 @Singleton
 public class GitProjectImporter implements ProjectImporter {
+    /** Max number of repositories waiting for fetch of the rest of history. */
+    private static final int MAX_PENDING_UNSHALLOWS = 100;
 
     private final GitConnectionFactory gitConnectionFactory;
     private static final Logger LOG = LoggerFactory.getLogger(GitProjectImporter.class);
     private final EventService         eventService;
+    private final ExecutorService      unshallowExecutor;
 
     @Inject
     public GitProjectImporter(GitConnectionFactory gitConnectionFactory,
                               EventService eventService) {
         this.gitConnectionFactory = gitConnectionFactory;
         this.eventService = eventService;
+        this.unshallowExecutor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS,
+                                                        new LinkedBlockingQueue<>(MAX_PENDING_UNSHALLOWS),
+                                                        new ThreadFactoryBuilder().setNameFormat("GitUnshallow-%d")
+                                                                                  .setDaemon(true)
+                                                                                  .build());
+    }
+
+    @PreDestroy
+    void stop() {
+        unshallowExecutor.shutdownNow();
     }
 
     @Override
@@ -123,6 +143,13 @@ public class GitProjectImporter implements ProjectImporter {
             // Delete vcs info if false.
             String branchMerge = null;
             boolean keepVcs = true;
+            // Shallow and partial clone: number of commits to clone, clone only checked out branch,
+            // object filter (e.g. "blob:none") and fetch of the rest of history in background after import.
+            int depth = 0;
+            boolean singleBranch = false;
+            String filter = null;
+            boolean unshallow = false;
+            boolean shallow = false;
 
             Map<String, String> parameters = storage.getParameters();
             if (parameters != null) {
@@ -135,6 +162,12 @@ public class GitProjectImporter implements ProjectImporter {
                     keepVcs = Boolean.parseBoolean(parameters.get("keepVcs"));
                 }
                 branchMerge = parameters.get("branchMerge");
+                if (parameters.containsKey("depth")) {
+                    depth = parseDepth(parameters.get("depth"));
+                }
+                singleBranch = Boolean.parseBoolean(parameters.get("singleBranch"));
+                filter = parameters.get("filter");
+                unshallow = Boolean.parseBoolean(parameters.get("unshallow"));
             }
             // Get path to local file. Git works with local filesystem only.
             final String localPath = baseFolder.getVirtualFile().toIoFile().getAbsolutePath();
@@ -146,7 +179,26 @@ public class GitProjectImporter implements ProjectImporter {
                 git.cloneWithSparseCheckout(keepDir, location, branch == null ? "master" : branch);
             } else {
                 if (baseFolder.getChildren().size() == 0) {
-                    cloneRepository(git, "origin", location, dtoFactory);
+                    if (commitId != null) {
+                        // commit may be anywhere in history, so it is cloned completely
+                        cloneRepository(git, "origin", location, dtoFactory);
+                    } else {
+                        final CloneRequest request = dtoFactory.createDto(CloneRequest.class)
+                                                               .withRemoteName("origin")
+                                                               .withRemoteUri(location)
+                                                               .withDepth(depth)
+                                                               .withSingleBranch(singleBranch)
+                                                               .withFilter(filter);
+                        // history of requested branch may be missing in shallow or single branch clone,
+                        // branch that is created from start point doesn't exist in remote repository
+                        if ((depth > 0 || singleBranch) && startPoint == null && fetch == null) {
+                            request.setBranch(branch);
+                        }
+                        git.clone(request);
+                        // depth is ignored by implementations that can't clone shallow repository
+                        // and history may be shorter than depth, so check what is actually cloned
+                        shallow = depth > 0 && isShallow(git.getWorkingDir());
+                    }
                     if (commitId != null) {
                         checkoutCommit(git, commitId, dtoFactory);
                     } else if (fetch != null) {
@@ -184,6 +236,8 @@ public class GitProjectImporter implements ProjectImporter {
                 }
                 if (!keepVcs) {
                     cleanGit(git.getWorkingDir());
+                } else if (shallow && unshallow) {
+                    unshallowLater(localPath);
                 }
             }
         } catch (URISyntaxException e) {
@@ -204,6 +258,37 @@ public class GitProjectImporter implements ProjectImporter {
         git.clone(request);
     }
 
+    private int parseDepth(String depth) throws ServerException {
+        try {
+            final int value = Integer.parseInt(depth);
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new ServerException(String.format("Your project cannot be imported. Invalid clone depth '%s'.", depth));
+    }
+
+    private boolean isShallow(File workingDir) {
+        return new File(workingDir, ".git/shallow").exists();
+    }
+
+    /** Fetches history that is missing in shallow repository, project is available while history is fetched. */
+    private void unshallowLater(String localPath) {
+        try {
+            unshallowExecutor.execute(() -> {
+                try (GitConnection git = gitConnectionFactory.getConnection(localPath)) {
+                    git.fetch(DtoFactory.getInstance().createDto(FetchRequest.class).withRemote("origin").withUnshallow(true));
+                } catch (Exception e) {
+                    LOG.warn(String.format("Unable to fetch full history of repository %s", localPath), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Too many repositories are waiting for fetch of full history, history of repository {} isn't fetched",
+                     localPath);
+        }
+    }
+
     private void initRepository(GitConnection git, DtoFactory dtoFactory) throws GitException {
         final InitRequest request = dtoFactory.createDto(InitRequest.class).withBare(false);
         git.init(request);
@@ -11,6 +11,7 @@
 package org.eclipse.che.api.git;
 
 import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.git.shared.AddRequest;
 import org.eclipse.che.api.git.shared.Branch;
 import org.eclipse.che.api.git.shared.BranchCreateRequest;
@@ -67,7 +68,10 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.GenericEntity;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.net.URISyntaxException;
 import java.util.HashMap;
@@ -231,10 +235,37 @@ public class GitService {
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces({MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN})
-    public LogPage log(LogRequest request) throws ApiException {
-        try (GitConnection gitConnection = getGitConnection()) {
-            return gitConnection.log(request);
+    public Response log(LogRequest request, @Context HttpHeaders headers) throws ApiException {
+        if (request.getSkip() < 0 || request.getMaxCount() < 0) {
+            throw new BadRequestException("Skip and max count of commits must not be negative");
+        }
+        final boolean json = headers.getAcceptableMediaTypes()
+                                    .stream()
+                                    .filter(type -> type.isCompatible(MediaType.APPLICATION_JSON_TYPE)
+                                                    || type.isCompatible(MediaType.TEXT_PLAIN_TYPE))
+                                    .findFirst()
+                                    .map(type -> type.isCompatible(MediaType.APPLICATION_JSON_TYPE))
+                                    .orElse(true);
+        // commits may be read lazily while the page is written, so the output owns the connection
+        // and closes it when the page is written or writing fails
+        final GitConnection gitConnection = getGitConnection();
+        final LogPage logPage;
+        try {
+            logPage = gitConnection.log(request);
+        } catch (ApiException | RuntimeException e) {
+            gitConnection.close();
+            throw e;
         }
+        final StreamingOutput output = out -> {
+            try (GitConnection ignored = gitConnection) {
+                if (json) {
+                    logPage.writeJsonTo(out);
+                } else {
+                    logPage.writeTo(out);
+                }
+            }
+        };
+        return Response.ok(output, json ? MediaType.APPLICATION_JSON_TYPE : MediaType.TEXT_PLAIN_TYPE).build();
     }
 
     @Path("merge")
@@ -13,18 +13,31 @@ package org.eclipse.che.api.git;
 import org.eclipse.che.api.git.shared.GitUser;
 import org.eclipse.che.api.git.shared.Log;
 import org.eclipse.che.api.git.shared.Revision;
+import org.eclipse.che.dto.server.DtoFactory;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
 /**
+ * Page of the log.
+ * <p/>
+ * Commits of the page may be read lazily, see {@link #LogPage(Iterator)}. Then commits are read while the page
+ * is written, so the whole page isn't kept in memory, and the connection the commits are read with must be kept
+ * open until the page is written.
+ *
  * @author andrew00x
  */
 public class LogPage implements Log, InfoPage {
@@ -34,6 +47,8 @@ public class LogPage implements Log, InfoPage {
     private static final DateFormat dateFormat;
     
     protected List<Revision> commits;
+
+    private Iterator<Revision> unreadCommits;
     
     static {
         dateFormat = new SimpleDateFormat(DATE_FORMAT, Locale.US);
@@ -45,12 +60,18 @@ public class LogPage implements Log, InfoPage {
         this.commits = commits;
     }
 
+    /** Creates page which commits are read from the given iterator only when the page is written or its commits are requested. */
+    public LogPage(Iterator<Revision> commits) {
+        this.unreadCommits = commits;
+    }
+
     /** @see InfoPage#writeTo(java.io.OutputStream) */
     @Override
     public void writeTo(OutputStream out) throws IOException {
         PrintWriter writer = new PrintWriter(out);
         DateFormat df = (DateFormat)dateFormat.clone();
-        for (Revision commit : commits) {
+        for (Iterator<Revision> iterator = iterator(); iterator.hasNext(); ) {
+            Revision commit = iterator.next();
             writer.format("commit %s\n", commit.getId());
 
             GitUser commiter = commit.getCommitter();
@@ -76,9 +97,45 @@ public class LogPage implements Log, InfoPage {
         writer.flush();
     }
 
+    /**
+     * Writes JSON representation of this page to the given stream. Commits are read, serialized and written
+     * one by one, so JSON of the whole page isn't kept in memory.
+     */
+    public void writeJsonTo(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        DtoFactory dtoFactory = DtoFactory.getInstance();
+        writer.write("{\"commits\":[");
+        boolean first = true;
+        for (Iterator<Revision> iterator = iterator(); iterator.hasNext(); ) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write(dtoFactory.toJson(iterator.next()));
+        }
+        writer.write("]}");
+        writer.flush();
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<Revision> getCommits() {
+        if (unreadCommits != null) {
+            commits = new ArrayList<>();
+            unreadCommits.forEachRemaining(commits::add);
+            unreadCommits = null;
+        }
         return commits;
     }
+
+    /** Returns commits that aren't read yet, commits returned by the iterator are not kept by this page. */
+    private Iterator<Revision> iterator() {
+        if (unreadCommits != null) {
+            final Iterator<Revision> iterator = unreadCommits;
+            unreadCommits = null;
+            commits = new ArrayList<>();
+            return iterator;
+        }
+        return commits.iterator();
+    }
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.api.git.GitConnection;
+import org.eclipse.che.api.git.GitConnectionFactory;
+import org.eclipse.che.api.git.shared.AddRequest;
+import org.eclipse.che.api.git.shared.Branch;
+import org.eclipse.che.api.git.shared.BranchListRequest;
+import org.eclipse.che.api.git.shared.CheckoutRequest;
+import org.eclipse.che.api.git.shared.CloneRequest;
+import org.eclipse.che.api.git.shared.CommitRequest;
+import org.eclipse.che.api.git.shared.FetchRequest;
+import org.eclipse.che.api.git.shared.LogRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.eclipse.che.git.impl.GitTestUtil.addFile;
+import static org.eclipse.che.git.impl.GitTestUtil.cleanupTestRepo;
+import static org.eclipse.che.git.impl.GitTestUtil.connectToInitializedGitRepository;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class CloneTest {
+    private File repository;
+    private File cloneRepository;
+
+    @BeforeMethod
+    public void setUp() {
+        repository = Files.createTempDir();
+        cloneRepository = Files.createTempDir();
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        cleanupTestRepo(repository);
+        cleanupTestRepo(cloneRepository);
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testCloneWithDepth(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        commit(connection, "first");
+        commit(connection, "second");
+        commit(connection, "third");
+        GitConnection cloneConnection = connectionFactory.getConnection(cloneRepository.getAbsolutePath());
+
+        //when
+        // depth is ignored for local paths, so remote is set as URL
+        cloneConnection.clone(newDto(CloneRequest.class).withRemoteUri(Paths.get(repository.getAbsolutePath()).toUri().toString())
+                                                        .withDepth(1));
+
+        //then
+        // implementations that can't clone shallow repository clone the whole history
+        final boolean shallow = new File(cloneRepository, ".git/shallow").exists();
+        assertEquals(cloneConnection.log(newDto(LogRequest.class)).getCommits().size(), shallow ? 1 : 3);
+        assertEquals(cloneConnection.log(newDto(LogRequest.class)).getCommits().get(0).getMessage(), "third");
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testFetchHistoryOfShallowClone(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        commit(connection, "first");
+        commit(connection, "second");
+        GitConnection cloneConnection = connectionFactory.getConnection(cloneRepository.getAbsolutePath());
+        cloneConnection.clone(newDto(CloneRequest.class).withRemoteUri(Paths.get(repository.getAbsolutePath()).toUri().toString())
+                                                        .withDepth(1));
+        if (!new File(cloneRepository, ".git/shallow").exists()) {
+            // whole history is already cloned, there is nothing to fetch
+            return;
+        }
+
+        //when
+        cloneConnection.fetch(newDto(FetchRequest.class).withRemote("origin").withUnshallow(true));
+
+        //then
+        assertFalse(new File(cloneRepository, ".git/shallow").exists());
+        assertEquals(cloneConnection.log(newDto(LogRequest.class)).getCommits().size(), 2);
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testCloneWithFilter(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        commit(connection, "first");
+        GitConnection cloneConnection = connectionFactory.getConnection(cloneRepository.getAbsolutePath());
+
+        //when
+        cloneConnection.clone(newDto(CloneRequest.class).withRemoteUri(Paths.get(repository.getAbsolutePath()).toUri().toString())
+                                                        .withFilter("blob:none"));
+
+        //then
+        // filtered objects are fetched on demand, so working tree is checked out completely
+        assertEquals(Files.toString(new File(cloneRepository, "first"), UTF_8), "first content\n");
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testCloneSingleBranch(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        commit(connection, "first");
+        connection.checkout(newDto(CheckoutRequest.class).withCreateNew(true).withName("feature"));
+        commit(connection, "second");
+        GitConnection cloneConnection = connectionFactory.getConnection(cloneRepository.getAbsolutePath());
+
+        //when
+        cloneConnection.clone(newDto(CloneRequest.class).withRemoteUri(repository.getAbsolutePath())
+                                                        .withBranch("feature")
+                                                        .withSingleBranch(true));
+
+        //then
+        List<String> remoteBranches = cloneConnection.branchList(newDto(BranchListRequest.class)
+                                                                         .withListMode(BranchListRequest.LIST_REMOTE))
+                                                     .stream()
+                                                     .map(Branch::getName)
+                                                     .filter(name -> !name.endsWith("/HEAD"))
+                                                     .collect(toList());
+        assertEquals(remoteBranches, Collections.singletonList("refs/remotes/origin/feature"));
+        assertTrue(new File(cloneRepository, "second").exists());
+    }
+
+    private void commit(GitConnection connection, String name) throws Exception {
+        addFile(connection, name, name + " content\n");
+        connection.add(newDto(AddRequest.class).withFilepattern(Collections.singletonList(name)));
+        connection.commit(newDto(CommitRequest.class).withMessage(name));
+    }
+}
@@ -114,4 +114,37 @@ public class LogTest {
         assertEquals(1, newFileCommitCount);
         assertEquals(4, allFilesCommitCount);
     }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testPagedLog(GitConnectionFactory connectionFactory) throws GitException, IOException {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        addFile(connection, "README.txt", "someChanges");
+        connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Initial add"));
+
+        addFile(connection, "README.txt", "newChanges");
+        connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Second commit"));
+
+        addFile(connection, "README.txt", "otherChanges");
+        connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Third commit"));
+
+        //when
+        List<Revision> firstPage = connection.log(newDto(LogRequest.class).withMaxCount(2)).getCommits();
+        List<Revision> secondPage = connection.log(newDto(LogRequest.class).withMaxCount(2)
+                                                                           .withCursor(firstPage.get(1).getId()))
+                                              .getCommits();
+        List<Revision> skipped = connection.log(newDto(LogRequest.class).withSkip(1).withMaxCount(1)).getCommits();
+
+        //then
+        assertEquals(firstPage.size(), 2);
+        assertEquals(firstPage.get(0).getMessage(), "Third commit");
+        assertEquals(firstPage.get(1).getMessage(), "Second commit");
+        assertEquals(secondPage.size(), 1);
+        assertEquals(secondPage.get(0).getMessage(), "Initial add");
+        assertEquals(skipped.size(), 1);
+        assertEquals(skipped.get(0).getMessage(), "Second commit");
+    }
 }
@@ -13,7 +13,6 @@ package org.eclipse.che.git.impl.jgit;
 
 import org.eclipse.che.api.git.Config;
 import org.eclipse.che.api.git.GitException;
-import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.lib.StoredConfig;
 
 import java.io.IOException;
@@ -31,11 +30,11 @@ import static java.lang.System.lineSeparator;
  */
 class JGitConfigImpl extends Config {
 
-    private final Repository repository;
+    private final JGitConnection connection;
 
-    JGitConfigImpl(Repository repository) throws GitException {
-        super(repository.getDirectory());
-        this.repository = repository;
+    JGitConfigImpl(JGitConnection connection) throws GitException {
+        super(connection.getRepository().getDirectory());
+        this.connection = connection;
     }
 
     @Override
@@ -50,7 +49,7 @@ class JGitConfigImpl extends Config {
 
     private String[] getInternalValues(String name) throws GitException {
         ConfigKey key = parseName(name);
-        String[] values = repository.getConfig().getStringList(key.section, key.subsection, key.name);
+        String[] values = connection.getRepositoryConfig().getStringList(key.section, key.subsection, key.name);
         // Make sure the property exists
         if (values == null || values.length == 0) {
             throw new GitException("Can not find property '" + name + "' in repository configuration");
@@ -62,19 +61,19 @@ class JGitConfigImpl extends Config {
     public List<String> getList() throws GitException {
         List<String> results = new ArrayList<>();
         // Iterate all sections and subsections, printing all values
-        StoredConfig config = repository.getConfig();
+        StoredConfig config = connection.getRepositoryConfig();
         for (String section : config.getSections()) {
             for (String subsection : config.getSubsections(section)) {
                 Set<String> names = config.getNames(section, subsection);
-                addConfigValues(section, subsection, names, results);
+                addConfigValues(config, section, subsection, names, results);
             }
             Set<String> names = config.getNames(section);
-            addConfigValues(section, null, names, results);
+            addConfigValues(config, section, null, names, results);
         }
         return results;
     }
 
-    private void addConfigValues(String section, String subsection, Set<String> names, List<String> output) {
+    private void addConfigValues(StoredConfig config, String section, String subsection, Set<String> names, List<String> output) {
         StringBuilder builder = new StringBuilder();
         for (String name : names) {
             builder.setLength(0);
@@ -87,7 +86,7 @@ class JGitConfigImpl extends Config {
             builder.append(name);
             builder.append('=');
             String firstPart = builder.toString();
-            String[] values = repository.getConfig().getStringList(section, subsection, name);
+            String[] values = config.getStringList(section, subsection, name);
             for (String value : values) {
                 output.add(firstPart + value);
             }
@@ -97,9 +96,10 @@ class JGitConfigImpl extends Config {
     @Override
     public Config set(String name, String value) throws GitException {
         ConfigKey key = parseName(name);
-        repository.getConfig().setString(key.section, key.subsection, key.name, value);
+        StoredConfig config = connection.getRepositoryConfig();
+        config.setString(key.section, key.subsection, key.name, value);
         try {
-            this.repository.getConfig().save();
+            config.save();
         } catch (IOException e) {
             throw new GitException(e.getMessage(), e);
         }
@@ -114,9 +114,10 @@ class JGitConfigImpl extends Config {
     @Override
     public Config unset(String name) throws GitException {
         ConfigKey key = parseName(name);
-        repository.getConfig().unset(key.section, key.subsection, key.name);
+        StoredConfig config = connection.getRepositoryConfig();
+        config.unset(key.section, key.subsection, key.name);
         try {
-            this.repository.getConfig().save();
+            config.save();
         } catch (IOException e) {
             throw new GitException(e.getMessage(), e);
         }
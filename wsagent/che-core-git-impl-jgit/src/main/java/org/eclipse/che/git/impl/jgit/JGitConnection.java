@@ -22,6 +22,7 @@ import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.eclipse.che.api.core.ErrorCodes;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.git.Config;
 import org.eclipse.che.api.git.CredentialsLoader;
@@ -100,6 +101,7 @@ import org.eclipse.jgit.api.errors.DetachedHeadException;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.errors.ConfigInvalidException;
 import org.eclipse.jgit.lib.ConfigConstants;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
@@ -118,6 +120,7 @@ import org.eclipse.jgit.revwalk.RevObject;
 import org.eclipse.jgit.revwalk.RevTag;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
 import org.eclipse.jgit.transport.FetchResult;
 import org.eclipse.jgit.transport.JschConfigSessionFactory;
 import org.eclipse.jgit.transport.OpenSshConfig;
@@ -135,6 +138,7 @@ import org.eclipse.jgit.treewalk.TreeWalk;
 import org.eclipse.jgit.treewalk.filter.PathFilter;
 import org.eclipse.jgit.util.FS;
 import org.eclipse.jgit.util.FileUtils;
+import org.eclipse.jgit.util.SystemReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -155,6 +159,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -222,21 +227,28 @@ class JGitConnection implements GitConnection {
 
     private static final Logger LOG = LoggerFactory.getLogger(JGitConnection.class);
 
-    private Git            git;
-    private JGitConfigImpl config;
+    private Git                 git;
+    private JGitConfigImpl      config;
+    private FileBasedConfig     repositoryConfig;
+    private LineConsumerFactory lineConsumerFactory = LineConsumerFactory.NULL;
+    private LineConsumer        lineConsumer;
 
     private final CredentialsLoader credentialsLoader;
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
     private final Repository        repository;
+    private final JGitLogCache      logCache;
+    private final JGitStatusCache   statusCache;
 
     @Inject
     JGitConnection(Repository repository, CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider,
-                   GitUserResolver userResolver) {
+                   GitUserResolver userResolver, JGitLogCache logCache, JGitStatusCache statusCache) {
         this.repository = repository;
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
+        this.logCache = logCache;
+        this.statusCache = statusCache;
     }
 
     @Override
@@ -450,15 +462,26 @@ class JGitConnection implements GitConnection {
                                            .setDirectory(new File(request.getWorkingDir()))
                                            .setRemote(request.getRemoteName())
                                            .setURI(remoteUri);
-            if (request.getBranchesToFetch().isEmpty()) {
+            if (request.getBranch() != null) {
+                cloneCommand.setBranch(Constants.R_HEADS + request.getBranch());
+            }
+            if (request.isSingleBranch() && request.getBranch() != null) {
+                cloneCommand.setBranchesToClone(Collections.singletonList(Constants.R_HEADS + request.getBranch()));
+            } else if (request.getBranchesToFetch().isEmpty()) {
                 cloneCommand.setCloneAllBranches(true);
             } else {
                 cloneCommand.setBranchesToClone(request.getBranchesToFetch());
             }
 
+            final LineConsumerProgressMonitor progressMonitor = new LineConsumerProgressMonitor(getLineConsumer());
+            if (request.getDepth() > 0 || request.getFilter() != null) {
+                // JGit can't clone shallow or partial repository, so the whole repository is cloned
+                progressMonitor.writeLine("Shallow and partial clone are not supported, the whole history is cloned.");
+            }
+            cloneCommand.setProgressMonitor(progressMonitor);
             executeRemoteCommand(remoteUri, cloneCommand);
 
-            StoredConfig repositoryConfig = getRepository().getConfig();
+            StoredConfig repositoryConfig = getRepositoryConfig();
             GitUser gitUser = getUser();
             if (gitUser != null) {
                 repositoryConfig.setString(ConfigConstants.CONFIG_USER_SECTION, null, ConfigConstants.CONFIG_KEY_NAME, gitUser.getName());
@@ -509,7 +532,7 @@ class JGitConnection implements GitConnection {
                                                   .setAmend(request.isAmend());
 
             // Check if repository is configured with Gerrit Support
-            String gerritSupportConfigValue = repository.getConfig().getString(
+            String gerritSupportConfigValue = getRepositoryConfig().getString(
                     ConfigConstants.CONFIG_GERRIT_SECTION, null,
                     ConfigConstants.CONFIG_KEY_CREATECHANGEID);
             boolean isGerritSupportConfigured = gerritSupportConfigValue != null ? Boolean.valueOf(gerritSupportConfigValue) : false;
@@ -605,7 +628,7 @@ class JGitConnection implements GitConnection {
                 remoteName = Constants.DEFAULT_REMOTE_NAME;
             }
             fetchCommand.setRemote(remoteName);
-            remoteUri = getRepository().getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, remoteName,
+            remoteUri = getRepositoryConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, remoteName,
                                                               ConfigConstants.CONFIG_KEY_URL);
             fetchCommand.setRefSpecs(fetchRefSpecs);
 
@@ -651,29 +674,59 @@ class JGitConnection implements GitConnection {
 
     @Override
     public LogPage log(LogRequest request) throws GitException {
-        LogCommand logCommand = getGit().log();
+        final String cursor = request.getCursor();
+        final int skip = request.getSkip();
+        final int maxCount = request.getMaxCount();
         try {
+            // paged log of the whole history is served by cache, so next pages don't walk history from HEAD again
+            if (maxCount > 0 && request.getFileFilter().isEmpty() && !hasRevisionRange(request)) {
+                ObjectId head = repository.resolve(Constants.HEAD);
+                if (head == null) {
+                    throw new GitException(ERROR_NO_HEAD_EXISTS, ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
+                }
+                return new LogPage(logCache.getPage(repository, head, cursor, skip, maxCount));
+            }
+
+            LogCommand logCommand = getGit().log();
             setRevisionRange(logCommand, request);
 
             request.getFileFilter().forEach(logCommand::addPath);
+            if (cursor == null) {
+                logCommand.setSkip(skip);
+                if (maxCount > 0) {
+                    logCommand.setMaxCount(maxCount);
+                }
+            }
 
+            // commits are walked lazily, so walk stops as soon as page is filled
             Iterator<RevCommit> revIterator = logCommand.call().iterator();
-            List<Revision> commits = new ArrayList<>();
-
-            while (revIterator.hasNext()) {
-                RevCommit commit = revIterator.next();
-                PersonIdent committerIdentity = commit.getCommitterIdent();
+            if (cursor != null) {
+                boolean cursorFound = false;
+                while (!cursorFound && revIterator.hasNext()) {
+                    cursorFound = cursor.equals(revIterator.next().getName());
+                }
+                for (int i = 0; i < skip && revIterator.hasNext(); i++) {
+                    revIterator.next();
+                }
+            }
+            // the rest of commits is read while the page is written
+            return new LogPage(new Iterator<Revision>() {
+                int count;
 
-                GitUser gitUser = newDto(GitUser.class).withName(committerIdentity.getName())
-                                                       .withEmail(committerIdentity.getEmailAddress());
+                @Override
+                public boolean hasNext() {
+                    return (maxCount <= 0 || count < maxCount) && revIterator.hasNext();
+                }
 
-                Revision revision = newDto(Revision.class).withId(commit.getId().getName())
-                                                          .withMessage(commit.getFullMessage())
-                                                          .withCommitTime(MILLISECONDS.convert(commit.getCommitTime(), SECONDS))
-                                                          .withCommitter(gitUser);
-                commits.add(revision);
-            }
-            return new LogPage(commits);
+                @Override
+                public Revision next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    count++;
+                    return JGitLogCache.toRevision(revIterator.next());
+                }
+            });
         } catch (GitAPIException | IOException exception) {
             String errorMessage = exception.getMessage();
             if (ERROR_NO_HEAD_EXISTS.equals(errorMessage)) {
@@ -683,6 +736,10 @@ class JGitConnection implements GitConnection {
         }
     }
 
+    private boolean hasRevisionRange(LogRequest request) {
+        return request.getRevisionRangeSince() != null && request.getRevisionRangeUntil() != null;
+    }
+
     private void setRevisionRange(LogCommand logCommand, LogRequest request) throws IOException {
         if (request != null) {
             String revisionRangeSince = request.getRevisionRangeSince();
@@ -895,7 +952,7 @@ class JGitConnection implements GitConnection {
 
             String branch = fullBranch.substring(Constants.R_HEADS.length());
 
-            StoredConfig config = repository.getConfig();
+            StoredConfig config = getRepositoryConfig();
             if (remoteName == null) {
                 remoteName = config.getString(ConfigConstants.CONFIG_BRANCH_SECTION, branch,
                                               ConfigConstants.CONFIG_KEY_REMOTE);
@@ -979,7 +1036,7 @@ class JGitConnection implements GitConnection {
     @Override
     public PushResponse push(PushRequest request) throws GitException, UnauthorizedException {
         String remoteName = request.getRemote();
-        String remoteUri = getRepository().getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, remoteName,
+        String remoteUri = getRepositoryConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, remoteName,
                 ConfigConstants.CONFIG_KEY_URL);
         PushResponse pushResponseDto = newDto(PushResponse.class);
         try {
@@ -1079,7 +1136,7 @@ class JGitConnection implements GitConnection {
             throw new IllegalArgumentException(ERROR_ADD_REMOTE_NAME_MISSING);
         }
 
-        StoredConfig config = repository.getConfig();
+        StoredConfig config = getRepositoryConfig();
         Set<String> remoteNames = config.getSubsections("remote");
         if (remoteNames.contains(remoteName)) {
             throw new IllegalArgumentException(String.format(ERROR_REMOTE_NAME_ALREADY_EXISTS, remoteName));
@@ -1126,7 +1183,7 @@ class JGitConnection implements GitConnection {
 
     @Override
     public void remoteDelete(String name) throws GitException {
-        StoredConfig config = repository.getConfig();
+        StoredConfig config = getRepositoryConfig();
         Set<String> remoteNames = config.getSubsections(ConfigConstants.CONFIG_KEY_REMOTE);
         if (!remoteNames.contains(name)) {
             throw new GitException("error: Could not remove config section 'remote." + name + "'");
@@ -1159,7 +1216,7 @@ class JGitConnection implements GitConnection {
 
     @Override
     public List<Remote> remoteList(RemoteListRequest request) throws GitException {
-        StoredConfig config = repository.getConfig();
+        StoredConfig config = getRepositoryConfig();
         Set<String> remoteNames = new HashSet<>(config.getSubsections(ConfigConstants.CONFIG_KEY_REMOTE));
         String remote = request.getRemote();
 
@@ -1187,7 +1244,7 @@ class JGitConnection implements GitConnection {
             throw new IllegalArgumentException(ERROR_UPDATE_REMOTE_NAME_MISSING);
         }
 
-        StoredConfig config = repository.getConfig();
+        StoredConfig config = getRepositoryConfig();
         Set<String> remoteNames = config.getSubsections(ConfigConstants.CONFIG_KEY_REMOTE);
         if (!remoteNames.contains(remoteName)) {
             throw new IllegalArgumentException("Remote " + remoteName + " not found. ");
@@ -1324,7 +1381,7 @@ class JGitConnection implements GitConnection {
             throw new GitException("Not a git repository");
         }
         String branchName = getCurrentBranch();
-        return new JGitStatusImpl(branchName, getGit().status(), format);
+        return new JGitStatusImpl(branchName, statusCache.getStatus(repository), format);
     }
 
     @Override
@@ -1416,6 +1473,7 @@ class JGitConnection implements GitConnection {
     @Override
     public void close() {
         repository.close();
+        closeLineConsumer();
     }
 
     @Override
@@ -1448,12 +1506,36 @@ class JGitConnection implements GitConnection {
         if (config != null) {
             return config;
         }
-        return config = new JGitConfigImpl(repository);
+        return config = new JGitConfigImpl(this);
     }
 
     @Override
     public void setOutputLineConsumerFactory(LineConsumerFactory outputPublisherFactory) {
-        //nothing to do, not outputs are produced by JGit
+        // only progress of clone is written, other commands produce no output
+        closeLineConsumer();
+        this.lineConsumerFactory = outputPublisherFactory == null ? LineConsumerFactory.NULL : outputPublisherFactory;
+    }
+
+    /**
+     * Returns consumer of output of this connection. Consumer is created once and is used until
+     * the connection is closed, so output of several commands goes to the same consumer.
+     */
+    private LineConsumer getLineConsumer() {
+        if (lineConsumer == null) {
+            lineConsumer = lineConsumerFactory.newLineConsumer();
+        }
+        return lineConsumer;
+    }
+
+    private void closeLineConsumer() {
+        if (lineConsumer != null) {
+            try {
+                lineConsumer.close();
+            } catch (IOException e) {
+                LOG.warn(e.getMessage(), e);
+            }
+            lineConsumer = null;
+        }
     }
 
     private Git getGit() {
@@ -1619,10 +1701,31 @@ class JGitConnection implements GitConnection {
         }
     }
 
-    private Repository getRepository() {
+    Repository getRepository() {
         return repository;
     }
 
+    /**
+     * Returns config of the repository that belongs to this connection. Repository instance is shared between connections
+     * (see {@link JGitRepositoryCache}), so changes of the config made by one connection must not be visible to others
+     * until they are saved. Config is re-read when its file is changed, e.g. by another connection.
+     */
+    StoredConfig getRepositoryConfig() throws GitException {
+        try {
+            if (repositoryConfig == null || repositoryConfig.isOutdated()) {
+                final FS fs = repository.getFS();
+                final FileBasedConfig userConfig = SystemReader.getInstance().openUserConfig(null, fs);
+                userConfig.load();
+                final FileBasedConfig config = new FileBasedConfig(userConfig, new File(repository.getDirectory(), Constants.CONFIG), fs);
+                config.load();
+                repositoryConfig = config;
+            }
+            return repositoryConfig;
+        } catch (IOException | ConfigInvalidException e) {
+            throw new GitException(e.getMessage(), e);
+        }
+    }
+
     private String getCurrentBranch() throws GitException {
         try {
             return Repository.shortenRefName(repository.exactRef(Constants.HEAD).getLeaf().getName());
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.git.shared.GitUser;
+import org.eclipse.che.api.git.shared.Revision;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Keeps commits already walked for paged log requests, so next page continues the walk
+ * from the place where the previous page ended instead of walking history from the start commit again.
+ * <p/>
+ * Walk is identified by the repository and the commit it starts from. Commits are immutable,
+ * so cached walk never becomes stale, new commits just produce new start commit and so new walk.
+ * Commits are walked in the same order as {@link org.eclipse.jgit.api.LogCommand} does:
+ * most recent commit time first. Walk is advanced only as far as requested pages need.
+ * <p/>
+ * Walks keep at most {@code maxRevisions} walked commits in total, least recently used walks are removed
+ * when the limit is exceeded, walks that are not used for 10 minutes are removed too.
+ */
+@Singleton
+public class JGitLogCache {
+    static final int DEFAULT_MAX_REVISIONS = 100_000;
+
+    /** Number of commits walked at once while searching for the cursor. */
+    private static final int CURSOR_SEARCH_STEP = 1000;
+
+    private final Cache<WalkKey, CommitWalk> walks;
+
+    @Inject
+    public JGitLogCache(@Named("git.jgit.log_cache.max_revisions") int maxRevisions) {
+        // single segment, so the limit is applied to all walks and not to each segment separately
+        this.walks = CacheBuilder.newBuilder()
+                                 .concurrencyLevel(1)
+                                 .maximumWeight(maxRevisions)
+                                 .weigher((WalkKey key, CommitWalk walk) -> walk.size())
+                                 .expireAfterAccess(10, MINUTES)
+                                 .build();
+    }
+
+    /**
+     * Returns page of the log that starts from the given commit.
+     *
+     * @param repository
+     *         repository
+     * @param start
+     *         commit the log starts from
+     * @param cursor
+     *         id of the commit after which page starts, may be {@code null}
+     * @param skip
+     *         number of commits to skip, counted after cursor if it is set
+     * @param maxCount
+     *         max number of commits in page, must be greater than 0
+     * @return commits of the page, empty list if cursor isn't found in the log
+     * @throws IOException
+     *         if commits can't be read from repository
+     */
+    public List<Revision> getPage(Repository repository, ObjectId start, String cursor, int skip, int maxCount) throws IOException {
+        final WalkKey key = new WalkKey(repository.getDirectory(), start.copy());
+        final CommitWalk walk = walks.asMap().computeIfAbsent(key, k -> new CommitWalk(k.start));
+        final List<Revision> page = walk.getPage(repository, cursor, skip, maxCount);
+        // weight is computed when walk is put, so walk is put again as it grows
+        walks.put(key, walk);
+        return page;
+    }
+
+    /** Returns number of cached walks. */
+    public long size() {
+        return walks.size();
+    }
+
+    /** Returns number of commits kept by all cached walks. */
+    public long revisions() {
+        return walks.asMap().values().stream().mapToLong(CommitWalk::size).sum();
+    }
+
+    static Revision toRevision(RevCommit commit) {
+        PersonIdent committerIdentity = commit.getCommitterIdent();
+        GitUser gitUser = newDto(GitUser.class).withName(committerIdentity.getName())
+                                               .withEmail(committerIdentity.getEmailAddress());
+        return newDto(Revision.class).withId(commit.getId().getName())
+                                     .withMessage(commit.getFullMessage())
+                                     .withCommitTime(MILLISECONDS.convert(commit.getCommitTime(), SECONDS))
+                                     .withCommitter(gitUser);
+    }
+
+    private static class CommitWalk {
+        private final ObjectId               start;
+        private final List<Revision>         walked;
+        private final Map<String, Integer>   positions;
+        private final Set<ObjectId>          seen;
+        private final PriorityQueue<Pending> pending;
+
+        private boolean started;
+        private long    sequence;
+
+        CommitWalk(ObjectId start) {
+            this.start = start;
+            this.walked = new ArrayList<>();
+            this.positions = new HashMap<>();
+            this.seen = new HashSet<>();
+            this.pending = new PriorityQueue<>();
+        }
+
+        /** Returns number of walked commits, at least 1 so walk that isn't started yet has weight too. */
+        synchronized int size() {
+            return Math.max(walked.size(), 1);
+        }
+
+        synchronized List<Revision> getPage(Repository repository, String cursor, int skip, int maxCount) throws IOException {
+            long from = skip;
+            if (cursor != null) {
+                Integer cursorPosition = positions.get(cursor);
+                while (cursorPosition == null && hasMore()) {
+                    advance(repository, walked.size() + CURSOR_SEARCH_STEP);
+                    cursorPosition = positions.get(cursor);
+                }
+                if (cursorPosition == null) {
+                    return Collections.emptyList();
+                }
+                from += cursorPosition + 1;
+            }
+            final int to = (int)Math.min(from + maxCount, Integer.MAX_VALUE);
+            if (walked.size() < to) {
+                advance(repository, to);
+            }
+            if (from >= walked.size()) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(walked.subList((int)from, Math.min(to, walked.size())));
+        }
+
+        private boolean hasMore() {
+            return !started || !pending.isEmpty();
+        }
+
+        private void advance(Repository repository, int size) throws IOException {
+            try (RevWalk revWalk = new RevWalk(repository)) {
+                if (!started) {
+                    pending.add(new Pending(revWalk.parseCommit(start), sequence++));
+                    seen.add(start);
+                    started = true;
+                }
+                while (walked.size() < size && !pending.isEmpty()) {
+                    final RevCommit commit = pending.poll().commit;
+                    positions.put(commit.getName(), walked.size());
+                    walked.add(toRevision(commit));
+                    for (RevCommit parent : commit.getParents()) {
+                        if (seen.add(parent.copy())) {
+                            pending.add(new Pending(revWalk.parseCommit(parent), sequence++));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Commit waiting to be walked, the most recent one goes first, commits with the same time go in order of adding. */
+    private static class Pending implements Comparable<Pending> {
+        final RevCommit commit;
+        final long      sequence;
+
+        Pending(RevCommit commit, long sequence) {
+            this.commit = commit;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Pending other) {
+            final int byTime = Integer.compare(other.commit.getCommitTime(), commit.getCommitTime());
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static class WalkKey {
+        final File     gitDir;
+        final ObjectId start;
+
+        WalkKey(File gitDir, ObjectId start) {
+            this.gitDir = gitDir;
+            this.start = start;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof WalkKey)) {
+                return false;
+            }
+            final WalkKey other = (WalkKey)obj;
+            return Objects.equals(gitDir, other.gitDir) && Objects.equals(start, other.start);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gitDir, start);
+        }
+    }
+}
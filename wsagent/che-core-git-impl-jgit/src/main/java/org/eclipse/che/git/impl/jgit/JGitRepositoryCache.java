@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps opened {@link Repository} instances so they may be shared between {@link JGitConnection}s.
+ * <p/>
+ * Opening of the repository re-reads config, refs and pack indexes, so the same instance is reused
+ * for all connections to the same working directory. Instances are reference counted: cache holds one
+ * reference to each repository and each {@link #acquire(File)} adds one more that is released by
+ * {@link Repository#close()} when connection is closed. Repository is really closed when it is evicted or
+ * invalidated and all the connections that use it are closed.
+ * <p/>
+ * Cache contains at most {@code maxSize} repositories, the least recently used is evicted first.
+ * Cached repository is invalidated when its {@code .git} directory is created or removed, that is detected
+ * by the file watcher and checked again on each {@link #acquire(File)}.
+ */
+@Singleton
+public class JGitRepositoryCache {
+    private static final Logger LOG = LoggerFactory.getLogger(JGitRepositoryCache.class);
+
+    static final int DEFAULT_MAX_SIZE = 32;
+
+    private final int                              maxSize;
+    private final LinkedHashMap<File, CachedEntry> repositories;
+    private final AtomicLong                       opened;
+    private final AtomicLong                       hits;
+    private final AtomicLong                       evicted;
+
+    /**
+     * Creates cache that is invalidated by the file watcher and tunes JGit window cache that keeps
+     * opened pack files and their windows. Window cache is global for the whole JVM, so it is installed
+     * before any repository is opened by the cache.
+     *
+     * @param maxSize
+     *         max number of cached repositories
+     * @param packedGitLimitMb
+     *         max size of the pack file windows kept in memory
+     * @param packedGitOpenFiles
+     *         max number of opened pack files
+     * @param deltaBaseCacheLimitMb
+     *         max size of the delta base cache
+     */
+    @Inject
+    public JGitRepositoryCache(@Named("git.jgit.repository_cache.max_size") int maxSize,
+                               @Named("git.jgit.window_cache.packed_git_limit_mb") int packedGitLimitMb,
+                               @Named("git.jgit.window_cache.packed_git_open_files") int packedGitOpenFiles,
+                               @Named("git.jgit.window_cache.delta_base_cache_limit_mb") int deltaBaseCacheLimitMb,
+                               FileWatcherNotificationHandler fileWatcherNotificationHandler) {
+        this(maxSize);
+        final WindowCacheConfig windowCacheConfig = new WindowCacheConfig();
+        windowCacheConfig.setPackedGitLimit(packedGitLimitMb * WindowCacheConfig.MB);
+        windowCacheConfig.setPackedGitOpenFiles(packedGitOpenFiles);
+        windowCacheConfig.setDeltaBaseCacheLimit(deltaBaseCacheLimitMb * WindowCacheConfig.MB);
+        windowCacheConfig.install();
+        LOG.debug("Repositories are cached with JGit window cache: packed git limit {} bytes, {} open files",
+                  windowCacheConfig.getPackedGitLimit(),
+                  windowCacheConfig.getPackedGitOpenFiles());
+
+        fileWatcherNotificationHandler.addNotificationListener(
+                new FileWatcherNotificationListener(file -> Constants.DOT_GIT.equals(file.getName())) {
+                    @Override
+                    public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                        if (eventType != FileWatcherEventType.MODIFIED) {
+                            invalidate(virtualFile.toIoFile());
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Creates cache that isn't connected to the file watcher, cached repositories are checked only on {@link #acquire(File)}.
+     *
+     * @param maxSize
+     *         max number of cached repositories
+     */
+    public JGitRepositoryCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size of repository cache must not be negative");
+        }
+        this.maxSize = maxSize;
+        this.repositories = new LinkedHashMap<>(16, 0.75f, true);
+        this.opened = new AtomicLong();
+        this.hits = new AtomicLong();
+        this.evicted = new AtomicLong();
+    }
+
+    /**
+     * Returns repository of the given working directory. Caller must {@link Repository#close() close}
+     * returned repository when it is not needed any more.
+     * <p/>
+     * If working directory doesn't contain {@code .git} directory yet (e.g. before init or clone)
+     * returned repository is not cached.
+     *
+     * @param workDir
+     *         working directory of the repository
+     * @throws GitException
+     *         if repository can't be opened
+     */
+    public Repository acquire(File workDir) throws GitException {
+        final File gitDir = new File(workDir, Constants.DOT_GIT).getAbsoluteFile();
+        final Object gitDirKey = getFileKey(gitDir);
+        if (gitDirKey == null || maxSize == 0) {
+            return openRepository(gitDir);
+        }
+
+        final List<Repository> toClose = new ArrayList<>();
+        try {
+            synchronized (this) {
+                final CachedEntry entry = repositories.get(gitDir);
+                if (entry != null) {
+                    if (gitDirKey.equals(entry.gitDirKey)) {
+                        hits.incrementAndGet();
+                        entry.repository.incrementOpen();
+                        return entry.repository;
+                    }
+                    // .git directory was re-created since repository was cached
+                    repositories.remove(gitDir);
+                    toClose.add(entry.repository);
+                }
+                final Repository repository = openRepository(gitDir);
+                // one reference is kept by the cache and one is returned to the caller
+                repository.incrementOpen();
+                repositories.put(gitDir, new CachedEntry(repository, gitDirKey));
+                evictEldest(toClose);
+                return repository;
+            }
+        } finally {
+            toClose.forEach(Repository::close);
+        }
+    }
+
+    /**
+     * Removes repository of the given {@code .git} directory from cache. Repository is closed as soon as
+     * all the connections that use it are closed.
+     */
+    public void invalidate(File gitDir) {
+        final CachedEntry entry;
+        synchronized (this) {
+            entry = repositories.remove(gitDir.getAbsoluteFile());
+        }
+        if (entry != null) {
+            LOG.debug("Repository {} is removed from cache", gitDir);
+            entry.repository.close();
+        }
+    }
+
+    /** Removes all repositories from cache. */
+    @PreDestroy
+    public void invalidateAll() {
+        final List<CachedEntry> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(repositories.values());
+            repositories.clear();
+        }
+        entries.forEach(entry -> entry.repository.close());
+    }
+
+    /** Returns number of repositories opened from disk. */
+    public long getOpenedRepositories() {
+        return opened.get();
+    }
+
+    /** Returns number of times repository was found in cache. */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** Returns number of repositories evicted from cache because it was full. */
+    public long getEvicted() {
+        return evicted.get();
+    }
+
+    /** Returns number of cached repositories. */
+    public synchronized int size() {
+        return repositories.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JGitRepositoryCache{size=%d, opened=%d, hits=%d, evicted=%d}",
+                             size(),
+                             getOpenedRepositories(),
+                             getHits(),
+                             getEvicted());
+    }
+
+    private Repository openRepository(File gitDir) throws GitException {
+        try {
+            final Repository repository = new FileRepository(gitDir);
+            opened.incrementAndGet();
+            return repository;
+        } catch (IOException e) {
+            throw new GitException(e.getMessage(), e);
+        }
+    }
+
+    /** Must be called under lock of this cache. */
+    private void evictEldest(List<Repository> toClose) {
+        final Iterator<Map.Entry<File, CachedEntry>> iterator = repositories.entrySet().iterator();
+        while (repositories.size() > maxSize && iterator.hasNext()) {
+            final Map.Entry<File, CachedEntry> eldest = iterator.next();
+            iterator.remove();
+            toClose.add(eldest.getValue().repository);
+            evicted.incrementAndGet();
+            LOG.debug("Repository {} is evicted from cache, {}", eldest.getKey(), this);
+        }
+    }
+
+    /**
+     * Returns key that identifies file on disk (e.g. inode), so re-created file has different key.
+     * Returns {@code null} if file doesn't exist.
+     */
+    private static Object getFileKey(File file) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            if (!attributes.isDirectory()) {
+                return null;
+            }
+            return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static class CachedEntry {
+        final Repository repository;
+        final Object     gitDirKey;
+
+        CachedEntry(Repository repository, Object gitDirKey) {
+            this.repository = repository;
+            this.gitDirKey = gitDirKey;
+        }
+    }
+}
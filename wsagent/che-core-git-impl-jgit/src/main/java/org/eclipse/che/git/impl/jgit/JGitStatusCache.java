@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.StatusCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Keeps status of repositories and updates it incrementally.
+ * <p/>
+ * Full status compares index with working tree for every file and reads content of files which
+ * modification time differs from the one kept in the index, that takes seconds for big working trees.
+ * Instead, status is computed once and then the cache collects paths of the working tree reported by the file
+ * watcher, see {@link #fileChanged(File)}. On the next request status is computed only for the collected paths
+ * and merged into the cached one, if no path is collected cached status is returned as is.
+ * So status may lag behind the working tree by the time the watcher needs to report the change.
+ * <p/>
+ * Full status is computed again when:
+ * <ul>
+ * <li>index, HEAD or {@code .git/info/exclude} is changed, they are checked on each request</li>
+ * <li>{@code .gitignore} file or {@code .git} directory is changed</li>
+ * <li>more than {@value #MAX_CHANGED_PATHS} paths are changed since the previous request</li>
+ * <li>cached status is older than {@code maxAgeMs}, it protects from changes that are missed by the watcher,
+ * e.g. in excluded directories or when events are dropped</li>
+ * </ul>
+ */
+@Singleton
+public class JGitStatusCache {
+    private static final Logger LOG = LoggerFactory.getLogger(JGitStatusCache.class);
+
+    /** Max number of changed paths which status is computed incrementally. */
+    static final int MAX_CHANGED_PATHS = 1000;
+
+    /** Kinds of files reported by status. */
+    enum Kind {
+        ADDED(Status::getAdded),
+        CHANGED(Status::getChanged),
+        REMOVED(Status::getRemoved),
+        MISSING(Status::getMissing),
+        MODIFIED(Status::getModified),
+        UNTRACKED(Status::getUntracked),
+        UNTRACKED_FOLDERS(Status::getUntrackedFolders),
+        CONFLICTING(Status::getConflicting),
+        IGNORED_NOT_IN_INDEX(Status::getIgnoredNotInIndex);
+
+        private final Function<Status, Set<String>> extractor;
+
+        Kind(Function<Status, Set<String>> extractor) {
+            this.extractor = extractor;
+        }
+    }
+
+    private final long                    maxAgeMs;
+    private final boolean                 incremental;
+    private final Map<File, CachedStatus> statuses;
+    private final AtomicLong              fullComputations;
+    private final AtomicLong              incrementalComputations;
+
+    /**
+     * Creates cache that is updated with changes reported by the file watcher.
+     *
+     * @param maxAgeMs
+     *         max age of status after which full status is computed again
+     */
+    @Inject
+    public JGitStatusCache(@Named("git.jgit.status_cache.max_age_ms") long maxAgeMs,
+                           FileWatcherNotificationHandler fileWatcherNotificationHandler) {
+        this(maxAgeMs);
+        fileWatcherNotificationHandler.addNotificationListener(
+                new FileWatcherNotificationListener(VirtualFileFilter.ACCEPT_ALL) {
+                    @Override
+                    public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                        fileChanged(virtualFile.toIoFile());
+                    }
+                });
+    }
+
+    /**
+     * Creates cache that isn't connected to the file watcher, changes of working trees must be reported
+     * with {@link #fileChanged(File)}.
+     *
+     * @param maxAgeMs
+     *         max age of status after which full status is computed again
+     */
+    public JGitStatusCache(long maxAgeMs) {
+        this(maxAgeMs, true);
+    }
+
+    /** Creates cache that computes full status each time. */
+    public JGitStatusCache() {
+        this(0, false);
+    }
+
+    private JGitStatusCache(long maxAgeMs, boolean incremental) {
+        this.maxAgeMs = maxAgeMs;
+        this.incremental = incremental;
+        this.statuses = new ConcurrentHashMap<>();
+        this.fullComputations = new AtomicLong();
+        this.incrementalComputations = new AtomicLong();
+    }
+
+    /**
+     * Returns files of the repository status by their kinds.
+     *
+     * @throws GitException
+     *         if status can't be computed
+     */
+    Map<Kind, Set<String>> getStatus(Repository repository) throws GitException {
+        final File gitDir = repository.getDirectory().getAbsoluteFile();
+        final CachedStatus cached = statuses.computeIfAbsent(gitDir, dir -> new CachedStatus(repository.getWorkTree()));
+        try {
+            return cached.get(repository);
+        } catch (IOException | GitAPIException e) {
+            statuses.remove(gitDir, cached);
+            throw new GitException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Marks file or directory as changed in the status of the working tree it belongs to.
+     * Files that don't belong to the working trees of cached statuses are skipped.
+     */
+    public void fileChanged(File file) {
+        final Path path = file.getAbsoluteFile().toPath();
+        for (CachedStatus cached : statuses.values()) {
+            if (path.startsWith(cached.workTree)) {
+                cached.pathChanged(cached.workTree.relativize(path).toString().replace(File.separatorChar, '/'));
+            }
+        }
+    }
+
+    /** Removes status of the repository from cache. */
+    public void invalidate(File gitDir) {
+        statuses.remove(gitDir.getAbsoluteFile());
+    }
+
+    /** Returns number of times status was computed for the whole working tree. */
+    public long getFullComputations() {
+        return fullComputations.get();
+    }
+
+    /** Returns number of times status was computed only for changed paths. */
+    public long getIncrementalComputations() {
+        return incrementalComputations.get();
+    }
+
+    private class CachedStatus {
+        private final Path        workTree;
+        private final Set<String> changedPaths;
+
+        private volatile Map<Kind, Set<String>> files;
+        private volatile boolean                fullRequired;
+
+        private long     indexLastModified;
+        private long     indexLength;
+        private long     excludeLastModified;
+        private ObjectId head;
+        private long     computedAt;
+
+        CachedStatus(File workTree) {
+            this.workTree = workTree.getAbsoluteFile().toPath();
+            this.changedPaths = ConcurrentHashMap.newKeySet();
+        }
+
+        /**
+         * Collects path changed in the working tree. Paths inside of directories ignored by git are skipped,
+         * index and HEAD are checked on each request, so changes inside of {@code .git} directory are skipped too.
+         */
+        void pathChanged(String path) {
+            if (path.isEmpty() || path.startsWith(Constants.DOT_GIT + '/')) {
+                return;
+            }
+            final String name = path.substring(path.lastIndexOf('/') + 1);
+            if (Constants.DOT_GIT.equals(path) || Constants.DOT_GIT_IGNORE.equals(name)) {
+                fullRequired = true;
+                return;
+            }
+            final Map<Kind, Set<String>> files = this.files;
+            if (files != null && isIgnored(path, files.get(Kind.IGNORED_NOT_IN_INDEX))) {
+                return;
+            }
+            changedPaths.add(path);
+            if (changedPaths.size() > MAX_CHANGED_PATHS) {
+                fullRequired = true;
+            }
+        }
+
+        synchronized Map<Kind, Set<String>> get(Repository repository) throws IOException, GitAPIException {
+            final long now = System.currentTimeMillis();
+            final File indexFile = repository.getIndexFile();
+            final long indexLastModified = indexFile.lastModified();
+            final long indexLength = indexFile.length();
+            final long excludeLastModified = new File(repository.getDirectory(), "info/exclude").lastModified();
+            final ObjectId head = repository.resolve(Constants.HEAD);
+            if (incremental
+                && files != null
+                && !fullRequired
+                && this.indexLastModified == indexLastModified
+                && this.indexLength == indexLength
+                && this.excludeLastModified == excludeLastModified
+                && Objects.equals(this.head, head)
+                && now - computedAt <= maxAgeMs) {
+                final Set<String> paths = drainChangedPaths();
+                if (!paths.isEmpty()) {
+                    files = computeIncremental(repository, paths);
+                }
+            } else {
+                LOG.debug("Full status of {} is required", workTree);
+                // paths changed while the full status is computed are checked again by the next request
+                fullRequired = false;
+                changedPaths.clear();
+                files = computeFull(repository);
+                this.indexLastModified = indexLastModified;
+                this.indexLength = indexLength;
+                this.excludeLastModified = excludeLastModified;
+                this.head = head;
+                this.computedAt = now;
+            }
+            return files;
+        }
+
+        private Set<String> drainChangedPaths() {
+            final Set<String> paths = new HashSet<>();
+            for (Iterator<String> iterator = changedPaths.iterator(); iterator.hasNext(); ) {
+                paths.add(iterator.next());
+                iterator.remove();
+            }
+            return paths;
+        }
+
+        /** Checks whether the path is one of the ignored paths or is inside of one of them. */
+        private boolean isIgnored(String path, Set<String> ignored) {
+            for (int i = path.length(); i > 0; i = path.lastIndexOf('/', i - 1)) {
+                if (ignored.contains(path.substring(0, i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Map<Kind, Set<String>> computeFull(Repository repository) throws GitAPIException {
+            fullComputations.incrementAndGet();
+            final Status status = new Git(repository).status().call();
+            final Map<Kind, Set<String>> result = new EnumMap<>(Kind.class);
+            for (Kind kind : Kind.values()) {
+                result.put(kind, Collections.unmodifiableSet(new HashSet<>(kind.extractor.apply(status))));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        private Map<Kind, Set<String>> computeIncremental(Repository repository, Set<String> paths) throws GitAPIException {
+            incrementalComputations.incrementAndGet();
+            final StatusCommand statusCommand = new Git(repository).status();
+            paths.forEach(statusCommand::addPath);
+            final Status status = statusCommand.call();
+            final Map<Kind, Set<String>> result = new EnumMap<>(Kind.class);
+            for (Kind kind : Kind.values()) {
+                final Set<String> merged = new HashSet<>();
+                for (String file : files.get(kind)) {
+                    if (!isAffected(file, paths)) {
+                        merged.add(file);
+                    }
+                }
+                merged.addAll(kind.extractor.apply(status));
+                result.put(kind, Collections.unmodifiableSet(merged));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        /** Checks whether the file is one of the given paths, is inside of one of them or contains one of them. */
+        private boolean isAffected(String file, Set<String> paths) {
+            for (String path : paths) {
+                if (file.equals(path) || file.startsWith(path + '/') || path.startsWith(file + '/')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -11,17 +11,16 @@
  *******************************************************************************/
 package org.eclipse.che.git.impl.jgit;
 
-import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.InfoPage;
 import org.eclipse.che.api.git.shared.Status;
 import org.eclipse.che.api.git.shared.StatusFormat;
-import org.eclipse.jgit.api.StatusCommand;
-import org.eclipse.jgit.api.errors.GitAPIException;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static java.lang.System.lineSeparator;
 
@@ -48,24 +47,15 @@ public class JGitStatusImpl implements Status, InfoPage {
     /**
      * @param branchName
      *         current repository branch name
-     * @param statusCommand
-     *         Jgit status command
+     * @param gitStatus
+     *         Jgit status
      * @param format
      *         the output format for the status
-     * @throws GitException
-     *         when any error occurs
      */
-    public JGitStatusImpl(String branchName, StatusCommand statusCommand, StatusFormat format) throws GitException {
+    public JGitStatusImpl(String branchName, org.eclipse.jgit.api.Status gitStatus, StatusFormat format) {
         this.branchName = branchName;
         this.format = format;
 
-        org.eclipse.jgit.api.Status gitStatus;
-        try {
-            gitStatus = statusCommand.call();
-        } catch (GitAPIException exception) {
-            throw new GitException(exception.getMessage(), exception);
-        }
-
         clean = gitStatus.isClean();
         added = new ArrayList<>(gitStatus.getAdded());
         changed = new ArrayList<>(gitStatus.getChanged());
@@ -77,6 +67,36 @@ public class JGitStatusImpl implements Status, InfoPage {
         conflicting = new ArrayList<>(gitStatus.getConflicting());
     }
 
+    /**
+     * @param branchName
+     *         current repository branch name
+     * @param files
+     *         files of the status by their kinds, see {@link JGitStatusCache#getStatus(org.eclipse.jgit.lib.Repository)}
+     * @param format
+     *         the output format for the status
+     */
+    JGitStatusImpl(String branchName, Map<JGitStatusCache.Kind, Set<String>> files, StatusFormat format) {
+        this.branchName = branchName;
+        this.format = format;
+
+        added = new ArrayList<>(files.get(JGitStatusCache.Kind.ADDED));
+        changed = new ArrayList<>(files.get(JGitStatusCache.Kind.CHANGED));
+        removed = new ArrayList<>(files.get(JGitStatusCache.Kind.REMOVED));
+        missing = new ArrayList<>(files.get(JGitStatusCache.Kind.MISSING));
+        modified = new ArrayList<>(files.get(JGitStatusCache.Kind.MODIFIED));
+        untracked = new ArrayList<>(files.get(JGitStatusCache.Kind.UNTRACKED));
+        untrackedFolders = new ArrayList<>(files.get(JGitStatusCache.Kind.UNTRACKED_FOLDERS));
+        conflicting = new ArrayList<>(files.get(JGitStatusCache.Kind.CONFLICTING));
+        // the same as jgit does, untracked folders are not checked since their files are untracked
+        clean = added.isEmpty()
+                && changed.isEmpty()
+                && removed.isEmpty()
+                && missing.isEmpty()
+                && modified.isEmpty()
+                && untracked.isEmpty()
+                && conflicting.isEmpty();
+    }
+
     @Override
     public void writeTo(OutputStream out) throws IOException {
         StringBuilder status = new StringBuilder();
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.jgit.lib.BatchingProgressMonitor;
+
+import java.io.IOException;
+
+/**
+ * Writes progress of JGit remote operations to {@link LineConsumer} in the same format as native git does,
+ * e.g. {@code Receiving objects:  42% (420/1000)}.
+ */
+class LineConsumerProgressMonitor extends BatchingProgressMonitor {
+    private final LineConsumer lineConsumer;
+
+    LineConsumerProgressMonitor(LineConsumer lineConsumer) {
+        this.lineConsumer = lineConsumer;
+    }
+
+    @Override
+    protected void onUpdate(String taskName, int workCurr) {
+        writeLine(taskName + ": " + workCurr);
+    }
+
+    @Override
+    protected void onEndTask(String taskName, int workCurr) {
+        writeLine(taskName + ": " + workCurr + ", done.");
+    }
+
+    @Override
+    protected void onUpdate(String taskName, int workCurr, int workTotal, int percentDone) {
+        writeLine(String.format("%s: %3d%% (%d/%d)", taskName, percentDone, workCurr, workTotal));
+    }
+
+    @Override
+    protected void onEndTask(String taskName, int workCurr, int workTotal, int percentDone) {
+        writeLine(String.format("%s: %3d%% (%d/%d), done.", taskName, percentDone, workCurr, workTotal));
+    }
+
+    /** Writes message to consumer, progress is informational, so error of writing doesn't break git operation. */
+    void writeLine(String line) {
+        try {
+            lineConsumer.writeLine(line);
+        } catch (IOException ignored) {
+        }
+    }
+}
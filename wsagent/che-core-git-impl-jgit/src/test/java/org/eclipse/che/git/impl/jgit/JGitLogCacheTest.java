@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.shared.Revision;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class JGitLogCacheTest {
+    private File root;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("log-cache").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldContinueWalkFromPreviousPage() throws Exception {
+        final JGitLogCache cache = new JGitLogCache(100);
+        try (Git git = createRepository("project", 5)) {
+            final Repository repository = git.getRepository();
+            final ObjectId head = repository.resolve("HEAD");
+
+            final List<Revision> first = cache.getPage(repository, head, null, 0, 2);
+            final List<Revision> second = cache.getPage(repository, head, first.get(1).getId(), 0, 2);
+
+            assertEquals(first.get(0).getMessage(), "commit 4");
+            assertEquals(second.get(0).getMessage(), "commit 2");
+            assertEquals(second.get(1).getMessage(), "commit 1");
+            assertEquals(cache.size(), 1);
+            assertEquals(cache.revisions(), 4);
+        }
+    }
+
+    @Test
+    public void shouldBoundCachedWalksByNumberOfRevisions() throws Exception {
+        final JGitLogCache cache = new JGitLogCache(6);
+        try (Git first = createRepository("project1", 5);
+             Git second = createRepository("project2", 5)) {
+            cache.getPage(first.getRepository(), first.getRepository().resolve("HEAD"), null, 0, 5);
+            cache.getPage(second.getRepository(), second.getRepository().resolve("HEAD"), null, 0, 5);
+
+            assertEquals(cache.size(), 1);
+            assertTrue(cache.revisions() <= 6);
+        }
+    }
+
+    private Git createRepository(String name, int commits) throws Exception {
+        final File workDir = new File(root, name);
+        workDir.mkdirs();
+        final Git git = Git.init().setDirectory(workDir).call();
+        for (int i = 0; i < commits; i++) {
+            git.commit().setMessage("commit " + i).call();
+        }
+        return git;
+    }
+}
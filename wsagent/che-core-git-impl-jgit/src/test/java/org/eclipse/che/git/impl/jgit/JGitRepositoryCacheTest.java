@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.CredentialsLoader;
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.api.git.GitUserResolver;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.plugin.ssh.key.script.SshKeyProvider;
+import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class JGitRepositoryCacheTest {
+    private File                root;
+    private JGitRepositoryCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("repository-cache").toFile();
+        cache = new JGitRepositoryCache(2);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        cache.invalidateAll();
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldReuseRepositoryOfTheSameWorkingDirectory() throws Exception {
+        final File workDir = createRepository("project");
+
+        final Repository first = cache.acquire(workDir);
+        first.close();
+        final Repository second = cache.acquire(workDir);
+        second.close();
+
+        assertSame(first, second);
+        assertEquals(cache.getOpenedRepositories(), 1);
+        assertEquals(cache.getHits(), 1);
+    }
+
+    @Test
+    public void shouldNotCacheRepositoryWhichIsNotCreatedYet() throws Exception {
+        final File workDir = new File(root, "project");
+        workDir.mkdirs();
+
+        final Repository repository = cache.acquire(workDir);
+        repository.close();
+
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedRepository() throws Exception {
+        final File project1 = createRepository("project1");
+        final File project2 = createRepository("project2");
+        final File project3 = createRepository("project3");
+
+        cache.acquire(project1).close();
+        cache.acquire(project2).close();
+        cache.acquire(project1).close();
+        cache.acquire(project3).close();
+
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getEvicted(), 1);
+        cache.acquire(project1).close();
+        assertEquals(cache.getHits(), 2);
+    }
+
+    @Test
+    public void shouldReopenRepositoryIfGitDirectoryIsRecreated() throws Exception {
+        final File workDir = createRepository("project");
+        final Repository first = cache.acquire(workDir);
+        first.close();
+
+        IoUtil.deleteRecursive(new File(workDir, Constants.DOT_GIT));
+        createRepository("project");
+        final Repository second = cache.acquire(workDir);
+        second.close();
+
+        assertNotSame(first, second);
+        assertEquals(cache.getOpenedRepositories(), 2);
+    }
+
+    @Test
+    public void shouldReopenRepositoryAfterInvalidation() throws Exception {
+        final File workDir = createRepository("project");
+        final Repository first = cache.acquire(workDir);
+
+        cache.invalidate(new File(workDir, Constants.DOT_GIT));
+        // repository is still usable by the connection that acquired it
+        first.getConfig();
+        first.close();
+
+        final Repository second = cache.acquire(workDir);
+        second.close();
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldGiveEachConnectionItsOwnRepositoryConfig() throws Exception {
+        final File workDir = createRepository("project");
+        final JGitConnection first = newConnection(workDir);
+        final JGitConnection second = newConnection(workDir);
+
+        first.getRepositoryConfig().setString("core", null, "editor", "vi");
+
+        assertNotSame(first.getRepositoryConfig(), second.getRepositoryConfig());
+        assertNull(second.getRepositoryConfig().getString("core", null, "editor"));
+        first.getRepositoryConfig().save();
+        assertEquals(second.getConfig().get("core.editor"), "vi");
+    }
+
+    private JGitConnection newConnection(File workDir) throws GitException {
+        return new JGitConnection(cache.acquire(workDir),
+                                  mock(CredentialsLoader.class),
+                                  mock(SshKeyProvider.class),
+                                  mock(GitUserResolver.class),
+                                  new JGitLogCache(1000),
+                                  new JGitStatusCache());
+    }
+
+    private File createRepository(String name) throws GitException {
+        final File workDir = new File(root, name);
+        workDir.mkdirs();
+        try (Repository repository = new FileRepository(new File(workDir, Constants.DOT_GIT))) {
+            repository.create();
+        } catch (Exception e) {
+            throw new GitException(e.getMessage(), e);
+        }
+        return workDir;
+    }
+}
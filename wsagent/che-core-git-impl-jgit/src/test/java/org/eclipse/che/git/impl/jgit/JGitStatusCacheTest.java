@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.shared.StatusFormat;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class JGitStatusCacheTest {
+    private File            workDir;
+    private Git             git;
+    private JGitStatusCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("status-cache").toFile();
+        git = Git.init().setDirectory(workDir).call();
+        writeFile("src/tracked.txt", "content");
+        git.add().addFilepattern("src/tracked.txt").call();
+        git.commit().setMessage("init").setAuthor("che", "che@eclipse.org").setCommitter("che", "che@eclipse.org").call();
+        cache = new JGitStatusCache(60_000);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        git.close();
+        IoUtil.deleteRecursive(workDir);
+    }
+
+    @Test
+    public void shouldComputeStatusOnlyForChangedPaths() throws Exception {
+        assertTrue(getStatus().isClean());
+
+        cache.fileChanged(writeFile("src/tracked.txt", "new content"));
+        cache.fileChanged(writeFile("src/untracked.txt", "content"));
+        final JGitStatusImpl status = getStatus();
+
+        assertEquals(status.getModified(), singletonList("src/tracked.txt"));
+        assertEquals(status.getUntracked(), singletonList("src/untracked.txt"));
+        assertFalse(status.isClean());
+        assertEquals(cache.getFullComputations(), 1);
+        assertEquals(cache.getIncrementalComputations(), 1);
+    }
+
+    @Test
+    public void shouldReturnCachedStatusIfNoChangeIsReported() throws Exception {
+        getStatus();
+
+        writeFile("src/tracked.txt", "new content");
+
+        assertTrue(getStatus().isClean());
+        assertEquals(cache.getFullComputations(), 1);
+        assertEquals(cache.getIncrementalComputations(), 0);
+    }
+
+    @Test
+    public void shouldReturnCleanStatusAfterFileIsRestored() throws Exception {
+        getStatus();
+        cache.fileChanged(writeFile("src/tracked.txt", "new content"));
+        assertFalse(getStatus().isClean());
+
+        cache.fileChanged(writeFile("src/tracked.txt", "content"));
+
+        assertTrue(getStatus().isClean());
+        assertEquals(cache.getFullComputations(), 1);
+        assertEquals(cache.getIncrementalComputations(), 2);
+    }
+
+    @Test
+    public void shouldUpdateStatusOfDeletedDirectory() throws Exception {
+        getStatus();
+
+        final File src = new File(workDir, "src");
+        IoUtil.deleteRecursive(src);
+        cache.fileChanged(src);
+
+        assertEquals(getStatus().getMissing(), singletonList("src/tracked.txt"));
+        assertEquals(cache.getFullComputations(), 1);
+    }
+
+    @Test
+    public void shouldSkipChangesInsideOfIgnoredDirectories() throws Exception {
+        writeFile(".gitignore", "target/");
+        writeFile("target/classes/A.class", "content");
+        getStatus();
+
+        cache.fileChanged(writeFile("target/classes/B.class", "content"));
+        getStatus();
+
+        assertEquals(cache.getFullComputations(), 1);
+        assertEquals(cache.getIncrementalComputations(), 0);
+    }
+
+    @Test
+    public void shouldComputeFullStatusWhenIndexIsChanged() throws Exception {
+        getStatus();
+
+        writeFile("src/added.txt", "content");
+        git.add().addFilepattern("src/added.txt").call();
+        final JGitStatusImpl status = getStatus();
+
+        assertEquals(status.getAdded(), singletonList("src/added.txt"));
+        assertEquals(cache.getFullComputations(), 2);
+    }
+
+    @Test
+    public void shouldComputeFullStatusWhenGitignoreIsChanged() throws Exception {
+        writeFile("untracked.txt", "content");
+        getStatus();
+
+        cache.fileChanged(writeFile(".gitignore", "untracked.txt"));
+        final JGitStatusImpl status = getStatus();
+
+        assertEquals(status.getUntracked(), singletonList(".gitignore"));
+        assertEquals(cache.getFullComputations(), 2);
+    }
+
+    @Test
+    public void shouldComputeFullStatusWhenTooManyPathsAreChanged() throws Exception {
+        getStatus();
+
+        for (int i = 0; i <= JGitStatusCache.MAX_CHANGED_PATHS; i++) {
+            cache.fileChanged(new File(workDir, "src/file" + i + ".txt"));
+        }
+        getStatus();
+
+        assertEquals(cache.getFullComputations(), 2);
+        assertEquals(cache.getIncrementalComputations(), 0);
+    }
+
+    @Test
+    public void shouldComputeFullStatusWhenCachedStatusIsTooOld() throws Exception {
+        cache = new JGitStatusCache(0);
+        getStatus();
+        Thread.sleep(10);
+
+        writeFile("src/untracked.txt", "content");
+
+        assertEquals(getStatus().getUntracked(), singletonList("src/untracked.txt"));
+        assertEquals(cache.getFullComputations(), 2);
+    }
+
+    private JGitStatusImpl getStatus() throws Exception {
+        final Repository repository = git.getRepository();
+        return new JGitStatusImpl("master", cache.getStatus(repository), StatusFormat.SHORT);
+    }
+
+    private File writeFile(String name, String content) throws Exception {
+        final File file = new File(workDir, name);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes());
+        return file;
+    }
+}
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Long-lived {@code git cat-file --batch} process that reads objects of one repository.
+ * <p/>
+ * Objects are requested by writing their names (e.g. {@code HEAD:path/to/file}) to stdin of the process
+ * and content is read from its stdout, so reading of an object costs a pipe round-trip instead of start
+ * of a new git process. Requests are pipelined: names of several objects are written at once and then
+ * all the responses are read. Number of bytes written at once is limited, so process never blocks on
+ * writing of response while we are blocked on writing of request.
+ * <p/>
+ * Process is restarted if it dies or its output can't be parsed. Reading is limited with {@code readTimeoutMs},
+ * if the process doesn't respond in time it is killed, so blocked read fails and the process is restarted
+ * by the next read.
+ */
+public class CatFileBatch {
+    private static final Logger LOG = LoggerFactory.getLogger(CatFileBatch.class);
+
+    /** Less than pipe buffer size, so writing of the requests never blocks. */
+    private static final int MAX_PIPELINED_BYTES = 16 * 1024;
+
+    static final long DEFAULT_READ_TIMEOUT_MS = 30_000;
+
+    /** Kills processes that don't respond in time, blocking read of pipe can't be interrupted otherwise. */
+    private static final ScheduledThreadPoolExecutor WATCHDOG = createWatchdog();
+
+    private final File         repository;
+    private final long         readTimeoutMs;
+    private final List<String> command;
+
+    private Process      process;
+    private OutputStream requests;
+    private InputStream  responses;
+    private boolean      closed;
+
+    /**
+     * @param repository
+     *         directory of the repository
+     */
+    public CatFileBatch(File repository) {
+        this(repository, DEFAULT_READ_TIMEOUT_MS);
+    }
+
+    /**
+     * @param repository
+     *         directory of the repository
+     * @param readTimeoutMs
+     *         max time of single read, process is killed when it is exceeded
+     */
+    public CatFileBatch(File repository, long readTimeoutMs) {
+        this(repository, readTimeoutMs, Arrays.asList("git", "cat-file", "--batch"));
+    }
+
+    @VisibleForTesting
+    CatFileBatch(File repository, long readTimeoutMs, List<String> command) {
+        this.repository = repository;
+        this.readTimeoutMs = readTimeoutMs;
+        this.command = command;
+    }
+
+    /**
+     * Reads content of objects.
+     *
+     * @param objects
+     *         names of the objects in format accepted by {@code git cat-file}
+     * @return content of the objects in the same order as names, content of object that doesn't exist is {@code null};
+     * {@code null} if this instance is closed
+     * @throws IOException
+     *         if objects can't be read even after restart of the process or process doesn't respond in time
+     */
+    public synchronized List<byte[]> read(List<String> objects) throws IOException {
+        if (closed) {
+            return null;
+        }
+        for (String object : objects) {
+            if (object.indexOf('\n') != -1) {
+                throw new IllegalArgumentException("Object name must not contain line separator");
+            }
+        }
+        try {
+            return readWithTimeout(objects);
+        } catch (ReadTimeoutException e) {
+            // process is already killed, the next read starts new one
+            LOG.warn("git cat-file process of {} is killed, it doesn't respond in {} ms", repository, readTimeoutMs);
+            destroy();
+            throw e;
+        } catch (IOException e) {
+            LOG.debug("git cat-file process of {} failed, it is restarted: {}", repository, e.getMessage());
+            destroy();
+            return readWithTimeout(objects);
+        }
+    }
+
+    /** Stops the process. */
+    public synchronized void close() {
+        closed = true;
+        destroy();
+    }
+
+    /** Returns running process or {@code null} if process isn't started yet or is stopped. */
+    @VisibleForTesting
+    synchronized Process getProcess() {
+        return process;
+    }
+
+    private List<byte[]> readWithTimeout(List<String> objects) throws IOException {
+        ensureStarted();
+        final Process current = process;
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        final ScheduledFuture<?> killer = WATCHDOG.schedule(() -> {
+            timedOut.set(true);
+            current.destroyForcibly();
+        }, readTimeoutMs, MILLISECONDS);
+        try {
+            return doRead(objects);
+        } catch (IOException e) {
+            if (timedOut.get()) {
+                throw new ReadTimeoutException("git cat-file process doesn't respond in " + readTimeoutMs + " ms");
+            }
+            throw e;
+        } finally {
+            killer.cancel(false);
+        }
+    }
+
+    private List<byte[]> doRead(List<String> objects) throws IOException {
+        final List<byte[]> result = new ArrayList<>(objects.size());
+        int from = 0;
+        while (from < objects.size()) {
+            int to = from;
+            int pipelinedBytes = 0;
+            do {
+                final byte[] request = (objects.get(to) + '\n').getBytes(StandardCharsets.UTF_8);
+                requests.write(request);
+                pipelinedBytes += request.length;
+                to++;
+            } while (to < objects.size() && pipelinedBytes < MAX_PIPELINED_BYTES);
+            requests.flush();
+
+            for (int i = from; i < to; i++) {
+                result.add(readResponse());
+            }
+            from = to;
+        }
+        return result;
+    }
+
+    /**
+     * Reads single response, it is either {@code <sha1> <type> <size>\n<content>\n}
+     * or {@code <object> missing\n} or {@code <object> ambiguous\n}.
+     */
+    private byte[] readResponse() throws IOException {
+        final String header = readLine();
+        if (header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+            return null;
+        }
+        final int sizeStart = header.lastIndexOf(' ');
+        final int size;
+        try {
+            size = Integer.parseInt(header.substring(sizeStart + 1));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected output of git cat-file: " + header);
+        }
+        final byte[] content = new byte[size];
+        int read = 0;
+        while (read < size) {
+            final int n = responses.read(content, read, size - read);
+            if (n == -1) {
+                throw new EOFException("Unexpected end of git cat-file output");
+            }
+            read += n;
+        }
+        if (responses.read() != '\n') {
+            throw new IOException("Unexpected output of git cat-file");
+        }
+        return content;
+    }
+
+    private String readLine() throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = responses.read()) != '\n') {
+            if (b == -1) {
+                throw new EOFException("Unexpected end of git cat-file output");
+            }
+            line.write(b);
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void ensureStarted() throws IOException {
+        if (process != null && process.isAlive()) {
+            return;
+        }
+        final ProcessBuilder pb = new ProcessBuilder(command);
+        final Map<String, String> environment = pb.environment();
+        environment.put("HOME", System.getProperty("user.home"));
+        environment.put("LANG", "en_US.UTF-8");
+        pb.directory(repository);
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        process = pb.start();
+        requests = new BufferedOutputStream(process.getOutputStream());
+        responses = new BufferedInputStream(process.getInputStream());
+    }
+
+    private void destroy() {
+        if (process != null) {
+            try {
+                requests.close();
+            } catch (IOException ignored) {
+            }
+            process.destroy();
+            process = null;
+            requests = null;
+            responses = null;
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createWatchdog() {
+        final ScheduledThreadPoolExecutor watchdog =
+                new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("CatFileBatchWatchdog-%d")
+                                                                             .setDaemon(true)
+                                                                             .build());
+        // reads are much faster than timeout, so cancelled tasks must not pile up in the queue
+        watchdog.setRemoveOnCancelPolicy(true);
+        return watchdog;
+    }
+
+    /** Thrown when process doesn't respond in time. */
+    static class ReadTimeoutException extends IOException {
+        ReadTimeoutException(String message) {
+            super(message);
+        }
+    }
+}
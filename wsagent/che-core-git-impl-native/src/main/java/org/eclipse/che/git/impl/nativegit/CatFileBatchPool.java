@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Keeps {@link CatFileBatch} processes of recently used repositories.
+ * <p/>
+ * At most {@code maxProcesses} processes are kept, the least recently used one is stopped when limit is reached.
+ * Processes that are not used for {@code idleTimeoutSec} seconds are stopped, so they don't keep
+ * stale packs opened for a long time. Process that doesn't respond in {@code readTimeoutMs} is killed.
+ */
+@Singleton
+public class CatFileBatchPool {
+    private final Cache<File, CatFileBatch> processes;
+    private final long                      readTimeoutMs;
+
+    public CatFileBatchPool(int maxProcesses, long idleTimeoutSec) {
+        this(maxProcesses, idleTimeoutSec, CatFileBatch.DEFAULT_READ_TIMEOUT_MS);
+    }
+
+    @Inject
+    public CatFileBatchPool(@Named("git.native.cat_file.max_processes") int maxProcesses,
+                            @Named("git.native.cat_file.idle_timeout_sec") long idleTimeoutSec,
+                            @Named("git.native.cat_file.read_timeout_ms") long readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+        this.processes = CacheBuilder.newBuilder()
+                                     .maximumSize(maxProcesses)
+                                     .expireAfterAccess(idleTimeoutSec, SECONDS)
+                                     .removalListener((RemovalListener<File, CatFileBatch>)notification -> notification.getValue()
+                                                                                                                      .close())
+                                     .build();
+    }
+
+    /**
+     * Reads content of object of the repository.
+     *
+     * @param repository
+     *         directory of the repository
+     * @param object
+     *         name of the object in format accepted by {@code git cat-file}, e.g. {@code HEAD:path/to/file}
+     * @return content of the object or {@code null} if object doesn't exist
+     * @throws IOException
+     *         if object can't be read
+     */
+    public byte[] read(File repository, String object) throws IOException {
+        return read(repository, Collections.singletonList(object)).get(0);
+    }
+
+    /**
+     * Reads content of objects of the repository with single round-trip to git process.
+     *
+     * @see #read(File, String)
+     */
+    public List<byte[]> read(File repository, List<String> objects) throws IOException {
+        final File key = repository.getAbsoluteFile();
+        List<byte[]> result = null;
+        // process may be stopped by eviction concurrently, then it is taken once again
+        for (int attempt = 0; result == null && attempt < 2; attempt++) {
+            result = processes.asMap().computeIfAbsent(key, dir -> new CatFileBatch(dir, readTimeoutMs)).read(objects);
+        }
+        if (result == null) {
+            throw new IOException("Unable to start git cat-file process for " + repository);
+        }
+        return result;
+    }
+
+    /** Returns process of the repository or {@code null} if there is no such process in the pool. */
+    @VisibleForTesting
+    CatFileBatch getBatch(File repository) {
+        return processes.getIfPresent(repository.getAbsoluteFile());
+    }
+
+    /** Stops all the processes. */
+    @PreDestroy
+    public void close() {
+        processes.invalidateAll();
+    }
+}
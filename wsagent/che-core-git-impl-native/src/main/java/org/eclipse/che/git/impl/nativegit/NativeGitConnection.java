@@ -85,16 +85,23 @@ import org.eclipse.che.git.impl.nativegit.commands.RemoteListCommand;
 import org.eclipse.che.git.impl.nativegit.commands.RemoteOperationCommand;
 import org.eclipse.che.git.impl.nativegit.commands.ShowFileContentCommand;
 import org.eclipse.che.plugin.ssh.key.script.SshScriptProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import static java.lang.System.lineSeparator;
 import static org.eclipse.che.api.git.shared.ProviderInfo.AUTHENTICATE_URL;
 import static org.eclipse.che.api.git.shared.ProviderInfo.PROVIDER_NAME;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
@@ -105,6 +112,7 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
  * @author Eugene Voevodin
  */
 public class NativeGitConnection implements GitConnection {
+    private static final Logger LOG = LoggerFactory.getLogger(NativeGitConnection.class);
 
     private static final Pattern authErrorPattern                         =
             Pattern.compile(
@@ -119,9 +127,11 @@ public class NativeGitConnection implements GitConnection {
     private static final Pattern noInitCommitWhenLogErrorPattern          =
             Pattern.compile("fatal: your current branch '.*' does not have any commits yet\n");
     private static final Pattern noInitCommitWhenPullErrorPattern         = Pattern.compile("fatal: empty ident name .* not allowed\n");
+    private static final Pattern lineSeparatorPattern                     = Pattern.compile("\r\n|\n|\r");
     private final NativeGit         nativeGit;
     private final CredentialsLoader credentialsLoader;
     private final GitUserResolver   userResolver;
+    private final CatFileBatchPool  catFileBatchPool;
 
     /**
      * @param repository
@@ -148,9 +158,28 @@ public class NativeGitConnection implements GitConnection {
      */
     public NativeGitConnection(NativeGit nativeGit, CredentialsLoader credentialsLoader, GitUserResolver userResolver)
             throws GitException {
+        this(nativeGit, credentialsLoader, userResolver, null);
+    }
+
+    /**
+     * @param nativeGit
+     *         native git client
+     * @param credentialsLoader
+     *         loader for credentials
+     * @param catFileBatchPool
+     *         pool of {@code git cat-file --batch} processes used for reading of file content,
+     *         if it is null {@code git show} is started for each file
+     * @throws GitException
+     *         when some error occurs
+     */
+    public NativeGitConnection(NativeGit nativeGit,
+                               CredentialsLoader credentialsLoader,
+                               GitUserResolver userResolver,
+                               CatFileBatchPool catFileBatchPool) throws GitException {
         this.credentialsLoader = credentialsLoader;
         this.nativeGit = nativeGit;
         this.userResolver = userResolver;
+        this.catFileBatchPool = catFileBatchPool;
     }
 
     @Override
@@ -311,7 +340,11 @@ public class NativeGitConnection implements GitConnection {
         final String remoteUri = request.getRemoteUri();
         CloneCommand clone = nativeGit.createCloneCommand();
         clone.setRemoteUri(remoteUri);
-        clone.setRemoteName(request.getRemoteName());
+        clone.setRemoteName(request.getRemoteName())
+             .setBranch(request.getBranch())
+             .setDepth(request.getDepth())
+             .setSingleBranch(request.isSingleBranch())
+             .setFilter(request.getFilter());
         if (clone.getTimeout() > 0) {
             clone.setTimeout(request.getTimeout());
         }
@@ -362,6 +395,18 @@ public class NativeGitConnection implements GitConnection {
 
     @Override
     public ShowFileContentResponse showFileContent(ShowFileContentRequest request) throws GitException {
+        if (catFileBatchPool != null && request.getFile() != null && request.getVersion() != null
+            && request.getFile().indexOf('\n') == -1 && request.getVersion().indexOf('\n') == -1) {
+            try {
+                final byte[] content = catFileBatchPool.read(getWorkingDir(), request.getVersion() + ':' + request.getFile());
+                if (content != null) {
+                    return newDto(ShowFileContentResponse.class).withContent(joinLines(new String(content, StandardCharsets.UTF_8)));
+                }
+                // object doesn't exist, git show reports the reason
+            } catch (IOException e) {
+                LOG.warn("Unable to read {}:{} with git cat-file: {}", request.getVersion(), request.getFile(), e.getMessage());
+            }
+        }
         ShowFileContentCommand showCommand = nativeGit.createShowFileContentCommand().withFile(request.getFile())
                                                       .withVersion(request.getVersion());
         return showCommand.execute();
@@ -373,6 +418,7 @@ public class NativeGitConnection implements GitConnection {
         FetchCommand fetchCommand = nativeGit.createFetchCommand();
         fetchCommand.setRemote(request.getRemote())
                     .setPrune(request.isRemoveDeletedRefs())
+                    .setUnshallow(request.isUnshallow())
                     .setRefSpec(request.getRefSpec())
                     .setRemoteUri(remoteUri)
                     .setTimeout(request.getTimeout());
@@ -411,7 +457,25 @@ public class NativeGitConnection implements GitConnection {
     @Override
     public LogPage log(LogRequest request) throws GitException {
         try {
-            return new LogPage(nativeGit.createLogCommand().setFileFilter(request.getFileFilter()).execute());
+            LogCommand logCommand = nativeGit.createLogCommand().setFileFilter(request.getFileFilter());
+            String cursor = request.getCursor();
+            if (cursor == null) {
+                return new LogPage(logCommand.setSkip(request.getSkip()).setCount(request.getMaxCount()).execute());
+            }
+            // git log can't start from the middle of the log, so page is cut from the whole log
+            Iterator<Revision> revIterator = logCommand.execute().iterator();
+            boolean cursorFound = false;
+            while (!cursorFound && revIterator.hasNext()) {
+                cursorFound = cursor.equals(revIterator.next().getId());
+            }
+            for (int i = 0; i < request.getSkip() && revIterator.hasNext(); i++) {
+                revIterator.next();
+            }
+            List<Revision> commits = new ArrayList<>();
+            while (revIterator.hasNext() && (request.getMaxCount() <= 0 || commits.size() < request.getMaxCount())) {
+                commits.add(revIterator.next());
+            }
+            return new LogPage(commits);
         } catch (ServerException exception) {
             if (noInitCommitWhenLogErrorPattern.matcher(exception.getMessage()).find()) {
                 throw new GitException(exception.getMessage(), ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
@@ -733,4 +797,12 @@ public class NativeGitConnection implements GitConnection {
         return remotes.get(0).getUrl();
     }
 
+    /** Joins lines of the content with system line separator, the same as {@link ShowFileContentCommand} does with output of git. */
+    private static String joinLines(String content) {
+        final List<String> lines = new ArrayList<>(Arrays.asList(lineSeparatorPattern.split(content, -1)));
+        if (lines.get(lines.size() - 1).isEmpty()) {
+            lines.remove(lines.size() - 1);
+        }
+        return String.join(lineSeparator(), lines);
+    }
 }
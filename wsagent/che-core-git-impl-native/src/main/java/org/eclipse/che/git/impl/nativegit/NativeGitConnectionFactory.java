@@ -18,6 +18,7 @@ import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.GitUserResolver;
 import org.eclipse.che.plugin.ssh.key.script.SshScriptProvider;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.File;
@@ -30,23 +31,42 @@ import java.io.File;
  */
 @Singleton
 public class NativeGitConnectionFactory extends GitConnectionFactory {
+    private static final int  DEFAULT_MAX_CAT_FILE_PROCESSES    = 8;
+    private static final long DEFAULT_CAT_FILE_IDLE_TIMEOUT_SEC = 300;
 
     private final CredentialsLoader credentialsLoader;
     private final SshScriptProvider gitSshScriptProvider;
     private final GitUserResolver   userResolver;
+    private final CatFileBatchPool  catFileBatchPool;
 
-    @Inject
+    /** Creates factory with own pool of cat-file processes, the pool is closed by {@link #close()}. */
     public NativeGitConnectionFactory(CredentialsLoader credentialsLoader, SshScriptProvider gitSshScriptProvider,
                                       GitUserResolver userResolver) {
+        this(credentialsLoader, gitSshScriptProvider, userResolver, new CatFileBatchPool(DEFAULT_MAX_CAT_FILE_PROCESSES,
+                                                                                         DEFAULT_CAT_FILE_IDLE_TIMEOUT_SEC));
+    }
+
+    @Inject
+    public NativeGitConnectionFactory(CredentialsLoader credentialsLoader,
+                                      SshScriptProvider gitSshScriptProvider,
+                                      GitUserResolver userResolver,
+                                      CatFileBatchPool catFileBatchPool) {
         this.credentialsLoader = credentialsLoader;
         this.gitSshScriptProvider = gitSshScriptProvider;
         this.userResolver = userResolver;
+        this.catFileBatchPool = catFileBatchPool;
     }
 
 
     @Override
     public GitConnection getConnection(File workDir, LineConsumerFactory outputPublisherFactory) throws GitException {
-        final GitConnection gitConnection = new NativeGitConnection(workDir, gitSshScriptProvider, credentialsLoader, userResolver);
+        final GitConnection gitConnection = new NativeGitConnection(new NativeGit(workDir,
+                                                                                  gitSshScriptProvider,
+                                                                                  credentialsLoader,
+                                                                                  new GitAskPassScript()),
+                                                                    credentialsLoader,
+                                                                    userResolver,
+                                                                    catFileBatchPool);
         gitConnection.setOutputLineConsumerFactory(outputPublisherFactory);
         return gitConnection;
     }
@@ -56,4 +76,10 @@ public class NativeGitConnectionFactory extends GitConnectionFactory {
         return credentialsLoader;
     }
 
+    /** Stops cat-file processes of the pool used by this factory. */
+    @PreDestroy
+    public void close() {
+        catFileBatchPool.close();
+    }
+
 }
@@ -24,7 +24,11 @@ import java.io.File;
  */
 public class CloneCommand extends RemoteOperationCommand<Void> {
 
-    private String remoteName;
+    private String  remoteName;
+    private String  branch;
+    private int     depth;
+    private boolean singleBranch;
+    private String  filter;
 
     public CloneCommand(File repository, SshScriptProvider sshScriptProvider, CredentialsLoader credentialsLoader, GitAskPassScript gitAskPassScript) {
         super(repository, sshScriptProvider, credentialsLoader, gitAskPassScript);
@@ -38,6 +42,21 @@ public class CloneCommand extends RemoteOperationCommand<Void> {
         if (remoteName != null) {
             commandLine.add("--origin", remoteName);
         } //else default origin name
+        if (branch != null) {
+            commandLine.add("--branch", branch);
+        }
+        if (depth > 0) {
+            commandLine.add("--depth", Integer.toString(depth));
+        }
+        // --depth implies --single-branch, other branches are kept available unless single branch is requested
+        if (singleBranch) {
+            commandLine.add("--single-branch");
+        } else if (depth > 0) {
+            commandLine.add("--no-single-branch");
+        }
+        if (filter != null) {
+            commandLine.add("--filter=" + filter);
+        }
         commandLine.add(getRemoteUri(), getRepository().getAbsolutePath());
         // Progress not shown if not a terminal. Activating progress output. See git clone man page.
         commandLine.add("--progress");
@@ -54,4 +73,44 @@ public class CloneCommand extends RemoteOperationCommand<Void> {
         this.remoteName = remoteName;
         return this;
     }
+
+    /**
+     * @param branch
+     *         branch to check out after cloning, if it is null than branch the remote HEAD points to will be used
+     * @return CloneCommand with established branch
+     */
+    public CloneCommand setBranch(String branch) {
+        this.branch = branch;
+        return this;
+    }
+
+    /**
+     * @param depth
+     *         number of the most recent commits to clone, if it is 0 than the whole history will be cloned
+     * @return CloneCommand with established depth
+     */
+    public CloneCommand setDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * @param singleBranch
+     *         if <code>true</code> only history of the checked out branch will be cloned
+     * @return CloneCommand with established single branch parameter
+     */
+    public CloneCommand setSingleBranch(boolean singleBranch) {
+        this.singleBranch = singleBranch;
+        return this;
+    }
+
+    /**
+     * @param filter
+     *         object filter of partial clone, e.g. blob:none, if it is null than all the objects will be cloned
+     * @return CloneCommand with established filter
+     */
+    public CloneCommand setFilter(String filter) {
+        this.filter = filter;
+        return this;
+    }
 }
@@ -28,6 +28,7 @@ public class FetchCommand extends RemoteOperationCommand<Void> {
     private List<String> refSpec;
     private String   remote;
     private boolean  prune;
+    private boolean  unshallow;
 
     public FetchCommand(File repository, SshScriptProvider sshScriptProvider, CredentialsLoader credentialsLoader, GitAskPassScript gitAskPassScript) {
         super(repository, sshScriptProvider, credentialsLoader, gitAskPassScript);
@@ -43,6 +44,9 @@ public class FetchCommand extends RemoteOperationCommand<Void> {
         if (prune) {
             commandLine.add("--prune");
         }
+        if (unshallow) {
+            commandLine.add("--unshallow");
+        }
         // Progress not shown if not a terminal. Activating progress output. See git fetch man page.
         commandLine.add("--progress");
         start();
@@ -69,6 +73,16 @@ public class FetchCommand extends RemoteOperationCommand<Void> {
         return this;
     }
 
+    /**
+     * @param unshallow
+     *         if <code>true</code> history that is missing in shallow repository will be fetched
+     * @return FetchCommand with established unshallow parameter
+     */
+    public FetchCommand setUnshallow(boolean unshallow) {
+        this.unshallow = unshallow;
+        return this;
+    }
+
     /**
      * @param remote
      *         remote name
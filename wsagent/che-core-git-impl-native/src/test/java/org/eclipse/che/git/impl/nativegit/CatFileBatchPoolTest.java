@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.che.git.impl.nativegit.CatFileBatchTest.createRepository;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class CatFileBatchPoolTest {
+    private File             repository1;
+    private File             repository2;
+    private CatFileBatchPool pool;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        repository1 = createRepository("a.txt");
+        repository2 = createRepository("b.txt");
+        pool = new CatFileBatchPool(1, 300);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        pool.close();
+        IoUtil.deleteRecursive(repository1);
+        IoUtil.deleteRecursive(repository2);
+    }
+
+    @Test
+    public void shouldReuseProcessOfTheSameRepository() throws Exception {
+        pool.read(repository1, "HEAD:a.txt");
+        final CatFileBatch batch = pool.getBatch(repository1);
+        final Process process = batch.getProcess();
+
+        final byte[] content = pool.read(repository1, "HEAD:a.txt");
+
+        assertEquals(new String(content, UTF_8), "content of a.txt\n");
+        assertSame(pool.getBatch(repository1), batch);
+        assertSame(batch.getProcess(), process);
+    }
+
+    @Test
+    public void shouldReturnNullForMissingObject() throws Exception {
+        assertNull(pool.read(repository1, "HEAD:missing.txt"));
+    }
+
+    @Test
+    public void shouldStopProcessOfLeastRecentlyUsedRepositoryWhenLimitIsReached() throws Exception {
+        pool.read(repository1, "HEAD:a.txt");
+        final CatFileBatch evicted = pool.getBatch(repository1);
+
+        pool.read(repository2, "HEAD:b.txt");
+
+        assertNull(pool.getBatch(repository1));
+        assertNull(evicted.getProcess());
+        assertNull(evicted.read(Arrays.asList("HEAD:a.txt")));
+        // evicted repository gets new process
+        assertEquals(new String(pool.read(repository1, "HEAD:a.txt"), UTF_8), "content of a.txt\n");
+    }
+
+    @Test
+    public void shouldStopAllProcessesOnClose() throws Exception {
+        pool.read(repository1, "HEAD:a.txt");
+        final CatFileBatch batch = pool.getBatch(repository1);
+        assertNotNull(batch.getProcess());
+
+        pool.close();
+
+        assertNull(batch.getProcess());
+        assertNull(pool.getBatch(repository1));
+    }
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class CatFileBatchTest {
+    private File         repository;
+    private CatFileBatch catFileBatch;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        repository = createRepository("a.txt", "b.txt");
+        catFileBatch = new CatFileBatch(repository);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        catFileBatch.close();
+        IoUtil.deleteRecursive(repository);
+    }
+
+    @Test
+    public void shouldReadContentOfObjects() throws Exception {
+        final List<byte[]> content = catFileBatch.read(Arrays.asList("HEAD:a.txt", "HEAD:missing.txt", "HEAD:b.txt"));
+
+        assertEquals(new String(content.get(0), UTF_8), "content of a.txt\n");
+        assertNull(content.get(1));
+        assertEquals(new String(content.get(2), UTF_8), "content of b.txt\n");
+    }
+
+    @Test
+    public void shouldReuseProcessForNextReads() throws Exception {
+        catFileBatch.read(Arrays.asList("HEAD:a.txt"));
+        final Process process = catFileBatch.getProcess();
+
+        catFileBatch.read(Arrays.asList("HEAD:b.txt"));
+
+        assertSame(catFileBatch.getProcess(), process);
+    }
+
+    @Test
+    public void shouldReadMoreObjectsThanCanBePipelinedAtOnce() throws Exception {
+        final List<String> objects = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            objects.add(i % 2 == 0 ? "HEAD:a.txt" : "HEAD:b.txt");
+        }
+
+        final List<byte[]> content = catFileBatch.read(objects);
+
+        assertEquals(content.size(), objects.size());
+        assertEquals(new String(content.get(4999), UTF_8), "content of b.txt\n");
+    }
+
+    @Test
+    public void shouldRestartProcessIfItDied() throws Exception {
+        catFileBatch.read(Arrays.asList("HEAD:a.txt"));
+        final Process process = catFileBatch.getProcess();
+        process.destroy();
+        process.waitFor();
+
+        final List<byte[]> content = catFileBatch.read(Arrays.asList("HEAD:b.txt"));
+
+        assertEquals(new String(content.get(0), UTF_8), "content of b.txt\n");
+        assertNotSame(catFileBatch.getProcess(), process);
+    }
+
+    @Test
+    public void shouldStopProcessAndNotReadAnythingAfterClose() throws Exception {
+        catFileBatch.read(Arrays.asList("HEAD:a.txt"));
+        final Process process = catFileBatch.getProcess();
+        assertNotNull(process);
+
+        catFileBatch.close();
+        process.waitFor();
+
+        assertNull(catFileBatch.read(Arrays.asList("HEAD:a.txt")));
+        assertNull(catFileBatch.getProcess());
+        assertTrue(!process.isAlive());
+    }
+
+    @Test
+    public void shouldKillProcessThatDoesNotRespondInTime() throws Exception {
+        // reads requests but never responds
+        final CatFileBatch silentBatch = new CatFileBatch(repository, 200, Arrays.asList("sh", "-c", "cat > /dev/null"));
+        try {
+            silentBatch.read(Arrays.asList("HEAD:a.txt"));
+            fail("Read must fail if process doesn't respond in time");
+        } catch (CatFileBatch.ReadTimeoutException expected) {
+        } finally {
+            silentBatch.close();
+        }
+
+        assertNull(silentBatch.getProcess());
+    }
+
+    static File createRepository(String... files) throws Exception {
+        final File repository = Files.createTempDirectory("cat-file").toFile();
+        git(repository, "init");
+        for (String file : files) {
+            Files.write(new File(repository, file).toPath(), ("content of " + file + '\n').getBytes(UTF_8));
+            git(repository, "add", file);
+        }
+        git(repository, "-c", "user.name=che", "-c", "user.email=che@eclipse.org", "commit", "-m", "init");
+        return repository;
+    }
+
+    private static void git(File repository, String... args) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        final Process process = new ProcessBuilder(command).directory(repository)
+                                                           .redirectErrorStream(true)
+                                                           .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                                                           .start();
+        if (process.waitFor() != 0) {
+            throw new IOException("Command failed: " + command);
+        }
+    }
+}
@@ -120,6 +120,7 @@ public class FactoryService extends Service {
     private final FactoryBuilder         factoryBuilder;
     private final WorkspaceManager       workspaceManager;
     private final UserDao                userDao;
+    private final ResolvedFactoryCache   resolvedFactories;
 
     @Inject
     public FactoryService(FactoryStore factoryStore,
@@ -130,7 +131,8 @@ public class FactoryService extends Service {
                           FactoryBuilder factoryBuilder,
                           WorkspaceManager workspaceManager,
                           FactoryParametersResolverHolder factoryParametersResolverHolder,
-                          UserDao userDao) {
+                          UserDao userDao,
+                          ResolvedFactoryCache resolvedFactories) {
         this.factoryStore = factoryStore;
         this.createValidator = createValidator;
         this.acceptValidator = acceptValidator;
@@ -140,6 +142,7 @@ public class FactoryService extends Service {
         this.workspaceManager = workspaceManager;
         this.factoryParametersResolvers = factoryParametersResolverHolder.getFactoryParametersResolvers();
         this.userDao = userDao;
+        this.resolvedFactories = resolvedFactories;
     }
 
     /**
@@ -350,6 +353,7 @@ public class FactoryService extends Service {
 
         // access granted, user can update the factory
         factoryStore.updateFactory(id, newFactory);
+        resolvedFactories.invalidate(id);
         newFactory.setLinks(createLinks(newFactory, factoryStore.getFactoryImages(id, null), uriInfo));
         return newFactory;
     }
@@ -389,6 +393,7 @@ public class FactoryService extends Service {
 
         // if validator didn't fail it means that the access is granted
         factoryStore.removeFactory(id);
+        resolvedFactories.invalidate(id);
     }
 
     /**
@@ -627,16 +632,19 @@ public class FactoryService extends Service {
             throw new BadRequestException(ERROR_NO_PARAMETERS);
         }
 
-        // search matching resolver
-        Optional<FactoryParametersResolver> factoryParametersResolverOptional = this.factoryParametersResolvers.stream().filter((resolver -> resolver.accept(parameters))).findFirst();
+        // create factory from matching resolver, unless it was already resolved from the same parameters
+        final String userId = EnvironmentContext.getCurrent().getSubject().getUserId();
+        final Factory factory = resolvedFactories.get(userId, parameters, () -> {
+            // search matching resolver
+            Optional<FactoryParametersResolver> factoryParametersResolverOptional =
+                    this.factoryParametersResolvers.stream().filter((resolver -> resolver.accept(parameters))).findFirst();
 
-        // no match
-        if (!factoryParametersResolverOptional.isPresent()) {
-            throw new NotFoundException(ERROR_NO_RESOLVER_AVAILABLE);
-        }
-
-        // create factory from matching resolver
-        final Factory factory = factoryParametersResolverOptional.get().createFactory(parameters);
+            // no match
+            if (!factoryParametersResolverOptional.isPresent()) {
+                throw new NotFoundException(ERROR_NO_RESOLVER_AVAILABLE);
+            }
+            return factoryParametersResolverOptional.get().createFactory(parameters);
+        });
 
         // Apply links
         try {
@@ -653,6 +661,21 @@ public class FactoryService extends Service {
         return factory;
     }
 
+    /**
+     * Returns statistics of the cache of factories resolved from parameters.
+     *
+     * @return number of hits and misses of the cache, number of evicted and cached factories
+     */
+    @GET
+    @Path("/resolver/statistics")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get statistics of the cache of resolved factories")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 500, message = "Internal server error")})
+    public Map<String, Long> getResolverStatistics() {
+        return resolvedFactories.getStatistics();
+    }
+
     /**
      * Creates factory links.
      *
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.factory.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.factory.shared.dto.Factory;
+import org.eclipse.che.dto.server.DtoFactory;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of factories built by {@link FactoryParametersResolver resolvers} from the resolver parameters,
+ * so popular factory links are not resolved again on each request.
+ * <p/>
+ * Factories are cached per user, as resolvers may build factory on behalf of the current user, e.g. from
+ * the private repository the user has access to. At most {@code maxEntries} factories are kept, each of them
+ * at most {@code ttl} seconds after it was resolved. Factories which were resolved from the parameters that
+ * reference the factory, e.g. by its id or url with its id, are forgotten when the factory is updated or removed.
+ * Factory that was being resolved while some factory was invalidated is not kept, as it might be resolved from
+ * the outdated factory. Only successfully resolved factories are cached.
+ */
+@Singleton
+public class ResolvedFactoryCache {
+
+    private final Cache<Key, Factory> factories;
+    /** Number of invalidations, it is changed before cached factories are forgotten. */
+    private final AtomicLong          invalidations;
+
+    @Inject
+    public ResolvedFactoryCache(@Named("factory.resolver.cache.max_entries") long maxEntries,
+                                @Named("factory.resolver.cache.ttl_sec") long ttl) {
+        this.factories = CacheBuilder.newBuilder()
+                                     .maximumSize(maxEntries)
+                                     .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                                     .recordStats()
+                                     .build();
+        this.invalidations = new AtomicLong();
+    }
+
+    /**
+     * Returns copy of the factory resolved from the given parameters for the given user, factory is resolved
+     * with the given resolution only if it is not cached.
+     *
+     * @param userId
+     *         id of the user on whose behalf factory is resolved
+     * @param parameters
+     *         resolver parameters
+     * @param resolution
+     *         resolves factory when it is not cached
+     * @throws NotFoundException
+     *         when there is no resolver for the parameters
+     * @throws BadRequestException
+     *         when the parameters are invalid
+     * @throws ServerException
+     *         when any other error occurs during resolution
+     */
+    public Factory get(String userId, Map<String, String> parameters, Resolution resolution)
+            throws NotFoundException, BadRequestException, ServerException {
+        final Key key = new Key(userId, parameters);
+        final long invalidationsBefore = invalidations.get();
+        final Factory factory;
+        try {
+            factory = factories.get(key, () -> DtoFactory.getInstance().clone(resolution.resolve()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof NotFoundException) {
+                throw (NotFoundException)cause;
+            }
+            if (cause instanceof BadRequestException) {
+                throw (BadRequestException)cause;
+            }
+            if (cause instanceof ServerException) {
+                throw (ServerException)cause;
+            }
+            throw new ServerException(cause.getLocalizedMessage(), cause);
+        }
+        if (invalidations.get() != invalidationsBefore) {
+            // factory might be resolved before invalidation from the outdated factory
+            factories.invalidate(key);
+        }
+        // callers modify returned factory, e.g. set its links
+        return DtoFactory.getInstance().clone(factory);
+    }
+
+    /** Forgets factories resolved from the parameters that reference the factory with the given id. */
+    public void invalidate(String factoryId) {
+        invalidations.incrementAndGet();
+        factories.asMap().entrySet().removeIf(entry -> factoryId.equals(entry.getValue().getId())
+                                                       || entry.getKey().references(factoryId));
+    }
+
+    /** Returns hits and misses of the cache and number of resolved factories that are kept. */
+    public Map<String, Long> getStatistics() {
+        final CacheStats stats = factories.stats();
+        final Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("hits", stats.hitCount());
+        statistics.put("misses", stats.missCount());
+        statistics.put("evictions", stats.evictionCount());
+        statistics.put("size", factories.size());
+        return statistics;
+    }
+
+    /**
+     * Checks whether parameter value is the factory id itself or url of the factory,
+     * e.g. {@code http://host/f?id=factoryId} or {@code http://host/api/factory/factoryId}.
+     */
+    private static boolean references(String value, String factoryId) {
+        return value != null
+               && (value.equals(factoryId)
+                   || value.endsWith('/' + factoryId)
+                   || value.contains("id=" + factoryId));
+    }
+
+    /** Resolves factory from the parameters when it is not cached. */
+    public interface Resolution {
+        Factory resolve() throws NotFoundException, BadRequestException, ServerException;
+    }
+
+    /** Resolver parameters and id of the user on whose behalf factory is resolved. */
+    private static final class Key {
+        final String              userId;
+        final Map<String, String> parameters;
+
+        Key(String userId, Map<String, String> parameters) {
+            this.userId = userId;
+            this.parameters = new HashMap<>(parameters);
+        }
+
+        /** Checks whether any of parameters references the factory with the given id. */
+        boolean references(String factoryId) {
+            return parameters.values().stream().anyMatch(value -> ResolvedFactoryCache.references(value, factoryId));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return Objects.equals(userId, other.userId) && parameters.equals(other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, parameters);
+        }
+    }
+}
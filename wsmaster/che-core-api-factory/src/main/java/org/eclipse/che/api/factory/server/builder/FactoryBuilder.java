@@ -34,7 +34,9 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -42,7 +44,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Arrays.asList;
 import static org.eclipse.che.api.core.factory.FactoryParameter.Obligation;
 import static org.eclipse.che.api.core.factory.FactoryParameter.Version;
 
@@ -66,11 +70,14 @@ public class FactoryBuilder {
         LEGACY_CONVERTERS = Collections.unmodifiableList(l);
     }
 
-    private final SourceStorageParametersValidator sourceStorageParametersValidator;
+    private final SourceStorageParametersValidator         sourceStorageParametersValidator;
+    /** Validation plans of factory parameters of DTO classes, see {@link #getPlan(Class, Class, Version)}. */
+    private final Map<List<Object>, List<ParameterPlan>> plans;
 
     @Inject
     public FactoryBuilder(SourceStorageParametersValidator sourceStorageParametersValidator) {
         this.sourceStorageParametersValidator = sourceStorageParametersValidator;
+        this.plans = new ConcurrentHashMap<>();
     }
 
     /**
@@ -194,88 +201,133 @@ public class FactoryBuilder {
             sourceStorageParametersValidator.validate((SourceStorage)object, version);
         }
 
-        // get all methods recursively
-        for (Method method : methodsProvider.getMethods()) {
-            FactoryParameter factoryParameter = method.getAnnotation(FactoryParameter.class);
-            // is it factory parameter
-
-            if (factoryParameter == null) {
-                continue;
-            }
-            String fullName = (parentName.isEmpty() ? "" : (parentName + ".")) + CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL,
-                                                                                                           method.getName()
-                                                                                                                 .substring(3)
-                                                                                                                 .toLowerCase());
+        for (ParameterPlan parameter : getPlan(methodsProvider, allowedMethodsProvider, version)) {
+            String fullName = (parentName.isEmpty() ? "" : (parentName + ".")) + parameter.name;
             // check that field is set
             Object parameterValue;
             try {
-                parameterValue = method.invoke(object);
-            } catch (IllegalAccessException | InvocationTargetException | IllegalArgumentException e) {
-                // should never happen
+                parameterValue = parameter.getter.invokeExact(object);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // should never happen, exception may be thrown only by getter itself
                 LOG.error(e.getLocalizedMessage(), e);
                 throw new ConflictException(FactoryConstants.INVALID_PARAMETER_MESSAGE);
             }
 
-
-
             // if value is null or empty collection or default value for primitives
             if (ValueHelper.isEmpty(parameterValue)) {
                 // field must not be a mandatory, unless it's ignored or deprecated or doesn't suit to the version
-                if (Obligation.MANDATORY.equals(factoryParameter.obligation()) &&
-                    factoryParameter.deprecatedSince()
-                                    .compareTo(version) > 0 &&
-                    factoryParameter.ignoredSince()
-                                    .compareTo(version) > 0 &&
-                    method.getDeclaringClass()
-                          .isAssignableFrom(allowedMethodsProvider)) {
-                    throw new ConflictException(String.format(FactoryConstants.MISSING_MANDATORY_MESSAGE, method.getName()));
+                if (parameter.mandatory) {
+                    throw new ConflictException(String.format(FactoryConstants.MISSING_MANDATORY_MESSAGE, parameter.methodName));
                 }
-            } else if (!method.getDeclaringClass()
-                              .isAssignableFrom(allowedMethodsProvider)) {
+            } else if (!parameter.allowed || parameter.rejected) {
+                // parameter doesn't suit to the version, is deprecated or can be set only by server
                 throw new ConflictException(String.format(FactoryConstants.PARAMETRIZED_INVALID_PARAMETER_MESSAGE, fullName, version));
-            } else {
-                // is parameter deprecated
-                if (factoryParameter.deprecatedSince().compareTo(version) <= 0 || factoryParameter.setByServer()) {
-                    throw new ConflictException(
-                            String.format(FactoryConstants.PARAMETRIZED_INVALID_PARAMETER_MESSAGE, fullName, version));
+            } else if (parameter.unsupported) {
+                throw new RuntimeException("This type of fields is not supported by factory.");
+            } else if (parameter.nestedDto != null) {
+                // use recursion if parameter is DTO object or map or list of DTO objects
+                if (parameter.nestedDto == parameter.type) {
+                    // validate inner objects such Git ot ProjectAttributes
+                    validateCompatibility(parameterValue, object, parameter.nestedDto, parameter.nestedDto, version, fullName);
+                } else if (Map.class.isAssignableFrom(parameter.type)) {
+                    Map<Object, Object> map = (Map)parameterValue;
+                    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                        validateCompatibility(entry.getValue(), object, parameter.nestedDto, parameter.nestedDto, version,
+                                              fullName + "." + entry.getKey());
+                    }
+                } else {
+                    List<Object> list = (List)parameterValue;
+                    for (Object entry : list) {
+                        validateCompatibility(entry, object, parameter.nestedDto, parameter.nestedDto, version, fullName);
+                    }
                 }
+            }
+        }
+    }
 
-                // use recursion if parameter is DTO object
-                if (method.getReturnType().isAnnotationPresent(DTO.class)) {
-                    // validate inner objects such Git ot ProjectAttributes
-                    validateCompatibility(parameterValue, object, method.getReturnType(), method.getReturnType(), version, fullName);
-                } else if (Map.class.isAssignableFrom(method.getReturnType())) {
-                    Type tp = ((ParameterizedType)method.getGenericReturnType()).getActualTypeArguments()[1];
+    /**
+     * Returns validation plan of factory parameters of the given class, the plan is built once for
+     * each combination of class, allowed methods provider and version of factory.
+     */
+    private List<ParameterPlan> getPlan(Class methodsProvider, Class allowedMethodsProvider, Version version) {
+        return plans.computeIfAbsent(asList(methodsProvider, allowedMethodsProvider, version),
+                                     key -> buildPlan(methodsProvider, allowedMethodsProvider, version));
+    }
 
-                    Class secMapParamClass = (tp instanceof ParameterizedType) ? (Class)((ParameterizedType)tp).getRawType() : (Class)tp;
-                    if (!String.class.equals(secMapParamClass) && !List.class.equals(secMapParamClass)) {
-                        if (secMapParamClass.isAnnotationPresent(DTO.class)) {
-                            Map<Object, Object> map = (Map)parameterValue;
-                            for (Map.Entry<Object, Object> entry : map.entrySet()) {
-                                validateCompatibility(entry.getValue(), object, secMapParamClass, secMapParamClass, version,
-                                                      fullName + "." + entry.getKey());
-                            }
-                        } else {
-                            throw new RuntimeException("This type of fields is not supported by factory.");
-                        }
-                    }
-                } else if (List.class.isAssignableFrom(method.getReturnType())) {
-                    Type tp = ((ParameterizedType)method.getGenericReturnType()).getActualTypeArguments()[0];
+    private static List<ParameterPlan> buildPlan(Class<?> methodsProvider, Class<?> allowedMethodsProvider, Version version) {
+        List<ParameterPlan> plan = new ArrayList<>();
+        // get all methods recursively
+        for (Method method : methodsProvider.getMethods()) {
+            FactoryParameter factoryParameter = method.getAnnotation(FactoryParameter.class);
+            // is it factory parameter
+            if (factoryParameter != null) {
+                plan.add(new ParameterPlan(method, factoryParameter, allowedMethodsProvider, version));
+            }
+        }
+        return Collections.unmodifiableList(plan);
+    }
 
-                    Class secListParamClass = (tp instanceof ParameterizedType) ? (Class)((ParameterizedType)tp).getRawType() : (Class)tp;
-                    if (!String.class.equals(secListParamClass) && !List.class.equals(secListParamClass)) {
-                        if (secListParamClass.isAnnotationPresent(DTO.class)) {
-                            List<Object> list = (List)parameterValue;
-                            for (Object entry : list) {
-                                validateCompatibility(entry, object, secListParamClass, secListParamClass, version, fullName);
-                            }
-                        } else {
-                            throw new RuntimeException("This type of fields is not supported by factory.");
-                        }
-                    }
+    /** Precomputed information needed to validate single factory parameter. */
+    private static class ParameterPlan {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        final String       methodName;
+        final String       name;
+        final MethodHandle getter;
+        final Class        type;
+        /** Parameter is declared in the version of factory. */
+        final boolean      allowed;
+        /** Parameter must be set. */
+        final boolean      mandatory;
+        /** Parameter is deprecated in the version of factory or it can be set only by server. */
+        final boolean      rejected;
+        /** Parameter is map or list of values which can't be validated. */
+        final boolean      unsupported;
+        /** DTO class of parameter value, or of values of map or list, which parameters are validated recursively. */
+        final Class        nestedDto;
+
+        ParameterPlan(Method method, FactoryParameter factoryParameter, Class<?> allowedMethodsProvider, Version version) {
+            this.methodName = method.getName();
+            this.name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, method.getName().substring(3).toLowerCase());
+            try {
+                this.getter = MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e.getLocalizedMessage(), e);
+            }
+            this.type = method.getReturnType();
+            this.allowed = method.getDeclaringClass().isAssignableFrom(allowedMethodsProvider);
+            this.mandatory = Obligation.MANDATORY.equals(factoryParameter.obligation())
+                             && factoryParameter.deprecatedSince().compareTo(version) > 0
+                             && factoryParameter.ignoredSince().compareTo(version) > 0
+                             && allowed;
+            this.rejected = factoryParameter.deprecatedSince().compareTo(version) <= 0 || factoryParameter.setByServer();
+
+            if (type.isAnnotationPresent(DTO.class)) {
+                this.unsupported = false;
+                this.nestedDto = type;
+            } else {
+                Class elementClass = null;
+                if (Map.class.isAssignableFrom(type)) {
+                    elementClass = typeArgument(method, 1);
+                } else if (List.class.isAssignableFrom(type)) {
+                    elementClass = typeArgument(method, 0);
+                }
+                if (elementClass == null || String.class.equals(elementClass) || List.class.equals(elementClass)) {
+                    this.unsupported = false;
+                    this.nestedDto = null;
+                } else {
+                    this.unsupported = !elementClass.isAnnotationPresent(DTO.class);
+                    this.nestedDto = unsupported ? null : elementClass;
                 }
             }
         }
+
+        private static Class typeArgument(Method method, int index) {
+            Type tp = ((ParameterizedType)method.getGenericReturnType()).getActualTypeArguments()[index];
+            return (tp instanceof ParameterizedType) ? (Class)((ParameterizedType)tp).getRawType() : (Class)tp;
+        }
     }
 
     private boolean hasSubprojectInPath(Object parent) {
@@ -99,6 +99,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -144,6 +145,8 @@ public class FactoryServiceTest {
 
     private FactoryBuilder factoryBuilder;
 
+    private ResolvedFactoryCache resolvedFactories;
+
     private FactoryService factoryService;
     private DtoFactory     dto;
 
@@ -162,6 +165,7 @@ public class FactoryServiceTest {
         doNothing().when(factoryBuilder).checkValid(any(Factory.class));
         when(factoryParametersResolverHolder.getFactoryParametersResolvers()).thenReturn(factoryParametersResolvers);
         when(userDao.getById(anyString())).thenReturn(new User().withName(JettyHttpServer.ADMIN_USER_NAME));
+        resolvedFactories = new ResolvedFactoryCache(100, 60);
         factoryService = new FactoryService(factoryStore,
                                             createValidator,
                                             acceptValidator,
@@ -170,7 +174,8 @@ public class FactoryServiceTest {
                                             factoryBuilder,
                                             workspaceManager,
                                             factoryParametersResolverHolder,
-                                            userDao);
+                                            userDao,
+                                            resolvedFactories);
     }
 
     @Filter
@@ -1306,6 +1311,58 @@ public class FactoryServiceTest {
     }
 
 
+    /**
+     * Check that factory resolved from the same parameters is taken from the cache
+     */
+    @Test
+    public void shouldResolveFactoryOnceForSameParameters() throws Exception {
+        FactoryParametersResolver dummyResolver = mock(FactoryParametersResolver.class);
+        when(factoryParametersResolvers.stream()).thenAnswer(invocation -> Collections.singleton(dummyResolver).stream());
+        Factory expectFactory = dto.createDto(Factory.class).withV("4.0").withName("matchingResolverFactory");
+        when(dummyResolver.accept(anyMap())).thenReturn(TRUE);
+        when(dummyResolver.createFactory(anyMap())).thenReturn(expectFactory);
+
+        // when
+        Map<String, String> map = Collections.singletonMap("url", "http://github.com/codenvy/platform-api.git");
+        Response first = given().contentType(ContentType.JSON).when().body(map).post(SERVICE_PATH_RESOLVER);
+        Response second = given().contentType(ContentType.JSON).when().body(map).post(SERVICE_PATH_RESOLVER);
+
+        // then
+        assertEquals(first.getStatusCode(), OK.getStatusCode());
+        assertEquals(second.getStatusCode(), OK.getStatusCode());
+        Factory responseFactory = dto.createDtoFromJson(second.getBody().asInputStream(), Factory.class);
+        assertEquals(responseFactory.getName(), expectFactory.getName());
+        verify(dummyResolver).createFactory(anyMap());
+        assertEquals(resolvedFactories.getStatistics().get("hits"), Long.valueOf(1));
+        assertEquals(resolvedFactories.getStatistics().get("misses"), Long.valueOf(1));
+    }
+
+    /**
+     * Check that factory is resolved again when the factory it was resolved from is removed
+     */
+    @Test
+    public void shouldResolveFactoryAgainWhenItIsRemoved() throws Exception {
+        FactoryParametersResolver dummyResolver = mock(FactoryParametersResolver.class);
+        when(factoryParametersResolvers.stream()).thenAnswer(invocation -> Collections.singleton(dummyResolver).stream());
+        when(dummyResolver.accept(anyMap())).thenReturn(TRUE);
+        when(dummyResolver.createFactory(anyMap())).thenReturn(dto.createDto(Factory.class).withV("4.0"));
+        when(factoryStore.getFactory(CORRECT_FACTORY_ID)).thenReturn(prepareFactoryWithGivenStorage("git", "http://github.com/codenvy/platform-api.git"));
+        Map<String, String> map = Collections.singletonMap("id", CORRECT_FACTORY_ID);
+        given().contentType(ContentType.JSON).when().body(map).post(SERVICE_PATH_RESOLVER);
+
+        // when
+        given().auth()
+               .basic(JettyHttpServer.ADMIN_USER_NAME, JettyHttpServer.ADMIN_USER_PASSWORD)
+               .when()
+               .delete("/private" + SERVICE_PATH + "/" + CORRECT_FACTORY_ID);
+        Response response = given().contentType(ContentType.JSON).when().body(map).post(SERVICE_PATH_RESOLVER);
+
+        // then
+        assertEquals(response.getStatusCode(), OK.getStatusCode());
+        verify(dummyResolver, times(2)).createFactory(anyMap());
+    }
+
+
     /**
      * Check that if there is no matching resolver, there is error
      */
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.factory.server;
+
+import org.eclipse.che.api.factory.shared.dto.Factory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonMap;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.testng.Assert.assertEquals;
+
+public class ResolvedFactoryCacheTest {
+    private static final Map<String, String> PARAMETERS = singletonMap("url", "https://github.com/eclipse/che");
+
+    private ResolvedFactoryCache cache;
+    private AtomicInteger        resolutions;
+
+    @BeforeMethod
+    public void setUp() {
+        cache = new ResolvedFactoryCache(100, 60);
+        resolutions = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldResolveFactoryOnceForSameUserAndParameters() throws Exception {
+        cache.get("user1", PARAMETERS, this::resolve);
+        Factory factory = cache.get("user1", PARAMETERS, this::resolve);
+
+        assertEquals(resolutions.get(), 1);
+        assertEquals(factory.getName(), "factory1");
+    }
+
+    @Test
+    public void shouldNotShareResolvedFactoriesBetweenUsers() throws Exception {
+        cache.get("user1", PARAMETERS, this::resolve);
+        Factory factory = cache.get("user2", PARAMETERS, this::resolve);
+
+        assertEquals(resolutions.get(), 2);
+        assertEquals(factory.getName(), "factory2");
+    }
+
+    @Test
+    public void shouldForgetFactoriesThatReferenceInvalidatedFactory() throws Exception {
+        Map<String, String> parameters = singletonMap("id", "factoryId");
+        cache.get("user1", parameters, this::resolve);
+        cache.get("user2", parameters, this::resolve);
+
+        cache.invalidate("factoryId");
+        cache.get("user1", parameters, this::resolve);
+
+        assertEquals(resolutions.get(), 3);
+        assertEquals(cache.getStatistics().get("size"), Long.valueOf(1));
+    }
+
+    @Test
+    public void shouldNotKeepFactoryResolvedWhileFactoryWasInvalidated() throws Exception {
+        cache.get("user1", PARAMETERS, () -> {
+            // factory is updated while it is being resolved
+            cache.invalidate("factoryId");
+            return resolve();
+        });
+        Factory factory = cache.get("user1", PARAMETERS, this::resolve);
+
+        assertEquals(resolutions.get(), 2);
+        assertEquals(factory.getName(), "factory2");
+    }
+
+    @Test
+    public void shouldReturnCopyOfCachedFactory() throws Exception {
+        cache.get("user1", PARAMETERS, this::resolve).setName("changed");
+
+        assertEquals(cache.get("user1", PARAMETERS, this::resolve).getName(), "factory1");
+    }
+
+    private Factory resolve() {
+        return newDto(Factory.class).withV("4.0").withName("factory" + resolutions.incrementAndGet());
+    }
+}
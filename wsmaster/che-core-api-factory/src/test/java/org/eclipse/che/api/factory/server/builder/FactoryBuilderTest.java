@@ -90,6 +90,15 @@ public class FactoryBuilderTest {
         verify(sourceProjectParametersValidator).validate(any(), eq(FactoryParameter.Version.V4_0));
     }
 
+    @Test(expectedExceptions = ApiException.class,
+          expectedExceptionsMessageRegExp = "You have provided an invalid parameter .* for this version of Factory parameters.*")
+    public void shouldNotAllowUsingParamsThatCanBeSetOnlyByServerWhenFactoryOfSameVersionWasValidatedBefore() throws Exception {
+        factoryBuilder.checkValid(actual);
+        factoryBuilder.checkValid(actual);
+
+        factoryBuilder.checkValid(dto.clone(actual).withId("id"));
+    }
+
     @Test(expectedExceptions = ApiException.class)
     public void shouldNotValidateUnparseableFactory() throws ApiException, URISyntaxException {
         factoryBuilder.checkValid(null);
@@ -44,6 +44,11 @@ public class Constants {
 
     public static final String WS_AGENT_PORT = "4401/tcp";
 
+    /** Runtime properties with durations of the machine start phases in milliseconds */
+    public static final String MACHINE_START_INSTANCE_TIME_PROPERTY = "start.instance_time_ms";
+    public static final String MACHINE_START_WS_AGENT_TIME_PROPERTY = "start.ws_agent_time_ms";
+    public static final String MACHINE_START_TOTAL_TIME_PROPERTY    = "start.total_time_ms";
+
     private Constants() {
     }
 
@@ -22,13 +22,14 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
+import org.eclipse.che.api.core.model.machine.MachineRuntimeInfo;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.core.util.BatchingWebsocketLineConsumer;
 import org.eclipse.che.api.core.util.CompositeLineConsumer;
 import org.eclipse.che.api.core.util.FileLineConsumer;
 import org.eclipse.che.api.core.util.LineConsumer;
-import org.eclipse.che.api.core.util.WebsocketLineConsumer;
 import org.eclipse.che.api.machine.server.dao.SnapshotDao;
 import org.eclipse.che.api.machine.server.event.InstanceStateEvent;
 import org.eclipse.che.api.machine.server.exception.MachineException;
@@ -48,7 +49,7 @@ import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.NameGenerator;
-import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+import org.eclipse.che.commons.lang.concurrent.ManagedThreadPoolExecutor;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,13 +68,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.eclipse.che.api.machine.server.event.InstanceStateEvent.Type.DIE;
 import static org.eclipse.che.api.machine.server.event.InstanceStateEvent.Type.OOM;
+import static org.eclipse.che.api.machine.shared.Constants.MACHINE_START_INSTANCE_TIME_PROPERTY;
+import static org.eclipse.che.api.machine.shared.Constants.MACHINE_START_TOTAL_TIME_PROPERTY;
+import static org.eclipse.che.api.machine.shared.Constants.MACHINE_START_WS_AGENT_TIME_PROPERTY;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
@@ -97,9 +102,14 @@ public class MachineManager {
     private final int                      defaultMachineMemorySizeMB;
     private final MachineCleaner           machineCleaner;
     private final WsAgentLauncher          wsAgentLauncher;
+    private final long                     logsFlushIntervalMs;
+    private final int                      logsMaxBufferedLines;
+    private final ScheduledExecutorService scheduler;
 
     @VisibleForTesting
     final ExecutorService executor;
+    @VisibleForTesting
+    final ExecutorService processExecutor;
 
     @Inject
     public MachineManager(SnapshotDao snapshotDao,
@@ -108,7 +118,12 @@ public class MachineManager {
                           @Named("machine.logs.location") String machineLogsDir,
                           EventService eventService,
                           @Named("machine.default_mem_size_mb") int defaultMachineMemorySizeMB,
-                          WsAgentLauncher wsAgentLauncher) {
+                          WsAgentLauncher wsAgentLauncher,
+                          @Named("machine.logs.flush_interval_ms") long logsFlushIntervalMs,
+                          @Named("machine.logs.max_buffered_lines") int logsMaxBufferedLines,
+                          @Named("machine.executor.max_threads") int executorMaxThreads,
+                          @Named("machine.executor.queue_capacity") int executorQueueCapacity,
+                          @Named("machine.process_executor.max_threads") int processExecutorMaxThreads) {
         this.snapshotDao = snapshotDao;
         this.machineInstanceProviders = machineInstanceProviders;
         this.eventService = eventService;
@@ -116,10 +131,16 @@ public class MachineManager {
         this.machineLogsDir = new File(machineLogsDir);
         this.machineRegistry = machineRegistry;
         this.defaultMachineMemorySizeMB = defaultMachineMemorySizeMB;
-
-        executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("MachineManager-%d")
-                                                                           .setDaemon(false)
-                                                                           .build());
+        this.logsFlushIntervalMs = logsFlushIntervalMs;
+        this.logsMaxBufferedLines = logsMaxBufferedLines;
+
+        executor = new ManagedThreadPoolExecutor("MachineManager", executorMaxThreads, executorQueueCapacity, false);
+        // processes may run for hours, so they must not occupy threads that start, save and destroy machines
+        processExecutor = new ManagedThreadPoolExecutor("MachineProcesses", processExecutorMaxThreads, 0, false);
+        scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                     new ThreadFactoryBuilder().setNameFormat("MachineScheduler-%d")
+                                                                               .setDaemon(true)
+                                                                               .build());
         this.machineCleaner = new MachineCleaner();
     }
 
@@ -254,7 +275,7 @@ public class MachineManager {
                              workspaceId,
                              environmentName,
                              (instanceProvider, machine, machineLogger) ->
-                                     executor.execute(ThreadLocalPropagateContext.wrap(() -> {
+                                     executor.execute(() -> {
                                          try {
                                              createInstance(instanceProvider,
                                                             machine,
@@ -263,7 +284,7 @@ public class MachineManager {
                                              LOG.error(e.getLocalizedMessage(), e);
                                              // todo what should we do in that case?
                                          }
-                                     })),
+                                     }),
                              null);
     }
 
@@ -340,6 +361,29 @@ public class MachineManager {
             } catch (IOException ignored) {
             }
             throw new MachineException(e.getLocalizedMessage(), e);
+        } catch (RejectedExecutionException e) {
+            // machine is registered but will never be started, so registry entry and logger must be released
+            try {
+                machineRegistry.remove(machineId);
+            } catch (NotFoundException ignored) {
+            }
+            try {
+                machineLogger.close();
+            } catch (IOException ignored) {
+            }
+            throw new MachineException(format("Unable to start machine '%s' of workspace '%s', too many machines are being started",
+                                              machineConfig.getName(), workspaceId));
+        }
+    }
+
+    /**
+     * Stores duration of the machine start phase in the runtime properties of the instance,
+     * so start time may be analyzed per machine, not only from the server logs.
+     */
+    private void recordStartTime(Instance instance, String property, long timeMs) {
+        final MachineRuntimeInfo runtime = instance.getRuntime();
+        if (runtime != null) {
+            runtime.getProperties().put(property, Long.toString(timeMs));
         }
     }
 
@@ -355,14 +399,34 @@ public class MachineManager {
                                            .withWorkspaceId(machine.getWorkspaceId())
                                            .withMachineName(machine.getConfig().getName()));
 
+            final long creationStartTime = System.currentTimeMillis();
             instance = instanceProvider.createInstance(machine, machineLogger);
+            final long instanceCreationTime = System.currentTimeMillis() - creationStartTime;
+
+            recordStartTime(instance, MACHINE_START_INSTANCE_TIME_PROPERTY, instanceCreationTime);
 
             instance.setStatus(MachineStatus.RUNNING);
 
             machineRegistry.update(instance);
 
             if (machine.getConfig().isDev()) {
+                final long wsAgentStartTime = System.currentTimeMillis();
                 wsAgentLauncher.startWsAgent(machine.getWorkspaceId());
+                final long wsAgentTime = System.currentTimeMillis() - wsAgentStartTime;
+                recordStartTime(instance, MACHINE_START_WS_AGENT_TIME_PROPERTY, wsAgentTime);
+                recordStartTime(instance, MACHINE_START_TOTAL_TIME_PROPERTY, System.currentTimeMillis() - creationStartTime);
+                LOG.info("Dev machine '{}' of workspace '{}' is started in {} ms. Instance creation: {} ms, ws agent start: {} ms",
+                         machine.getConfig().getName(),
+                         machine.getWorkspaceId(),
+                         System.currentTimeMillis() - creationStartTime,
+                         instanceCreationTime,
+                         wsAgentTime);
+            } else {
+                recordStartTime(instance, MACHINE_START_TOTAL_TIME_PROPERTY, instanceCreationTime);
+                LOG.info("Machine '{}' of workspace '{}' is started in {} ms",
+                         machine.getConfig().getName(),
+                         machine.getWorkspaceId(),
+                         instanceCreationTime);
             }
 
             eventService.publish(DtoFactory.newDto(MachineStatusEvent.class)
@@ -436,10 +500,7 @@ public class MachineManager {
      * @return list of machines or empty list
      */
     public List<MachineImpl> getMachines(String workspaceId) throws MachineException, BadRequestException {
-        return machineRegistry.getMachines()
-                              .stream()
-                              .filter(machine -> machine.getWorkspaceId().equals(workspaceId))
-                              .collect(Collectors.toList());
+        return new ArrayList<>(machineRegistry.getMachines(workspaceId));
     }
 
     /**
@@ -485,13 +546,17 @@ public class MachineManager {
                                                   .setMachineName(machine.getConfig().getName())
                                                   .useCurrentCreationDate()
                                                   .build();
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            try {
-                doSaveMachine(snapshot, machine);
-            } catch (Exception ignored) {
-                // exception is already logged in #doSaveMachine
-            }
-        }));
+        try {
+            executor.execute(() -> {
+                try {
+                    doSaveMachine(snapshot, machine);
+                } catch (Exception ignored) {
+                    // exception is already logged in #doSaveMachine
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new MachineException(format("Unable to save machine '%s', too many tasks are running", machineId));
+        }
         return snapshot;
     }
 
@@ -630,37 +695,46 @@ public class MachineManager {
 
         final LineConsumer processLogger = getProcessLogger(machineId, pid, outputChannel);
 
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            try {
-                eventService.publish(newDto(MachineProcessEvent.class)
-                                             .withEventType(MachineProcessEvent.EventType.STARTED)
-                                             .withMachineId(machineId)
-                                             .withProcessId(pid));
-
-                instanceProcess.start(processLogger);
-
-                eventService.publish(newDto(MachineProcessEvent.class)
-                                             .withEventType(MachineProcessEvent.EventType.STOPPED)
-                                             .withMachineId(machineId)
-                                             .withProcessId(pid));
-            } catch (ConflictException | MachineException error) {
-                eventService.publish(newDto(MachineProcessEvent.class)
-                                             .withEventType(MachineProcessEvent.EventType.ERROR)
-                                             .withMachineId(machineId)
-                                             .withProcessId(pid)
-                                             .withError(error.getLocalizedMessage()));
-
-                try {
-                    processLogger.writeLine(String.format("[ERROR] %s", error.getMessage()));
-                } catch (IOException ignored) {
-                }
-            } finally {
+        try {
+            processExecutor.execute(() -> {
                 try {
-                    processLogger.close();
-                } catch (IOException ignored) {
+                    eventService.publish(newDto(MachineProcessEvent.class)
+                                                 .withEventType(MachineProcessEvent.EventType.STARTED)
+                                                 .withMachineId(machineId)
+                                                 .withProcessId(pid));
+
+                    instanceProcess.start(processLogger);
+
+                    eventService.publish(newDto(MachineProcessEvent.class)
+                                                 .withEventType(MachineProcessEvent.EventType.STOPPED)
+                                                 .withMachineId(machineId)
+                                                 .withProcessId(pid));
+                } catch (ConflictException | MachineException error) {
+                    eventService.publish(newDto(MachineProcessEvent.class)
+                                                 .withEventType(MachineProcessEvent.EventType.ERROR)
+                                                 .withMachineId(machineId)
+                                                 .withProcessId(pid)
+                                                 .withError(error.getLocalizedMessage()));
+
+                    try {
+                        processLogger.writeLine(String.format("[ERROR] %s", error.getMessage()));
+                    } catch (IOException ignored) {
+                    }
+                } finally {
+                    try {
+                        processLogger.close();
+                    } catch (IOException ignored) {
+                    }
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            try {
+                processLogger.close();
+            } catch (IOException ignored) {
             }
-        }));
+            throw new MachineException(format("Unable to start process '%s' in machine '%s', too many processes are running",
+                                              pid, machineId));
+        }
         return instanceProcess;
     }
 
@@ -732,13 +806,18 @@ public class MachineManager {
                                      .withMachineName(machine.getConfig().getName()));
 
         if (async) {
-            executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-                try {
-                    doDestroy(machine);
-                } catch (NotFoundException | MachineException e) {
-                    LOG.error(e.getLocalizedMessage(), e);
-                }
-            }));
+            try {
+                executor.execute(() -> {
+                    try {
+                        doDestroy(machine);
+                    } catch (NotFoundException | MachineException e) {
+                        LOG.error(e.getLocalizedMessage(), e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Asynchronous destroy of machine '{}' is rejected, destroying it synchronously", machineId);
+                doDestroy(machine);
+            }
         } else {
             doDestroy(machine);
         }
@@ -881,7 +960,7 @@ public class MachineManager {
 
     private FileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
         try {
-            return new FileLineConsumer(getMachineLogsFile(machineId));
+            return new FileLineConsumer(getMachineLogsFile(machineId), scheduler, logsFlushIntervalMs);
         } catch (IOException e) {
             throw new MachineException(String.format("Unable create log file for machine '%s'. %s", machineId, e.getMessage()));
         }
@@ -897,7 +976,7 @@ public class MachineManager {
 
     private FileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
         try {
-            return new FileLineConsumer(getProcessLogsFile(machineId, pid));
+            return new FileLineConsumer(getProcessLogsFile(machineId, pid), scheduler, logsFlushIntervalMs);
         } catch (IOException e) {
             throw new MachineException(
                     String.format("Unable create log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -920,7 +999,10 @@ public class MachineManager {
 
     private LineConsumer getLogger(LineConsumer fileLogger, String outputChannel) throws MachineException {
         if (outputChannel != null) {
-            return new CompositeLineConsumer(fileLogger, new WebsocketLineConsumer(outputChannel));
+            return new CompositeLineConsumer(fileLogger, new BatchingWebsocketLineConsumer(outputChannel,
+                                                                                           scheduler,
+                                                                                           logsFlushIntervalMs,
+                                                                                           logsMaxBufferedLines));
         }
         return fileLogger;
     }
@@ -1003,6 +1085,7 @@ public class MachineManager {
         boolean interrupted = false;
 
         executor.shutdown();
+        processExecutor.shutdown();
 
         final ExecutorService destroyMachinesExecutor =
                 Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors(),
@@ -1047,6 +1130,12 @@ public class MachineManager {
             executor.shutdownNow();
         }
 
+        // processes are stopped with their machines, so the pool is expected to be empty at this point
+        processExecutor.shutdownNow();
+
+        // machines are destroyed at this point so all the loggers are closed and flushed
+        scheduler.shutdownNow();
+
         final java.io.File[] files = machineLogsDir.listFiles();
         if (files != null && files.length > 0) {
             for (java.io.File f : files) {
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.machine.server;
 
+import com.google.common.util.concurrent.Striped;
+
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.machine.server.exception.MachineException;
@@ -19,38 +21,79 @@ import org.eclipse.che.api.machine.server.spi.Instance;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Holds active machines
+ * <p/>
+ * Reads are lock-free. Modifications of the same machine are serialized by striped locks,
+ * modifications of different machines don't block each other.
+ * Registry keeps index of machines by workspace id and index of running dev machines by workspace id,
+ * so lookups by workspace don't require iteration over all the machines.
  *
  * @author Alexander Garagatyi
  */
 @Singleton
 public class MachineRegistry {
-    // TODO add locks per workspace or machine
-    private final HashMap<String, Instance>    instances;
-    private final HashMap<String, MachineImpl> machines;
+    private static final Striped<Lock> STRIPED = Striped.lock(16);
+
+    private final ConcurrentHashMap<String, Instance>    instances;
+    private final ConcurrentHashMap<String, MachineImpl> machines;
+    /** Workspace id -> ids of all the machines of the workspace. */
+    private final ConcurrentHashMap<String, Set<String>> workspaceMachines;
+    /** Workspace id -> running dev machine of the workspace. */
+    private final ConcurrentHashMap<String, Instance>    devInstances;
 
     public MachineRegistry() {
-        instances = new HashMap<>();
-        machines = new HashMap<>();
+        instances = new ConcurrentHashMap<>();
+        machines = new ConcurrentHashMap<>();
+        workspaceMachines = new ConcurrentHashMap<>();
+        devInstances = new ConcurrentHashMap<>();
     }
 
-    //TODO return unmodifiable lists
-
     /**
      * Get all active machines
      *
      * @throws MachineException
      *         if any error occurs
      */
-    public synchronized List<MachineImpl> getMachines() throws MachineException {
+    public List<MachineImpl> getMachines() throws MachineException {
         final List<MachineImpl> list = new ArrayList<>(machines.size() + instances.size());
-        list.addAll(machines.values());
-        list.addAll(instances.values().stream().map(this::toMachine).collect(Collectors.toList()));
+        for (Instance instance : instances.values()) {
+            list.add(toMachine(instance));
+        }
+        for (MachineImpl machine : machines.values()) {
+            // machine may be already replaced with instance
+            if (!instances.containsKey(machine.getId())) {
+                list.add(machine);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get all active machines of specific workspace
+     *
+     * @param workspaceId
+     *         id of workspace
+     * @throws MachineException
+     *         if any error occurs
+     */
+    public List<MachineImpl> getMachines(String workspaceId) throws MachineException {
+        final Set<String> machineIds = workspaceMachines.get(workspaceId);
+        if (machineIds == null) {
+            return Collections.emptyList();
+        }
+        final List<MachineImpl> list = new ArrayList<>(machineIds.size());
+        for (String machineId : machineIds) {
+            final MachineImpl machine = findMachine(machineId);
+            if (machine != null) {
+                list.add(machine);
+            }
+        }
         return Collections.unmodifiableList(list);
     }
 
@@ -64,16 +107,11 @@ public class MachineRegistry {
      * @throws MachineException
      *         if other error occurs
      */
-    public synchronized MachineImpl getMachine(String machineId) throws NotFoundException, MachineException {
-        MachineImpl machine = machines.get(machineId);
+    public MachineImpl getMachine(String machineId) throws NotFoundException, MachineException {
+        final MachineImpl machine = findMachine(machineId);
         if (machine == null) {
-            final Instance instance = instances.get(machineId);
-            if (instance == null) {
-                throw new NotFoundException("Machine " + machineId + " is not found");
-            }
-            machine = toMachine(instance);
+            throw new NotFoundException("Machine " + machineId + " is not found");
         }
-
         return machine;
     }
 
@@ -83,7 +121,7 @@ public class MachineRegistry {
      * @param machineId
      *         unique machine identifier
      */
-    public synchronized boolean isExist(String machineId) {
+    public boolean isExist(String machineId) {
         return machines.containsKey(machineId) || instances.containsKey(machineId);
     }
 
@@ -97,14 +135,12 @@ public class MachineRegistry {
      * @throws MachineException
      *         if other error occurs
      */
-    public synchronized MachineImpl getDevMachine(String workspaceId) throws NotFoundException, MachineException {
-        for (Instance instance : instances.values()) {
-            if (instance.getWorkspaceId().equals(workspaceId) && instance.getConfig().isDev()) {
-                return toMachine(instance);
-            }
+    public MachineImpl getDevMachine(String workspaceId) throws NotFoundException, MachineException {
+        final Instance instance = devInstances.get(workspaceId);
+        if (instance == null) {
+            throw new NotFoundException("Dev machine of workspace " + workspaceId + " is not running.");
         }
-
-        throw new NotFoundException("Dev machine of workspace " + workspaceId + " is not running.");
+        return toMachine(instance);
     }
 
     /**
@@ -118,7 +154,7 @@ public class MachineRegistry {
      * @throws MachineException
      *         if other error occurs
      */
-    public synchronized Instance getInstance(String machineId) throws NotFoundException, MachineException {
+    public Instance getInstance(String machineId) throws NotFoundException, MachineException {
         final Instance instance = instances.get(machineId);
         if (instance == null) {
             throw new NotFoundException("Machine " + machineId + " is not found");
@@ -137,11 +173,18 @@ public class MachineRegistry {
      * @throws MachineException
      *         if any other error occurs
      */
-    public synchronized void addMachine(MachineImpl machine) throws MachineException, ConflictException {
-        if (machines.containsKey(machine.getId())) {
-            throw new ConflictException("Machine with id " + machine.getId() + " is already exist");
+    public void addMachine(MachineImpl machine) throws MachineException, ConflictException {
+        final Lock lock = STRIPED.get(machine.getId());
+        lock.lock();
+        try {
+            if (machines.containsKey(machine.getId())) {
+                throw new ConflictException("Machine with id " + machine.getId() + " is already exist");
+            }
+            machines.put(machine.getId(), machine);
+            addToWorkspaceIndex(machine.getWorkspaceId(), machine.getId());
+        } finally {
+            lock.unlock();
         }
-        machines.put(machine.getId(), machine);
     }
 
     /**
@@ -154,12 +197,23 @@ public class MachineRegistry {
      * @throws MachineException
      *         if any other error occurs
      */
-    public synchronized void update(Instance instance) throws NotFoundException, MachineException {
-        if (!instances.containsKey(instance.getId()) && !machines.containsKey(instance.getId())) {
-            throw new NotFoundException("Machine " + instance.getId() + " not found");
-        } else {
-            instances.put(instance.getId(), instance);
-            machines.remove(instance.getId());
+    public void update(Instance instance) throws NotFoundException, MachineException {
+        final Lock lock = STRIPED.get(instance.getId());
+        lock.lock();
+        try {
+            if (!instances.containsKey(instance.getId()) && !machines.containsKey(instance.getId())) {
+                throw new NotFoundException("Machine " + instance.getId() + " not found");
+            } else {
+                // instance must be visible before the machine disappears
+                instances.put(instance.getId(), instance);
+                machines.remove(instance.getId());
+                addToWorkspaceIndex(instance.getWorkspaceId(), instance.getId());
+                if (instance.getConfig().isDev()) {
+                    devInstances.put(instance.getWorkspaceId(), instance);
+                }
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -171,12 +225,52 @@ public class MachineRegistry {
      * @throws NotFoundException
      *         if machine with specified id not found
      */
-    public synchronized void remove(String machineId) throws NotFoundException {
-        final Instance instance = instances.remove(machineId);
-        final MachineImpl machine = machines.remove(machineId);
-        if (null == instance && null == machine) {
-            throw new NotFoundException("Machine " + machineId + " is not found");
+    public void remove(String machineId) throws NotFoundException {
+        final Lock lock = STRIPED.get(machineId);
+        lock.lock();
+        try {
+            final Instance instance = instances.remove(machineId);
+            final MachineImpl machine = machines.remove(machineId);
+            if (null == instance && null == machine) {
+                throw new NotFoundException("Machine " + machineId + " is not found");
+            }
+            final String workspaceId = instance != null ? instance.getWorkspaceId() : machine.getWorkspaceId();
+            if (instance != null) {
+                devInstances.remove(workspaceId, instance);
+            }
+            workspaceMachines.computeIfPresent(workspaceId, (id, machineIds) -> {
+                machineIds.remove(machineId);
+                return machineIds.isEmpty() ? null : machineIds;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // index is modified only by atomic compute operations, so set is never modified after its removal from the index
+    private void addToWorkspaceIndex(String workspaceId, String machineId) {
+        workspaceMachines.compute(workspaceId, (id, machineIds) -> {
+            if (machineIds == null) {
+                machineIds = ConcurrentHashMap.newKeySet();
+            }
+            machineIds.add(machineId);
+            return machineIds;
+        });
+    }
+
+    private MachineImpl findMachine(String machineId) {
+        // check instances first, machine is replaced with instance in method update
+        final Instance instance = instances.get(machineId);
+        if (instance != null) {
+            return toMachine(instance);
+        }
+        final MachineImpl machine = machines.get(machineId);
+        if (machine != null) {
+            return machine;
         }
+        // machine might be replaced with instance between two lookups
+        final Instance updated = instances.get(machineId);
+        return updated == null ? null : toMachine(updated);
     }
 
     private MachineImpl toMachine(Instance instance) {
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.machine.server.wsagent;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.NotFoundException;
@@ -24,6 +27,7 @@ import org.eclipse.che.api.machine.shared.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -31,9 +35,24 @@ import javax.inject.Singleton;
 import javax.ws.rs.HttpMethod;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Starts ws agent in the machine and waits until ws agent sends notification about its start
+ * <p/>
+ * Ws agent is pinged by the own scheduler of the launcher with {@code machine.ws_agent.ping_threads} threads,
+ * so blocking ping requests never hold threads of the machine scheduler that flushes machine logs.
+ * Delay between pings grows exponentially from {@value #INITIAL_PING_DELAY_MS} ms up to
+ * {@code machine.ws_agent.ping_delay_ms}, so fast starting agents are detected quickly and the ping threads
+ * are not blocked between pings. The start waits for the ping result no longer than
+ * {@code machine.ws_agent.max_start_time_ms} plus time of the last ping, even if the scheduler is shut down.
  *
  * @author Alexander Garagatyi
  */
@@ -45,6 +64,7 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
     protected static final Logger LOG = LoggerFactory.getLogger(WsAgentLauncherImpl.class);
 
     private static final String WS_AGENT_PROCESS_OUTPUT_CHANNEL = "workspace:%s:ext-server:output";
+    private static final long   INITIAL_PING_DELAY_MS           = 100;
 
     private final Provider<MachineManager> machineManagerProvider;
     private final HttpJsonRequestFactory   httpJsonRequestFactory;
@@ -53,6 +73,7 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
     private final long                     wsAgentPingDelayMs;
     private final int                      wsAgentPingConnectionTimeoutMs;
     private final String                   pingTimedOutErrorMessage;
+    private final ScheduledExecutorService pingScheduler;
 
     @Inject
     public WsAgentLauncherImpl(Provider<MachineManager> machineManagerProvider,
@@ -61,7 +82,29 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
                                @Named("machine.ws_agent.max_start_time_ms") long wsAgentMaxStartTimeMs,
                                @Named("machine.ws_agent.ping_delay_ms") long wsAgentPingDelayMs,
                                @Named("machine.ws_agent.ping_conn_timeout_ms") int wsAgentPingConnectionTimeoutMs,
-                               @Named("machine.ws_agent.ping_timed_out_error_msg") String pingTimedOutErrorMessage) {
+                               @Named("machine.ws_agent.ping_timed_out_error_msg") String pingTimedOutErrorMessage,
+                               @Named("machine.ws_agent.ping_threads") int pingThreads) {
+        this(machineManagerProvider,
+             httpJsonRequestFactory,
+             wsAgentStartCommandLine,
+             wsAgentMaxStartTimeMs,
+             wsAgentPingDelayMs,
+             wsAgentPingConnectionTimeoutMs,
+             pingTimedOutErrorMessage,
+             Executors.newScheduledThreadPool(pingThreads, new ThreadFactoryBuilder().setNameFormat("WsAgentPinger-%d")
+                                                                                      .setDaemon(true)
+                                                                                      .build()));
+    }
+
+    @VisibleForTesting
+    WsAgentLauncherImpl(Provider<MachineManager> machineManagerProvider,
+                        HttpJsonRequestFactory httpJsonRequestFactory,
+                        String wsAgentStartCommandLine,
+                        long wsAgentMaxStartTimeMs,
+                        long wsAgentPingDelayMs,
+                        int wsAgentPingConnectionTimeoutMs,
+                        String pingTimedOutErrorMessage,
+                        ScheduledExecutorService pingScheduler) {
         this.machineManagerProvider = machineManagerProvider;
         this.httpJsonRequestFactory = httpJsonRequestFactory;
         this.wsAgentStartCommandLine = wsAgentStartCommandLine;
@@ -69,6 +112,7 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
         this.wsAgentPingDelayMs = wsAgentPingDelayMs;
         this.wsAgentPingConnectionTimeoutMs = wsAgentPingConnectionTimeoutMs;
         this.pingTimedOutErrorMessage = pingTimedOutErrorMessage;
+        this.pingScheduler = pingScheduler;
     }
 
     public static String getWsAgentProcessOutputChannel(String workspaceId) {
@@ -90,20 +134,69 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
                       wsAgentPingUrl,
                       pingStartTimestamp);
 
-            while (System.currentTimeMillis() - pingStartTimestamp < wsAgentMaxStartTimeMs) {
-                if (pingWsAgent(wsAgentPingRequest)) {
+            final CompletableFuture<Boolean> agentStarted = new CompletableFuture<>();
+            schedulePing(wsAgentPingRequest, agentStarted, pingStartTimestamp, Math.min(INITIAL_PING_DELAY_MS, wsAgentPingDelayMs));
+            try {
+                // the last ping may start right before the max start time and take up to connection timeout
+                if (agentStarted.get(wsAgentMaxStartTimeMs + wsAgentPingDelayMs + wsAgentPingConnectionTimeoutMs, MILLISECONDS)) {
+                    LOG.debug("Ws agent is started. Workspace ID:{}. Start time:{} ms",
+                              workspaceId,
+                              System.currentTimeMillis() - pingStartTimestamp);
                     return;
-                } else {
-                    Thread.sleep(wsAgentPingDelayMs);
                 }
+            } catch (InterruptedException e) {
+                agentStarted.cancel(false);
+                throw e;
+            } catch (TimeoutException e) {
+                agentStarted.cancel(false);
+            } catch (ExecutionException e) {
+                throw new MachineException(e.getCause().getLocalizedMessage(), e.getCause());
             }
         } catch (BadRequestException wsAgentLaunchingExc) {
             throw new MachineException(wsAgentLaunchingExc.getLocalizedMessage(), wsAgentLaunchingExc);
         }
-        LOG.error("Fail pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}", workspaceId, wsAgentPingUrl);
+        LOG.error("Fail pinging ws agent. Workspace ID:{}. Url:{}", workspaceId, wsAgentPingUrl);
         throw new MachineException(pingTimedOutErrorMessage);
     }
 
+    /**
+     * Schedules ping of ws agent. If ping fails next ping is scheduled with doubled delay
+     * until {@code wsAgentMaxStartTimeMs} is reached, then {@code agentStarted} is completed with {@code false}.
+     * If ping can't be scheduled or fails with unexpected error {@code agentStarted} is completed exceptionally.
+     */
+    private void schedulePing(HttpJsonRequest wsAgentPingRequest,
+                              CompletableFuture<Boolean> agentStarted,
+                              long pingStartTimestamp,
+                              long delayMs) {
+        try {
+            pingScheduler.schedule(() -> {
+                if (agentStarted.isDone()) {
+                    // waiting is cancelled
+                    return;
+                }
+                try {
+                    if (pingWsAgent(wsAgentPingRequest)) {
+                        agentStarted.complete(true);
+                    } else if (System.currentTimeMillis() - pingStartTimestamp >= wsAgentMaxStartTimeMs) {
+                        agentStarted.complete(false);
+                    } else {
+                        schedulePing(wsAgentPingRequest,
+                                     agentStarted,
+                                     pingStartTimestamp,
+                                     Math.min(delayMs * 2, wsAgentPingDelayMs));
+                    }
+                } catch (Throwable e) {
+                    agentStarted.completeExceptionally(e);
+                    if (e instanceof Error) {
+                        throw (Error)e;
+                    }
+                }
+            }, delayMs, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            agentStarted.completeExceptionally(new MachineException("Unable to ping ws agent, ping scheduler is shut down"));
+        }
+    }
+
     // forms the ping request based on information about the machine.
     protected HttpJsonRequest createPingRequest(Machine machine) {
         String wsAgentPingUrl = machine.getRuntime()
@@ -120,7 +213,7 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
                                      .setTimeout(wsAgentPingConnectionTimeoutMs);
     }
 
-    private boolean pingWsAgent(HttpJsonRequest wsAgentPingRequest) throws MachineException {
+    private boolean pingWsAgent(HttpJsonRequest wsAgentPingRequest) {
         try {
             final HttpJsonResponse pingResponse = wsAgentPingRequest.request();
             if (pingResponse.getResponseCode() == HttpURLConnection.HTTP_OK) {
@@ -131,6 +224,11 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
         return false;
     }
 
+    @PreDestroy
+    private void shutdown() {
+        pingScheduler.shutdownNow();
+    }
+
     private MachineManager getMachineManager() {
         return machineManagerProvider.get();
     }
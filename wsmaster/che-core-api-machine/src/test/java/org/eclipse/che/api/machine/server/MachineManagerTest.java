@@ -25,6 +25,7 @@ import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineRuntimeInfoImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
 import org.eclipse.che.api.machine.server.model.impl.ServerConfImpl;
 import org.eclipse.che.api.machine.server.recipe.RecipeImpl;
@@ -51,6 +52,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import static java.util.Collections.emptyMap;
+import static org.eclipse.che.api.machine.shared.Constants.MACHINE_START_INSTANCE_TIME_PROPERTY;
+import static org.eclipse.che.api.machine.shared.Constants.MACHINE_START_TOTAL_TIME_PROPERTY;
+import static org.eclipse.che.api.machine.shared.Constants.MACHINE_START_WS_AGENT_TIME_PROPERTY;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -62,6 +67,8 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 /**
  * Unit tests for {@link MachineManager}
@@ -110,7 +117,12 @@ public class MachineManagerTest {
                                          machineLogsDir,
                                          eventService,
                                          DEFAULT_MACHINE_MEMORY_SIZE_MB,
-                                         wsAgentLauncher));
+                                         wsAgentLauncher,
+                                         200,
+                                         5000,
+                                         10,
+                                         100,
+                                         10));
 
         EnvironmentContext envCont = new EnvironmentContext();
         envCont.setSubject(new SubjectImpl(null, USER_ID, null, false));
@@ -194,6 +206,22 @@ public class MachineManagerTest {
         verify(wsAgentLauncher).startWsAgent(WS_ID);
     }
 
+    @Test
+    public void shouldRecordStartPhaseTimesInRuntimeOfDevMachine() throws Exception {
+        final MachineRuntimeInfoImpl runtime = new MachineRuntimeInfoImpl(emptyMap(), emptyMap(), emptyMap());
+        when(instance.getRuntime()).thenReturn(runtime);
+        final MachineConfigImpl machineConfig = MachineConfigImpl.builder()
+                                                                 .fromConfig(createMachineConfig())
+                                                                 .setDev(true)
+                                                                 .build();
+
+        manager.createMachineSync(machineConfig, WS_ID, ENVIRONMENT_NAME);
+
+        assertTrue(runtime.getProperties().containsKey(MACHINE_START_INSTANCE_TIME_PROPERTY));
+        assertTrue(runtime.getProperties().containsKey(MACHINE_START_WS_AGENT_TIME_PROPERTY));
+        assertTrue(runtime.getProperties().containsKey(MACHINE_START_TOTAL_TIME_PROPERTY));
+    }
+
     @Test
     public void shouldNotCallWsAgentLauncherAfterNonDevMachineStart() throws Exception {
         final MachineConfigImpl machineConfig = createMachineConfig();
@@ -259,8 +287,27 @@ public class MachineManagerTest {
         verify(machineLogger).close();
     }
 
+    @Test
+    public void shouldRemoveMachineFromRegistryAndCloseLoggerIfMachineStartIsRejected() throws Exception {
+        //given
+        LineConsumer machineLogger = mock(LineConsumer.class);
+        doReturn(machineLogger).when(manager).getMachineLogger(eq(MACHINE_ID), anyString());
+        manager.executor.shutdown();
+
+        //when
+        try {
+            manager.createMachineAsync(createMachineConfig(), WS_ID, ENVIRONMENT_NAME);
+            fail("MachineException expected");
+        } catch (MachineException ignored) {
+        }
+
+        //then
+        verify(machineRegistry).remove(MACHINE_ID);
+        verify(machineLogger).close();
+    }
+
     private void waitForExecutorIsCompletedTask() throws Exception {
-        for (int i = 0; ((ThreadPoolExecutor)manager.executor).getCompletedTaskCount() == 0 && i < 10; i++) {
+        for (int i = 0; ((ThreadPoolExecutor)manager.processExecutor).getCompletedTaskCount() == 0 && i < 10; i++) {
             Thread.sleep(300);
         }
     }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server;
+
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.model.machine.MachineStatus;
+import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.server.spi.Instance;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class MachineRegistryTest {
+    private static final String WS_ID = "workspace123";
+
+    private MachineRegistry registry;
+
+    @BeforeMethod
+    public void setUp() {
+        registry = new MachineRegistry();
+    }
+
+    @Test
+    public void shouldReturnMachinesOfWorkspace() throws Exception {
+        registry.addMachine(createMachine("machine1", WS_ID, true));
+        registry.addMachine(createMachine("machine2", WS_ID, false));
+        registry.addMachine(createMachine("machine3", "otherWorkspace", true));
+        registry.update(createInstance("machine2", WS_ID, false));
+
+        final List<MachineImpl> machines = registry.getMachines(WS_ID);
+
+        assertEquals(machines.size(), 2);
+        assertEquals(registry.getMachines().size(), 3);
+    }
+
+    @Test
+    public void shouldReturnEmptyListIfWorkspaceHasNoMachines() throws Exception {
+        assertTrue(registry.getMachines(WS_ID).isEmpty());
+    }
+
+    @Test
+    public void shouldReturnDevMachineOnlyWhenItIsRunning() throws Exception {
+        registry.addMachine(createMachine("machine1", WS_ID, true));
+        try {
+            registry.getDevMachine(WS_ID);
+        } catch (NotFoundException expected) {
+            registry.update(createInstance("machine1", WS_ID, true));
+
+            assertEquals(registry.getDevMachine(WS_ID).getId(), "machine1");
+            return;
+        }
+        throw new AssertionError("Dev machine which is not running should not be found");
+    }
+
+    @Test(expectedExceptions = NotFoundException.class)
+    public void shouldNotReturnDevMachineAfterItsRemoval() throws Exception {
+        registry.addMachine(createMachine("machine1", WS_ID, true));
+        registry.update(createInstance("machine1", WS_ID, true));
+
+        registry.remove("machine1");
+
+        registry.getDevMachine(WS_ID);
+    }
+
+    @Test
+    public void shouldRemoveMachineFromWorkspaceIndex() throws Exception {
+        registry.addMachine(createMachine("machine1", WS_ID, true));
+        registry.addMachine(createMachine("machine2", WS_ID, false));
+
+        registry.remove("machine2");
+
+        assertEquals(registry.getMachines(WS_ID).size(), 1);
+        assertFalse(registry.isExist("machine2"));
+    }
+
+    @Test(expectedExceptions = ConflictException.class)
+    public void shouldNotAddMachineWithTheSameIdTwice() throws Exception {
+        registry.addMachine(createMachine("machine1", WS_ID, true));
+        registry.addMachine(createMachine("machine1", WS_ID, true));
+    }
+
+    @Test
+    public void shouldKeepIndexesConsistentUnderConcurrentModifications() throws Exception {
+        final int workspaces = 50;
+        final int machinesPerWorkspace = 10;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < workspaces; w++) {
+                final String workspaceId = "workspace" + w;
+                for (int m = 0; m < machinesPerWorkspace; m++) {
+                    final String machineId = workspaceId + "-machine" + m;
+                    final boolean isDev = m == 0;
+                    futures.add(executor.submit(() -> {
+                        registry.addMachine(createMachine(machineId, workspaceId, isDev));
+                        registry.update(createInstance(machineId, workspaceId, isDev));
+                        registry.getDevMachine(workspaceId);
+                        return registry.getMachines(workspaceId);
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    // dev machine may be not started yet
+                    if (!(e.getCause() instanceof NotFoundException)) {
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(registry.getMachines().size(), workspaces * machinesPerWorkspace);
+        for (int w = 0; w < workspaces; w++) {
+            assertEquals(registry.getMachines("workspace" + w).size(), machinesPerWorkspace);
+            assertEquals(registry.getDevMachine("workspace" + w).getId(), "workspace" + w + "-machine0");
+        }
+    }
+
+    private static MachineImpl createMachine(String id, String workspaceId, boolean isDev) {
+        return MachineImpl.builder()
+                          .setConfig(MachineConfigImpl.builder()
+                                                      .setDev(isDev)
+                                                      .setName(id)
+                                                      .setType("docker")
+                                                      .build())
+                          .setId(id)
+                          .setWorkspaceId(workspaceId)
+                          .setStatus(MachineStatus.CREATING)
+                          .build();
+    }
+
+    private static Instance createInstance(String id, String workspaceId, boolean isDev) {
+        final Instance instance = mock(Instance.class);
+        when(instance.getId()).thenReturn(id);
+        when(instance.getWorkspaceId()).thenReturn(workspaceId);
+        when(instance.getConfig()).thenReturn(MachineConfigImpl.builder()
+                                                               .setDev(isDev)
+                                                               .setName(id)
+                                                               .setType("docker")
+                                                               .build());
+        when(instance.getStatus()).thenReturn(MachineStatus.RUNNING);
+        return instance;
+    }
+}
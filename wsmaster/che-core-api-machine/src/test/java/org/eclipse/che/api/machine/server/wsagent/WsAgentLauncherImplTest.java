@@ -28,6 +28,7 @@ import org.eclipse.che.api.machine.shared.Constants;
 import org.eclipse.che.commons.test.SelfReturningAnswer;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
@@ -37,6 +38,8 @@ import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -76,18 +79,14 @@ public class WsAgentLauncherImplTest {
     @Mock
     private MachineRuntimeInfoImpl machineRuntime;
 
-    private HttpJsonRequest     pingRequest;
-    private WsAgentLauncherImpl wsAgentLauncher;
+    private HttpJsonRequest          pingRequest;
+    private WsAgentLauncherImpl      wsAgentLauncher;
+    private ScheduledExecutorService scheduler;
 
     @BeforeMethod
     public void setUp() throws Exception {
-        wsAgentLauncher = new WsAgentLauncherImpl(() -> machineManager,
-                                                  requestFactory,
-                                                  WS_AGENT_START_CMD_LINE,
-                                                  WS_AGENT_MAX_START_TIME_MS,
-                                                  WS_AGENT_PING_DELAY_MS,
-                                                  WS_AGENT_PING_CONN_TIMEOUT_MS,
-                                                  WS_AGENT_TIMED_OUT_MESSAGE);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        wsAgentLauncher = createLauncher(scheduler);
         pingRequest = mock(HttpJsonRequest.class, new SelfReturningAnswer());
         when(machineManager.getDevMachine(WS_ID)).thenReturn(machine);
         when(machine.getId()).thenReturn(MACHINE_ID);
@@ -98,6 +97,11 @@ public class WsAgentLauncherImplTest {
         when(pingResponse.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
     }
 
+    @AfterMethod
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
     @Test
     public void shouldStartWsAgentUsingMachineExec() throws Exception {
         wsAgentLauncher.startWsAgent(WS_ID);
@@ -219,4 +223,38 @@ public class WsAgentLauncherImplTest {
 
         wsAgentLauncher.startWsAgent(WS_ID);
     }
+
+    @Test(expectedExceptions = MachineException.class)
+    public void shouldThrowMachineExceptionIfSchedulerIsShutDown() throws Exception {
+        scheduler.shutdownNow();
+
+        wsAgentLauncher.startWsAgent(WS_ID);
+    }
+
+    @Test(expectedExceptions = MachineException.class, expectedExceptionsMessageRegExp = "Test error")
+    public void shouldThrowMachineExceptionIfPingFailsWithError() throws Exception {
+        when(pingRequest.request()).thenThrow(new AssertionError("Test error"));
+
+        wsAgentLauncher.startWsAgent(WS_ID);
+    }
+
+    @Test(expectedExceptions = MachineException.class,
+          expectedExceptionsMessageRegExp = WS_AGENT_TIMED_OUT_MESSAGE)
+    public void shouldStopWaitingForWsAgentIfScheduledPingIsNeverExecuted() throws Exception {
+        // scheduler accepts ping but drops it, e.g. it is shut down right after ping is scheduled
+        wsAgentLauncher = createLauncher(mock(ScheduledExecutorService.class));
+
+        wsAgentLauncher.startWsAgent(WS_ID);
+    }
+
+    private WsAgentLauncherImpl createLauncher(ScheduledExecutorService pingScheduler) {
+        return new WsAgentLauncherImpl(() -> machineManager,
+                                       requestFactory,
+                                       WS_AGENT_START_CMD_LINE,
+                                       WS_AGENT_MAX_START_TIME_MS,
+                                       WS_AGENT_PING_DELAY_MS,
+                                       WS_AGENT_PING_CONN_TIMEOUT_MS,
+                                       WS_AGENT_TIMED_OUT_MESSAGE,
+                                       pingScheduler);
+    }
 }
@@ -11,7 +11,6 @@
 package org.eclipse.che.api.workspace.server;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 
 import org.eclipse.che.api.core.ApiException;
@@ -38,7 +37,7 @@ import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.env.EnvironmentContext;
-import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+import org.eclipse.che.commons.lang.concurrent.ManagedThreadPoolExecutor;
 import org.eclipse.che.commons.subject.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,7 +47,7 @@ import javax.inject.Singleton;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static java.lang.Boolean.parseBoolean;
@@ -86,11 +85,13 @@ public class WorkspaceManager {
     private final WorkspaceDao      workspaceDao;
     private final WorkspaceRuntimes runtimes;
     private final EventService      eventService;
-    private final ExecutorService   executor;
     private final MachineManager    machineManager;
     private final boolean           defaultAutoSnapshot;
     private final boolean           defaultAutoRestore;
 
+    @VisibleForTesting
+    final ExecutorService executor;
+
     private WorkspaceHooks hooks = new NoopWorkspaceHooks();
 
     @Inject
@@ -99,7 +100,9 @@ public class WorkspaceManager {
                             EventService eventService,
                             MachineManager machineManager,
                             @Named("workspace.runtime.auto_snapshot") boolean defaultAutoSnapshot,
-                            @Named("workspace.runtime.auto_restore") boolean defaultAutoRestore) {
+                            @Named("workspace.runtime.auto_restore") boolean defaultAutoRestore,
+                            @Named("workspace.executor.max_threads") int executorMaxThreads,
+                            @Named("workspace.executor.queue_capacity") int executorQueueCapacity) {
         this.workspaceDao = workspaceDao;
         this.runtimes = workspaceRegistry;
         this.eventService = eventService;
@@ -107,9 +110,7 @@ public class WorkspaceManager {
         this.defaultAutoSnapshot = defaultAutoSnapshot;
         this.defaultAutoRestore = defaultAutoRestore;
 
-        executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("WorkspaceManager-%d")
-                                                                           .setDaemon(true)
-                                                                           .build());
+        executor = new ManagedThreadPoolExecutor("WorkspaceManager", executorMaxThreads, executorQueueCapacity, true);
     }
 
     @Inject(optional = true)
@@ -488,9 +489,14 @@ public class WorkspaceManager {
         requireNonNull(workspaceId, "Required non-null workspace id");
         final WorkspaceImpl workspace = normalizeState(workspaceDao.get(workspaceId));
         checkWorkspaceIsRunning(workspace, "create a snapshot of");
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            createSnapshotSync(workspace.getRuntime(), workspace.getNamespace(), workspaceId);
-        }));
+        try {
+            executor.execute(() -> {
+                createSnapshotSync(workspace.getRuntime(), workspace.getNamespace(), workspaceId);
+            });
+        } catch (RejectedExecutionException ex) {
+            throw new ServerException(format("Could not create a snapshot of workspace '%s', too many workspace operations are running",
+                                             workspace.getConfig().getName()));
+        }
     }
 
     /**
@@ -541,74 +547,106 @@ public class WorkspaceManager {
             // it is okay if workspace does not exist
         }
 
-        workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
+        final String prevUpdated = workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
         workspaceDao.update(workspace);
 
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            try {
-                final String env = firstNonNull(envName, workspace.getConfig().getDefaultEnv());
-                hooks.beforeStart(workspace, env, accountId);
-                runtimes.start(workspace, env, recover);
-                LOG.info("Workspace '{}:{}' with id '{}' started by user '{}'",
-                         workspace.getNamespace(),
-                         workspace.getConfig().getName(),
-                         workspace.getId(),
-                         sessionUserNameOr("undefined"));
-            } catch (RuntimeException | ServerException | NotFoundException | ConflictException | ForbiddenException ex) {
-                if (workspace.isTemporary()) {
-                    try {
-                        removeWorkspace(workspace.getId());
-                    } catch (ConflictException | ServerException rmEx) {
-                        LOG.error("Couldn't remove temporary workspace {}, because : {}",
-                                  workspace.getId(),
-                                  rmEx.getLocalizedMessage());
+        try {
+            executor.execute(() -> {
+                try {
+                    final String env = firstNonNull(envName, workspace.getConfig().getDefaultEnv());
+                    hooks.beforeStart(workspace, env, accountId);
+                    runtimes.start(workspace, env, recover);
+                    LOG.info("Workspace '{}:{}' with id '{}' started by user '{}'",
+                             workspace.getNamespace(),
+                             workspace.getConfig().getName(),
+                             workspace.getId(),
+                             sessionUserNameOr("undefined"));
+                } catch (RuntimeException | ServerException | NotFoundException | ConflictException | ForbiddenException ex) {
+                    if (workspace.isTemporary()) {
+                        try {
+                            removeWorkspace(workspace.getId());
+                        } catch (ConflictException | ServerException rmEx) {
+                            LOG.error("Couldn't remove temporary workspace {}, because : {}",
+                                      workspace.getId(),
+                                      rmEx.getLocalizedMessage());
+                        }
                     }
+                    LOG.error(ex.getLocalizedMessage(), ex);
                 }
-                LOG.error(ex.getLocalizedMessage(), ex);
-            }
-        }));
+            });
+        } catch (RejectedExecutionException ex) {
+            rollbackRejectedStart(workspace, prevUpdated);
+            throw new ServerException(format("Could not start workspace '%s', too many workspaces are being started or stopped",
+                                             workspace.getConfig().getName()));
+        }
         return normalizeState(workspace);
     }
 
+    /**
+     * Reverts changes made by {@link #performAsyncStart} when the start task is rejected by the executor:
+     * temporary workspace is removed, otherwise previous value of the updated attribute is restored.
+     */
+    private void rollbackRejectedStart(WorkspaceImpl workspace, String prevUpdated) {
+        try {
+            if (workspace.isTemporary()) {
+                removeWorkspace(workspace.getId());
+            } else {
+                if (prevUpdated == null) {
+                    workspace.getAttributes().remove(UPDATED_ATTRIBUTE_NAME);
+                } else {
+                    workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, prevUpdated);
+                }
+                workspaceDao.update(workspace);
+            }
+        } catch (ConflictException | NotFoundException | ServerException ex) {
+            LOG.error("Couldn't revert rejected start of workspace {}, because : {}", workspace.getId(), ex.getLocalizedMessage());
+        }
+    }
+
     /**
      * Asynchronously creates a snapshot(if workspace contains {@link Constants#AUTO_CREATE_SNAPSHOT}
      * attribute set to true) and then stops the workspace(even if snapshot creation failed).
      */
     @VisibleForTesting
-    void performAsyncStop(WorkspaceImpl workspace) throws ConflictException {
+    void performAsyncStop(WorkspaceImpl workspace) throws ConflictException, ServerException {
         checkWorkspaceIsRunning(workspace, "stop");
         final String autoSnapshotAttr = workspace.getAttributes().get(AUTO_CREATE_SNAPSHOT);
         final boolean createSnapshot = autoSnapshotAttr == null ? defaultAutoSnapshot : parseBoolean(autoSnapshotAttr);
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            final String stoppedBy = sessionUserNameOr(workspace.getAttributes().get(WORKSPACE_STOPPED_BY));
-            LOG.info("Workspace '{}:{}' with id '{}' is being stopped by user '{}'",
-                     workspace.getNamespace(),
-                     workspace.getConfig().getName(),
-                     workspace.getId(),
-                     firstNonNull(stoppedBy, "undefined"));
-            if (createSnapshot && !createSnapshotSync(workspace.getRuntime(), workspace.getNamespace(), workspace.getId())) {
-                LOG.warn("Could not create a snapshot of the workspace '{}:{}' with workspace id '{}'. The workspace will be stopped",
-                         workspace.getNamespace(),
-                         workspace.getConfig().getName(),
-                         workspace.getId());
-            }
-            try {
-                runtimes.stop(workspace.getId());
-                if (workspace.isTemporary()) {
-                    workspaceDao.remove(workspace.getId());
-                } else {
-                    workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
-                    workspaceDao.update(workspace);
-                }
-                LOG.info("Workspace '{}:{}' with id '{}' stopped by user '{}'",
+        try {
+            executor.execute(() -> {
+                final String stoppedBy = sessionUserNameOr(workspace.getAttributes().get(WORKSPACE_STOPPED_BY));
+                LOG.info("Workspace '{}:{}' with id '{}' is being stopped by user '{}'",
                          workspace.getNamespace(),
                          workspace.getConfig().getName(),
                          workspace.getId(),
                          firstNonNull(stoppedBy, "undefined"));
-            } catch (RuntimeException | ConflictException | NotFoundException | ServerException ex) {
-                LOG.error(ex.getLocalizedMessage(), ex);
-            }
-        }));
+                if (createSnapshot && !createSnapshotSync(workspace.getRuntime(), workspace.getNamespace(), workspace.getId())) {
+                    LOG.warn("Could not create a snapshot of the workspace '{}:{}' with workspace id '{}'. The workspace will be stopped",
+                             workspace.getNamespace(),
+                             workspace.getConfig().getName(),
+                             workspace.getId());
+                }
+                try {
+                    runtimes.stop(workspace.getId());
+                    if (workspace.isTemporary()) {
+                        workspaceDao.remove(workspace.getId());
+                    } else {
+                        workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
+                        workspaceDao.update(workspace);
+                    }
+                    LOG.info("Workspace '{}:{}' with id '{}' stopped by user '{}'",
+                             workspace.getNamespace(),
+                             workspace.getConfig().getName(),
+                             workspace.getId(),
+                             firstNonNull(stoppedBy, "undefined"));
+                } catch (RuntimeException | ConflictException | NotFoundException | ServerException ex) {
+                    LOG.error(ex.getLocalizedMessage(), ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            throw new ServerException(format("Could not stop workspace '%s', too many workspaces are being started or stopped",
+                                             workspace.getConfig().getName()));
+        }
     }
 
     /**
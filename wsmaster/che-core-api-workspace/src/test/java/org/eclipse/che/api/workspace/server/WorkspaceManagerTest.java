@@ -12,6 +12,7 @@ package org.eclipse.che.api.workspace.server;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
@@ -61,6 +62,7 @@ import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -68,6 +70,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
 import static org.testng.AssertJUnit.assertTrue;
 
 /**
@@ -107,7 +110,9 @@ public class WorkspaceManagerTest {
                                                     eventService,
                                                     machineManager,
                                                     false,
-                                                    false));
+                                                    false,
+                                                    10,
+                                                    100));
         workspaceManager.setHooks(workspaceHooks);
 
         when(workspaceDao.create(any(WorkspaceImpl.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
@@ -550,6 +555,52 @@ public class WorkspaceManagerTest {
         verify(workspaceDao, timeout(2000)).remove(workspace.getId());
     }
 
+    @Test
+    public void shouldRemoveTemporaryWorkspaceIfStartIsRejected() throws Exception {
+        final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
+        workspace.setTemporary(true);
+        when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
+        when(runtimes.get(any())).thenThrow(new NotFoundException(""));
+        workspaceManager.executor.shutdown();
+
+        try {
+            workspaceManager.startWorkspace(workspace.getId(), null, null);
+            fail("ServerException expected");
+        } catch (ServerException ignored) {
+        }
+
+        verify(workspaceDao).remove(workspace.getId());
+        verify(runtimes, never()).start(any(), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void shouldRestoreUpdatedAttributeIfStartIsRejected() throws Exception {
+        final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
+        workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, "1");
+        when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
+        when(runtimes.get(any())).thenThrow(new NotFoundException(""));
+        workspaceManager.executor.shutdown();
+
+        try {
+            workspaceManager.startWorkspace(workspace.getId(), null, null);
+            fail("ServerException expected");
+        } catch (ServerException ignored) {
+        }
+
+        assertEquals(workspace.getAttributes().get(UPDATED_ATTRIBUTE_NAME), "1");
+        verify(workspaceDao, never()).remove(workspace.getId());
+    }
+
+    @Test(expectedExceptions = ServerException.class)
+    public void shouldThrowServerExceptionIfStopIsRejected() throws Exception {
+        final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
+        when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
+        when(runtimes.get(any())).thenReturn(createDescriptor(workspace, RUNNING));
+        workspaceManager.executor.shutdown();
+
+        workspaceManager.stopWorkspace(workspace.getId());
+    }
+
     @Test
     public void shouldBeAbleToGetSnapshots() throws Exception {
         final String wsId = "workspace123";
@@ -569,7 +620,9 @@ public class WorkspaceManagerTest {
                                                     eventService,
                                                     machineManager,
                                                     true,
-                                                    false));
+                                                    false,
+                                                    10,
+                                                    100));
         final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
         final RuntimeDescriptor descriptor = createDescriptor(workspace, RUNNING);
@@ -588,7 +641,9 @@ public class WorkspaceManagerTest {
                                                     eventService,
                                                     machineManager,
                                                     false,
-                                                    true));
+                                                    true,
+                                                    10,
+                                                    100));
         final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
         when(machineManager.getSnapshots(any(), any())).thenReturn(singletonList(mock(SnapshotImpl.class)));
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);